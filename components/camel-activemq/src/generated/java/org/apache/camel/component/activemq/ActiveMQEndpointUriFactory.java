@@ -20,7 +20,7 @@ public class ActiveMQEndpointUriFactory extends org.apache.camel.support.compone
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(97);
+        Set<String> props = new HashSet<>(98);
         props.add("includeSentJMSMessageID");
         props.add("asyncConsumer");
         props.add("mapJmsMessage");
@@ -66,6 +66,7 @@ public class ActiveMQEndpointUriFactory extends org.apache.camel.support.compone
         props.add("idleTaskExecutionLimit");
         props.add("messageListenerContainerFactory");
         props.add("requestTimeoutCheckerInterval");
+        props.add("requestTimeoutTimingWheel");
         props.add("includeAllJMSXProperties");
         props.add("cacheLevel");
         props.add("errorHandlerLogStackTrace");
@@ -29,6 +29,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.Body;
 import org.apache.camel.CamelContext;
@@ -36,6 +38,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExchangeException;
 import org.apache.camel.ExchangeProperties;
 import org.apache.camel.ExchangeProperty;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.Expression;
 import org.apache.camel.Handler;
 import org.apache.camel.Header;
@@ -64,6 +67,7 @@ import static org.apache.camel.component.bean.ParameterMappingStrategyHelper.cre
 public class BeanInfo {
     private static final Logger LOG = LoggerFactory.getLogger(BeanInfo.class);
     private static final String CGLIB_CLASS_SEPARATOR = "$$";
+    private static final int MAX_CHOSEN_METHODS = 1000;
     private static final String[] EXCLUDED_METHOD_NAMES = new String[] {
             "clone", "equals", "finalize", "getClass", "hashCode", "notify", "notifyAll", "wait", // java.lang.Object
             "getInvocationHandler", "getProxyClass", "isProxyClass", "newProxyInstance" // java.lang.Proxy
@@ -80,6 +84,8 @@ public class BeanInfo {
     private List<MethodInfo> operationsWithCustomAnnotation = new ArrayList<>();
     private List<MethodInfo> operationsWithHandlerAnnotation = new ArrayList<>();
     private Map<Method, MethodInfo> methodMap = new HashMap<>();
+    // the methods chosen per message body type, as choosing among multiple methods is expensive
+    private Map<ChosenMethodKey, MethodInfo> chosenMethods = new ConcurrentHashMap<>();
     private boolean publicConstructors;
     private boolean publicNoArgConstructors;
 
@@ -133,6 +139,7 @@ public class BeanInfo {
             operationsWithCustomAnnotation = beanInfo.operationsWithCustomAnnotation;
             operationsWithHandlerAnnotation = beanInfo.operationsWithHandlerAnnotation;
             methodMap = beanInfo.methodMap;
+            chosenMethods = beanInfo.chosenMethods;
             publicConstructors = beanInfo.publicConstructors;
             publicNoArgConstructors = beanInfo.publicNoArgConstructors;
             return;
@@ -247,7 +254,7 @@ public class BeanInfo {
 
                     // but first let's try to choose a method and see if that complies with the name
                     // must use the method name which may have qualifiers
-                    methodInfo = chooseMethod(pojo, exchange, methodName);
+                    methodInfo = chooseMethodCached(pojo, exchange, methodName);
 
                     // validate that if we want an explicit no-arg method, then that's what we get
                     if (emptyParameters) {
@@ -269,7 +276,7 @@ public class BeanInfo {
 
         if (methodInfo == null && methodMap.size() >= 2) {
             // only try to choose if there is at least 2 methods
-            methodInfo = chooseMethod(pojo, exchange, null);
+            methodInfo = chooseMethodCached(pojo, exchange, null);
         }
         if (methodInfo == null) {
             methodInfo = defaultMethod;
@@ -640,6 +647,37 @@ public class BeanInfo {
         return null;
     }
 
+    /**
+     * Chooses the method to invoke using {@link #chooseMethod(Object, Exchange, String)}, which is cached per message
+     * body type (and exchange pattern, and whether the exchange has an exception), as this is what the choice depends
+     * on.
+     */
+    private MethodInfo chooseMethodCached(Object pojo, Exchange exchange, String name) throws AmbiguousMethodCallException {
+        if (name != null && name.indexOf('(') != -1) {
+            // the method is chosen by the parameter values in the name
+            return chooseMethod(pojo, exchange, name);
+        }
+
+        Message in = exchange.getIn();
+        Object body = in.getBody();
+        boolean exception = exchange.getException() != null
+                || exchange.getProperty(ExchangePropertyKey.EXCEPTION_CAUGHT) != null;
+        ChosenMethodKey key = new ChosenMethodKey(
+                name, body != null ? body.getClass() : null, exchange.getPattern().isOutCapable(), exception);
+
+        MethodInfo answer = chosenMethods.get(key);
+        if (answer == null) {
+            answer = chooseMethod(pojo, exchange, name);
+            // do not cache if the body was converted while choosing, as then the method was chosen by the body value
+            if (answer != null && in.getBody() == body && chosenMethods.size() < MAX_CHOSEN_METHODS) {
+                chosenMethods.put(key, answer);
+            }
+        } else {
+            LOG.trace("Using cached chosen method: {} for body type: {}", answer, key.bodyType);
+        }
+        return answer;
+    }
+
     private MethodInfo chooseMethodWithMatchingParameters(
             Exchange exchange, String parameters, Collection<MethodInfo> operationList)
             throws AmbiguousMethodCallException {
@@ -1310,4 +1348,44 @@ public class BeanInfo {
         return name;
     }
 
+    /**
+     * A key used for caching the chosen method
+     */
+    private static final class ChosenMethodKey {
+
+        private final String name;
+        private final Class<?> bodyType;
+        private final boolean outCapable;
+        private final boolean exception;
+
+        ChosenMethodKey(String name, Class<?> bodyType, boolean outCapable, boolean exception) {
+            this.name = name;
+            this.bodyType = bodyType;
+            this.outCapable = outCapable;
+            this.exception = exception;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ChosenMethodKey that = (ChosenMethodKey) o;
+            return outCapable == that.outCapable && exception == that.exception && bodyType == that.bodyType
+                    && Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = name != null ? name.hashCode() : 0;
+            result = 31 * result + (bodyType != null ? bodyType.hashCode() : 0);
+            result = 31 * result + (outCapable ? 1 : 0);
+            result = 31 * result + (exception ? 1 : 0);
+            return result;
+        }
+    }
+
 }
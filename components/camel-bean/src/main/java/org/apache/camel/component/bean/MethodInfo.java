@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -69,6 +72,8 @@ import static org.apache.camel.util.ObjectHelper.asString;
  */
 public class MethodInfo {
     private static final Logger LOG = LoggerFactory.getLogger(MethodInfo.class);
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final Object[] NO_ARGUMENTS = new Object[0];
 
     private CamelContext camelContext;
     private Class<?> type;
@@ -82,6 +87,13 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile boolean parametersExpressionInitialized;
+    // the method is invoked using a method handle (which the JVM can inline) instead of reflection, which is
+    // created on the 2nd invocation to avoid the overhead for methods which are only invoked once
+    private volatile MethodHandle methodHandle;
+    private volatile Class<?>[] methodHandleTypes;
+    private volatile boolean invoked;
+    private volatile boolean methodHandleFailed;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -258,7 +270,10 @@ public class MethodInfo {
     private Object[] initializeArguments(boolean hasParameters, Exchange exchange) {
         if (hasParameters) {
             if (parametersExpression != null) {
-                parametersExpression.init(camelContext);
+                if (!parametersExpressionInitialized) {
+                    parametersExpression.init(camelContext);
+                    parametersExpressionInitialized = true;
+                }
 
                 return parametersExpression.evaluate(exchange, Object[].class);
             }
@@ -490,6 +505,18 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            MethodHandle handle = getMethodHandle();
+            if (handle != null && isInvokableWith(pojo, arguments)) {
+                Object[] args = arguments != null ? arguments : NO_ARGUMENTS;
+                try {
+                    return (Object) handle.invokeExact(pojo, args);
+                } catch (Throwable e) {
+                    // the arguments have been validated, so the exception is thrown by the method itself
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -503,6 +530,64 @@ public class MethodInfo {
         }
     }
 
+    private MethodHandle getMethodHandle() {
+        MethodHandle answer = methodHandle;
+        if (answer == null && !methodHandleFailed) {
+            if (!invoked) {
+                invoked = true;
+                return null;
+            }
+            try {
+                // if the method cannot be made accessible then unreflect fails and reflection is used instead
+                method.trySetAccessible();
+                answer = MethodHandles.lookup().unreflect(method);
+                answer = answer.asSpreader(Object[].class, method.getParameterCount());
+                if (isStaticMethod()) {
+                    answer = MethodHandles.dropArguments(answer, 0, Object.class);
+                }
+                answer = answer.asType(INVOKER_TYPE);
+
+                methodHandleTypes = method.getParameterTypes();
+                methodHandle = answer;
+            } catch (Exception e) {
+                // fallback to use reflection
+                LOG.debug("Cannot create method handle for method: {} due to: {}. Will use reflection.", method,
+                        e.getMessage());
+                methodHandleFailed = true;
+                answer = null;
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Whether the method handle can be invoked with the given arguments, otherwise reflection is used which does the
+     * same validation (and widening of primitive values) as before
+     */
+    private boolean isInvokableWith(Object pojo, Object[] arguments) {
+        if (!isStaticMethod() && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        Class<?>[] types = methodHandleTypes;
+        int size = arguments != null ? arguments.length : 0;
+        if (size != types.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Object arg = arguments[i];
+            Class<?> type = types[i];
+            if (type.isPrimitive()) {
+                if (arg == null
+                        || org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(type) != arg.getClass()) {
+                    return false;
+                }
+            } else if (arg != null && !type.isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -159,6 +159,11 @@ public class RegistryBean implements BeanHolder {
 
     @Override
     public BeanInfo getBeanInfo(Object bean) {
+        // reuse the bean info if the bean is the same type, which avoids looking up the bean info cache per invocation
+        BeanInfo answer = beanInfo;
+        if (answer != null && answer.getType() == bean.getClass()) {
+            return answer;
+        }
         return createBeanInfo(bean);
     }
 
@@ -34,7 +34,10 @@ import org.apache.camel.Processor;
 import org.apache.camel.Produce;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.seda.MpmcRingBufferQueueFactory;
+import org.apache.camel.component.seda.MpscRingBufferQueueFactory;
 import org.apache.camel.component.seda.SedaEndpoint;
+import org.apache.camel.spi.Registry;
 import org.apache.camel.test.junit5.CamelTestSupport;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Disabled;
@@ -43,7 +46,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 /**
  * This class does not perform any functional test, but instead makes a comparison between the performance of the
- * Disruptor and SEDA component in several use cases.
+ * Disruptor and SEDA component in several use cases. SEDA is measured with the default queue, and with the lock-free
+ * ring buffer queues.
  * <p/>
  * As memory management may have great impact on the results, it is adviced to run this test with a large, fixed heap
  * (e.g. run with -Xmx1024m -Xms1024m JVM parameters)
@@ -216,6 +220,17 @@ public class SedaDisruptorCompareTest extends CamelTestSupport {
         parameters.add(new Object[] {
                 "Disruptor" + testDescription, "disruptor:speedtest" + options, producers,
                 consumers, parallelConsumerThreads, DISRUPTOR_SIZE_HISTOGRAM_BOUNDS });
+
+        // SEDA using the lock-free ring buffer queues, where MPSC can only be used with a single consumer (thread)
+        final String ringBufferOptions = (sedaOptions.isEmpty() ? "?" : sedaOptions + "&") + "queueFactory=";
+        parameters.add(new Object[] {
+                "SEDA MPMC" + testDescription, "seda:speedtest" + ringBufferOptions + "#mpmcQueueFactory", producers,
+                consumers, parallelConsumerThreads, SEDA_SIZE_HISTOGRAM_BOUNDS });
+        if (consumers.length == 1 && parallelConsumerThreads == 1) {
+            parameters.add(new Object[] {
+                    "SEDA MPSC" + testDescription, "seda:speedtest" + ringBufferOptions + "#mpscQueueFactory", producers,
+                    consumers, parallelConsumerThreads, SEDA_SIZE_HISTOGRAM_BOUNDS });
+        }
     }
 
     @ParameterizedTest
@@ -338,6 +353,12 @@ public class SedaDisruptorCompareTest extends CamelTestSupport {
         System.out.printf("%82s %s%n", "Endpoint size (# exchanges pending):", histogram.toString());
     }
 
+    @Override
+    protected void bindToRegistry(Registry registry) throws Exception {
+        registry.bind("mpmcQueueFactory", new MpmcRingBufferQueueFactory<Exchange>());
+        registry.bind("mpscQueueFactory", new MpscRingBufferQueueFactory<Exchange>());
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() {
         return new RouteBuilder() {
@@ -93,6 +93,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "include": target.setInclude(property(camelContext, java.lang.String.class, value)); return true;
         case "includeext":
         case "includeExt": target.setIncludeExt(property(camelContext, java.lang.String.class, value)); return true;
+        case "incrementalscan":
+        case "incrementalScan": target.setIncrementalScan(property(camelContext, boolean.class, value)); return true;
         case "initialdelay":
         case "initialDelay": target.setInitialDelay(property(camelContext, long.class, value)); return true;
         case "jailstartingdirectory":
@@ -164,6 +166,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "repeatCount": target.setRepeatCount(property(camelContext, long.class, value)); return true;
         case "runlogginglevel":
         case "runLoggingLevel": target.setRunLoggingLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
+        case "scanthreads":
+        case "scanThreads": target.setScanThreads(property(camelContext, int.class, value)); return true;
         case "scheduledexecutorservice":
         case "scheduledExecutorService": target.setScheduledExecutorService(property(camelContext, java.util.concurrent.ScheduledExecutorService.class, value)); return true;
         case "scheduler": target.setScheduler(property(camelContext, java.lang.Object.class, value)); return true;
@@ -269,6 +273,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "include": return java.lang.String.class;
         case "includeext":
         case "includeExt": return java.lang.String.class;
+        case "incrementalscan":
+        case "incrementalScan": return boolean.class;
         case "initialdelay":
         case "initialDelay": return long.class;
         case "jailstartingdirectory":
@@ -340,6 +346,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "repeatCount": return long.class;
         case "runlogginglevel":
         case "runLoggingLevel": return org.apache.camel.LoggingLevel.class;
+        case "scanthreads":
+        case "scanThreads": return int.class;
         case "scheduledexecutorservice":
         case "scheduledExecutorService": return java.util.concurrent.ScheduledExecutorService.class;
         case "scheduler": return java.lang.Object.class;
@@ -446,6 +454,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "include": return target.getInclude();
         case "includeext":
         case "includeExt": return target.getIncludeExt();
+        case "incrementalscan":
+        case "incrementalScan": return target.isIncrementalScan();
         case "initialdelay":
         case "initialDelay": return target.getInitialDelay();
         case "jailstartingdirectory":
@@ -517,6 +527,8 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "repeatCount": return target.getRepeatCount();
         case "runlogginglevel":
         case "runLoggingLevel": return target.getRunLoggingLevel();
+        case "scanthreads":
+        case "scanThreads": return target.getScanThreads();
         case "scheduledexecutorservice":
         case "scheduledExecutorService": return target.getScheduledExecutorService();
         case "scheduler": return target.getScheduler();
@@ -20,7 +20,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(94);
+        Set<String> props = new HashSet<>(96);
         props.add("renameUsingCopy");
         props.add("moveExistingFileStrategy");
         props.add("fileName");
@@ -48,12 +48,14 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("probeContentType");
         props.add("sendEmptyMessageWhenIdle");
         props.add("processStrategy");
+        props.add("scanThreads");
         props.add("readLock");
         props.add("schedulerProperties");
         props.add("inProgressRepository");
         props.add("readLockLoggingLevel");
         props.add("backoffIdleThreshold");
         props.add("readLockMinLength");
+        props.add("incrementalScan");
         props.add("lazyStartProducer");
         props.add("delay");
         props.add("startScheduler");
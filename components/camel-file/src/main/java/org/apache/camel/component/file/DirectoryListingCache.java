@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the listings of the directories scanned by the file consumer, which are watched using a {@link WatchService}
+ * so the listing of a directory is only used until the directory has changed.
+ * <p/>
+ * A directory is watched before it is listed, and the changes are processed before each poll, so any change made after
+ * a directory has been listed invalidates its listing in the next poll.
+ *
+ * @param <E> the type of the entries in the listings
+ */
+final class DirectoryListingCache<E> implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectoryListingCache.class);
+
+    private final WatchService watchService;
+    private final Map<Path, WatchKey> keys = new ConcurrentHashMap<>();
+    private final Map<Path, List<E>> listings = new ConcurrentHashMap<>();
+
+    DirectoryListingCache() throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Invalidates the listings of the directories which have changed since the last time.
+     */
+    void refresh() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path directory = (Path) key.watchable();
+            // any event (including overflow) means the listing is no longer up to date
+            if (!key.pollEvents().isEmpty()) {
+                LOG.trace("Directory has changed: {}", directory);
+                listings.remove(directory);
+            }
+            if (!key.reset()) {
+                // the directory is no longer accessible (such as deleted)
+                LOG.trace("Directory is no longer watched: {}", directory);
+                keys.remove(directory);
+                listings.remove(directory);
+            }
+        }
+    }
+
+    /**
+     * Gets the listing of the directory if it has not changed since it was listed.
+     *
+     * @return the listing, or <tt>null</tt> if the directory must be listed
+     */
+    List<E> get(Path directory) {
+        return listings.get(directory);
+    }
+
+    /**
+     * Watches the directory, which must be done before the directory is listed.
+     *
+     * @return <tt>true</tt> if the directory is watched, and its listing can be cached
+     */
+    boolean watch(Path directory) {
+        if (keys.containsKey(directory)) {
+            return true;
+        }
+        try {
+            WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+            keys.put(directory, key);
+            return true;
+        } catch (IOException e) {
+            // such as the operating system limit on the number of watches has been reached
+            LOG.debug("Cannot watch directory: {} due to: {}. The directory will be listed on every poll.", directory,
+                    e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Caches the listing of the directory, which must have been watched before it was listed.
+     */
+    void put(Path directory, List<E> listing) {
+        if (keys.containsKey(directory)) {
+            listings.put(directory, listing);
+        }
+    }
+
+    int size() {
+        return listings.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        keys.clear();
+        listings.clear();
+        watchService.close();
+    }
+}
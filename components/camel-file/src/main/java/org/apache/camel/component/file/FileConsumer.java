@@ -18,20 +18,37 @@ package org.apache.camel.component.file;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +61,8 @@ public class FileConsumer extends GenericFileConsumer<File> {
     private static final Logger LOG = LoggerFactory.getLogger(FileConsumer.class);
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private ExecutorService scanExecutor;
+    private DirectoryListingCache<DirectoryEntry> listingCache;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -56,6 +75,31 @@ public class FileConsumer extends GenericFileConsumer<File> {
         }
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        if (getEndpoint().getScanThreads() > 0 && getEndpoint().isRecursive()) {
+            scanExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "FileConsumerScan", getEndpoint().getScanThreads());
+        }
+        if (getEndpoint().isIncrementalScan()) {
+            listingCache = new DirectoryListingCache<>();
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (scanExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(scanExecutor);
+            scanExecutor = null;
+        }
+        if (listingCache != null) {
+            IOHelper.close(listingCache);
+            listingCache = null;
+        }
+    }
+
     @Override
     protected Exchange createExchange(GenericFile<File> file) {
         Exchange exchange = createExchange(true);
@@ -65,116 +109,331 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return exchange;
     }
 
+    @Override
+    protected boolean prePollCheck() throws Exception {
+        if (listingCache != null) {
+            // the directories which have changed since the last poll must be listed again
+            listingCache.refresh();
+        }
+        return true;
+    }
+
     @Override
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
+        if (scanExecutor != null) {
+            return pollDirectoryConcurrently(fileName, fileList, depth);
+        }
+        return scanDirectory(fileName, depth, fileList::add, () -> canPollMoreFiles(fileList),
+                (subDirectory, subDepth) -> pollDirectory(subDirectory, fileList, subDepth));
+    }
+
+    /**
+     * Scans the directory, where the directories are listed concurrently by the scan threads. The files and sub
+     * directories are validated (such as by the filters and the idempotent and in-progress repositories) by the current
+     * thread, in the same order as if the directories had been scanned one at a time.
+     */
+    private boolean pollDirectoryConcurrently(String fileName, List<GenericFile<File>> fileList, int depth) {
+        int limit = isEagerLimitMaxMessagesPerPoll() && getMaxMessagesPerPoll() > 0 ? getMaxMessagesPerPoll() : 0;
+        AtomicInteger gathered = new AtomicInteger();
+        AtomicBoolean stopped = new AtomicBoolean();
+        BooleanSupplier canPollMore = () -> !stopped.get() && (limit == 0 || gathered.get() < limit);
+
+        CompletionService<DirectoryScan> completionService = new ExecutorCompletionService<>(scanExecutor);
+        DirectoryScan root = new DirectoryScan(fileName, depth);
+        completionService.submit(root);
+        int pending = 1;
+        boolean limitHit = false;
+        boolean interrupted = false;
+        Throwable failure = null;
+        // wait for all the scans to be done, also on failure, as the files of the done scans may be in progress
+        while (pending > 0) {
+            Future<DirectoryScan> future;
+            try {
+                future = completionService.take();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                stopped.set(true);
+                continue;
+            }
+            pending--;
+            try {
+                DirectoryScan scan = future.get();
+                if (!canPollMore.getAsBoolean()) {
+                    continue;
+                }
+                // validate the files on this thread, as the filters and repositories may not be thread-safe
+                List<DirectoryScan> subDirectories = new ArrayList<>();
+                limitHit |= !scan.validate(gathered, canPollMore, subDirectories);
+                for (DirectoryScan subDirectory : subDirectories) {
+                    completionService.submit(subDirectory);
+                    pending++;
+                }
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+                stopped.set(true);
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                stopped.set(true);
+            } catch (InterruptedException e) {
+                // cannot happen as the scan is done
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        // gather the files in the order of the directories
+        root.gather(fileList);
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure != null) {
+            throw new GenericFileOperationFailedException("Error scanning directory: " + fileName, failure);
+        }
+        return !limitHit && !stopped.get();
+    }
+
+    /**
+     * Scans a single directory, where the valid files are added to the file list, and the valid sub directories are
+     * handed over to be scanned (when recursive).
+     *
+     * @return <tt>true</tt> to continue, <tt>false</tt> to stop due hitting maxMessagesPerPoll limit
+     */
+    private boolean scanDirectory(
+            String fileName, int depth, Consumer<GenericFile<File>> fileList, BooleanSupplier canPollMore,
+            SubDirectoryScanner subDirectoryScanner) {
         LOG.trace("pollDirectory from fileName: {}", fileName);
 
         depth++;
 
         File directory = new File(fileName);
+        if (!isPollableDirectory(directory)) {
+            return true;
+        }
+
+        // the directory is streamed unless we need all its files up front (for sorting, done files or caching)
+        boolean streaming = !getEndpoint().isPreSort() && getEndpoint().getDoneFileName() == null && listingCache == null;
+        if (streaming) {
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory.toPath())) {
+                for (Path path : stream) {
+                    DirectoryEntry entry = new DirectoryEntry(new File(directory, path.getFileName().toString()));
+                    if (!scanFile(fileName, depth, entry, Collections.emptyList(), fileList, canPollMore,
+                            subDirectoryScanner)) {
+                        return false;
+                    }
+                }
+            } catch (IOException | DirectoryIteratorException e) {
+                // regard as no (more) files in this directory to poll
+                LOG.debug("Cannot list directory: {} due to: {}", directory, e.getMessage(), e);
+            }
+            return true;
+        }
+
+        return scanEntries(fileName, depth, listDirectory(directory), fileList, canPollMore, subDirectoryScanner);
+    }
+
+    /**
+     * Whether the directory exists and can be polled
+     */
+    private boolean isPollableDirectory(File directory) {
         if (!directory.exists() || !directory.isDirectory()) {
             LOG.debug("Cannot poll as directory does not exists or its not a directory: {}", directory);
             if (getEndpoint().isDirectoryMustExist()) {
                 throw new GenericFileOperationFailedException("Directory does not exist: " + directory);
             }
-            return true;
+            return false;
         }
 
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
-        File[] dirFiles = directory.listFiles();
-        if (dirFiles == null || dirFiles.length == 0) {
+        return true;
+    }
+
+    /**
+     * Scans the listed files of a directory, where the valid files are added to the file list, and the valid sub
+     * directories are handed over to be scanned (when recursive).
+     *
+     * @return <tt>true</tt> to continue, <tt>false</tt> to stop due hitting maxMessagesPerPoll limit
+     */
+    private boolean scanEntries(
+            String fileName, int depth, List<DirectoryEntry> entries, Consumer<GenericFile<File>> fileList,
+            BooleanSupplier canPollMore, SubDirectoryScanner subDirectoryScanner) {
+        if (entries.isEmpty()) {
             // no files in this directory to poll
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("No files found in directory: {}", directory.getPath());
-            }
+            LOG.trace("No files found in directory: {}", fileName);
             return true;
         } else {
             // we found some files
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found {} in directory: {}", dirFiles.length, directory.getPath());
-            }
+            LOG.trace("Found {} in directory: {}", entries.size(), fileName);
         }
-        List<File> files = Arrays.asList(dirFiles);
-        if (getEndpoint().isPreSort()) {
-            files.sort(Comparator.comparing(File::getAbsoluteFile));
+
+        // the done files are looked up among all the files in the directory
+        List<File> files = Collections.emptyList();
+        if (getEndpoint().getDoneFileName() != null) {
+            files = new ArrayList<>(entries.size());
+            for (DirectoryEntry entry : entries) {
+                files.add(entry.file);
+            }
         }
 
-        for (File file : dirFiles) {
-            // check if we can continue polling in files
-            if (!canPollMoreFiles(fileList)) {
+        Iterator<DirectoryEntry> it = entries.iterator();
+        if (getEndpoint().isPreSort() && listingCache == null) {
+            // only sort as many files as we poll (the cached listings are already sorted)
+            PriorityQueue<DirectoryEntry> queue = new PriorityQueue<>(entries);
+            it = new Iterator<DirectoryEntry>() {
+                @Override
+                public boolean hasNext() {
+                    return !queue.isEmpty();
+                }
+
+                @Override
+                public DirectoryEntry next() {
+                    return queue.poll();
+                }
+            };
+        }
+        while (it.hasNext()) {
+            if (!scanFile(fileName, depth, it.next(), files, fileList, canPollMore, subDirectoryScanner)) {
                 return false;
             }
+        }
 
-            // trace log as Windows/Unix can have different views what the file
-            // is?
-            if (LOG.isTraceEnabled()) {
-                LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
-                        file.isDirectory(), file.isFile(),
-                        file.isHidden());
+        return true;
+    }
+
+    /**
+     * Lists the files in the directory, or uses the cached listing of the directory if it has not changed.
+     */
+    private List<DirectoryEntry> listDirectory(File directory) {
+        Path path = directory.toPath();
+        if (listingCache != null) {
+            List<DirectoryEntry> entries = listingCache.get(path);
+            if (entries != null) {
+                LOG.trace("Using cached listing of directory: {}", directory);
+                return entries;
             }
+        }
 
-            // creates a generic file
-            GenericFile<File> gf
-                    = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+        boolean cache = listingCache != null && listingCache.watch(path);
+        List<DirectoryEntry> entries = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(path)) {
+            for (Path child : stream) {
+                DirectoryEntry entry = new DirectoryEntry(new File(directory, child.getFileName().toString()));
+                if (cache && !isSkipped(entry.file.getName())) {
+                    // the attributes are cached with the listing
+                    entry.readAttributes();
+                }
+                entries.add(entry);
+            }
+        } catch (IOException | DirectoryIteratorException e) {
+            // regard as no files in this directory to poll
+            LOG.debug("Cannot list directory: {} due to: {}", directory, e.getMessage(), e);
+            return Collections.emptyList();
+        }
 
-            if (file.isDirectory()) {
-                if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
-                    // recursive scan and add the sub files and folders
-                    String subDirectory = fileName + File.separator + file.getName();
-                    boolean canPollMore = pollDirectory(subDirectory, fileList, depth);
-                    if (!canPollMore) {
-                        return false;
-                    }
+        if (cache) {
+            if (getEndpoint().isPreSort()) {
+                Collections.sort(entries);
+            }
+            listingCache.put(path, Collections.unmodifiableList(entries));
+        }
+        return entries;
+    }
+
+    private boolean scanFile(
+            String fileName, int depth, DirectoryEntry entry, List<File> files, Consumer<GenericFile<File>> fileList,
+            BooleanSupplier canPollMore, SubDirectoryScanner subDirectoryScanner) {
+        // check if we can continue polling in files
+        if (!canPollMore.getAsBoolean()) {
+            return false;
+        }
+
+        File file = entry.file;
+        // skip the files which are never matched before reading their attributes
+        if (isSkipped(file.getName())) {
+            return true;
+        }
+        if (!entry.hasAttributes() && !entry.readAttributes()) {
+            LOG.trace("Skipping file: {} as it no longer exists", file);
+            return true;
+        }
+
+        // trace log as Windows/Unix can have different views what the file
+        // is?
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Found file: {} [isAbsolute: {}, isDirectory: {}, isFile: {}, isHidden: {}]", file, file.isAbsolute(),
+                    file.isDirectory(), file.isFile(),
+                    file.isHidden());
+        }
+
+        // creates a generic file
+        GenericFile<File> gf = asGenericFile(endpointPath, file, entry.directory, entry.length, entry.lastModified,
+                getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+
+        if (entry.directory) {
+            if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
+                // recursive scan and add the sub files and folders
+                String subDirectory = fileName + File.separator + file.getName();
+                return subDirectoryScanner.scan(subDirectory, depth);
+            }
+        } else {
+            // Windows can report false to a file on a share so regard it
+            // always as a file (if its not a directory)
+            if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
+                LOG.trace("Adding valid file: {}", file);
+                // matched file so add
+                if (extendedAttributes != null) {
+                    gf.setExtendedAttributes(readExtendedAttributes(file));
                 }
-            } else {
-                // Windows can report false to a file on a share so regard it
-                // always as a file (if its not a directory)
-                if (depth >= endpoint.minDepth && isValidFile(gf, false, files)) {
-                    LOG.trace("Adding valid file: {}", file);
-                    // matched file so add
-                    if (extendedAttributes != null) {
-                        Path path = file.toPath();
-                        Map<String, Object> allAttributes = new HashMap<>();
-                        for (String attribute : extendedAttributes) {
-                            try {
-                                String prefix = null;
-                                if (attribute.endsWith(":*")) {
-                                    prefix = attribute.substring(0, attribute.length() - 1);
-                                } else if (attribute.equals("*")) {
-                                    prefix = "basic:";
-                                }
-
-                                if (ObjectHelper.isNotEmpty(prefix)) {
-                                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
-                                    if (attributes != null) {
-                                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
-                                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
-                                        }
-                                    }
-                                } else if (!attribute.contains(":")) {
-                                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
-                                } else {
-                                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
-                                }
-                            } catch (IOException e) {
-                                if (LOG.isDebugEnabled()) {
-                                    LOG.debug("Unable to read attribute {} on file {}", attribute, file, e);
-                                }
-                            }
-                        }
+                fileList.accept(gf);
+            }
+        }
+        return true;
+    }
 
-                        gf.setExtendedAttributes(allAttributes);
-                    }
+    /**
+     * Whether the file is always skipped, as files starting with a dot and lock files are never matched.
+     */
+    private static boolean isSkipped(String name) {
+        return name.startsWith(".") || name.endsWith(FileComponent.DEFAULT_LOCK_FILE_POSTFIX);
+    }
 
-                    fileList.add(gf);
+    private Map<String, Object> readExtendedAttributes(File file) {
+        Path path = file.toPath();
+        Map<String, Object> allAttributes = new HashMap<>();
+        for (String attribute : extendedAttributes) {
+            try {
+                String prefix = null;
+                if (attribute.endsWith(":*")) {
+                    prefix = attribute.substring(0, attribute.length() - 1);
+                } else if (attribute.equals("*")) {
+                    prefix = "basic:";
                 }
 
+                if (ObjectHelper.isNotEmpty(prefix)) {
+                    Map<String, Object> attributes = Files.readAttributes(path, attribute);
+                    if (attributes != null) {
+                        for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                            allAttributes.put(prefix + entry.getKey(), entry.getValue());
+                        }
+                    }
+                } else if (!attribute.contains(":")) {
+                    allAttributes.put("basic:" + attribute, Files.getAttribute(path, attribute));
+                } else {
+                    allAttributes.put(attribute, Files.getAttribute(path, attribute));
+                }
+            } catch (IOException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Unable to read attribute {} on file {}", attribute, file, e);
+                }
             }
         }
-
-        return true;
+        return allAttributes;
     }
 
     @Override
@@ -199,6 +458,13 @@ public class FileConsumer extends GenericFileConsumer<File> {
      * @return                  wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, file.isDirectory(), file.length(), file.lastModified(), charset,
+                probeContentType);
+    }
+
+    private static GenericFile<File> asGenericFile(
+            String endpointPath, File file, boolean directory, long length, long lastModified, String charset,
+            boolean probeContentType) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -207,8 +473,8 @@ public class FileConsumer extends GenericFileConsumer<File> {
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setFileLength(file.length());
-        answer.setDirectory(file.isDirectory());
+        answer.setFileLength(length);
+        answer.setDirectory(directory);
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -220,7 +486,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
         // to return a consistent answer for all OS platforms.
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
-        answer.setLastModified(file.lastModified());
+        answer.setLastModified(lastModified);
 
         // compute the file path as relative to the starting directory
         File path;
@@ -273,4 +539,122 @@ public class FileConsumer extends GenericFileConsumer<File> {
         // underlying file is not
         return !file.getFile().getAbsolutePath().equals(file.getAbsoluteFilePath());
     }
+
+    /**
+     * Scans a sub directory, either right away or later.
+     */
+    @FunctionalInterface
+    private interface SubDirectoryScanner {
+
+        /**
+         * @return <tt>true</tt> to continue, <tt>false</tt> to stop due hitting maxMessagesPerPoll limit
+         */
+        boolean scan(String subDirectory, int depth);
+    }
+
+    /**
+     * A file in a directory listing, with the attributes we need from it (read once).
+     */
+    private static final class DirectoryEntry implements Comparable<DirectoryEntry> {
+
+        private final File file;
+        private boolean attributes;
+        private boolean directory;
+        private long length;
+        private long lastModified;
+
+        DirectoryEntry(File file) {
+            this.file = file;
+        }
+
+        boolean hasAttributes() {
+            return attributes;
+        }
+
+        /**
+         * Reads the attributes with a single file system call
+         *
+         * @return <tt>false</tt> if the file no longer exists
+         */
+        boolean readAttributes() {
+            try {
+                BasicFileAttributes attrs = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+                directory = attrs.isDirectory();
+                length = attrs.size();
+                lastModified = attrs.lastModifiedTime().toMillis();
+                attributes = true;
+            } catch (IOException e) {
+                attributes = false;
+            }
+            return attributes;
+        }
+
+        @Override
+        public int compareTo(DirectoryEntry o) {
+            // the files are in the same directory
+            return file.compareTo(o.file);
+        }
+    }
+
+    /**
+     * Lists a single directory on a scan thread, where the listed files are validated afterwards by the polling thread,
+     * and the files are gathered in order when all the directories have been scanned.
+     */
+    private final class DirectoryScan implements Callable<DirectoryScan> {
+
+        private final String fileName;
+        private final int depth;
+        private List<DirectoryEntry> listing = Collections.emptyList();
+        // the valid files and sub directories in the order they were scanned
+        private final List<Object> entries = new ArrayList<>();
+
+        DirectoryScan(String fileName, int depth) {
+            this.fileName = fileName;
+            this.depth = depth;
+        }
+
+        @Override
+        public DirectoryScan call() throws Exception {
+            LOG.trace("pollDirectory from fileName: {}", fileName);
+            File directory = new File(fileName);
+            if (isPollableDirectory(directory)) {
+                listing = listDirectory(directory);
+                // read the attributes on the scan thread, so only the validation is done by the polling thread
+                for (DirectoryEntry entry : listing) {
+                    if (!entry.hasAttributes() && !isSkipped(entry.file.getName())) {
+                        entry.readAttributes();
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Validates the listed files, which must be done by the polling thread.
+         *
+         * @return <tt>true</tt> to continue, <tt>false</tt> to stop due hitting maxMessagesPerPoll limit
+         */
+        boolean validate(AtomicInteger gathered, BooleanSupplier canPollMore, List<DirectoryScan> subDirectories) {
+            return scanEntries(fileName, depth + 1, listing, f -> {
+                entries.add(f);
+                gathered.incrementAndGet();
+            }, canPollMore, (subDirectory, subDepth) -> {
+                DirectoryScan scan = new DirectoryScan(subDirectory, subDepth);
+                entries.add(scan);
+                subDirectories.add(scan);
+                return true;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        void gather(List<GenericFile<File>> fileList) {
+            for (Object entry : entries) {
+                if (entry instanceof DirectoryScan) {
+                    ((DirectoryScan) entry).gather(fileList);
+                } else {
+                    fileList.add((GenericFile<File>) entry);
+                }
+            }
+        }
+    }
 }
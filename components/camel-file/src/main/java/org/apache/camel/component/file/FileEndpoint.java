@@ -75,6 +75,10 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private int scanThreads;
+    @UriParam(label = "consumer,advanced")
+    private boolean incrementalScan;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -360,6 +364,35 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public int getScanThreads() {
+        return scanThreads;
+    }
+
+    /**
+     * The number of threads used for scanning the sub directories concurrently, when the recursive option is enabled.
+     * By default (value of 0) the directories are scanned one at a time by the consumer thread. The files are gathered
+     * in the same order as when the directories are scanned one at a time, and the maxMessagesPerPoll option is
+     * honored. The directories are listed by the scan threads, while the files are still filtered and validated by the
+     * consumer thread, so custom filters and repositories do not need to be thread-safe.
+     */
+    public void setScanThreads(int scanThreads) {
+        this.scanThreads = scanThreads;
+    }
+
+    public boolean isIncrementalScan() {
+        return incrementalScan;
+    }
+
+    /**
+     * Whether to keep the listings of the scanned directories between polls, and use a
+     * {@link java.nio.file.WatchService} to only list the directories again which have changed. This avoids listing
+     * large directories which have not changed, such as when using noop=true, at the cost of keeping the listings in
+     * memory. Notice that on some platforms the watch service detects changes with a delay (by polling).
+     */
+    public void setIncrementalScan(boolean incrementalScan) {
+        this.incrementalScan = incrementalScan;
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
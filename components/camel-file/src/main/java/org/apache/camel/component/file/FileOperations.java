@@ -17,7 +17,6 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -29,7 +28,6 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -288,13 +286,11 @@ public class FileOperations implements GenericFileOperations<File> {
 
             // we can optimize and use file based if no charset must be used,
             // and the input body is a file
-            // however optimization cannot be applied when content should be
-            // appended to target file
+            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
             File source = null;
             boolean fileBased = false;
-            if (charset == null && endpoint.getFileExist() != GenericFileExist.Append) {
-                // if no charset and not in appending mode, then we can try
-                // using file directly (optimized)
+            if (charset == null) {
+                // if no charset, then we can try using file directly (optimized)
                 Object body = exchange.getIn().getBody();
                 if (body instanceof WrappedFile) {
                     WrappedFile wrapped = (WrappedFile) body;
@@ -322,8 +318,9 @@ public class FileOperations implements GenericFileOperations<File> {
                 // a full file to file copy, as the local work copy is to be
                 // deleted afterwards anyway
                 // local work path
+                // (which cannot be done when appending to the target file)
                 File local = exchange.getIn().getHeader(Exchange.FILE_LOCAL_WORK_PATH, File.class);
-                if (local != null && local.exists()) {
+                if (local != null && local.exists() && !append) {
                     boolean renamed = writeFileByLocalWorkPath(local, file);
                     if (renamed) {
                         // try to keep last modified timestamp if configured to
@@ -434,20 +431,53 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
+        if (endpoint.getFileExist() != GenericFileExist.Append && target.exists()
+                && Files.isSameFile(source.toPath(), target.toPath())) {
+            // copying a file onto itself is a noop (and must not truncate the file)
+            LOG.trace("writeFileByFile source and target is the same file: {}", target);
+            return;
+        }
+
         // in case we are using file locks as read-locks then we need to use
-        // file channels for copying to support this
+        // the file channel holding the lock for copying to support this
         String path = source.getAbsolutePath();
         FileChannel channel
                 = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
         if (channel != null) {
-            try (FileChannel out = new FileOutputStream(target).getChannel()) {
-                LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
-            }
+            LOG.trace("writeFileByFile using exclusive read lock FileChannel: {} -> {}", source, target);
+            writeFileByChannel(channel, target);
         } else {
-            // use regular file copy
-            LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
-            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
+            try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+                writeFileByChannel(in, target);
+            }
+        }
+    }
+
+    /**
+     * Copies the content of the given channel to the target file using
+     * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}, which allows the operating
+     * system to copy the bytes directly from the source file to the target file (without copying them through user
+     * space buffers).
+     */
+    private void writeFileByChannel(FileChannel in, File target) throws IOException {
+        try (FileChannel out = prepareOutputFileChannel(target)) {
+            // transferTo may transfer fewer bytes than requested (such as for files larger than 2gb)
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                long count = in.transferTo(position, size - position, out);
+                if (count <= 0) {
+                    // the file has been truncated in the meantime
+                    break;
+                }
+                position += count;
+            }
+
+            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+            if (append && endpoint.getAppendChars() != null) {
+                out.write(ByteBuffer.wrap(endpoint.getAppendChars().getBytes()));
+            }
         }
     }
 
@@ -522,13 +552,12 @@ public class FileOperations implements GenericFileOperations<File> {
      * Creates and prepares the output file channel. Will position itself in correct position if the file is writable
      * eg. it should append or override any existing content.
      */
-    private SeekableByteChannel prepareOutputFileChannel(File target) throws IOException {
+    private FileChannel prepareOutputFileChannel(File target) throws IOException {
         if (endpoint.getFileExist() == GenericFileExist.Append) {
-            SeekableByteChannel out
-                    = Files.newByteChannel(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
             return out.position(out.size());
         }
-        return Files.newByteChannel(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
+        return FileChannel.open(target.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING,
                 StandardOpenOption.CREATE);
     }
 }
@@ -374,6 +374,21 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
      *                  started to be processed, for some reason (not found, or aborted etc)
      */
     protected boolean processExchange(final Exchange exchange) {
+        return processExchange(exchange, operations, endpoint.isSynchronous());
+    }
+
+    /**
+     * Processes the exchange using the given operations to begin, retrieve and complete (commit or rollback) the file.
+     *
+     * @param  exchange       the exchange
+     * @param  fileOperations the operations to use for the file
+     * @param  synchronous    whether to process the exchange synchronously, which ensures the exchange (including the
+     *                        completion of the file) is done when this method returns
+     * @return                <tt>true</tt> if the file was started to be processed, <tt>false</tt> if the file was not
+     *                        started to be processed, for some reason (not found, or aborted etc)
+     */
+    protected boolean processExchange(
+            final Exchange exchange, final GenericFileOperations<T> fileOperations, boolean synchronous) {
         GenericFile<T> file = getExchangeFileProperty(exchange);
         LOG.trace("Processing file: {}", file);
 
@@ -386,7 +401,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         Exception beginCause = null;
         boolean begin = false;
         try {
-            begin = processStrategy.begin(operations, endpoint, exchange, file);
+            begin = processStrategy.begin(fileOperations, endpoint, exchange, file);
         } catch (Exception e) {
             beginCause = e;
         }
@@ -398,7 +413,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             LOG.debug("{} cannot begin processing file: {}", endpoint, file);
             try {
                 // abort
-                processStrategy.abort(operations, endpoint, exchange, file);
+                processStrategy.abort(fileOperations, endpoint, exchange, file);
             } catch (Exception e) {
                 abortCause = e;
             } finally {
@@ -439,7 +454,7 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
                 boolean retrieved;
                 Exception cause = null;
                 try {
-                    retrieved = operations.retrieveFile(name, exchange, target.getFileLength());
+                    retrieved = fileOperations.retrieveFile(name, exchange, target.getFileLength());
                 } catch (Exception e) {
                     retrieved = false;
                     cause = e;
@@ -477,11 +492,11 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             // strategies
             // (for instance to move the file after we have processed it)
             exchange.adapt(ExtendedExchange.class).addOnCompletion(
-                    new GenericFileOnCompletion<>(endpoint, operations, processStrategy, target, absoluteFileName));
+                    new GenericFileOnCompletion<>(endpoint, fileOperations, processStrategy, target, absoluteFileName));
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
-            if (endpoint.isSynchronous()) {
+            if (synchronous) {
                 // process synchronously
                 getProcessor().process(exchange);
             } else {
@@ -47,6 +47,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "bufferSize": target.setBufferSize(property(camelContext, int.class, value)); return true;
         case "charset": target.setCharset(property(camelContext, java.lang.String.class, value)); return true;
         case "chmod": target.getConfiguration().setChmod(property(camelContext, java.lang.String.class, value)); return true;
+        case "concurrentdownloads":
+        case "concurrentDownloads": target.setConcurrentDownloads(property(camelContext, int.class, value)); return true;
         case "connecttimeout":
         case "connectTimeout": target.getConfiguration().setConnectTimeout(property(camelContext, int.class, value)); return true;
         case "delay": target.setDelay(property(camelContext, long.class, value)); return true;
@@ -250,6 +252,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "bufferSize": return int.class;
         case "charset": return java.lang.String.class;
         case "chmod": return java.lang.String.class;
+        case "concurrentdownloads":
+        case "concurrentDownloads": return int.class;
         case "connecttimeout":
         case "connectTimeout": return int.class;
         case "delay": return long.class;
@@ -454,6 +458,8 @@ public class FtpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "bufferSize": return target.getBufferSize();
         case "charset": return target.getCharset();
         case "chmod": return target.getConfiguration().getChmod();
+        case "concurrentdownloads":
+        case "concurrentDownloads": return target.getConcurrentDownloads();
         case "connecttimeout":
         case "connectTimeout": return target.getConfiguration().getConnectTimeout();
         case "delay": return target.getDelay();
@@ -48,6 +48,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmod": target.getConfiguration().setChmod(property(camelContext, java.lang.String.class, value)); return true;
         case "ciphers": target.getConfiguration().setCiphers(property(camelContext, java.lang.String.class, value)); return true;
         case "compression": target.getConfiguration().setCompression(property(camelContext, int.class, value)); return true;
+        case "concurrentdownloads":
+        case "concurrentDownloads": target.setConcurrentDownloads(property(camelContext, int.class, value)); return true;
         case "connecttimeout":
         case "connectTimeout": target.getConfiguration().setConnectTimeout(property(camelContext, int.class, value)); return true;
         case "delay": target.setDelay(property(camelContext, long.class, value)); return true;
@@ -271,6 +273,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmod": return java.lang.String.class;
         case "ciphers": return java.lang.String.class;
         case "compression": return int.class;
+        case "concurrentdownloads":
+        case "concurrentDownloads": return int.class;
         case "connecttimeout":
         case "connectTimeout": return int.class;
         case "delay": return long.class;
@@ -495,6 +499,8 @@ public class SftpEndpointConfigurer extends PropertyConfigurerSupport implements
         case "chmod": return target.getConfiguration().getChmod();
         case "ciphers": return target.getConfiguration().getCiphers();
         case "compression": return target.getConfiguration().getCompression();
+        case "concurrentdownloads":
+        case "concurrentDownloads": return target.getConcurrentDownloads();
         case "connecttimeout":
         case "connectTimeout": return target.getConfiguration().getConnectTimeout();
         case "delay": return target.getDelay();
@@ -20,7 +20,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(125);
+        Set<String> props = new HashSet<>(126);
         props.add("disconnect");
         props.add("moveExistingFileStrategy");
         props.add("fileName");
@@ -146,6 +146,7 @@ public class SftpEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("antFilterCaseSensitive");
         props.add("filterDirectory");
         props.add("username");
+        props.add("concurrentDownloads");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         Set<String> secretProps = new HashSet<>(10);
         secretProps.add("privateKey");
@@ -103,6 +103,10 @@ public class FtpEndpoint<T extends FTPFile> extends RemoteFileEndpoint<FTPFile>
         if (isResumeDownload() && !getConfiguration().isBinary()) {
             throw new IllegalArgumentException("The option binary must be enabled when resumeDownload=true");
         }
+        if (getConcurrentDownloads() > 1 && ftpClient != null) {
+            // each concurrent download must use its own client
+            throw new IllegalArgumentException("The option ftpClient cannot be used together with concurrentDownloads");
+        }
         return super.createConsumer(processor);
     }
 
@@ -17,13 +17,27 @@
 package org.apache.camel.component.file.remote;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Ordered;
 import org.apache.camel.Processor;
+import org.apache.camel.component.file.FileComponent;
 import org.apache.camel.component.file.GenericFile;
 import org.apache.camel.component.file.GenericFileConsumer;
 import org.apache.camel.component.file.GenericFileOperationFailedException;
@@ -43,6 +57,14 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     protected transient boolean loggedIn;
     protected transient boolean loggedInWarning;
 
+    // the pool of connections (sessions) and threads used for downloading files concurrently
+    private volatile ExecutorService downloadExecutor;
+    private List<RemoteFileOperations<T>> downloadSessions;
+    private volatile BlockingQueue<RemoteFileOperations<T>> idleDownloadSessions;
+    private final List<Download> downloads = new ArrayList<>();
+    // the downloads which has been submitted but not yet started
+    private final Set<Download> queuedDownloads = ConcurrentHashMap.newKeySet();
+
     public RemoteFileConsumer(RemoteFileEndpoint<T> endpoint, Processor processor, RemoteFileOperations<T> operations,
                               GenericFileProcessStrategy processStrategy) {
         super(endpoint, processor, operations, processStrategy);
@@ -117,6 +139,33 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         }
     }
 
+    @Override
+    public int getPendingExchangesSize() {
+        // the files queued to be downloaded are not yet in flight, so they must be included for graceful shutdown
+        return super.getPendingExchangesSize() + queuedDownloads.size();
+    }
+
+    @Override
+    public int processBatch(Queue<Object> exchanges) {
+        if (downloadExecutor == null) {
+            return super.processBatch(exchanges);
+        }
+
+        int answer = 0;
+        try {
+            answer = super.processBatch(exchanges);
+        } finally {
+            // the batch is complete when all the files have been downloaded and processed
+            answer -= awaitDownloads();
+        }
+
+        if (getEndpoint().isDisconnect()) {
+            LOG.trace("processBatch disconnect from: {}", getEndpoint());
+            disconnect();
+        }
+        return answer;
+    }
+
     @Override
     protected boolean processExchange(Exchange exchange) {
         // mark the exchange to be processed synchronously as the ftp client is
@@ -124,6 +173,22 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         // and we must execute the callbacks in the same thread as this consumer
         exchange.setProperty(Exchange.UNIT_OF_WORK_PROCESS_SYNC, Boolean.TRUE);
 
+        ExecutorService executor = downloadExecutor;
+        if (executor != null) {
+            // download and process the file using a connection from the pool
+            Download download = new Download(exchange);
+            queuedDownloads.add(download);
+            try {
+                download.future = executor.submit(download);
+            } catch (RejectedExecutionException e) {
+                // we are stopping
+                download.drop();
+                return false;
+            }
+            downloads.add(download);
+            return true;
+        }
+
         // defer disconnect til the UoW is complete - but only the last exchange
         // from the batch should do that
         boolean isLast = exchange.getProperty(ExchangePropertyKey.BATCH_COMPLETE, true, Boolean.class);
@@ -174,10 +239,40 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         return !dir.equals("/") && !dir.equals("\\");
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        int concurrentDownloads = getEndpoint().getConcurrentDownloads();
+        if (concurrentDownloads > 1) {
+            // the connections are created (and logged in) on demand, and kept in the pool across polls
+            List<RemoteFileOperations<T>> sessions = new ArrayList<>(concurrentDownloads);
+            for (int i = 0; i < concurrentDownloads; i++) {
+                sessions.add(getEndpoint().createRemoteFileOperations());
+            }
+            downloadSessions = sessions;
+            idleDownloadSessions = new ArrayBlockingQueue<>(concurrentDownloads, false, sessions);
+            downloadExecutor = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "RemoteFileConsumerDownload", concurrentDownloads);
+        }
+        super.doStart();
+    }
+
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+        ExecutorService executor = downloadExecutor;
+        if (executor != null) {
+            downloadExecutor = null;
+            // the downloads in progress are using connections from the pool, so they must be done (or interrupted if
+            // they take too long) before we can disconnect
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownGraceful(executor);
+            // and drop the downloads which was never started
+            for (Download download : queuedDownloads) {
+                download.cancel(false);
+            }
+        }
         disconnect();
+        downloadSessions = null;
+        idleDownloadSessions = null;
     }
 
     protected void disconnect() {
@@ -185,12 +280,22 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
         loggedIn = false;
 
         // disconnect
+        disconnect(getOperations());
+
+        if (downloadSessions != null) {
+            for (RemoteFileOperations<T> session : downloadSessions) {
+                disconnect(session);
+            }
+        }
+    }
+
+    private void disconnect(RemoteFileOperations<T> session) {
         try {
-            if (getOperations().isConnected()) {
+            if (session.isConnected()) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Disconnecting from: {}", remoteServer());
                 }
-                getOperations().disconnect();
+                session.disconnect();
             }
         } catch (GenericFileOperationFailedException e) {
             // ignore just log a warning
@@ -217,10 +322,21 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
     }
 
     protected void connectIfNecessary() throws IOException {
+        loggedIn = connectIfNecessary(getOperations(), loggedIn);
+    }
+
+    /**
+     * Connects (and logs in) the given operations, if not already connected and logged in.
+     *
+     * @param  operations the operations
+     * @param  loggedIn   whether the operations has been logged in
+     * @return            <tt>true</tt> if connected and logged in, <tt>false</tt> if the login failed
+     */
+    protected boolean connectIfNecessary(RemoteFileOperations<T> operations, boolean loggedIn) throws IOException {
         // We need to send a noop first to check if the connection is still open
         boolean isConnected = false;
         try {
-            isConnected = getOperations().sendNoop();
+            isConnected = operations.sendNoop();
         } catch (Exception ex) {
             // here we just ignore the exception and try to reconnect
             if (LOG.isDebugEnabled()) {
@@ -232,11 +348,151 @@ public abstract class RemoteFileConsumer<T> extends GenericFileConsumer<T> {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Not connected/logged in, connecting to: {}", remoteServer());
             }
-            loggedIn = getOperations().connect((RemoteFileConfiguration) endpoint.getConfiguration(), null);
+            loggedIn = operations.connect((RemoteFileConfiguration) endpoint.getConfiguration(), null);
             if (loggedIn) {
                 LOG.debug("Connected and logged in to: {}", remoteServer());
             }
         }
+        return loggedIn;
+    }
+
+    /**
+     * Downloads and processes the file using a connection from the pool. The connection is used for the file until the
+     * exchange is done, so the file is also committed or rolled back using the connection it was downloaded with.
+     */
+    private boolean processExchangeConcurrently(Exchange exchange) {
+        BlockingQueue<RemoteFileOperations<T>> sessions = idleDownloadSessions;
+        RemoteFileOperations<T> session;
+        try {
+            session = sessions.take();
+        } catch (InterruptedException e) {
+            // we are stopping
+            Thread.currentThread().interrupt();
+            removeInProgressFile(exchange);
+            return false;
+        }
+        try {
+            try {
+                if (!connectIfNecessary(session, true)) {
+                    throw new GenericFileOperationFailedException("Cannot connect/login to: " + remoteServer());
+                }
+            } catch (Exception e) {
+                GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+                removeInProgressFile(exchange);
+                handleException("Cannot connect/login to: " + remoteServer() + " to download file: " + file, e);
+                return false;
+            }
+            return processExchange(exchange, session, true);
+        } finally {
+            sessions.add(session);
+        }
+    }
+
+    /**
+     * Removes the file which cannot be processed from the in progress list, so it can be picked up again
+     */
+    private void removeInProgressFile(Exchange exchange) {
+        GenericFile<?> file = exchange.getProperty(FileComponent.FILE_EXCHANGE_FILE, GenericFile.class);
+        endpoint.getInProgressRepository().remove(file.getAbsoluteFilePath());
+        releaseExchange(exchange, true);
+    }
+
+    /**
+     * Waits for the files being downloaded concurrently to be processed
+     *
+     * @return the number of files which was not started to be processed
+     */
+    private int awaitDownloads() {
+        int answer = 0;
+        boolean interrupted = false;
+        for (Download download : downloads) {
+            if (interrupted) {
+                // we are stopping so do not wait for the remaining files
+                download.cancel(true);
+                answer++;
+                continue;
+            }
+            try {
+                if (!download.future.get()) {
+                    answer++;
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+                download.cancel(true);
+                answer++;
+            } catch (CancellationException e) {
+                // the download was dropped as we are stopping
+                answer++;
+            } catch (ExecutionException e) {
+                handleException("Error downloading file from: " + remoteServer(), e.getCause());
+                answer++;
+            }
+        }
+        downloads.clear();
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return answer;
+    }
+
+    /**
+     * A file to be downloaded and processed using a connection from the pool. The download is either started by a
+     * download thread, or dropped when we are stopping, and whichever comes first claims the file, so a file which is
+     * never downloaded is always removed from the in progress list.
+     */
+    private final class Download implements Callable<Boolean> {
+
+        private final Exchange exchange;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile Future<Boolean> future;
+
+        private Download(Exchange exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        public Boolean call() {
+            if (!isRunAllowed()) {
+                // we are stopping
+                drop();
+                return false;
+            }
+            if (!claim()) {
+                // already dropped
+                return false;
+            }
+            return processExchangeConcurrently(exchange);
+        }
+
+        /**
+         * Drops the download if it has not been started
+         */
+        private boolean drop() {
+            if (claim()) {
+                removeInProgressFile(exchange);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Drops the download if it has not been started, and cancels the task
+         */
+        private void cancel(boolean mayInterruptIfRunning) {
+            drop();
+            Future<Boolean> f = future;
+            if (f != null) {
+                f.cancel(mayInterruptIfRunning);
+            }
+        }
+
+        private boolean claim() {
+            if (claimed.compareAndSet(false, true)) {
+                queuedDownloads.remove(this);
+                return true;
+            }
+            return false;
+        }
     }
 
     /**
@@ -65,6 +65,14 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
                                                          + "Exchange that has details about the file such as file name, file size, etc. It's just that the file will "
                                                          + "not be downloaded.")
     private boolean download = true;
+    @UriParam(label = "consumer,advanced", description = "The number of files the FTP consumer downloads (and processes) "
+                                                         + "concurrently, where each file is downloaded using its own connection to the FTP server. The "
+                                                         + "connections are kept in a pool and reused across polls. The consumer then holds up to N+1 "
+                                                         + "connections to the FTP server: its own connection which lists the files, and the N pooled "
+                                                         + "connections which download the files. Notice that the files are then not "
+                                                         + "processed in order. The default (0) downloads and processes the files one by one using the "
+                                                         + "single connection of the consumer.")
+    private int concurrentDownloads;
 
     public RemoteFileEndpoint() {
         // no args constructor for spring bean endpoint configuration
@@ -310,4 +318,19 @@ public abstract class RemoteFileEndpoint<T> extends GenericFileEndpoint<T> {
         this.download = download;
     }
 
+    public int getConcurrentDownloads() {
+        return concurrentDownloads;
+    }
+
+    /**
+     * The number of files the FTP consumer downloads (and processes) concurrently, where each file is downloaded using
+     * its own connection to the FTP server. The connections are kept in a pool and reused across polls. The consumer
+     * then holds up to N+1 connections to the FTP server: its own connection which lists the files, and the N pooled
+     * connections which download the files. Notice that the files are then not processed in order. The default (0)
+     * downloads and processes the files one by one using the single connection of the consumer.
+     */
+    public void setConcurrentDownloads(int concurrentDownloads) {
+        this.concurrentDownloads = concurrentDownloads;
+    }
+
 }
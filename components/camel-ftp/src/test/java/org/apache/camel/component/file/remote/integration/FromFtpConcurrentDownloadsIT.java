@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote.integration;
+
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for downloading files concurrently using a pool of connections.
+ */
+public class FromFtpConcurrentDownloadsIT extends FtpServerTestSupport {
+
+    private static final int FILES = 20;
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    private String getFtpUrl() {
+        return "ftp://admin@localhost:{{ftp.server.port}}/concurrent?password=admin&delete=true&concurrentDownloads=4"
+               + "&initialDelay=0&delay=100";
+    }
+
+    @Test
+    public void testConcurrentDownloads() throws Exception {
+        String[] bodies = new String[FILES];
+        for (int i = 0; i < FILES; i++) {
+            bodies[i] = "Hello " + i;
+            template.sendBodyAndHeader("file://" + service.getFtpRootDir() + "/concurrent", bodies[i], Exchange.FILE_NAME,
+                    "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder((Object[]) bodies);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(threads.size() > 1, "Should download the files using multiple threads: " + threads);
+
+        // the files are deleted (committed) after they have been processed
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            for (int i = 0; i < FILES; i++) {
+                File file = ftpFile("concurrent/hello" + i + ".txt").toFile();
+                assertFalse(file.exists(), "The file should have been deleted: " + file);
+            }
+        });
+    }
+
+    @Test
+    public void testConcurrentDownloadsRollback() throws Exception {
+        template.sendBodyAndHeader("file://" + service.getFtpRootDir() + "/concurrent", "Hello World", Exchange.FILE_NAME,
+                "hello.txt");
+        template.sendBodyAndHeader("file://" + service.getFtpRootDir() + "/concurrent", "Kaboom", Exchange.FILE_NAME,
+                "kaboom.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:error").expectedMinimumMessageCount(1);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        // the file is deleted (committed) after it has been processed
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(
+                () -> assertFalse(ftpFile("concurrent/hello.txt").toFile().exists(), "The file should have been deleted"));
+        // the failed file is rolled back, and therefore not deleted
+        assertTrue(ftpFile("concurrent/kaboom.txt").toFile().exists(), "The file should NOT have been deleted");
+        assertEquals(1, mock.getReceivedCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() throws Exception {
+                onException(IllegalArgumentException.class).handled(false).to("mock:error");
+
+                from(getFtpUrl()).routeId("foo").noAutoStartup()
+                        .process(exchange -> {
+                            threads.add(Thread.currentThread().getName());
+                            if ("Kaboom".equals(exchange.getIn().getBody(String.class))) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        })
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -125,6 +125,10 @@ public class SftpEmbeddedService extends AbstractTestService implements FtpServi
         }
     }
 
+    public int getActiveSessionCount() {
+        return sshd.getActiveSessions().size();
+    }
+
     public byte[] buildKnownHosts() {
         return String.format(KNOWN_HOSTS, port).getBytes();
     }
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.remote.sftp.integration;
+
+import java.io.File;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for downloading files concurrently using a pool of SFTP sessions.
+ */
+@EnabledIf(value = "org.apache.camel.component.file.remote.services.SftpEmbeddedService#hasRequiredAlgorithms")
+public class SftpConcurrentDownloadsIT extends SftpServerTestSupport {
+
+    private static final int FILES = 20;
+    private static final int CONCURRENT_DOWNLOADS = 4;
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger maxSessions = new AtomicInteger();
+
+    @Test
+    public void testConcurrentDownloads() throws Exception {
+        String[] bodies = new String[FILES];
+        for (int i = 0; i < FILES; i++) {
+            bodies[i] = "Hello " + i;
+            template.sendBodyAndHeader("file://" + service.getFtpRootDir() + "/concurrent", bodies[i], Exchange.FILE_NAME,
+                    "hello" + i + ".txt");
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder((Object[]) bodies);
+
+        // the sessions of a previous test may still be closing
+        await().atMost(5, TimeUnit.SECONDS).until(() -> service.getActiveSessionCount() == 0);
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(threads.size() > 1, "Should download the files using multiple threads: " + threads);
+        // the consumer session which lists the files, and the pooled sessions which download the files
+        assertTrue(maxSessions.get() > 1, "Should download the files using multiple sessions: " + maxSessions.get());
+        assertTrue(maxSessions.get() <= CONCURRENT_DOWNLOADS + 1,
+                "Should use at most " + (CONCURRENT_DOWNLOADS + 1) + " sessions: " + maxSessions.get());
+
+        // each file is deleted (committed) using the session it was downloaded with
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            for (int i = 0; i < FILES; i++) {
+                File file = ftpFile("concurrent/hello" + i + ".txt").toFile();
+                assertFalse(file.exists(), "The file should have been deleted: " + file);
+            }
+        });
+    }
+
+    @Test
+    public void testConcurrentDownloadsRollback() throws Exception {
+        for (int i = 0; i < FILES; i++) {
+            template.sendBodyAndHeader("file://" + service.getFtpRootDir() + "/concurrent", "Hello " + i, Exchange.FILE_NAME,
+                    "hello" + i + ".txt");
+        }
+        template.sendBodyAndHeader("file://" + service.getFtpRootDir() + "/concurrent", "Kaboom", Exchange.FILE_NAME,
+                "kaboom.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(FILES);
+        getMockEndpoint("mock:error").expectedMinimumMessageCount(1);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        // the other files are deleted (committed) after they have been processed
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            for (int i = 0; i < FILES; i++) {
+                File file = ftpFile("concurrent/hello" + i + ".txt").toFile();
+                assertFalse(file.exists(), "The file should have been deleted: " + file);
+            }
+        });
+        // the failed file is rolled back, and therefore not deleted
+        assertTrue(ftpFile("concurrent/kaboom.txt").toFile().exists(), "The file should NOT have been deleted");
+        assertEquals(FILES, mock.getReceivedCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                onException(IllegalArgumentException.class).handled(false).to("mock:error");
+
+                from("sftp://localhost:{{ftp.server.port}}/{{ftp.root.dir}}/concurrent"
+                     + "?username=admin&password=admin&delete=true&concurrentDownloads=" + CONCURRENT_DOWNLOADS
+                     + "&initialDelay=0&delay=100").routeId("foo").noAutoStartup()
+                             .process(exchange -> {
+                                 threads.add(Thread.currentThread().getName());
+                                 maxSessions.accumulateAndGet(service.getActiveSessionCount(), Math::max);
+                                 if ("Kaboom".equals(exchange.getIn().getBody(String.class))) {
+                                     throw new IllegalArgumentException("Forced");
+                                 }
+                             })
+                             .to("mock:result");
+            }
+        };
+    }
+}
@@ -169,6 +169,8 @@ public class JmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "requestTimeout": target.getConfiguration().setRequestTimeout(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": target.getConfiguration().setRequestTimeoutCheckerInterval(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "requesttimeouttimingwheel":
+        case "requestTimeoutTimingWheel": target.getConfiguration().setRequestTimeoutTimingWheel(property(camelContext, boolean.class, value)); return true;
         case "selector": target.getConfiguration().setSelector(property(camelContext, java.lang.String.class, value)); return true;
         case "streammessagetypeenabled":
         case "streamMessageTypeEnabled": target.getConfiguration().setStreamMessageTypeEnabled(property(camelContext, boolean.class, value)); return true;
@@ -360,6 +362,8 @@ public class JmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "requestTimeout": return long.class;
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": return long.class;
+        case "requesttimeouttimingwheel":
+        case "requestTimeoutTimingWheel": return boolean.class;
         case "selector": return java.lang.String.class;
         case "streammessagetypeenabled":
         case "streamMessageTypeEnabled": return boolean.class;
@@ -552,6 +556,8 @@ public class JmsEndpointConfigurer extends PropertyConfigurerSupport implements
         case "requestTimeout": return target.getConfiguration().getRequestTimeout();
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": return target.getConfiguration().getRequestTimeoutCheckerInterval();
+        case "requesttimeouttimingwheel":
+        case "requestTimeoutTimingWheel": return target.getConfiguration().isRequestTimeoutTimingWheel();
         case "selector": return target.getConfiguration().getSelector();
         case "streammessagetypeenabled":
         case "streamMessageTypeEnabled": return target.getConfiguration().isStreamMessageTypeEnabled();
@@ -753,6 +753,14 @@ public class JmsComponent extends HeaderFilterStrategyComponent {
         configuration.setRequestTimeoutCheckerInterval(requestTimeoutCheckerInterval);
     }
 
+    public boolean isRequestTimeoutTimingWheel() {
+        return configuration.isRequestTimeoutTimingWheel();
+    }
+
+    public void setRequestTimeoutTimingWheel(boolean requestTimeoutTimingWheel) {
+        configuration.setRequestTimeoutTimingWheel(requestTimeoutTimingWheel);
+    }
+
     public String getReplyTo() {
         return configuration.getReplyTo();
     }
@@ -178,6 +178,12 @@ public class JmsConfiguration implements Cloneable {
                             + " By default Camel checks once per second. But if you must react faster when a timeout occurs,"
                             + " then you can lower this interval, to check more frequently. The timeout is determined by the option requestTimeout.")
     private long requestTimeoutCheckerInterval = 1000L;
+    @UriParam(label = "advanced",
+              description = "Whether to use a timing wheel to keep track of timed out Exchanges when doing request/reply over JMS."
+                            + " By default the timeout checker scans all the pending replies every time it runs. With a timing wheel"
+                            + " the timeouts are spread over buckets by their due time, and the checker only visits the buckets which are due."
+                            + " This is recommended when there are a large number of in-flight request/reply messages.")
+    private boolean requestTimeoutTimingWheel;
     @UriParam(defaultValue = "1", label = "advanced",
               description = "Specifies the limit for idle executions of a receive task, not having received any message within its execution."
                             + " If this limit is reached, the task will shut down and leave receiving to other executing tasks"
@@ -1805,6 +1811,20 @@ public class JmsConfiguration implements Cloneable {
         this.requestTimeoutCheckerInterval = requestTimeoutCheckerInterval;
     }
 
+    public boolean isRequestTimeoutTimingWheel() {
+        return requestTimeoutTimingWheel;
+    }
+
+    /**
+     * Whether to use a timing wheel to keep track of timed out Exchanges when doing request/reply over JMS. By default
+     * the timeout checker scans all the pending replies every time it runs. With a timing wheel the timeouts are spread
+     * over buckets by their due time, and the checker only visits the buckets which are due. This is recommended when
+     * there are a large number of in-flight request/reply messages.
+     */
+    public void setRequestTimeoutTimingWheel(boolean requestTimeoutTimingWheel) {
+        this.requestTimeoutTimingWheel = requestTimeoutTimingWheel;
+    }
+
     public String getReplyTo() {
         return replyTo;
     }
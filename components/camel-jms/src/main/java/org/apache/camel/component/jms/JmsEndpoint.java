@@ -613,6 +613,11 @@ public class JmsEndpoint extends DefaultEndpoint
         return getConfiguration().getRequestTimeoutCheckerInterval();
     }
 
+    @ManagedAttribute
+    public boolean isRequestTimeoutTimingWheel() {
+        return getConfiguration().isRequestTimeoutTimingWheel();
+    }
+
     public TaskExecutor getTaskExecutor() {
         return getConfiguration().getTaskExecutor();
     }
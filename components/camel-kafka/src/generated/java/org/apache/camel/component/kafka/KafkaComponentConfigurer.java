@@ -40,6 +40,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoCommitOnStop": getOrCreateConfiguration(target).setAutoCommitOnStop(property(camelContext, java.lang.String.class, value)); return true;
         case "autooffsetreset":
         case "autoOffsetReset": getOrCreateConfiguration(target).setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
+        case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
@@ -140,6 +141,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "pollOnError": getOrCreateConfiguration(target).setPollOnError(property(camelContext, org.apache.camel.component.kafka.PollOnError.class, value)); return true;
         case "polltimeoutms":
         case "pollTimeoutMs": getOrCreateConfiguration(target).setPollTimeoutMs(property(camelContext, java.lang.Long.class, value)); return true;
+        case "processingorder":
+        case "processingOrder": getOrCreateConfiguration(target).setProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": getOrCreateConfiguration(target).setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "producerbatchsize":
         case "producerBatchSize": getOrCreateConfiguration(target).setProducerBatchSize(property(camelContext, java.lang.Integer.class, value)); return true;
         case "queuebufferingmaxmessages":
@@ -248,6 +253,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoCommitOnStop": return java.lang.String.class;
         case "autooffsetreset":
         case "autoOffsetReset": return java.lang.String.class;
+        case "batching": return boolean.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
         case "breakonfirsterror":
@@ -348,6 +354,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "pollOnError": return org.apache.camel.component.kafka.PollOnError.class;
         case "polltimeoutms":
         case "pollTimeoutMs": return java.lang.Long.class;
+        case "processingorder":
+        case "processingOrder": return java.lang.String.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "producerbatchsize":
         case "producerBatchSize": return java.lang.Integer.class;
         case "queuebufferingmaxmessages":
@@ -452,6 +462,7 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoCommitOnStop": return getOrCreateConfiguration(target).getAutoCommitOnStop();
         case "autooffsetreset":
         case "autoOffsetReset": return getOrCreateConfiguration(target).getAutoOffsetReset();
+        case "batching": return getOrCreateConfiguration(target).isBatching();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
         case "breakonfirsterror":
@@ -552,6 +563,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "pollOnError": return getOrCreateConfiguration(target).getPollOnError();
         case "polltimeoutms":
         case "pollTimeoutMs": return getOrCreateConfiguration(target).getPollTimeoutMs();
+        case "processingorder":
+        case "processingOrder": return getOrCreateConfiguration(target).getProcessingOrder();
+        case "processingthreads":
+        case "processingThreads": return getOrCreateConfiguration(target).getProcessingThreads();
         case "producerbatchsize":
         case "producerBatchSize": return getOrCreateConfiguration(target).getProducerBatchSize();
         case "queuebufferingmaxmessages":
@@ -33,6 +33,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": target.getConfiguration().setAutoCommitOnStop(property(camelContext, java.lang.String.class, value)); return true;
         case "autooffsetreset":
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": target.getConfiguration().setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -128,6 +129,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "pollOnError": target.getConfiguration().setPollOnError(property(camelContext, org.apache.camel.component.kafka.PollOnError.class, value)); return true;
         case "polltimeoutms":
         case "pollTimeoutMs": target.getConfiguration().setPollTimeoutMs(property(camelContext, java.lang.Long.class, value)); return true;
+        case "processingorder":
+        case "processingOrder": target.getConfiguration().setProcessingOrder(property(camelContext, java.lang.String.class, value)); return true;
+        case "processingthreads":
+        case "processingThreads": target.getConfiguration().setProcessingThreads(property(camelContext, int.class, value)); return true;
         case "producerbatchsize":
         case "producerBatchSize": target.getConfiguration().setProducerBatchSize(property(camelContext, java.lang.Integer.class, value)); return true;
         case "queuebufferingmaxmessages":
@@ -229,6 +234,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": return java.lang.String.class;
         case "autooffsetreset":
         case "autoOffsetReset": return java.lang.String.class;
+        case "batching": return boolean.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -324,6 +330,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "pollOnError": return org.apache.camel.component.kafka.PollOnError.class;
         case "polltimeoutms":
         case "pollTimeoutMs": return java.lang.Long.class;
+        case "processingorder":
+        case "processingOrder": return java.lang.String.class;
+        case "processingthreads":
+        case "processingThreads": return int.class;
         case "producerbatchsize":
         case "producerBatchSize": return java.lang.Integer.class;
         case "queuebufferingmaxmessages":
@@ -426,6 +436,7 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": return target.getConfiguration().getAutoCommitOnStop();
         case "autooffsetreset":
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
+        case "batching": return target.getConfiguration().isBatching();
         case "breakonfirsterror":
         case "breakOnFirstError": return target.getConfiguration().isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -521,6 +532,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "pollOnError": return target.getConfiguration().getPollOnError();
         case "polltimeoutms":
         case "pollTimeoutMs": return target.getConfiguration().getPollTimeoutMs();
+        case "processingorder":
+        case "processingOrder": return target.getConfiguration().getProcessingOrder();
+        case "processingthreads":
+        case "processingThreads": return target.getConfiguration().getProcessingThreads();
         case "producerbatchsize":
         case "producerBatchSize": return target.getConfiguration().getProducerBatchSize();
         case "queuebufferingmaxmessages":
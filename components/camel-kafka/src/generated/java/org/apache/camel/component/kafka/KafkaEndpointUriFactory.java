@@ -20,7 +20,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(98);
+        Set<String> props = new HashSet<>(101);
         props.add("synchronous");
         props.add("queueBufferingMaxMessages");
         props.add("allowManualCommit");
@@ -119,6 +119,9 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("fetchMaxBytes");
         props.add("checkCrcs");
         props.add("partitionAssignor");
+        props.add("processingOrder");
+        props.add("processingThreads");
+        props.add("batching");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         Set<String> secretProps = new HashSet<>(4);
         secretProps.add("sslKeystorePassword");
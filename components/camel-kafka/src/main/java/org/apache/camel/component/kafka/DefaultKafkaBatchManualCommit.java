@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.spi.StateRepository;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Commits the offsets of a batch of records (see the batching option), which can span several partitions.
+ */
+public class DefaultKafkaBatchManualCommit implements KafkaManualCommit {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultKafkaBatchManualCommit.class);
+
+    private final KafkaConsumer consumer;
+    private final String topicName;
+    private final String threadId;
+    private final StateRepository<String, String> offsetRepository;
+    private final Map<TopicPartition, Long> lastRecordOffsets;
+
+    public DefaultKafkaBatchManualCommit(KafkaConsumer consumer, String topicName, String threadId,
+                                         StateRepository<String, String> offsetRepository,
+                                         Map<TopicPartition, Long> lastRecordOffsets) {
+        this.consumer = consumer;
+        this.topicName = topicName;
+        this.threadId = threadId;
+        this.offsetRepository = offsetRepository;
+        this.lastRecordOffsets = lastRecordOffsets;
+    }
+
+    @Override
+    public void commitSync() {
+        commitOffsets(offsetRepository, lastRecordOffsets);
+    }
+
+    protected void commitOffsets(
+            StateRepository<String, String> offsetRepository, Map<TopicPartition, Long> lastRecordOffsets) {
+        if (offsetRepository != null) {
+            for (Map.Entry<TopicPartition, Long> entry : lastRecordOffsets.entrySet()) {
+                offsetRepository.setState(serializeOffsetKey(entry.getKey()), serializeOffsetValue(entry.getValue()));
+            }
+        } else if (!lastRecordOffsets.isEmpty()) {
+            // commit all the partitions at once
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>(lastRecordOffsets.size());
+            for (Map.Entry<TopicPartition, Long> entry : lastRecordOffsets.entrySet()) {
+                offsets.put(entry.getKey(), new OffsetAndMetadata(entry.getValue() + 1));
+            }
+            LOG.debug("CommitSync {} from topic {} with offsets: {}", threadId, topicName, lastRecordOffsets);
+            consumer.commitSync(offsets);
+        }
+    }
+
+    protected String serializeOffsetKey(TopicPartition topicPartition) {
+        return topicPartition.topic() + '/' + topicPartition.partition();
+    }
+
+    protected String serializeOffsetValue(long offset) {
+        return String.valueOf(offset);
+    }
+
+    public KafkaConsumer getConsumer() {
+        return consumer;
+    }
+
+    public String getTopicName() {
+        return topicName;
+    }
+
+    public String getThreadId() {
+        return threadId;
+    }
+
+    public StateRepository<String, String> getOffsetRepository() {
+        return offsetRepository;
+    }
+
+    public Map<TopicPartition, Long> getLastRecordOffsets() {
+        return lastRecordOffsets;
+    }
+
+}
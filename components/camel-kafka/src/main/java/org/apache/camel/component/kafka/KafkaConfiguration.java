@@ -142,6 +142,12 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     private StateRepository<String, String> offsetRepository;
     @UriParam(label = "consumer", defaultValue = "ERROR_HANDLER")
     private PollOnError pollOnError = PollOnError.ERROR_HANDLER;
+    @UriParam(label = "consumer")
+    private int processingThreads;
+    @UriParam(label = "consumer", defaultValue = "partition", enums = "partition,key")
+    private String processingOrder = "partition";
+    @UriParam(label = "consumer")
+    private boolean batching;
 
     // Producer configuration properties
     @UriParam(label = "producer", defaultValue = KafkaConstants.KAFKA_DEFAULT_PARTITIONER)
@@ -781,6 +787,54 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public int getProcessingThreads() {
+        return processingThreads;
+    }
+
+    /**
+     * The number of worker threads which processes the consumed records concurrently. By default (value of 0) the
+     * records are processed one at a time by the consumer thread which polled them.
+     * <p/>
+     * When in use the records are dispatched to the worker threads while the consumer keeps polling, and the order of
+     * the records is kept per partition, or per key (see the processingOrder option). The consumer commits the offset of
+     * the records which have been processed without gaps, at the interval of the autoCommitIntervalMs option, and the
+     * consumer pauses fetching from the partitions while more than twice maxPollRecords records are in progress. This
+     * option cannot be used together with allowManualCommit.
+     */
+    public void setProcessingThreads(int processingThreads) {
+        this.processingThreads = processingThreads;
+    }
+
+    public String getProcessingOrder() {
+        return processingOrder;
+    }
+
+    /**
+     * The order to keep when processing the consumed records concurrently (see the processingThreads option). With
+     * partition the records from the same partition are processed one at a time in the order of the partition, and
+     * with key the records with the same key (from the same partition) are processed one at a time in order, which
+     * allows processing the records from a partition concurrently. Records without a key are ordered by partition.
+     */
+    public void setProcessingOrder(String processingOrder) {
+        this.processingOrder = processingOrder;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to process the records from each poll as a single batch. When enabled the consumer creates one exchange
+     * per poll, where the message body is a java.util.List of exchanges (one per record, with the same headers as when
+     * not batching), and the offsets of all the records in the batch are committed together when the batch has been
+     * processed. When allowManualCommit is enabled then the batch exchange has a single KafkaManualCommit which commits
+     * the last offset of every partition in the batch. The size of the batches is bound by the maxPollRecords option.
+     * This option cannot be used together with processingThreads.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
     public String getBrokers() {
         return brokers;
     }
@@ -21,7 +21,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -30,6 +32,7 @@ import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 import java.util.stream.StreamSupport;
 
@@ -58,6 +61,8 @@ import org.slf4j.LoggerFactory;
 public class KafkaConsumer extends DefaultConsumer {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaConsumer.class);
+    private static final long INFLIGHT_POLL_TIMEOUT = 100;
+    private static final int DEFAULT_MAX_POLL_RECORDS = 500;
 
     protected ExecutorService executor;
     private final KafkaEndpoint endpoint;
@@ -68,6 +73,8 @@ public class KafkaConsumer extends DefaultConsumer {
     private volatile boolean stopOffsetRepo;
     private final BridgeExceptionHandlerToErrorHandler bridge = new BridgeExceptionHandlerToErrorHandler(this);
     private PollExceptionStrategy pollExceptionStrategy;
+    // single threaded workers to process the records concurrently, while keeping the order per partition (or key)
+    private ExecutorService[] workers;
 
     public KafkaConsumer(KafkaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
@@ -109,6 +116,11 @@ public class KafkaConsumer extends DefaultConsumer {
             props.put(ConsumerConfig.GROUP_ID_CONFIG, randomGroupId);
             LOG.debug("Kafka consumer groupId is {} (generated)", randomGroupId);
         }
+        if (endpoint.getConfiguration().getProcessingThreads() > 0) {
+            // the records are processed out of order, so the offsets of the processed records are committed by the
+            // consumer instead, as kafka would also commit the offsets of the records which are still being processed
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
         return props;
     }
 
@@ -132,6 +144,20 @@ public class KafkaConsumer extends DefaultConsumer {
 
         executor = endpoint.createExecutor();
 
+        int processingThreads = endpoint.getConfiguration().getProcessingThreads();
+        if (processingThreads > 0) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException("The option allowManualCommit cannot be used with processingThreads");
+            }
+            if (endpoint.getConfiguration().isBatching()) {
+                throw new IllegalArgumentException("The option batching cannot be used with processingThreads");
+            }
+            workers = new ExecutorService[processingThreads];
+            for (int i = 0; i < processingThreads; i++) {
+                workers[i] = endpoint.createWorkerExecutor();
+            }
+        }
+
         String topic = endpoint.getConfiguration().getTopic();
         Pattern pattern = null;
         if (endpoint.getConfiguration().isTopicIsPattern()) {
@@ -172,6 +198,14 @@ public class KafkaConsumer extends DefaultConsumer {
         tasks.clear();
         executor = null;
 
+        if (workers != null) {
+            // the consumer threads have waited for the records in progress, before committing their offsets
+            for (ExecutorService worker : workers) {
+                getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(worker);
+            }
+            workers = null;
+        }
+
         if (stopOffsetRepo) {
             StateRepository<String, String> repo = endpoint.getConfiguration().getOffsetRepository();
             LOG.debug("Stopping OffsetRepository: {}", repo);
@@ -189,6 +223,12 @@ public class KafkaConsumer extends DefaultConsumer {
         private final String threadId;
         private final Properties kafkaProps;
         private final Map<String, Long> lastProcessedOffset = new ConcurrentHashMap<>();
+        // the records being processed by the workers, when processing the records concurrently
+        private final Map<TopicPartition, PartitionOffsetTracker> offsetTrackers = new ConcurrentHashMap<>();
+        private final AtomicInteger inflight = new AtomicInteger();
+        private volatile boolean processingFailed;
+        private boolean paused;
+        private long lastCommitTime;
 
         KafkaFetchRecords(String topicName, Pattern topicPattern, String id, Properties kafkaProps) {
             this.topicName = topicName;
@@ -274,6 +314,11 @@ public class KafkaConsumer extends DefaultConsumer {
         }
 
         protected void doReconnectRun() {
+            // a fresh consumer resumes from the committed offsets
+            offsetTrackers.clear();
+            processingFailed = false;
+            paused = false;
+
             if (topicPattern != null) {
                 LOG.info("Subscribing {} to topic pattern {}", threadId, topicName);
                 consumer.subscribe(topicPattern, this);
@@ -341,8 +386,29 @@ public class KafkaConsumer extends DefaultConsumer {
 
                     // flag to break out processing on the first exception
                     boolean breakOnErrorHit = false;
-                    LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
-                    ConsumerRecords<Object, Object> allRecords = consumer.poll(pollTimeoutMs);
+                    long timeout = pollTimeoutMs;
+                    if (workers != null && inflight.get() > 0) {
+                        // poll more often while records are in progress, to commit their offsets in time
+                        timeout = Math.min(timeout, INFLIGHT_POLL_TIMEOUT);
+                    }
+                    LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, timeout);
+                    ConsumerRecords<Object, Object> allRecords = consumer.poll(timeout);
+
+                    if (workers != null) {
+                        if (!dispatchRecords(allRecords)) {
+                            // force re-connect
+                            reconnect.set(true);
+                        }
+                        continue;
+                    }
+
+                    if (endpoint.getConfiguration().isBatching()) {
+                        if (!allRecords.isEmpty() && !processBatch(allRecords, offsetRepository)) {
+                            // force re-connect
+                            reconnect.set(true);
+                        }
+                        continue;
+                    }
 
                     Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
                     while (partitionIterator.hasNext()) {
@@ -437,7 +503,11 @@ public class KafkaConsumer extends DefaultConsumer {
                 }
 
                 if (!reconnect.get()) {
-                    if (isAutoCommitEnabled()) {
+                    if (workers != null) {
+                        awaitInflight();
+                        commitProcessedOffsets(offsetTrackers.values(),
+                                isAutoCommitEnabled() ? endpoint.getConfiguration().getAutoCommitOnStop() : "none");
+                    } else if (isAutoCommitEnabled()) {
                         if ("async".equals(endpoint.getConfiguration().getAutoCommitOnStop())) {
                             LOG.info("Auto commitAsync on stop {} from topic {}", threadId, topicName);
                             consumer.commitAsync();
@@ -533,6 +603,245 @@ public class KafkaConsumer extends DefaultConsumer {
             }
         }
 
+        /**
+         * Processes all the records from the poll as a single exchange, and commits their offsets when done.
+         *
+         * @return <tt>false</tt> if processing the batch failed, and the consumer should re-connect (breakOnFirstError)
+         */
+        private boolean processBatch(
+                ConsumerRecords<Object, Object> allRecords, StateRepository<String, String> offsetRepository) {
+            List<Exchange> exchanges = new ArrayList<>(allRecords.count());
+            Map<TopicPartition, Long> lastRecordOffsets = new LinkedHashMap<>();
+            for (TopicPartition partition : allRecords.partitions()) {
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                LOG.debug("Records count {} received for partition {}", records.size(), partition);
+                for (ConsumerRecord<Object, Object> record : records) {
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                                record.offset(), record.key(), record.value());
+                    }
+                    // the exchanges of the records are only carried in the batch, so they are not pooled
+                    Exchange exchange = populateKafkaExchange(endpoint.createExchange(), record);
+                    propagateHeaders(record, exchange, endpoint.getConfiguration());
+                    exchanges.add(exchange);
+                }
+                lastRecordOffsets.put(partition, records.get(records.size() - 1).offset());
+            }
+
+            Exchange exchange = createExchange(false);
+            exchange.getIn().setBody(exchanges);
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                // a single manual commit for all the records in the batch
+                KafkaManualCommit manual = endpoint.getComponent().getKafkaManualCommitFactory()
+                        .newInstance(exchange, consumer, topicName, threadId, offsetRepository, lastRecordOffsets);
+                exchange.getIn().setHeader(KafkaConstants.MANUAL_COMMIT, manual);
+            }
+
+            try {
+                processor.process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            boolean success = true;
+            if (exchange.getException() != null) {
+                if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                    LOG.warn("Error during processing batch of {} records from topic: {}. Will seek consumer to the first"
+                             + " record of the batch and re-connect and start polling again.",
+                            exchanges.size(), topicName, exchange.getException());
+                    // force commit so we resume on next poll with the batch which failed
+                    for (TopicPartition partition : allRecords.partitions()) {
+                        long firstOffset = allRecords.records(partition).get(0).offset();
+                        commitOffset(offsetRepository, partition, firstOffset - 1, false, true);
+                    }
+                    success = false;
+                } else {
+                    // will handle/log the exception and then continue to the next batch
+                    getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                }
+            }
+
+            if (success) {
+                for (Map.Entry<TopicPartition, Long> entry : lastRecordOffsets.entrySet()) {
+                    // lastOffsetProcessed would be used by Consumer re-balance listener to preserve offset state upon
+                    // partition revoke
+                    lastProcessedOffset.put(serializeOffsetKey(entry.getKey()), entry.getValue());
+                    commitOffset(offsetRepository, entry.getKey(), entry.getValue(), false, false);
+                }
+            }
+
+            releaseExchange(exchange, false);
+            return success;
+        }
+
+        /**
+         * Dispatches the records to the workers, and commits the offsets of the records processed so far.
+         *
+         * @return <tt>false</tt> if processing a record failed, and the consumer should re-connect (breakOnFirstError)
+         */
+        private boolean dispatchRecords(ConsumerRecords<Object, Object> allRecords) {
+            for (TopicPartition partition : allRecords.partitions()) {
+                PartitionOffsetTracker tracker = offsetTrackers.computeIfAbsent(partition, PartitionOffsetTracker::new);
+                List<ConsumerRecord<Object, Object>> records = allRecords.records(partition);
+                LOG.debug("Records count {} received for partition {}", records.size(), partition);
+                for (ConsumerRecord<Object, Object> record : records) {
+                    if (LOG.isTraceEnabled()) {
+                        LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                                record.offset(), record.key(), record.value());
+                    }
+                    tracker.dispatched(record.offset());
+                    inflight.incrementAndGet();
+                    workers[workerIndex(record)].execute(() -> processRecord(record, tracker));
+                }
+            }
+
+            if (processingFailed) {
+                // wait for the records in progress, and force commit so we resume on next poll where we failed
+                awaitInflight();
+                commitProcessedOffsets(offsetTrackers.values(), "sync");
+                return false;
+            }
+
+            // avoid fetching more records while the workers are behind
+            int max = 2 * (endpoint.getConfiguration().getMaxPollRecords() != null
+                    ? endpoint.getConfiguration().getMaxPollRecords() : DEFAULT_MAX_POLL_RECORDS);
+            int count = inflight.get();
+            if (!paused && count >= max) {
+                LOG.debug("Pausing {} from topic {} with {} records in progress", threadId, topicName, count);
+                consumer.pause(consumer.assignment());
+                paused = true;
+            } else if (paused && count < max / 2) {
+                LOG.debug("Resuming {} from topic {} with {} records in progress", threadId, topicName, count);
+                consumer.resume(consumer.paused());
+                paused = false;
+            }
+
+            long now = System.currentTimeMillis();
+            Integer interval = endpoint.getConfiguration().getAutoCommitIntervalMs();
+            if (interval == null || now - lastCommitTime >= interval) {
+                lastCommitTime = now;
+                commitProcessedOffsets(offsetTrackers.values(), isAutoCommitEnabled() ? "async" : "none");
+            }
+            return true;
+        }
+
+        private int workerIndex(ConsumerRecord<Object, Object> record) {
+            Object key = record.key();
+            int hash;
+            if (key != null && "key".equals(endpoint.getConfiguration().getProcessingOrder())) {
+                hash = key instanceof byte[] ? Arrays.hashCode((byte[]) key) : key.hashCode();
+            } else {
+                hash = 31 * record.topic().hashCode() + record.partition();
+            }
+            return (hash & Integer.MAX_VALUE) % workers.length;
+        }
+
+        private void processRecord(ConsumerRecord<Object, Object> record, PartitionOffsetTracker tracker) {
+            try {
+                if (tracker.isFailed()) {
+                    // an earlier record from the partition failed, so this record is polled again after re-connecting
+                    return;
+                }
+
+                Exchange exchange = createKafkaExchange(record);
+                propagateHeaders(record, exchange, endpoint.getConfiguration());
+
+                try {
+                    processor.process(exchange);
+                } catch (Exception e) {
+                    exchange.setException(e);
+                }
+
+                if (exchange.getException() != null && endpoint.getConfiguration().isBreakOnFirstError()) {
+                    LOG.warn(
+                            "Error during processing {} from topic: {}. Will seek consumer to offset: {} and re-connect and start polling again.",
+                            exchange, topicName, record.offset(), exchange.getException());
+                    tracker.failed();
+                    processingFailed = true;
+                } else {
+                    if (exchange.getException() != null) {
+                        // will handle/log the exception and then continue to next
+                        getExceptionHandler().handleException("Error during processing", exchange, exchange.getException());
+                    }
+                    tracker.completed(record.offset());
+                }
+
+                releaseExchange(exchange, false);
+            } finally {
+                if (inflight.decrementAndGet() == 0) {
+                    synchronized (inflight) {
+                        inflight.notifyAll();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Waits (up to the shutdown timeout) for the workers to complete the records in progress.
+         */
+        private void awaitInflight() {
+            long deadline = System.currentTimeMillis() + endpoint.getConfiguration().getShutdownTimeout();
+            synchronized (inflight) {
+                while (inflight.get() > 0) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        LOG.warn("Timeout waiting for {} records in progress from topic {} by {}", inflight.get(), topicName,
+                                threadId);
+                        return;
+                    }
+                    try {
+                        inflight.wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Commits the offsets of the records which have been processed without gaps.
+         *
+         * @param commitMode sync or async to commit to kafka, or none to only save the offset repository state
+         */
+        private void commitProcessedOffsets(Collection<PartitionOffsetTracker> trackers, String commitMode) {
+            StateRepository<String, String> offsetRepository = endpoint.getConfiguration().getOffsetRepository();
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            for (PartitionOffsetTracker tracker : trackers) {
+                TopicPartition partition = tracker.getPartition();
+                long offset = tracker.getCommittableOffset();
+                if (offset <= tracker.getCommittedOffset()) {
+                    continue;
+                }
+                if (offsetRepository != null) {
+                    LOG.debug("Saving offset repository state {} [topic: {} partition: {} offset: {}]", threadId, topicName,
+                            partition.partition(), offset);
+                    offsetRepository.setState(serializeOffsetKey(partition), serializeOffsetValue(offset));
+                    tracker.setCommittedOffset(offset);
+                } else if ("sync".equals(commitMode) || "async".equals(commitMode)) {
+                    offsets.put(partition, new OffsetAndMetadata(offset + 1));
+                    tracker.setCommittedOffset(offset);
+                }
+                lastProcessedOffset.put(serializeOffsetKey(partition), offset);
+            }
+
+            if (!offsets.isEmpty()) {
+                if ("async".equals(commitMode)) {
+                    LOG.debug("CommitAsync {} from topic {} with offsets: {}", threadId, topicName, offsets);
+                    consumer.commitAsync(offsets, (committed, e) -> {
+                        if (e != null) {
+                            // the offsets are committed again with the next commit (which includes these records)
+                            LOG.warn("Error committing offsets {} from topic {} due {}", committed, topicName, e.getMessage(),
+                                    e);
+                        }
+                    });
+                } else {
+                    LOG.debug("CommitSync {} from topic {} with offsets: {}", threadId, topicName, offsets);
+                    consumer.commitSync(offsets);
+                }
+            }
+        }
+
         private void seekToNextOffset(long partitionLastOffset) {
             boolean logged = false;
             Set<TopicPartition> tps = (Set<TopicPartition>) consumer.assignment();
@@ -604,6 +913,28 @@ public class KafkaConsumer extends DefaultConsumer {
             // if camel is stopping, or we are not running
             boolean stopping = getEndpoint().getCamelContext().isStopping() && !isRunAllowed();
 
+            if (workers != null) {
+                // wait for the records in progress, to commit their offsets before the partitions are re-assigned
+                awaitInflight();
+                List<PartitionOffsetTracker> revoked = new ArrayList<>();
+                for (TopicPartition partition : partitions) {
+                    PartitionOffsetTracker tracker = offsetTrackers.remove(partition);
+                    if (tracker != null) {
+                        revoked.add(tracker);
+                    }
+                }
+                String commitMode = "none";
+                if (isAutoCommitEnabled()) {
+                    commitMode = stopping ? endpoint.getConfiguration().getAutoCommitOnStop() : "sync";
+                }
+                try {
+                    commitProcessedOffsets(revoked, commitMode);
+                } finally {
+                    partitions.forEach(partition -> lastProcessedOffset.remove(serializeOffsetKey(partition)));
+                }
+                return;
+            }
+
             StateRepository<String, String> offsetRepository = endpoint.getConfiguration().getOffsetRepository();
             for (TopicPartition partition : partitions) {
                 String offsetKey = serializeOffsetKey(partition);
@@ -648,8 +979,11 @@ public class KafkaConsumer extends DefaultConsumer {
 
     @SuppressWarnings("rawtypes")
     private Exchange createKafkaExchange(ConsumerRecord record) {
-        Exchange exchange = createExchange(false);
+        return populateKafkaExchange(createExchange(false), record);
+    }
 
+    @SuppressWarnings("rawtypes")
+    private Exchange populateKafkaExchange(Exchange exchange, ConsumerRecord record) {
         Message message = exchange.getIn();
         message.setHeader(KafkaConstants.PARTITION, record.partition());
         message.setHeader(KafkaConstants.TOPIC, record.topic());
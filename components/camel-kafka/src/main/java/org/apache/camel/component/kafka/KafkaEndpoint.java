@@ -158,6 +158,11 @@ public class KafkaEndpoint extends DefaultEndpoint implements MultipleConsumersS
                 "KafkaConsumer[" + configuration.getTopic() + "]", configuration.getConsumerStreams());
     }
 
+    public ExecutorService createWorkerExecutor() {
+        return getCamelContext().getExecutorServiceManager().newSingleThreadExecutor(this,
+                "KafkaConsumerWorker[" + configuration.getTopic() + "]");
+    }
+
     public ExecutorService createProducerExecutor() {
         int core = getConfiguration().getWorkerPoolCoreSize();
         int max = getConfiguration().getWorkerPoolMaxSize();
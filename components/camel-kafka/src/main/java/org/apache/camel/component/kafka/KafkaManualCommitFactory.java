@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.kafka;
 
+import java.util.Map;
+
 import org.apache.camel.Exchange;
 import org.apache.camel.spi.StateRepository;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -33,4 +35,15 @@ public interface KafkaManualCommitFactory {
             Exchange exchange, KafkaConsumer consumer, String topicName, String threadId,
             StateRepository<String, String> offsetRepository,
             TopicPartition partition, long recordOffset);
+
+    /**
+     * Creates a new instance for a batch of records, which commits the offset of the last record of every partition in
+     * the batch.
+     */
+    default KafkaManualCommit newInstance(
+            Exchange exchange, KafkaConsumer consumer, String topicName, String threadId,
+            StateRepository<String, String> offsetRepository,
+            Map<TopicPartition, Long> lastRecordOffsets) {
+        return new DefaultKafkaBatchManualCommit(consumer, topicName, threadId, offsetRepository, lastRecordOffsets);
+    }
 }
@@ -22,11 +22,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -303,7 +303,7 @@ public class KafkaProducer extends DefaultAsyncProducer {
     // KafkaEndpoint creates a SynchronousDelegateProducer for it
     public void process(Exchange exchange) throws Exception {
         Iterator<KeyValueHolder<Object, ProducerRecord>> c = createRecorder(exchange);
-        List<KeyValueHolder<Object, Future<RecordMetadata>>> futures = new LinkedList<>();
+        List<KeyValueHolder<Object, Future<RecordMetadata>>> futures = new ArrayList<>();
         List<RecordMetadata> recordMetadatas = new ArrayList<>();
 
         if (endpoint.getConfiguration().isRecordMetadata()) {
@@ -322,9 +322,21 @@ public class KafkaProducer extends DefaultAsyncProducer {
             }
             futures.add(new KeyValueHolder(exrec.getKey(), kafkaProducer.send(rec)));
         }
+        // the records are sent as a batch, so wait for them all to be sent before failing on the first error
+        ExecutionException cause = null;
         for (KeyValueHolder<Object, Future<RecordMetadata>> f : futures) {
-            // wait for them all to be sent
-            List<RecordMetadata> metadata = Collections.singletonList(f.getValue().get());
+            List<RecordMetadata> metadata;
+            try {
+                metadata = Collections.singletonList(f.getValue().get());
+            } catch (ExecutionException e) {
+                if (cause == null) {
+                    cause = e;
+                }
+                if (f.getKey() instanceof Exchange && f.getKey() != exchange) {
+                    ((Exchange) f.getKey()).setException(e.getCause());
+                }
+                continue;
+            }
             recordMetadatas.addAll(metadata);
             Exchange innerExchange = null;
             if (f.getKey() instanceof Exchange) {
@@ -349,6 +361,9 @@ public class KafkaProducer extends DefaultAsyncProducer {
                 }
             }
         }
+        if (cause != null) {
+            throw cause;
+        }
     }
 
     @Override
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Tracks the offsets of the records from a partition which are processed concurrently, to know the offset which can be
+ * committed (the watermark) without skipping records which are still in progress.
+ * <p/>
+ * The records are dispatched by the consumer thread (which also commits the offsets), and completed by the worker
+ * threads in any order.
+ */
+final class PartitionOffsetTracker {
+
+    private final TopicPartition partition;
+    private final NavigableSet<Long> pending = new ConcurrentSkipListSet<>();
+    private volatile long lastDispatchedOffset = -1;
+    private volatile long committedOffset = -1;
+    private volatile boolean failed;
+
+    PartitionOffsetTracker(TopicPartition partition) {
+        this.partition = partition;
+    }
+
+    TopicPartition getPartition() {
+        return partition;
+    }
+
+    /**
+     * The record with the given offset is dispatched to be processed
+     */
+    void dispatched(long offset) {
+        pending.add(offset);
+        lastDispatchedOffset = offset;
+    }
+
+    /**
+     * The record with the given offset is done processing
+     */
+    void completed(long offset) {
+        pending.remove(offset);
+    }
+
+    /**
+     * Processing a record failed, which leaves it (and the records after it) uncommitted
+     */
+    void failed() {
+        failed = true;
+    }
+
+    boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * The offset of the last record which has been processed without any gaps before it, or <tt>-1</tt> if no records
+     * have been processed.
+     */
+    long getCommittableOffset() {
+        // read the last dispatched offset before the pending offsets, as records may complete in the meantime
+        long last = lastDispatchedOffset;
+        Iterator<Long> it = pending.iterator();
+        return it.hasNext() ? it.next() - 1 : last;
+    }
+
+    /**
+     * The offset of the last record which has been committed, or <tt>-1</tt> if none has been committed.
+     */
+    long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    void setCommittedOffset(long committedOffset) {
+        this.committedOffset = committedOffset;
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionOffsetTracker[" + partition + "]";
+    }
+}
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.stream.Collectors;
@@ -407,6 +408,37 @@ public class KafkaProducerTest {
         assertRecordMetadataExistsForEachAggregatedMessage();
     }
 
+    @Test
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void processSendsMessageWithListOfExchangesWaitsForAllRecordsBeforeFailing() throws Exception {
+        endpoint.getConfiguration().setTopic("someTopic");
+        Mockito.when(exchange.getIn()).thenReturn(in);
+
+        // the second record of the batch fails to be sent
+        RecordMetadata rm = new RecordMetadata(null, 0, 0, 0, 0L, 0, 0);
+        Future future = Mockito.mock(Future.class);
+        Mockito.when(future.get()).thenReturn(rm);
+        Future failed = Mockito.mock(Future.class);
+        Mockito.when(failed.get()).thenThrow(new ExecutionException(new ApiException()));
+        org.apache.kafka.clients.producer.KafkaProducer kp = producer.getKafkaProducer();
+        Mockito.when(kp.send(any(ProducerRecord.class))).thenReturn(future, failed, future);
+
+        final List<Exchange> nestedExchanges
+                = createListOfExchangesWithTopics(Arrays.asList("overridenTopic1", "overridenTopic2", "overridenTopic3"));
+        in.setBody(nestedExchanges);
+
+        assertThrows(ExecutionException.class,
+                () -> producer.process(exchange));
+
+        // all the records are sent and awaited, and only the failed record has the exception
+        verifySendMessages(Arrays.asList("overridenTopic1", "overridenTopic2", "overridenTopic3"));
+        assertRecordMetadataExists(2);
+        assertNotNull(nestedExchanges.get(0).getMessage().getHeader(KafkaConstants.KAFKA_RECORDMETA));
+        assertTrue(nestedExchanges.get(1).getException() instanceof ApiException);
+        assertNull(nestedExchanges.get(1).getMessage().getHeader(KafkaConstants.KAFKA_RECORDMETA));
+        assertNotNull(nestedExchanges.get(2).getMessage().getHeader(KafkaConstants.KAFKA_RECORDMETA));
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     protected void verifySendMessage(Integer partitionKey, String topic, String messageKey) {
         ArgumentCaptor<ProducerRecord> captor = ArgumentCaptor.forClass(ProducerRecord.class);
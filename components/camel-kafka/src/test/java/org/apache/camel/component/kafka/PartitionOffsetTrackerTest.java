@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka;
+
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PartitionOffsetTrackerTest {
+
+    @Test
+    public void testCommittableOffset() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(new TopicPartition("test", 0));
+        assertEquals(-1, tracker.getCommittableOffset());
+
+        tracker.dispatched(10);
+        tracker.dispatched(11);
+        tracker.dispatched(12);
+        // nothing completed yet
+        assertEquals(9, tracker.getCommittableOffset());
+
+        // out of order completion does not move the watermark past the gap
+        tracker.completed(12);
+        assertEquals(9, tracker.getCommittableOffset());
+        tracker.completed(10);
+        assertEquals(10, tracker.getCommittableOffset());
+        tracker.completed(11);
+        assertEquals(12, tracker.getCommittableOffset());
+
+        tracker.dispatched(13);
+        assertEquals(12, tracker.getCommittableOffset());
+        tracker.completed(13);
+        assertEquals(13, tracker.getCommittableOffset());
+    }
+
+    @Test
+    public void testFailed() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(new TopicPartition("test", 0));
+        tracker.dispatched(0);
+        tracker.dispatched(1);
+        tracker.dispatched(2);
+        assertFalse(tracker.isFailed());
+
+        tracker.completed(0);
+        tracker.failed();
+        tracker.completed(2);
+        assertTrue(tracker.isFailed());
+        // the failed record is not committed
+        assertEquals(0, tracker.getCommittableOffset());
+    }
+
+    @Test
+    public void testCommittedOffset() {
+        PartitionOffsetTracker tracker = new PartitionOffsetTracker(new TopicPartition("test", 0));
+        assertEquals(-1, tracker.getCommittedOffset());
+        tracker.dispatched(5);
+        tracker.completed(5);
+        tracker.setCommittedOffset(tracker.getCommittableOffset());
+        assertEquals(5, tracker.getCommittedOffset());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.integration;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaConsumerProcessingThreadsIT extends BaseEmbeddedKafkaTestSupport {
+
+    public static final String TOPIC = "processingThreads";
+
+    private static final int KEYS = 5;
+    private static final int SIZE = 100;
+
+    @EndpointInject("kafka:" + TOPIC + "?groupId=group1&autoOffsetReset=earliest"
+                    + "&processingThreads=5&processingOrder=key&autoCommitIntervalMs=100")
+    private Endpoint from;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private final Map<String, Integer> lastPerKey = new ConcurrentHashMap<>();
+    private final AtomicInteger outOfOrder = new AtomicInteger();
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("foo")
+                        .process(exchange -> {
+                            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+                            try {
+                                String key = exchange.getMessage().getHeader(KafkaConstants.KEY, String.class);
+                                int value = exchange.getMessage().getBody(Integer.class);
+                                Integer last = lastPerKey.put(key, value);
+                                if (last != null && last > value) {
+                                    outOfOrder.incrementAndGet();
+                                }
+                                Thread.sleep(10);
+                            } finally {
+                                concurrent.decrementAndGet();
+                            }
+                        })
+                        .to(to);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaRecordsAreProcessedConcurrentlyInOrderPerKey() throws Exception {
+        to.expectedMessageCount(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            producer.send(new ProducerRecord<>(TOPIC, "key" + (i % KEYS), "" + i));
+        }
+
+        to.assertIsSatisfied();
+
+        assertEquals(0, outOfOrder.get(), "Records should be processed in order per key");
+        assertTrue(maxConcurrent.get() > 1, "Records should be processed concurrently");
+
+        // the processed records are committed, so nothing is consumed again after restarting
+        to.reset();
+        to.expectedMessageCount(1);
+        context.getRouteController().stopRoute("foo");
+        context.getRouteController().startRoute("foo");
+        producer.send(new ProducerRecord<>(TOPIC, "key0", "" + SIZE));
+        to.assertIsSatisfied();
+        assertEquals(String.valueOf(SIZE), to.getExchanges().get(0).getMessage().getBody(String.class));
+    }
+}
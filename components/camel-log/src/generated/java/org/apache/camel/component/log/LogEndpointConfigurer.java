@@ -21,6 +21,12 @@ public class LogEndpointConfigurer extends PropertyConfigurerSupport implements
     public boolean configure(CamelContext camelContext, Object obj, String name, Object value, boolean ignoreCase) {
         LogEndpoint target = (LogEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncdiscardwhenfull":
+        case "asyncDiscardWhenFull": target.setAsyncDiscardWhenFull(property(camelContext, boolean.class, value)); return true;
+        case "asynclogging":
+        case "asyncLogging": target.setAsyncLogging(property(camelContext, boolean.class, value)); return true;
+        case "asyncqueuesize":
+        case "asyncQueueSize": target.setAsyncQueueSize(property(camelContext, int.class, value)); return true;
         case "exchangeformatter":
         case "exchangeFormatter": target.setExchangeFormatter(property(camelContext, org.apache.camel.spi.ExchangeFormatter.class, value)); return true;
         case "groupactiveonly":
@@ -76,6 +82,12 @@ public class LogEndpointConfigurer extends PropertyConfigurerSupport implements
     @Override
     public Class<?> getOptionType(String name, boolean ignoreCase) {
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncdiscardwhenfull":
+        case "asyncDiscardWhenFull": return boolean.class;
+        case "asynclogging":
+        case "asyncLogging": return boolean.class;
+        case "asyncqueuesize":
+        case "asyncQueueSize": return int.class;
         case "exchangeformatter":
         case "exchangeFormatter": return org.apache.camel.spi.ExchangeFormatter.class;
         case "groupactiveonly":
@@ -132,6 +144,12 @@ public class LogEndpointConfigurer extends PropertyConfigurerSupport implements
     public Object getOptionValue(Object obj, String name, boolean ignoreCase) {
         LogEndpoint target = (LogEndpoint) obj;
         switch (ignoreCase ? name.toLowerCase() : name) {
+        case "asyncdiscardwhenfull":
+        case "asyncDiscardWhenFull": return target.isAsyncDiscardWhenFull();
+        case "asynclogging":
+        case "asyncLogging": return target.isAsyncLogging();
+        case "asyncqueuesize":
+        case "asyncQueueSize": return target.getAsyncQueueSize();
         case "exchangeformatter":
         case "exchangeFormatter": return target.getExchangeFormatter();
         case "groupactiveonly":
@@ -20,7 +20,7 @@ public class LogEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(27);
+        Set<String> props = new HashSet<>(30);
         props.add("showProperties");
         props.add("showStreams");
         props.add("showHeaders");
@@ -33,6 +33,8 @@ public class LogEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("exchangeFormatter");
         props.add("maxChars");
         props.add("loggerName");
+        props.add("asyncQueueSize");
+        props.add("asyncLogging");
         props.add("level");
         props.add("groupDelay");
         props.add("showExchangePattern");
@@ -44,6 +46,7 @@ public class LogEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("lazyStartProducer");
         props.add("marker");
         props.add("multiline");
+        props.add("asyncDiscardWhenFull");
         props.add("groupSize");
         props.add("showBody");
         props.add("style");
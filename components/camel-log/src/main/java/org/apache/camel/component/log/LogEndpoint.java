@@ -68,6 +68,12 @@ public class LogEndpoint extends ProcessorEndpoint {
     @UriParam
     private Boolean logMask;
     @UriParam(label = "advanced")
+    private boolean asyncLogging;
+    @UriParam(label = "advanced", defaultValue = "1000")
+    private int asyncQueueSize = 1000;
+    @UriParam(label = "advanced", defaultValue = "true")
+    private boolean asyncDiscardWhenFull = true;
+    @UriParam(label = "advanced")
     private ExchangeFormatter exchangeFormatter;
     @UriParam(label = "formatting", description = "Show the unique exchange ID.")
     private boolean showExchangeId;
@@ -239,9 +245,14 @@ public class LogEndpoint extends ProcessorEndpoint {
             Long groupDelay = getGroupDelay();
             answer = new ThroughputLogger(camelLogger, this.getCamelContext(), getGroupInterval(), groupDelay, groupActiveOnly);
         } else {
-            answer = new CamelLogProcessor(
+            CamelLogProcessor clp = new CamelLogProcessor(
                     camelLogger, localFormatter, getMaskingFormatter(),
                     getCamelContext().adapt(ExtendedCamelContext.class).getLogListeners());
+            clp.setCamelContext(getCamelContext());
+            clp.setAsyncLogging(asyncLogging);
+            clp.setAsyncQueueSize(asyncQueueSize);
+            clp.setAsyncDiscardWhenFull(asyncDiscardWhenFull);
+            answer = clp;
         }
         // the logger is the processor
         setProcessor(answer);
@@ -383,6 +394,45 @@ public class LogEndpoint extends ProcessorEndpoint {
         this.logMask = logMask;
     }
 
+    public boolean isAsyncLogging() {
+        return asyncLogging;
+    }
+
+    /**
+     * Whether to format and log the messages asynchronously by a background thread, so the routing thread does not have
+     * to format the message. A shallow snapshot of the exchange is queued, and the background thread formats and logs
+     * the queued exchanges in batches. When log listeners are in use, then the routing thread formats the message, as
+     * the listeners are called by the routing thread. Messages with a stream body are always logged by the routing
+     * thread. This option is not in use when logging throughput (groupSize or groupInterval).
+     */
+    public void setAsyncLogging(boolean asyncLogging) {
+        this.asyncLogging = asyncLogging;
+    }
+
+    public int getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
+    /**
+     * The maximum number of messages which can be queued to be logged asynchronously.
+     */
+    public void setAsyncQueueSize(int asyncQueueSize) {
+        this.asyncQueueSize = asyncQueueSize;
+    }
+
+    public boolean isAsyncDiscardWhenFull() {
+        return asyncDiscardWhenFull;
+    }
+
+    /**
+     * Whether to discard messages which cannot be queued to be logged asynchronously, because the queue is full. The
+     * number of discarded messages is available from JMX. If disabled, then the message is logged by the routing thread
+     * instead. The routing thread never blocks waiting for the queue.
+     */
+    public void setAsyncDiscardWhenFull(boolean asyncDiscardWhenFull) {
+        this.asyncDiscardWhenFull = asyncDiscardWhenFull;
+    }
+
     public ExchangeFormatter getExchangeFormatter() {
         return exchangeFormatter;
     }
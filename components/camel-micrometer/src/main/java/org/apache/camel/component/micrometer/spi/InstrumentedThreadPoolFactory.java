@@ -21,6 +21,8 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
@@ -28,10 +30,15 @@ import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.DefaultThreadPoolFactory;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutorService;
 
 /**
  * This implements a {@link ThreadPoolFactory} and generates an Instrumented versions of ExecutorService used to monitor
  * performance of each thread using Metrics.
+ * <p/>
+ * Micrometer only reports the task counters of a {@link java.util.concurrent.ThreadPoolExecutor}, and therefore the
+ * counters of a {@link ThreadPerTaskExecutorService} (used for virtual threads) are bound by this factory using the
+ * same meter names.
  */
 public class InstrumentedThreadPoolFactory implements ThreadPoolFactory {
 
@@ -60,7 +67,11 @@ public class InstrumentedThreadPoolFactory implements ThreadPoolFactory {
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
-        return ExecutorServiceMetrics.monitor(meterRegistry, executorService, name(profile.getId()));
+        String executorServiceName = name(profile.getId());
+        if (executorService instanceof ThreadPerTaskExecutorService) {
+            monitor((ThreadPerTaskExecutorService) executorService, Tags.of("name", executorServiceName));
+        }
+        return ExecutorServiceMetrics.monitor(meterRegistry, executorService, executorServiceName);
     }
 
     @Override
@@ -70,6 +81,30 @@ public class InstrumentedThreadPoolFactory implements ThreadPoolFactory {
         return new TimedScheduledExecutorService(meterRegistry, executorService, executorServiceName, Tags.empty());
     }
 
+    private void monitor(ThreadPerTaskExecutorService executorService, Tags tags) {
+        FunctionCounter.builder("executor.completed", executorService, ThreadPerTaskExecutorService::getCompletedTaskCount)
+                .tags(tags)
+                .description("The approximate total number of tasks that have completed execution")
+                .baseUnit("tasks")
+                .register(meterRegistry);
+        Gauge.builder("executor.active", executorService, ThreadPerTaskExecutorService::getActiveCount)
+                .tags(tags)
+                .description("The approximate number of threads that are actively executing tasks")
+                .baseUnit("threads")
+                .register(meterRegistry);
+        // there is no queue, and a thread is started for each task
+        Gauge.builder("executor.queued", () -> 0)
+                .tags(tags)
+                .description("The approximate number of tasks that are queued for execution")
+                .baseUnit("tasks")
+                .register(meterRegistry);
+        Gauge.builder("executor.pool.size", executorService, ThreadPerTaskExecutorService::getActiveCount)
+                .tags(tags)
+                .description("The current number of threads in the pool")
+                .baseUnit("threads")
+                .register(meterRegistry);
+    }
+
     public void setPrefix(String prefix) {
         this.prefix = prefix;
     }
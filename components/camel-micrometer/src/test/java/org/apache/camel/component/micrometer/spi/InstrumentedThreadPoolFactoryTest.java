@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.micrometer.spi;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -24,8 +25,10 @@ import java.util.concurrent.TimeUnit;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.internal.TimedExecutorService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutorService;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,7 +43,10 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class InstrumentedThreadPoolFactoryTest {
@@ -114,4 +120,31 @@ public class InstrumentedThreadPoolFactoryTest {
         inOrder.verify(registry, times(1)).timer("executor", tags);
     }
 
+    @Test
+    public void testNewThreadPerTaskThreadPool() throws Exception {
+        ThreadPerTaskExecutorService delegate = new ThreadPerTaskExecutorService(Thread::new);
+        when(threadPoolFactory.newThreadPool(profile, threadFactory)).thenReturn(delegate);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InstrumentedThreadPoolFactory factory = new InstrumentedThreadPoolFactory(meterRegistry, threadPoolFactory);
+        final ExecutorService executorService = factory.newThreadPool(profile, threadFactory);
+        assertThat(executorService, is(instanceOf(TimedExecutorService.class)));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        executorService.submit(() -> {
+            latch.await();
+            return null;
+        });
+        Tags tags = Tags.of("name", METRICS_NAME + "1");
+        assertEquals(1, meterRegistry.get("executor.active").tags(tags).gauge().value());
+        assertEquals(1, meterRegistry.get("executor.pool.size").tags(tags).gauge().value());
+        assertEquals(0, meterRegistry.get("executor.queued").tags(tags).gauge().value());
+
+        latch.countDown();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("executor.completed").tags(tags).functionCounter().count());
+        assertEquals(0, meterRegistry.get("executor.active").tags(tags).gauge().value());
+    }
+
 }
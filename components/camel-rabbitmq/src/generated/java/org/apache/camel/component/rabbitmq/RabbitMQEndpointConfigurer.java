@@ -110,6 +110,8 @@ public class RabbitMQEndpointConfigurer extends PropertyConfigurerSupport implem
         case "requestTimeout": target.setRequestTimeout(property(camelContext, long.class, value)); return true;
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": target.setRequestTimeoutCheckerInterval(property(camelContext, long.class, value)); return true;
+        case "requesttimeouttimingwheel":
+        case "requestTimeoutTimingWheel": target.setRequestTimeoutTimingWheel(property(camelContext, boolean.class, value)); return true;
         case "requestedchannelmax":
         case "requestedChannelMax": target.setRequestedChannelMax(property(camelContext, int.class, value)); return true;
         case "requestedframemax":
@@ -234,6 +236,8 @@ public class RabbitMQEndpointConfigurer extends PropertyConfigurerSupport implem
         case "requestTimeout": return long.class;
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": return long.class;
+        case "requesttimeouttimingwheel":
+        case "requestTimeoutTimingWheel": return boolean.class;
         case "requestedchannelmax":
         case "requestedChannelMax": return int.class;
         case "requestedframemax":
@@ -359,6 +363,8 @@ public class RabbitMQEndpointConfigurer extends PropertyConfigurerSupport implem
         case "requestTimeout": return target.getRequestTimeout();
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": return target.getRequestTimeoutCheckerInterval();
+        case "requesttimeouttimingwheel":
+        case "requestTimeoutTimingWheel": return target.isRequestTimeoutTimingWheel();
         case "requestedchannelmax":
         case "requestedChannelMax": return target.getRequestedChannelMax();
         case "requestedframemax":
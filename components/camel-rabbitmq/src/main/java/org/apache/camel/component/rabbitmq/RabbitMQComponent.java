@@ -131,6 +131,8 @@ public class RabbitMQComponent extends DefaultComponent {
     @Metadata(label = "advanced", defaultValue = "1000")
     private long requestTimeoutCheckerInterval = 1000;
     @Metadata(label = "advanced")
+    private boolean requestTimeoutTimingWheel;
+    @Metadata(label = "advanced")
     private boolean transferException;
     @Metadata(label = "producer")
     private boolean mandatory;
@@ -248,6 +250,7 @@ public class RabbitMQComponent extends DefaultComponent {
         endpoint.setChannelPoolMaxWait(getChannelPoolMaxWait());
         endpoint.setRequestTimeout(getRequestTimeout());
         endpoint.setRequestTimeoutCheckerInterval(getRequestTimeoutCheckerInterval());
+        endpoint.setRequestTimeoutTimingWheel(isRequestTimeoutTimingWheel());
         endpoint.setTransferException(isTransferException());
         endpoint.setPublisherAcknowledgements(isPublisherAcknowledgements());
         endpoint.setPublisherAcknowledgementsTimeout(getPublisherAcknowledgementsTimeout());
@@ -577,6 +580,18 @@ public class RabbitMQComponent extends DefaultComponent {
         return requestTimeoutCheckerInterval;
     }
 
+    /**
+     * Whether to use a timing wheel to keep track of timed out inOut exchanges, which scales better when there are a
+     * large number of in-flight request/reply messages
+     */
+    public void setRequestTimeoutTimingWheel(boolean requestTimeoutTimingWheel) {
+        this.requestTimeoutTimingWheel = requestTimeoutTimingWheel;
+    }
+
+    public boolean isRequestTimeoutTimingWheel() {
+        return requestTimeoutTimingWheel;
+    }
+
     /**
      * When true and an inOut Exchange failed on the consumer side send the caused Exception back in the response
      */
@@ -163,6 +163,8 @@ public class RabbitMQEndpoint extends DefaultEndpoint implements AsyncEndpoint {
     @UriParam(label = "advanced", defaultValue = "1000")
     private long requestTimeoutCheckerInterval = 1000;
     @UriParam(label = "advanced")
+    private boolean requestTimeoutTimingWheel;
+    @UriParam(label = "advanced")
     private boolean transferException;
     @UriParam(label = "producer")
     private boolean publisherAcknowledgements;
@@ -870,6 +872,18 @@ public class RabbitMQEndpoint extends DefaultEndpoint implements AsyncEndpoint {
         return requestTimeoutCheckerInterval;
     }
 
+    /**
+     * Whether to use a timing wheel to keep track of timed out inOut exchanges, which scales better when there are a
+     * large number of in-flight request/reply messages
+     */
+    public void setRequestTimeoutTimingWheel(boolean requestTimeoutTimingWheel) {
+        this.requestTimeoutTimingWheel = requestTimeoutTimingWheel;
+    }
+
+    public boolean isRequestTimeoutTimingWheel() {
+        return requestTimeoutTimingWheel;
+    }
+
     /**
      * Get useMessageIDAsCorrelationID for inOut exchange
      */
@@ -18,19 +18,38 @@ package org.apache.camel.component.rabbitmq.reply;
 
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.apache.camel.TimeoutMap;
 import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.support.TimingWheelTimeoutMap;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.apache.camel.TimeoutMap.Listener.Type.*;
 
 /**
  * A {@link org.apache.camel.TimeoutMap} which is used to track reply messages which has been timed out, and thus should
  * trigger the waiting {@link org.apache.camel.Exchange} to timeout as well.
+ * <p/>
+ * The timeouts are tracked by a {@link DefaultTimeoutMap}, or by a {@link TimingWheelTimeoutMap} which scales better
+ * with a large number of in-flight request/reply messages.
  */
-class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
+class CorrelationTimeoutMap extends ServiceSupport implements TimeoutMap<String, ReplyHandler> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CorrelationTimeoutMap.class);
+
+    private final TimeoutMap<String, ReplyHandler> delegate;
 
     CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-        super(executor, requestMapPollTimeMillis);
-        addListener(this::listener);
+        this(executor, requestMapPollTimeMillis, false);
+    }
+
+    CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, boolean timingWheel) {
+        delegate = timingWheel
+                ? new TimingWheelTimeoutMap<>(executor, requestMapPollTimeMillis)
+                : new DefaultTimeoutMap<>(executor, requestMapPollTimeMillis);
+        delegate.addListener(this::listener);
     }
 
     private static long encode(long timeoutMillis) {
@@ -41,30 +60,60 @@ class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
 
     private void listener(Listener.Type type, String key, ReplyHandler handler) {
         if (type == Put) {
-            log.trace("Added correlationID: {}", key);
+            LOG.trace("Added correlationID: {}", key);
         } else if (type == Remove) {
-            log.trace("Removed correlationID: {}", key);
+            LOG.trace("Removed correlationID: {}", key);
         } else if (type == Evict) {
             try {
                 handler.onTimeout(key);
             } catch (Exception e) {
                 // must ignore so we ensure we evict the element
-                log.warn("Error processing onTimeout for correlationID: " + key + " due: " + e.getMessage()
+                LOG.warn("Error processing onTimeout for correlationID: " + key + " due: " + e.getMessage()
                          + ". This exception is ignored.",
                         e);
             }
-            log.trace("Evicted correlationID: {}", key);
+            LOG.trace("Evicted correlationID: {}", key);
         }
     }
 
+    @Override
+    public ReplyHandler get(String key) {
+        return delegate.get(key);
+    }
+
     @Override
     public ReplyHandler put(String key, ReplyHandler value, long timeoutMillis) {
-        return super.put(key, value, encode(timeoutMillis));
+        return delegate.put(key, value, encode(timeoutMillis));
     }
 
     @Override
     public ReplyHandler putIfAbsent(String key, ReplyHandler value, long timeoutMillis) {
-        return super.putIfAbsent(key, value, encode(timeoutMillis));
+        return delegate.putIfAbsent(key, value, encode(timeoutMillis));
+    }
+
+    @Override
+    public ReplyHandler remove(String key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public void addListener(Listener<String, ReplyHandler> listener) {
+        delegate.addListener(listener);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(delegate);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(delegate);
     }
 
 }
@@ -254,7 +254,8 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         // waiting for an expected reply
         // when doing request/reply over JMS
         LOG.debug("Using timeout checker interval with {} millis", endpoint.getRequestTimeoutCheckerInterval());
-        correlation = new CorrelationTimeoutMap(executorService, endpoint.getRequestTimeoutCheckerInterval());
+        correlation = new CorrelationTimeoutMap(
+                executorService, endpoint.getRequestTimeoutCheckerInterval(), endpoint.isRequestTimeoutTimingWheel());
         ServiceHelper.startService(correlation);
 
         // create listener and start it
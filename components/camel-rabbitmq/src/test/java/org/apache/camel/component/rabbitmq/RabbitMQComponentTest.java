@@ -54,6 +54,7 @@ public class RabbitMQComponentTest extends CamelTestSupport {
         assertEquals(ConnectionFactory.DEFAULT_CHANNEL_MAX, endpoint.getRequestedChannelMax());
         assertEquals(ConnectionFactory.DEFAULT_FRAME_MAX, endpoint.getRequestedFrameMax());
         assertEquals(ConnectionFactory.DEFAULT_HEARTBEAT, endpoint.getRequestedHeartbeat());
+        assertEquals(false, endpoint.isRequestTimeoutTimingWheel());
         assertNull(endpoint.getConnectionFactory());
     }
 
@@ -75,6 +76,7 @@ public class RabbitMQComponentTest extends CamelTestSupport {
         params.put("requestedHeartbeat", 321);
         params.put("exclusiveConsumer", true);
         params.put("allowNullHeaders", true);
+        params.put("requestTimeoutTimingWheel", true);
 
         RabbitMQEndpoint endpoint = createEndpoint(params);
 
@@ -95,6 +97,17 @@ public class RabbitMQComponentTest extends CamelTestSupport {
         assertEquals(321, endpoint.getRequestedHeartbeat());
         assertEquals(true, endpoint.isExclusiveConsumer());
         assertEquals(true, endpoint.isAllowNullHeaders());
+        assertEquals(true, endpoint.isRequestTimeoutTimingWheel());
+    }
+
+    @Test
+    public void testRequestTimeoutTimingWheelFromComponent() throws Exception {
+        RabbitMQComponent comp = context.getComponent("rabbitmq", RabbitMQComponent.class);
+        comp.setRequestTimeoutTimingWheel(true);
+
+        RabbitMQEndpoint endpoint = createEndpoint(new HashMap<String, Object>());
+
+        assertEquals(true, endpoint.isRequestTimeoutTimingWheel());
     }
 
     private RabbitMQEndpoint createEndpoint(Map<String, Object> params) throws Exception {
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.rabbitmq.reply;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.rabbitmq.client.AMQP;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CorrelationTimeoutMapTest {
+
+    private ScheduledExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newScheduledThreadPool(1);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testTimeout(boolean timingWheel) throws Exception {
+        CorrelationTimeoutMap map = new CorrelationTimeoutMap(executor, 10, timingWheel);
+        ServiceHelper.startService(map);
+        try {
+            MyReplyHandler handler = new MyReplyHandler();
+            map.put("A", handler, 50);
+            map.put("B", handler, 50);
+            map.put("C", handler, 60000);
+            assertEquals(3, map.size());
+
+            // a handler which receives its reply is removed and does not time out
+            assertSame(handler, map.remove("B"));
+
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(1, map.size()));
+            assertEquals(Set.of("A"), handler.timeouts);
+            assertNull(map.get("A"));
+            assertSame(handler, map.get("C"));
+        } finally {
+            ServiceHelper.stopService(map);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { false, true })
+    public void testNoTimeout(boolean timingWheel) throws Exception {
+        CorrelationTimeoutMap map = new CorrelationTimeoutMap(executor, 10, timingWheel);
+        ServiceHelper.startService(map);
+        try {
+            MyReplyHandler handler = new MyReplyHandler();
+            // a zero timeout means no timeout
+            map.put("A", handler, 0);
+
+            Thread.sleep(100);
+            assertSame(handler, map.get("A"));
+            assertFalse(handler.timeouts.contains("A"));
+        } finally {
+            ServiceHelper.stopService(map);
+        }
+    }
+
+    private static class MyReplyHandler implements ReplyHandler {
+
+        private final Set<String> timeouts = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onReply(String correlationId, AMQP.BasicProperties properties, byte[] reply) {
+            // noop
+        }
+
+        @Override
+        public void onTimeout(String correlationId) {
+            timeouts.add(correlationId);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * A bounded lock-free {@link BlockingQueue} backed by a ring buffer, which supports multiple producers and multiple
+ * consumers.
+ * <p/>
+ * Each slot in the ring buffer has a sequence number which tells whether the slot is ready to be written by a producer
+ * or read by a consumer, so producers and consumers claim a slot with a single compare-and-set, and never take a lock.
+ * Threads which have to wait because the queue is empty or full use the configured {@link RingBufferWaitStrategy}.
+ * <p/>
+ * The capacity is rounded up to the next power of two. The iterator is a snapshot of the elements in the queue.
+ * Removing a given element with {@link #remove(Object)}, or all the elements with {@link #clear()}, can be done by any
+ * thread, as the element is taken out of its slot which is left empty (and skipped by the consumers), so the removed
+ * elements still take up room in the ring buffer until the consumers have passed them.
+ */
+public class MpmcRingBufferQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    protected final AtomicReferenceArray<E> buffer;
+    protected final AtomicLongArray sequences;
+    protected final int mask;
+    // the position of the next slot to write
+    protected final AtomicLong tail = new PaddedAtomicLong();
+    // the position of the next slot to read
+    protected final AtomicLong head = new PaddedAtomicLong();
+    // the number of removed elements which has left an empty slot the consumers has not passed yet
+    protected final AtomicLong removed = new AtomicLong();
+    private final RingBufferWaitStrategy waitStrategy;
+
+    public MpmcRingBufferQueue(int capacity) {
+        this(capacity, RingBufferWaitStrategy.Backoff);
+    }
+
+    public MpmcRingBufferQueue(int capacity, RingBufferWaitStrategy waitStrategy) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ", was: " + capacity);
+        }
+        ObjectHelper.notNull(waitStrategy, "waitStrategy");
+        // round up to power of two so we can use a mask to select the slot
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    public RingBufferWaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        long pos = tail.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                // the slot is free so try to claim it
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    buffer.lazySet(index, e);
+                    // publish the element to the consumers
+                    sequences.set(index, pos + 1);
+                    return true;
+                }
+                pos = tail.get();
+            } else if (diff < 0) {
+                // the slot has not been read yet so the queue is full
+                return false;
+            } else {
+                // another producer claimed the slot
+                pos = tail.get();
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        long pos = head.get();
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                // the slot has been published so try to claim it
+                if (head.compareAndSet(pos, pos + 1)) {
+                    E answer = take(index, pos);
+                    if (answer != null) {
+                        return answer;
+                    }
+                    // the element was removed so continue with the next slot
+                }
+                pos = head.get();
+            } else if (diff < 0) {
+                // the slot has not been written yet so the queue is empty
+                return null;
+            } else {
+                // another consumer claimed the slot
+                pos = head.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the element from the slot which the consumer has claimed, and frees the slot for the producers
+     *
+     * @return the element, or <tt>null</tt> if the element was removed from the slot
+     */
+    protected E take(int index, long pos) {
+        // the element is taken atomically as it may be removed concurrently
+        E answer = buffer.getAndSet(index, null);
+        sequences.set(index, pos + mask + 1);
+        if (answer == null) {
+            removed.decrementAndGet();
+        }
+        return answer;
+    }
+
+    @Override
+    public E peek() {
+        long pos = head.get();
+        int index = (int) pos & mask;
+        if (sequences.get(index) == pos + 1) {
+            return buffer.get(index);
+        }
+        return null;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        int attempt = 0;
+        while (!offer(e)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(++attempt);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int attempt = 0;
+        while (!offer(e)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            waitStrategy.idle(++attempt);
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        int attempt = 0;
+        E answer;
+        while ((answer = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            waitStrategy.idle(++attempt);
+        }
+        return answer;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int attempt = 0;
+        E answer;
+        while ((answer = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return null;
+            }
+            waitStrategy.idle(++attempt);
+        }
+        return answer;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, slots() - removed.get());
+    }
+
+    /**
+     * The number of slots in use, which includes the empty slots of the removed elements
+     */
+    private long slots() {
+        // read head first, so the size is never negative
+        long h = head.get();
+        long t = tail.get();
+        return Math.max(0, Math.min(t - h, mask + 1));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return (int) (mask + 1 - slots());
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long t = tail.get();
+        for (long pos = head.get(); pos < t; pos++) {
+            int index = (int) pos & mask;
+            E e = buffer.get(index);
+            if (e != null && o.equals(e) && removeAt(index, pos, e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        // the head is only moved by the consumers, so the elements are removed from their slots
+        long t = tail.get();
+        for (long pos = head.get(); pos < t; pos++) {
+            int index = (int) pos & mask;
+            E e = buffer.get(index);
+            if (e != null) {
+                removeAt(index, pos, e);
+            }
+        }
+    }
+
+    /**
+     * Removes the element from the slot, if the element has been published and not yet taken by a consumer
+     */
+    private boolean removeAt(int index, long pos, E e) {
+        if (sequences.get(index) == pos + 1 && buffer.compareAndSet(index, e, null)) {
+            removed.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        ObjectHelper.notNull(c, "collection");
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain the queue to itself");
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        // take a snapshot of the published elements which has not been read yet
+        List<E> answer = new ArrayList<>(size());
+        long t = tail.get();
+        for (long pos = head.get(); pos < t; pos++) {
+            int index = (int) pos & mask;
+            E e = buffer.get(index);
+            if (e != null && sequences.get(index) == pos + 1) {
+                answer.add(e);
+            }
+        }
+        return Collections.unmodifiableList(answer).iterator();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[capacity=" + getCapacity() + ", size=" + size() + "]";
+    }
+
+    /**
+     * An {@link AtomicLong} padded to its own cache line, so the producers and consumers do not contend on the same
+     * cache line.
+     */
+    @SuppressWarnings("unused")
+    static final class PaddedAtomicLong extends AtomicLong {
+        private long p1;
+        private long p2;
+        private long p3;
+        private long p4;
+        private long p5;
+        private long p6;
+        private long p7;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+/**
+ * A bounded lock-free {@link java.util.concurrent.BlockingQueue} backed by a ring buffer, which supports multiple
+ * producers and a single consumer.
+ * <p/>
+ * As there is only one consumer, then taking an element from the queue does not need a compare-and-set. The queue must
+ * only be consumed (polled or drained) by one thread at a time, which means the SEDA endpoint must use a single
+ * concurrent consumer. Removing elements with {@link #remove(Object)} or {@link #clear()} (such as when purging the
+ * queue) does not move the head, and can therefore be done by any thread. Use {@link MpmcRingBufferQueue} if there are
+ * multiple consumer threads.
+ */
+public class MpscRingBufferQueue<E> extends MpmcRingBufferQueue<E> {
+
+    public MpscRingBufferQueue(int capacity) {
+        super(capacity);
+    }
+
+    public MpscRingBufferQueue(int capacity, RingBufferWaitStrategy waitStrategy) {
+        super(capacity, waitStrategy);
+    }
+
+    @Override
+    public E poll() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) pos & mask;
+            if (sequences.get(index) != pos + 1) {
+                // the slot has not been written yet so the queue is empty
+                return null;
+            }
+            // only the consumer thread moves the head
+            head.lazySet(pos + 1);
+            E answer = take(index, pos);
+            if (answer != null) {
+                return answer;
+            }
+            // the element was removed so continue with the next slot
+        }
+    }
+}
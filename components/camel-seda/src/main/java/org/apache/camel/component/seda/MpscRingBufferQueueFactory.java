@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+/**
+ * Implementation of {@link BlockingQueueFactory} producing {@link MpscRingBufferQueue}, which is a lock-free ring
+ * buffer for multiple producers and a single consumer.
+ * <p/>
+ * The queue must only be consumed by one thread at a time, so the SEDA endpoint must use a single concurrent consumer,
+ * and not purge the queue when stopping.
+ */
+public class MpscRingBufferQueueFactory<E> implements BlockingQueueFactory<E> {
+
+    /**
+     * Capacity used when none provided
+     */
+    private int defaultCapacity = 1024;
+
+    /**
+     * The strategy used by threads waiting on the queue
+     */
+    private RingBufferWaitStrategy waitStrategy = RingBufferWaitStrategy.Backoff;
+
+    /**
+     * @return Default capacity
+     */
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    /**
+     * @param defaultCapacity Default capacity
+     */
+    public void setDefaultCapacity(int defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    /**
+     * @return The strategy used by threads waiting on the queue
+     */
+    public RingBufferWaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * @param waitStrategy The strategy used by threads waiting on the queue
+     */
+    public void setWaitStrategy(RingBufferWaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    @Override
+    public MpscRingBufferQueue<E> create() {
+        return create(defaultCapacity);
+    }
+
+    @Override
+    public MpscRingBufferQueue<E> create(int capacity) {
+        return new MpscRingBufferQueue<>(capacity, waitStrategy);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The strategies a thread may use to wait on a {@link MpmcRingBufferQueue} when the queue is empty (consumers) or full
+ * (producers), which are similar to the wait strategies of the Disruptor component.
+ */
+public enum RingBufferWaitStrategy {
+
+    /**
+     * Busy spin strategy which keeps checking the queue in a loop.
+     * <p/>
+     * This strategy gives the lowest latency, but uses a CPU core for every waiting thread. It is best used when
+     * threads can be bound to specific CPU cores.
+     */
+    Spin {
+        @Override
+        void idle(int attempt) {
+            // busy spin
+        }
+    },
+
+    /**
+     * Yielding strategy which uses a Thread.yield() after initially spinning.
+     * <p/>
+     * This strategy is a good compromise between performance and CPU resource without incurring significant latency
+     * spikes.
+     */
+    Yield {
+        @Override
+        void idle(int attempt) {
+            if (attempt > SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    },
+
+    /**
+     * Parking strategy which initially spins, then uses a Thread.yield(), and eventually parks the thread for the
+     * minimum number of nanos the OS and JVM will allow.
+     * <p/>
+     * This strategy is a good compromise between performance and CPU resource when the queue is busy, but as the thread
+     * is parked for a very short time, then a waiting thread still uses a noticeable amount of CPU when the queue is
+     * idle. Latency spikes can occur after quiet periods.
+     */
+    Park {
+        @Override
+        void idle(int attempt) {
+            if (attempt > SPIN_TRIES + YIELD_TRIES) {
+                LockSupport.parkNanos(1L);
+            } else if (attempt > SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    },
+
+    /**
+     * Backoff strategy which initially spins, then uses a Thread.yield(), and eventually parks the thread for a growing
+     * time (doubled on every attempt, up to 1 millis).
+     * <p/>
+     * This strategy uses the least CPU resource, as an idle thread (such as a consumer waiting for new messages) is
+     * only woken up about once per milli second. The latency after quiet periods is up to 1 millis. This is the default
+     * strategy.
+     */
+    Backoff {
+        @Override
+        void idle(int attempt) {
+            int parks = attempt - SPIN_TRIES - YIELD_TRIES;
+            if (parks > 0) {
+                LockSupport.parkNanos(Math.min(MIN_PARK_NANOS << Math.min(parks - 1, 10), MAX_PARK_NANOS));
+            } else if (attempt > SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long MIN_PARK_NANOS = 1000L;
+    private static final long MAX_PARK_NANOS = 1000000L;
+
+    /**
+     * Waits before the next attempt to access the queue
+     *
+     * @param attempt the number of attempts which has failed so far
+     */
+    abstract void idle(int attempt);
+}
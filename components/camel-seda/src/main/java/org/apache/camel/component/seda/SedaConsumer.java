@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -25,7 +26,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.Ordered;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
 import org.apache.camel.Suspendable;
@@ -34,6 +37,7 @@ import org.apache.camel.spi.Synchronization;
 import org.apache.camel.support.DefaultConsumer;
 import org.apache.camel.support.EmptyAsyncCallback;
 import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.support.UnitOfWorkHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -44,6 +48,9 @@ import org.slf4j.LoggerFactory;
  * <p/>
  * In this implementation there is a little <i>slack period</i> when you suspend/stop the consumer, by which the
  * consumer may pickup a newly arrived messages and process it. That period is up till 1 second.
+ * <p/>
+ * If the endpoint has a <tt>batchSize</tt> of more than 1, then each consumer thread drains up to that number of
+ * exchanges from the queue every time it wakes up, and processes them in a batch.
  */
 public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownAware, Suspendable {
 
@@ -55,10 +62,14 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    // the exchanges which has been drained from the queue in batch mode but are not yet dispatched
+    private final AtomicInteger pendingBatchExchanges = new AtomicInteger();
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
     }
 
     @Override
@@ -80,7 +91,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        return getEndpoint().getQueue().size() + pendingBatchExchanges.get();
     }
 
     @Override
@@ -137,6 +148,8 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
     protected void doRun() {
         BlockingQueue<Exchange> queue = getEndpoint().getQueue();
+        // the exchanges drained from the queue in batch mode
+        List<Exchange> batch = batchSize > 1 ? new ArrayList<>(batchSize) : null;
         // loop while we are allowed, or if we are stopping loop until the queue is empty
         while (queue != null && isRunAllowed()) {
 
@@ -179,22 +192,18 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                     LOG.trace("Polled queue {} with timeout {} ms. -> {}", ObjectHelper.getIdentityHashCode(queue), pollTimeout,
                             exchange);
                 }
-                if (exchange != null) {
+                if (exchange != null && batch != null) {
+                    // take the other waiting exchanges without parking the thread in between
+                    batch.add(exchange);
+                    queue.drainTo(batch, batchSize - 1);
+                    pendingBatchExchanges.addAndGet(batch.size());
                     try {
-                        // prepare the exchange before sending to consumer
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy result back
-                        ExchangeHelper.copyResults(exchange, newExchange);
-                        // log exception if an exception occurred and was not handled
-                        if (exchange.getException() != null) {
-                            getExceptionHandler().handleException("Error processing exchange", exchange,
-                                    exchange.getException());
-                        }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                        processBatch(batch);
+                    } finally {
+                        batch.clear();
                     }
+                } else if (exchange != null) {
+                    processExchange(exchange);
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
                     // we want to shutdown so break out if there queue is empty
@@ -213,6 +222,106 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private void processExchange(Exchange exchange) {
+        try {
+            // prepare the exchange before sending to consumer
+            Exchange newExchange = prepareExchange(exchange);
+            // process the exchange
+            sendToConsumers(newExchange);
+            // copy result back
+            ExchangeHelper.copyResults(exchange, newExchange);
+            // log exception if an exception occurred and was not handled
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", exchange,
+                        exchange.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    /**
+     * Processes the exchanges which was drained from the queue in one batch.
+     * <p/>
+     * The exchanges are either processed one by one with the batch properties set, or routed as one grouped exchange if
+     * the endpoint has <tt>batchGrouped</tt> enabled.
+     *
+     * @param batch the exchanges
+     */
+    protected void processBatch(List<Exchange> batch) {
+        int total = batch.size();
+        LOG.trace("Processing batch of {} exchanges", total);
+
+        if (getEndpoint().isBatchGrouped()) {
+            processGroupedBatch(batch);
+            return;
+        }
+
+        for (int index = 0; index < total; index++) {
+            Exchange exchange = batch.get(index);
+            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+            // the batch properties must not leak back to the caller, which (when using request/reply) copies the result
+            // from the exchange when its done, so remove them before any other on completion is invoked
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(new RemoveBatchPropertiesOnCompletion());
+            pendingBatchExchanges.decrementAndGet();
+            processExchange(exchange);
+        }
+    }
+
+    private static void removeBatchProperties(Exchange exchange) {
+        exchange.removeProperty(ExchangePropertyKey.BATCH_INDEX);
+        exchange.removeProperty(ExchangePropertyKey.BATCH_SIZE);
+        exchange.removeProperty(ExchangePropertyKey.BATCH_COMPLETE);
+    }
+
+    private void processGroupedBatch(List<Exchange> batch) {
+        final List<Exchange> originals = new ArrayList<>(batch);
+        final List<Exchange> exchanges = new ArrayList<>(batch.size());
+        for (Exchange exchange : batch) {
+            exchanges.add(prepareExchange(exchange));
+        }
+
+        pendingBatchExchanges.addAndGet(-batch.size());
+        Exchange group = createExchange(true);
+        group.getIn().setBody(exchanges);
+        group.setProperty(ExchangePropertyKey.BATCH_SIZE, exchanges.size());
+        // the grouped exchanges are done when the group is done
+        group.adapt(ExtendedExchange.class).addOnCompletion(new SynchronizationAdapter() {
+            @Override
+            public void onDone(Exchange done) {
+                for (int i = 0; i < exchanges.size(); i++) {
+                    Exchange exchange = exchanges.get(i);
+                    if (done.getException() != null && exchange.getException() == null) {
+                        exchange.setException(done.getException());
+                    }
+                    UnitOfWorkHelper.doneSynchronizations(exchange,
+                            exchange.adapt(ExtendedExchange.class).handoverCompletions(), LOG);
+                    Exchange original = originals.get(i);
+                    if (original != exchange) {
+                        ExchangeHelper.copyResults(original, exchange);
+                    }
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "onDone of grouped batch at endpoint: " + getEndpoint();
+            }
+        });
+
+        try {
+            sendToConsumers(group);
+            // log exception if an exception occurred and was not handled
+            if (group.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", group, group.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", group, e);
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -337,4 +446,21 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    private static final class RemoveBatchPropertiesOnCompletion extends SynchronizationAdapter implements Ordered {
+
+        @Override
+        public void onDone(Exchange exchange) {
+            removeBatchProperties(exchange);
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST;
+        }
+
+        @Override
+        public String toString() {
+            return "RemoveBatchPropertiesOnCompletion";
+        }
+    }
 }
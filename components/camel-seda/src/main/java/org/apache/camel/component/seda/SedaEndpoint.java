@@ -84,6 +84,10 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced", defaultValue = "1")
+    private int batchSize = 1;
+    @UriParam(label = "consumer,advanced")
+    private boolean batchGrouped;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -440,6 +444,35 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.pollTimeout = pollTimeout;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of exchanges a consumer thread takes from the queue each time it wakes up. When more than one
+     * exchange is taken, then the exchanges are processed one after the other without waiting on the queue in between,
+     * and each exchange has the batch properties (index, size and complete) set. The default value is 1, which takes
+     * one exchange at a time.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public boolean isBatchGrouped() {
+        return batchGrouped;
+    }
+
+    /**
+     * Whether the exchanges taken from the queue in one batch are routed as a single exchange, where the message body
+     * is a List of the exchanges. The exchanges in the list are completed when the grouped exchange is completed. This
+     * option is only in use when batchSize is more than 1.
+     */
+    public void setBatchGrouped(boolean batchGrouped) {
+        this.batchGrouped = batchGrouped;
+    }
+
     @ManagedAttribute
     public boolean isPurgeWhenStopping() {
         return purgeWhenStopping;
@@ -525,6 +558,9 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
                     "Cannot enable both discardWhenFull=true and blockWhenFull=true."
                                                + " You can only either discard or block when full.");
         }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batchSize must be a positive number, was: " + batchSize);
+        }
 
         // special for unit testing where we can set a system property to make seda poll faster
         // and therefore also react faster upon shutdown, which makes overall testing faster of the Camel project
@@ -540,6 +576,14 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         if (queue == null) {
             queue = getQueue();
         }
+
+        // the MPSC ring buffer must only be consumed by one thread at a time
+        if (queue instanceof MpscRingBufferQueue && (concurrentConsumers > 1 || multipleConsumers)) {
+            throw new IllegalArgumentException(
+                    "Cannot use concurrentConsumers > 1 or multipleConsumers=true with a queue which only supports a single"
+                                               + " consumer: " + queue.getClass().getName()
+                                               + ". Use MpmcRingBufferQueueFactory instead.");
+        }
     }
 
     @Override
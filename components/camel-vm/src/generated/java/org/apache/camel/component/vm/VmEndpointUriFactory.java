@@ -20,7 +20,7 @@ public class VmEndpointUriFactory extends org.apache.camel.support.component.End
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(19);
+        Set<String> props = new HashSet<>(21);
         props.add("exchangePattern");
         props.add("pollTimeout");
         props.add("failIfNoConsumers");
@@ -32,10 +32,12 @@ public class VmEndpointUriFactory extends org.apache.camel.support.component.End
         props.add("timeout");
         props.add("lazyStartProducer");
         props.add("bridgeErrorHandler");
+        props.add("batchGrouped");
         props.add("offerTimeout");
         props.add("size");
         props.add("discardIfNoConsumers");
         props.add("name");
+        props.add("batchSize");
         props.add("exceptionHandler");
         props.add("purgeWhenStopping");
         props.add("multipleConsumers");
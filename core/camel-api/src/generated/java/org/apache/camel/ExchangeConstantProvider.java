@@ -11,7 +11,7 @@ public class ExchangeConstantProvider {
 
     private static final Map<String, String> MAP;
     static {
-        Map<String, String> map = new HashMap<>(150);
+        Map<String, String> map = new HashMap<>(151);
         map.put("ACCEPT_CONTENT_TYPE", "CamelAcceptContentType");
         map.put("AGGREGATED_COLLECTION_GUARD", "CamelAggregatedCollectionGuard");
         map.put("AGGREGATED_COMPLETED_BY", "CamelAggregatedCompletedBy");
@@ -116,6 +116,7 @@ public class ExchangeConstantProvider {
         map.put("ON_COMPLETION_ROUTE_IDS", "CamelOnCompletionRouteIds");
         map.put("OVERRULE_FILE_NAME", "CamelOverruleFileName");
         map.put("PARENT_UNIT_OF_WORK", "CamelParentUnitOfWork");
+        map.put("PRODUCER_CACHE_IDLE_TIMEOUT", "CamelProducerCacheIdleTimeout");
         map.put("RECEIVED_TIMESTAMP", "CamelReceivedTimestamp");
         map.put("RECIPIENT_LIST_ENDPOINT", "CamelRecipientListEndpoint");
         map.put("REDELIVERED", "CamelRedelivered");
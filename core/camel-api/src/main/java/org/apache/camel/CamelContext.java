@@ -1232,6 +1232,34 @@ public interface CamelContext extends CamelContextLifecycle, RuntimeConfiguratio
      */
     void setUseBreadcrumb(Boolean useBreadcrumb);
 
+    /**
+     * Whether copies of exchanges (such as by the multicast, recipient list, splitter and wire tap EIPs) are
+     * copy-on-write.
+     * <p/>
+     * When enabled, the exchange properties of a copy share the properties of the exchange it was copied from, until
+     * either exchange changes its properties, which then copies the properties. This makes copying exchanges with many
+     * properties cheap, when most copies do not change the properties. Only the exchange properties are copy-on-write,
+     * as the message headers of a copy are still copied (using the {@link org.apache.camel.spi.HeadersMapFactory}).
+     *
+     * @return <tt>true</tt> if copy-on-write copies of exchanges is enabled
+     */
+    Boolean isCopyOnWriteExchange();
+
+    /**
+     * Whether copies of exchanges (such as by the multicast, recipient list, splitter and wire tap EIPs) are
+     * copy-on-write.
+     * <p/>
+     * When enabled, the exchange properties of a copy share the properties of the exchange it was copied from, until
+     * either exchange changes its properties, which then copies the properties. This makes copying exchanges with many
+     * properties cheap, when most copies do not change the properties. Only the exchange properties are copy-on-write,
+     * as the message headers of a copy are still copied (using the {@link org.apache.camel.spi.HeadersMapFactory}).
+     * <p/>
+     * This is default disabled.
+     *
+     * @param copyOnWriteExchange <tt>true</tt> to enable copy-on-write copies of exchanges
+     */
+    void setCopyOnWriteExchange(Boolean copyOnWriteExchange);
+
     /**
      * Gets the {@link StreamCachingStrategy} to use.
      */
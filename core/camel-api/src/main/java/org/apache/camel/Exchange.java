@@ -194,6 +194,8 @@ public interface Exchange {
     String ON_COMPLETION_ROUTE_IDS = "CamelOnCompletionRouteIds";
     String OVERRULE_FILE_NAME = "CamelOverruleFileName";
 
+    String PRODUCER_CACHE_IDLE_TIMEOUT = "CamelProducerCacheIdleTimeout";
+
     String PARENT_UNIT_OF_WORK = "CamelParentUnitOfWork";
     String STREAM_CACHE_UNIT_OF_WORK = "CamelStreamCacheUnitOfWork";
 
@@ -17,11 +17,13 @@
 package org.apache.camel.spi;
 
 import java.util.Collection;
+import java.util.Collections;
 
 import org.apache.camel.StaticService;
 
 /**
- * Manages {@link ExchangeFactory}.
+ * Manages {@link ExchangeFactory}, and the {@link PooledObjectFactory} which EIPs use for pooling the tasks they use
+ * for routing exchanges (when pooling is in use).
  */
 public interface ExchangeFactoryManager extends StaticService {
 
@@ -45,6 +47,32 @@ public interface ExchangeFactoryManager extends StaticService {
      */
     Collection<ExchangeFactory> getExchangeFactories();
 
+    /**
+     * Adds the {@link PooledObjectFactory} (used by an EIP for pooling its tasks) to be managed.
+     *
+     * @param pooledObjectFactory the pooled object factory
+     */
+    default void addPooledObjectFactory(PooledObjectFactory<?> pooledObjectFactory) {
+        // noop
+    }
+
+    /**
+     * Removes the {@link PooledObjectFactory} from being managed (such as when a route is stopped/removed) or during
+     * shutdown.
+     *
+     * @param pooledObjectFactory the pooled object factory
+     */
+    default void removePooledObjectFactory(PooledObjectFactory<?> pooledObjectFactory) {
+        // noop
+    }
+
+    /**
+     * Returns a read-only view of the managed pooled object factories.
+     */
+    default Collection<PooledObjectFactory<?>> getPooledObjectFactories() {
+        return Collections.emptyList();
+    }
+
     /**
      * Number of consumers currently being managed
      */
@@ -85,4 +113,14 @@ public interface ExchangeFactoryManager extends StaticService {
      */
     ExchangeFactory.Statistics getStatistics();
 
+    /**
+     * Aggregated statistics for all the managed pooled object factories, where the acquired counter is the number of
+     * pool hits, and the created counter is the number of pool misses.
+     *
+     * @return the statistics, or <tt>null</tt> if pooled object factories are not managed by this manager
+     */
+    default PooledObjectFactory.Statistics getPooledObjectStatistics() {
+        return null;
+    }
+
 }
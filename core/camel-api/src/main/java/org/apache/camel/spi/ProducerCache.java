@@ -117,6 +117,34 @@ public interface ProducerCache extends Service {
      */
     void cleanUp();
 
+    /**
+     * Number of times a producer was reused from the cache (cache hits)
+     */
+    default long getHits() {
+        return 0;
+    }
+
+    /**
+     * Number of times a new producer was created as there was none in the cache (cache misses)
+     */
+    default long getMisses() {
+        return 0;
+    }
+
+    /**
+     * Number of producers which has been evicted (and stopped) from the cache
+     */
+    default long getEvicted() {
+        return 0;
+    }
+
+    /**
+     * Resets the cache statistics
+     */
+    default void resetCacheStatistics() {
+        // noop
+    }
+
     /**
      * Whether {@link org.apache.camel.spi.EventNotifier} is enabled
      */
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -62,6 +63,56 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of off-heap spooled {@link StreamCache} created.
+         */
+        default long getCacheOffHeapCounter() {
+            return 0;
+        }
+
+        /**
+         * Gets the total accumulated number of bytes which has been stream cached for off-heap spooled stream caches.
+         */
+        default long getCacheOffHeapSize() {
+            return 0;
+        }
+
+        /**
+         * Gets the average number of bytes per cached stream for off-heap spooled stream caches.
+         */
+        default long getCacheOffHeapAverageSize() {
+            return 0;
+        }
+
+        /**
+         * Gets the number of segments in the off-heap spool, or <tt>0</tt> if spooling off-heap is not in use.
+         */
+        default int getOffHeapSegmentCount() {
+            return 0;
+        }
+
+        /**
+         * Gets the number of segments in the off-heap spool which are currently in use by stream caches.
+         */
+        default int getOffHeapSegmentsInUse() {
+            return 0;
+        }
+
+        /**
+         * Gets the highest number of segments in the off-heap spool which has been in use at the same time.
+         */
+        default int getOffHeapSegmentsPeakInUse() {
+            return 0;
+        }
+
+        /**
+         * Gets the counter for number of times the off-heap spool had no free segments, and the stream cache had to be
+         * spooled to disk instead.
+         */
+        default long getOffHeapSegmentsExhaustedCounter() {
+            return 0;
+        }
+
         /**
          * Reset the counters
          */
@@ -192,6 +243,72 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isAnySpoolRules();
 
+    /**
+     * Sets whether to spool to off-heap memory before spooling to disk.
+     * <p/>
+     * When enabled a shared arena of direct memory is allocated and divided into segments of
+     * {@link #setSpoolOffHeapSegmentSize(int)} bytes. Stream caches which should be spooled are written to segments of
+     * the arena instead of temporary files, and the segments are recycled when the stream cache is closed (when the
+     * exchange is done). When there are no free segments in the arena, then the stream cache is spooled to disk.
+     * <p/>
+     * Spooling off-heap is not in use when a spool cipher has been configured, or when using a custom strategy which
+     * does not support spooling off-heap.
+     * <p/>
+     * This option is default <tt>false</tt>
+     */
+    default void setSpoolOffHeap(boolean spoolOffHeap) {
+        // noop
+    }
+
+    default boolean isSpoolOffHeap() {
+        return false;
+    }
+
+    /**
+     * Sets the size in bytes of the segments of the off-heap spool.
+     * <p/>
+     * The default size is 64kb.
+     */
+    default void setSpoolOffHeapSegmentSize(int segmentSize) {
+        // noop
+    }
+
+    default int getSpoolOffHeapSegmentSize() {
+        return 0;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the off-heap spool, which is allocated up front when stream caching is started.
+     * <p/>
+     * The default size is 64mb.
+     */
+    default void setSpoolOffHeapMaxSize(long maxSize) {
+        // noop
+    }
+
+    default long getSpoolOffHeapMaxSize() {
+        return 0;
+    }
+
+    /**
+     * Acquires a free segment from the off-heap spool.
+     *
+     * @return the segment (cleared and ready for writing), or <tt>null</tt> if spooling off-heap is not in use, or
+     *         there are no free segments
+     */
+    default ByteBuffer acquireSpoolSegment() {
+        return null;
+    }
+
+    /**
+     * Releases a segment which has been acquired by {@link #acquireSpoolSegment()} back to the off-heap spool.
+     *
+     * @param segment the segment
+     */
+    default void releaseSpoolSegment(ByteBuffer segment) {
+        // noop
+    }
+
     /**
      * Gets the utilization statistics.
      */
@@ -61,6 +61,29 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of conversions which used the converter that was resolved and cached for the pair of types (when the
+         * dispatch cache is enabled)
+         */
+        default long getCacheHitCounter() {
+            return 0;
+        }
+
+        /**
+         * Number of conversions which was not in the dispatch cache, and had to lookup the converter (when the dispatch
+         * cache is enabled)
+         */
+        default long getCacheMissCounter() {
+            return 0;
+        }
+
+        /**
+         * Number of conversions which was done by a fallback converter
+         */
+        default long getFallbackCounter() {
+            return 0;
+        }
+
         /**
          * Reset the counters
          */
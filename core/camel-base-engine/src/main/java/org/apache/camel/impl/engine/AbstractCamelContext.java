@@ -260,6 +260,7 @@ public abstract class AbstractCamelContext extends BaseService
     private String mdcLoggingKeysPattern;
     private Boolean useDataType = Boolean.FALSE;
     private Boolean useBreadcrumb = Boolean.FALSE;
+    private Boolean copyOnWriteExchange = Boolean.FALSE;
     private Boolean allowUseOriginalMessage = Boolean.FALSE;
     private Boolean caseInsensitiveHeaders = Boolean.TRUE;
     private Boolean autowiredEnabled = Boolean.TRUE;
@@ -4123,6 +4124,16 @@ public abstract class AbstractCamelContext extends BaseService
         this.useBreadcrumb = useBreadcrumb;
     }
 
+    @Override
+    public Boolean isCopyOnWriteExchange() {
+        return copyOnWriteExchange != null && copyOnWriteExchange;
+    }
+
+    @Override
+    public void setCopyOnWriteExchange(Boolean copyOnWriteExchange) {
+        this.copyOnWriteExchange = copyOnWriteExchange;
+    }
+
     @Override
     public ClassLoader getApplicationContextClassLoader() {
         return applicationContextClassLoader;
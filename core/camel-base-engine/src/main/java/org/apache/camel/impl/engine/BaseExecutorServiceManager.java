@@ -59,6 +59,11 @@ import org.slf4j.LoggerFactory;
  * Base {@link org.apache.camel.spi.ExecutorServiceManager} which can be used for implementations
  */
 public class BaseExecutorServiceManager extends ServiceSupport implements ExecutorServiceManager {
+    /**
+     * Id of the thread pool profile which uses virtual threads (requires a JDK which supports virtual threads)
+     */
+    public static final String VIRTUAL_THREADS_PROFILE_ID = "virtualThreads";
+
     private static final Logger LOG = LoggerFactory.getLogger(BaseExecutorServiceManager.class);
 
     private final CamelContext camelContext;
@@ -84,6 +89,11 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         defaultProfile.setRejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns);
 
         registerThreadPoolProfile(defaultProfile);
+
+        // profile which uses virtual threads (sizes are inherited from the default profile)
+        ThreadPoolProfile virtualProfile = new ThreadPoolProfile(VIRTUAL_THREADS_PROFILE_ID);
+        virtualProfile.setVirtualThreads(true);
+        registerThreadPoolProfile(virtualProfile);
     }
 
     public CamelContext getCamelContext() {
@@ -19,6 +19,7 @@ package org.apache.camel.impl.engine;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
@@ -26,12 +27,15 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Consumer;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
 import org.apache.camel.support.service.ServiceSupport;
 
 public class DefaultExchangeFactoryManager extends ServiceSupport implements ExchangeFactoryManager, CamelContextAware {
 
     private final Map<Consumer, ExchangeFactory> factories = new ConcurrentHashMap<>();
+    private final Set<PooledObjectFactory<?>> pooledObjectFactories = ConcurrentHashMap.newKeySet();
     private final UtilizationStatistics statistics = new UtilizationStatistics();
+    private final PooledObjectStatistics pooledObjectStatistics = new PooledObjectStatistics();
     private CamelContext camelContext;
     private int capacity;
     private boolean statisticsEnabled;
@@ -62,6 +66,24 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         return Collections.unmodifiableCollection(factories.values());
     }
 
+    @Override
+    public void addPooledObjectFactory(PooledObjectFactory<?> pooledObjectFactory) {
+        pooledObjectFactories.add(pooledObjectFactory);
+        if (statisticsEnabled) {
+            pooledObjectFactory.setStatisticsEnabled(true);
+        }
+    }
+
+    @Override
+    public void removePooledObjectFactory(PooledObjectFactory<?> pooledObjectFactory) {
+        pooledObjectFactories.remove(pooledObjectFactory);
+    }
+
+    @Override
+    public Collection<PooledObjectFactory<?>> getPooledObjectFactories() {
+        return Collections.unmodifiableCollection(pooledObjectFactories);
+    }
+
     @Override
     public int getConsumerCounter() {
         return factories.size();
@@ -92,16 +114,21 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         for (ExchangeFactory ef : factories.values()) {
             ef.setStatisticsEnabled(statisticsEnabled);
         }
+        for (PooledObjectFactory<?> pf : pooledObjectFactories) {
+            pf.setStatisticsEnabled(statisticsEnabled);
+        }
     }
 
     @Override
     public void resetStatistics() {
         factories.values().forEach(ExchangeFactory::resetStatistics);
+        pooledObjectFactories.forEach(PooledObjectFactory::resetStatistics);
     }
 
     @Override
     public void purge() {
         factories.values().forEach(ExchangeFactory::purge);
+        pooledObjectFactories.forEach(PooledObjectFactory::purge);
     }
 
     @Override
@@ -109,6 +136,11 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
         return statistics;
     }
 
+    @Override
+    public PooledObjectFactory.Statistics getPooledObjectStatistics() {
+        return pooledObjectStatistics;
+    }
+
     /**
      * Represents utilization statistics
      */
@@ -165,8 +197,69 @@ public class DefaultExchangeFactoryManager extends ServiceSupport implements Exc
 
     }
 
+    /**
+     * Represents utilization statistics of the pooled object factories
+     */
+    final class PooledObjectStatistics implements PooledObjectFactory.Statistics {
+
+        @Override
+        public void reset() {
+            pooledObjectFactories.forEach(PooledObjectFactory::resetStatistics);
+        }
+
+        @Override
+        public long getCreatedCounter() {
+            long answer = 0;
+            for (PooledObjectFactory<?> pf : pooledObjectFactories) {
+                PooledObjectFactory.Statistics stats = pf.getStatistics();
+                if (stats != null) {
+                    answer += stats.getCreatedCounter();
+                }
+            }
+            return answer;
+        }
+
+        @Override
+        public long getAcquiredCounter() {
+            long answer = 0;
+            for (PooledObjectFactory<?> pf : pooledObjectFactories) {
+                PooledObjectFactory.Statistics stats = pf.getStatistics();
+                if (stats != null) {
+                    answer += stats.getAcquiredCounter();
+                }
+            }
+            return answer;
+        }
+
+        @Override
+        public long getReleasedCounter() {
+            long answer = 0;
+            for (PooledObjectFactory<?> pf : pooledObjectFactories) {
+                PooledObjectFactory.Statistics stats = pf.getStatistics();
+                if (stats != null) {
+                    answer += stats.getReleasedCounter();
+                }
+            }
+            return answer;
+        }
+
+        @Override
+        public long getDiscardedCounter() {
+            long answer = 0;
+            for (PooledObjectFactory<?> pf : pooledObjectFactories) {
+                PooledObjectFactory.Statistics stats = pf.getStatistics();
+                if (stats != null) {
+                    answer += stats.getDiscardedCounter();
+                }
+            }
+            return answer;
+        }
+
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         factories.clear();
+        pooledObjectFactories.clear();
     }
 }
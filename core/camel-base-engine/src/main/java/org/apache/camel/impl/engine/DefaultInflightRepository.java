@@ -137,10 +137,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         Stream<Exchange> values;
         if (fromRouteId == null) {
             // all values
-            values = inflight.values().stream();
+            values = inflightExchanges();
         } else {
             // only if route match
-            values = inflight.values().stream()
+            values = inflightExchanges()
                     .filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
@@ -172,13 +172,12 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         }
 
         Stream<Exchange> values;
-
         if (fromRouteId == null) {
             // all values
-            values = inflight.values().stream();
+            values = inflightExchanges();
         } else {
             // only if route match
-            values = inflight.values().stream()
+            values = inflightExchanges()
                     .filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
@@ -197,6 +196,13 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         }
     }
 
+    /**
+     * The exchanges which are currently inflight (only tracked when inflight browsing is enabled)
+     */
+    protected Stream<Exchange> inflightExchanges() {
+        return inflight.values().stream();
+    }
+
     @Override
     protected void doStop() throws Exception {
         int count = size();
@@ -74,6 +74,13 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         return workers.get().executeFromQueue();
     }
 
+    /**
+     * Whether the current thread is already running reactive tasks
+     */
+    protected boolean isCurrentThreadRunning() {
+        return workers.get().running;
+    }
+
     @Override
     @ManagedAttribute(description = "Whether statistics is enabled")
     public boolean isStatisticsEnabled() {
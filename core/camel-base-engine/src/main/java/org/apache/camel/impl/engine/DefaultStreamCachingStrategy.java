@@ -19,19 +19,28 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.OffHeapInputStreamCache;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,6 +65,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private boolean spoolOffHeap;
+    private int spoolOffHeapSegmentSize = 64 * 1024;
+    private long spoolOffHeapMaxSize = 64 * 1024 * 1024;
+    private volatile SegmentArena arena;
 
     @Override
     public CamelContext getCamelContext() {
@@ -162,6 +175,59 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.anySpoolRules = anySpoolTasks;
     }
 
+    @Override
+    public boolean isSpoolOffHeap() {
+        return spoolOffHeap;
+    }
+
+    @Override
+    public void setSpoolOffHeap(boolean spoolOffHeap) {
+        this.spoolOffHeap = spoolOffHeap;
+    }
+
+    @Override
+    public int getSpoolOffHeapSegmentSize() {
+        return spoolOffHeapSegmentSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapSegmentSize(int spoolOffHeapSegmentSize) {
+        this.spoolOffHeapSegmentSize = spoolOffHeapSegmentSize;
+    }
+
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapMaxSize(long spoolOffHeapMaxSize) {
+        this.spoolOffHeapMaxSize = spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public ByteBuffer acquireSpoolSegment() {
+        SegmentArena current = arena;
+        if (current == null) {
+            return null;
+        }
+        ByteBuffer answer = current.acquire();
+        if (answer == null) {
+            LOG.trace("No free segments in the off-heap spool");
+            statistics.offHeapExhausted.incrementAndGet();
+        }
+        return answer;
+    }
+
+    @Override
+    public void releaseSpoolSegment(ByteBuffer segment) {
+        SegmentArena current = arena;
+        // the arena may have been discarded if we have been stopped
+        if (current != null && current.owns(segment)) {
+            current.release(segment);
+        }
+    }
+
     @Override
     public Statistics getStatistics() {
         return statistics;
@@ -212,7 +278,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
             if (statistics.isStatisticsEnabled()) {
                 try {
-                    if (cache.inMemory()) {
+                    if (cache instanceof OffHeapInputStreamCache) {
+                        statistics.updateOffHeap(cache.length());
+                    } else if (cache.inMemory()) {
                         statistics.updateMemory(cache.length());
                     } else {
                         statistics.updateSpool(cache.length());
@@ -323,9 +391,34 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             }
         }
 
+        // always start with a new off-heap spool (and counters) as segments from a previous arena may still be in use
+        arena = null;
+        statistics.offHeapExhausted.set(0);
+        if (spoolOffHeap && !spoolRules.isEmpty()) {
+            if (ObjectHelper.isNotEmpty(spoolCipher)) {
+                LOG.warn("StreamCaching cannot spool off-heap when using spool cipher: {}. Will spool to disk.", spoolCipher);
+            } else {
+                if (spoolOffHeapSegmentSize <= 0) {
+                    throw new IllegalArgumentException(
+                            "SpoolOffHeapSegmentSize must be a positive number, was: " + spoolOffHeapSegmentSize);
+                }
+                if (spoolOffHeapMaxSize < spoolOffHeapSegmentSize || spoolOffHeapMaxSize > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException(
+                            "SpoolOffHeapMaxSize must be between SpoolOffHeapSegmentSize and " + Integer.MAX_VALUE
+                                                       + ", was: " + spoolOffHeapMaxSize);
+                }
+                int segments = (int) (spoolOffHeapMaxSize / spoolOffHeapSegmentSize);
+                arena = new SegmentArena(spoolOffHeapSegmentSize, segments);
+                LOG.debug("Allocated off-heap spool with {} segments of {} bytes", segments, spoolOffHeapSegmentSize);
+            }
+        }
+
         LOG.debug("StreamCaching configuration {}", this);
 
-        if (spoolDirectory != null) {
+        if (arena != null) {
+            LOG.info("StreamCaching in use with off-heap spool: {}K, spool directory: {} and rules: {}",
+                    arena.size() >> 10, spoolDirectory, spoolRules);
+        } else if (spoolDirectory != null) {
             LOG.info("StreamCaching in use with spool directory: {} and rules: {}", spoolDirectory.getPath(), spoolRules);
         } else {
             LOG.info("StreamCaching in use with rules: {}", spoolRules);
@@ -344,6 +437,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        // discard the off-heap spool, the direct memory is released when the segments are garbage collected
+        arena = null;
     }
 
     @Override
@@ -354,6 +450,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
+               + ", spoolOffHeap=" + spoolOffHeap
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -420,10 +517,63 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
     }
 
+    /**
+     * Off-heap spool which is allocated as a single block of direct memory that is divided into segments of equal size.
+     */
+    private static final class SegmentArena {
+
+        private final Queue<ByteBuffer> free = new ConcurrentLinkedQueue<>();
+        // all the segments of this arena, which is only modified when the arena is created
+        private final Set<ByteBuffer> all = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final int segmentSize;
+        private final int segments;
+        private final AtomicInteger inUse = new AtomicInteger();
+        private final AtomicInteger peakInUse = new AtomicInteger();
+
+        private SegmentArena(int segmentSize, int segments) {
+            this.segmentSize = segmentSize;
+            this.segments = segments;
+            ByteBuffer block = ByteBuffer.allocateDirect(segmentSize * segments);
+            for (int i = 0; i < segments; i++) {
+                block.limit((i + 1) * segmentSize);
+                block.position(i * segmentSize);
+                ByteBuffer segment = block.slice();
+                all.add(segment);
+                free.add(segment);
+            }
+        }
+
+        /**
+         * Whether the segment belongs to this arena (segments from an arena of a previous start must not be recycled)
+         */
+        boolean owns(ByteBuffer segment) {
+            return all.contains(segment);
+        }
+
+        ByteBuffer acquire() {
+            ByteBuffer answer = free.poll();
+            if (answer != null) {
+                int count = inUse.incrementAndGet();
+                peakInUse.accumulateAndGet(count, Math::max);
+            }
+            return answer;
+        }
+
+        void release(ByteBuffer segment) {
+            segment.clear();
+            free.add(segment);
+            inUse.decrementAndGet();
+        }
+
+        long size() {
+            return (long) segmentSize * segments;
+        }
+    }
+
     /**
      * Represents utilization statistics.
      */
-    private static final class UtilizationStatistics implements Statistics {
+    private final class UtilizationStatistics implements Statistics {
 
         private boolean statisticsEnabled;
         private volatile long memoryCounter;
@@ -432,6 +582,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         private volatile long spoolCounter;
         private volatile long spoolSize;
         private volatile long spoolAverageSize;
+        private volatile long offHeapCounter;
+        private volatile long offHeapSize;
+        private volatile long offHeapAverageSize;
+        private final AtomicLong offHeapExhausted = new AtomicLong();
 
         synchronized void updateMemory(long size) {
             memoryCounter++;
@@ -445,6 +599,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolAverageSize = spoolSize / spoolCounter;
         }
 
+        synchronized void updateOffHeap(long size) {
+            offHeapCounter++;
+            offHeapSize += size;
+            offHeapAverageSize = offHeapSize / offHeapCounter;
+        }
+
         @Override
         public long getCacheMemoryCounter() {
             return memoryCounter;
@@ -475,6 +635,44 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheOffHeapCounter() {
+            return offHeapCounter;
+        }
+
+        @Override
+        public long getCacheOffHeapSize() {
+            return offHeapSize;
+        }
+
+        @Override
+        public long getCacheOffHeapAverageSize() {
+            return offHeapAverageSize;
+        }
+
+        @Override
+        public int getOffHeapSegmentCount() {
+            SegmentArena current = arena;
+            return current != null ? current.segments : 0;
+        }
+
+        @Override
+        public int getOffHeapSegmentsInUse() {
+            SegmentArena current = arena;
+            return current != null ? current.inUse.get() : 0;
+        }
+
+        @Override
+        public int getOffHeapSegmentsPeakInUse() {
+            SegmentArena current = arena;
+            return current != null ? current.peakInUse.get() : 0;
+        }
+
+        @Override
+        public long getOffHeapSegmentsExhaustedCounter() {
+            return offHeapExhausted.get();
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -483,6 +681,14 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            offHeapCounter = 0;
+            offHeapSize = 0;
+            offHeapAverageSize = 0;
+            offHeapExhausted.set(0);
+            SegmentArena current = arena;
+            if (current != null) {
+                current.peakInUse.set(current.inUse.get());
+            }
         }
 
         @Override
@@ -498,8 +704,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         @Override
         public String toString() {
             return String.format(
-                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+                    "[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s"
+                                 + ", offHeapCounter=%s, offHeapSize=%s, offHeapAverageSize=%s, offHeapSegmentsInUse=%s"
+                                 + ", offHeapSegmentsPeakInUse=%s, offHeapSegmentsExhausted=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    offHeapCounter, offHeapSize, offHeapAverageSize, getOffHeapSegmentsInUse(),
+                    getOffHeapSegmentsPeakInUse(), offHeapExhausted.get());
         }
     }
 
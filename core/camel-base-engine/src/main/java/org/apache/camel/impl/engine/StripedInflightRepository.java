@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A low contention {@link org.apache.camel.spi.InflightRepository} for high throughput.
+ * <p/>
+ * The number of inflight exchanges (in total and per route) are kept in {@link LongAdder} counters, which are striped
+ * so concurrent threads do not contend on the same counter. When inflight browsing is enabled then the exchanges are
+ * kept in a fixed size table of slots, where the slot of an exchange is found from its identity hash code (probing a
+ * few neighbour slots on collisions), so adding and removing an exchange is a single compare-and-set without creating
+ * any hash map entries. If no slot is free then the exchange is kept in a regular map instead.
+ * <p/>
+ * The size is calculated by summing the counters, which makes {@link #size()} a bit more expensive than with
+ * {@link DefaultInflightRepository}.
+ */
+public class StripedInflightRepository extends DefaultInflightRepository {
+
+    private static final int MAX_PROBES = 8;
+
+    private final LongAdder size = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Exchange> overflow = new ConcurrentHashMap<>();
+    private int capacity = 4096;
+    private AtomicReferenceArray<Exchange> slots = new AtomicReferenceArray<>(capacity);
+    private int mask = capacity - 1;
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of slots for tracking inflight exchanges when inflight browsing is enabled (is rounded up to a power of
+     * two). The default is 4096. This must be configured before the repository is in use.
+     */
+    public void setCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        int n = 1;
+        while (n < capacity) {
+            n <<= 1;
+        }
+        this.capacity = n;
+        this.slots = new AtomicReferenceArray<>(n);
+        this.mask = n - 1;
+    }
+
+    @Override
+    public void add(Exchange exchange) {
+        size.increment();
+
+        if (isInflightBrowseEnabled() && !claimSlot(exchange)) {
+            overflow.put(exchange.getExchangeId(), exchange);
+        }
+    }
+
+    @Override
+    public void remove(Exchange exchange) {
+        size.decrement();
+
+        if (isInflightBrowseEnabled() && !releaseSlot(exchange) && !overflow.isEmpty()) {
+            overflow.remove(exchange.getExchangeId());
+        }
+    }
+
+    @Override
+    public void add(Exchange exchange, String routeId) {
+        LongAdder existing = routeCount.get(routeId);
+        if (existing != null) {
+            existing.increment();
+        }
+    }
+
+    @Override
+    public void remove(Exchange exchange, String routeId) {
+        LongAdder existing = routeCount.get(routeId);
+        if (existing != null) {
+            existing.decrement();
+        }
+    }
+
+    @Override
+    public int size() {
+        return (int) size.sum();
+    }
+
+    @Override
+    public void addRoute(String routeId) {
+        routeCount.putIfAbsent(routeId, new LongAdder());
+    }
+
+    @Override
+    public void removeRoute(String routeId) {
+        routeCount.remove(routeId);
+    }
+
+    @Override
+    public int size(String routeId) {
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? (int) existing.sum() : 0;
+    }
+
+    /**
+     * Number of inflight exchanges which did not fit in the slots (only when inflight browsing is enabled)
+     */
+    public int getOverflowSize() {
+        return overflow.size();
+    }
+
+    @Override
+    protected Stream<Exchange> inflightExchanges() {
+        AtomicReferenceArray<Exchange> table = slots;
+        List<Exchange> answer = new ArrayList<>();
+        for (int i = 0; i < table.length(); i++) {
+            Exchange exchange = table.get(i);
+            if (exchange != null) {
+                answer.add(exchange);
+            }
+        }
+        answer.addAll(overflow.values());
+        return answer.stream();
+    }
+
+    private boolean claimSlot(Exchange exchange) {
+        AtomicReferenceArray<Exchange> table = slots;
+        int index = slotIndex(exchange);
+        for (int i = 0; i < MAX_PROBES; i++) {
+            int pos = (index + i) & mask;
+            if (table.get(pos) == null && table.compareAndSet(pos, null, exchange)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean releaseSlot(Exchange exchange) {
+        AtomicReferenceArray<Exchange> table = slots;
+        int index = slotIndex(exchange);
+        for (int i = 0; i < MAX_PROBES; i++) {
+            int pos = (index + i) & mask;
+            if (table.get(pos) == exchange) {
+                table.set(pos, null);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int slotIndex(Exchange exchange) {
+        int h = System.identityHashCode(exchange);
+        // spread the higher bits as the table is indexed by the lower bits
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        routeCount.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "StripedInflightRepository[capacity: " + capacity + "]";
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which offloads reactive tasks away from I/O threads to a pool of worker threads that uses
+ * work-stealing.
+ * <p/>
+ * When an asynchronous callback completes on a foreign I/O thread (such as a Netty event loop, the Kafka producer
+ * network thread, or a HTTP client dispatcher thread) then the continuation of the exchange would otherwise be routed
+ * on that I/O thread, which blocks the event loop while the route is processing. This executor detects I/O threads by
+ * their thread name (see {@link #setIoThreadNamePattern(String)}), and tasks scheduled from an I/O thread which is not
+ * already running reactive tasks are offloaded to a {@link ForkJoinPool}, where each worker thread (one per core by
+ * default) has its own deque of tasks, and idle workers steal tasks from the busy workers.
+ * <p/>
+ * Each task offloaded from an I/O thread is submitted to the pool on its own, so the tasks offloaded from the same I/O
+ * thread (such as the continuations of different exchanges completed by the same event loop) can run concurrently on
+ * different worker threads. The tasks are therefore not guaranteed to run in the order they were scheduled. The tasks
+ * which a worker thread schedules while running an offloaded task are run by that worker thread in the same order as
+ * {@link DefaultReactiveExecutor} does.
+ * <p/>
+ * Tasks scheduled from any other thread, and tasks scheduled with {@link #scheduleSync(Runnable)}, are executed on the
+ * current thread the same way as {@link DefaultReactiveExecutor} does.
+ * <p/>
+ * This executor can be used by setting it on the {@link org.apache.camel.ExtendedCamelContext} with
+ * <tt>setReactiveExecutor</tt>, before the context is started.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends DefaultReactiveExecutor implements CamelContextAware {
+
+    public static final String DEFAULT_IO_THREAD_NAME_PATTERN
+            = "nioEventLoopGroup|epollEventLoopGroup|kqueueEventLoopGroup|NettyClientTCPWorker|NettyServerTCPWorker"
+              + "|vert\\.x-eventloop-thread|kafka-producer-network-thread|I/O dispatcher|HttpClient-\\d+-SelectorManager"
+              + "|AsyncHttpClient";
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private volatile ThreadLocal<IoThread> ioThreads = ThreadLocal.withInitial(IoThread::new);
+    private final AtomicInteger threadCounter = new AtomicInteger();
+    private final LongAdder offloadedTasks = new LongAdder();
+    private CamelContext camelContext;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private String ioThreadNamePattern = DEFAULT_IO_THREAD_NAME_PATTERN;
+    private volatile Pattern ioThreadName = Pattern.compile(DEFAULT_IO_THREAD_NAME_PATTERN);
+    private long shutdownAwaitTermination = 10000;
+    private volatile ForkJoinPool pool;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of worker threads")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of worker threads to offload tasks to. Is by default the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @ManagedAttribute(description = "Regular expression of the names of the I/O threads to offload tasks from")
+    public String getIoThreadNamePattern() {
+        return ioThreadNamePattern;
+    }
+
+    /**
+     * A regular expression which is matched (find) against the name of the thread scheduling a task, to determine
+     * whether the thread is an I/O thread, which the task should be offloaded from. Setting this to <tt>.*</tt> will
+     * offload tasks from all threads which are not worker threads of this executor.
+     * <p/>
+     * The default pattern matches the I/O threads of Netty, Vert.x, Kafka, and the common HTTP clients.
+     */
+    public void setIoThreadNamePattern(String ioThreadNamePattern) {
+        this.ioThreadNamePattern = ioThreadNamePattern;
+        this.ioThreadName = ioThreadNamePattern != null ? Pattern.compile(ioThreadNamePattern) : null;
+    }
+
+    public long getShutdownAwaitTermination() {
+        return shutdownAwaitTermination;
+    }
+
+    /**
+     * The time in millis to wait for the offloaded tasks to complete when stopping.
+     */
+    public void setShutdownAwaitTermination(long shutdownAwaitTermination) {
+        this.shutdownAwaitTermination = shutdownAwaitTermination;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        if (!offload(runnable, false)) {
+            super.schedule(runnable);
+        }
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        if (!offload(runnable, true)) {
+            super.scheduleMain(runnable);
+        }
+    }
+
+    @ManagedAttribute(description = "Number of worker threads that has been started")
+    public int getPoolSize() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getPoolSize() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of worker threads that are currently running tasks")
+    public int getActiveWorkers() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getActiveThreadCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of offloaded tasks waiting in the queues of the worker threads")
+    public long getQueueDepth() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getQueuedTaskCount() + fjp.getQueuedSubmissionCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of tasks which has been stolen by an idle worker thread")
+    public long getStealCount() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getStealCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of tasks which has been offloaded from I/O threads")
+    public long getOffloadedTasks() {
+        return offloadedTasks.sum();
+    }
+
+    /**
+     * Offloads the task to a worker thread if the current thread is an I/O thread which is not running reactive tasks
+     *
+     * @return <tt>true</tt> if the task was offloaded, <tt>false</tt> if the task should run on the current thread
+     */
+    protected boolean offload(Runnable runnable, boolean main) {
+        ForkJoinPool fjp = pool;
+        if (fjp == null || isWorkerThread(fjp) || isCurrentThreadRunning()) {
+            return false;
+        }
+        IoThread ioThread = ioThreads.get();
+        if (!ioThread.matches(ioThreadName)) {
+            return false;
+        }
+        try {
+            if (main) {
+                fjp.execute(() -> super.scheduleMain(runnable));
+            } else {
+                fjp.execute(() -> super.schedule(runnable));
+            }
+        } catch (RejectedExecutionException e) {
+            // the pool is shutting down so run the task on the current thread
+            return false;
+        }
+        offloadedTasks.increment();
+        return true;
+    }
+
+    private static boolean isWorkerThread(ForkJoinPool fjp) {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == fjp;
+    }
+
+    private ForkJoinWorkerThread newThread(ForkJoinPool fjp) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fjp);
+        String name = "ReactiveWorker #" + threadCounter.incrementAndGet();
+        if (camelContext != null) {
+            name = camelContext.getExecutorServiceManager().resolveThreadName(name);
+        }
+        thread.setName(name);
+        return thread;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive, was: " + parallelism);
+        }
+        ioThreads = ThreadLocal.withInitial(IoThread::new);
+        // use async mode as the tasks are event-style tasks which are never joined
+        pool = new ForkJoinPool(
+                parallelism, this::newThread,
+                (t, e) -> LOG.warn("Error executing reactive work due to {}. This exception is ignored.", e.getMessage(), e),
+                true);
+        LOG.debug("Started WorkStealingReactiveExecutor with parallelism: {}", parallelism);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        ForkJoinPool fjp = pool;
+        if (fjp != null) {
+            fjp.shutdown();
+            if (!fjp.awaitTermination(shutdownAwaitTermination, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Forcing shutdown of WorkStealingReactiveExecutor with {} offloaded tasks still queued",
+                        getQueueDepth());
+                fjp.shutdownNow();
+            }
+            pool = null;
+        }
+        LOG.debug("Stopped WorkStealingReactiveExecutor [offloadedTasks: {}, stealCount: {}]", getOffloadedTasks(),
+                fjp != null ? fjp.getStealCount() : 0);
+    }
+
+    /**
+     * Whether an I/O thread should have its tasks offloaded, which is cached per thread.
+     */
+    private static final class IoThread {
+
+        // only accessed by the I/O thread
+        private Pattern pattern;
+        private boolean matches;
+
+        /**
+         * Whether the name of the current thread matches the pattern, which is only matched again if the pattern
+         * changes
+         */
+        boolean matches(Pattern current) {
+            if (current != pattern) {
+                pattern = current;
+                matches = current != null && current.matcher(Thread.currentThread().getName()).find();
+            }
+            return matches;
+        }
+    }
+
+}
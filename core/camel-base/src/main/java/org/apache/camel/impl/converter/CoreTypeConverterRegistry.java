@@ -18,6 +18,9 @@ package org.apache.camel.impl.converter;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -58,6 +61,16 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
+    // marker for when the dispatch cache cannot be used for the conversion
+    private static final Object NOT_CACHED = new Object();
+    // marker in the dispatch cache for pairs of types which must always use the regular lookup
+    private static final TypeConverter NO_DISPATCH = new TypeConverterSupport() {
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+            return null;
+        }
+    };
+
     // built-in core type converters that are bulked together in a few classes for optimal performance
     protected final List<BulkTypeConverters> bulkTypeConverters = new ArrayList<>();
     // custom type converters (from camel components and end users)
@@ -66,6 +79,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
     protected final TypeConverter enumTypeConverter = new EnumTypeConverter();
+    // the resolved converter per pair of types (from -> to -> converter) when dispatch cache is enabled
+    protected final ConcurrentMap<Class<?>, Map<Class<?>, TypeConverter>> dispatchCache = new ConcurrentHashMap<>();
 
     protected final Statistics statistics = new UtilizationStatistics();
     protected final LongAdder noopCounter = new LongAdder();
@@ -73,9 +88,13 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final LongAdder cacheHitCounter = new LongAdder();
+    protected final LongAdder cacheMissCounter = new LongAdder();
+    protected final LongAdder fallbackCounter = new LongAdder();
 
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Override;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.WARN;
+    protected boolean dispatchCacheEnabled;
 
     // to keep track of number of converters in the bulked classes
     private int sumBulkTypeConverters;
@@ -89,6 +108,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             reg.getTypeMappings().forEach(typeMappings::put);
             this.bulkTypeConverters.addAll(reg.getBulkTypeConverters());
             this.fallbackConverters.addAll(reg.getFallbackConverters());
+            this.dispatchCacheEnabled = reg.isDispatchCacheEnabled();
         } else {
             throw new UnsupportedOperationException();
         }
@@ -448,6 +468,16 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             attemptCounter.increment();
         }
 
+        final Class<?> fromType = value.getClass();
+
+        // use the converter which was resolved the last time we converted between these types
+        if (dispatchCacheEnabled) {
+            Object rc = doCachedConvertTo(type, fromType, exchange, value, tryConvert);
+            if (rc != NOT_CACHED) {
+                return rc;
+            }
+        }
+
         // attempt bulk first which is the fastest
         for (BulkTypeConverters bulk : bulkTypeConverters) {
             if (trace) {
@@ -461,12 +491,13 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 rc = bulk.convertTo(value.getClass(), type, exchange, value);
             }
             if (rc != null) {
+                cacheConverter(type, fromType, bulk);
                 return rc;
             }
         }
 
         // try to find a suitable type converter
-        TypeConverter converter = getOrFindTypeConverter(type, value.getClass());
+        TypeConverter converter = getOrFindTypeConverter(type, fromType);
         if (converter != null) {
             if (trace) {
                 LOG.trace("Using converter: {} to convert [{}=>{}]", converter, value.getClass(), type);
@@ -477,10 +508,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             } else {
                 rc = converter.convertTo(type, exchange, value);
             }
-            if (rc != null) {
+            if (rc != null || converter.allowNull()) {
+                // also remembers a known miss (so the bulk converters are not attempted again)
+                cacheResolvedConverter(type, fromType, converter);
                 return rc;
-            } else if (converter.allowNull()) {
-                return null;
             }
         }
 
@@ -488,7 +519,6 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (type.isPrimitive()) {
             Class<?> primitiveType = ObjectHelper.convertPrimitiveTypeToWrapperType(type);
             if (primitiveType != type) {
-                Class<?> fromType = value.getClass();
                 TypeConverter tc = getOrFindTypeConverter(primitiveType, fromType);
                 if (tc != null) {
                     // add the type as a known type converter as we can convert from primitive to object converter
@@ -527,6 +557,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             }
 
             if (rc != null) {
+                if (statisticsEnabled) {
+                    fallbackCounter.increment();
+                }
                 // if fallback can promote then let it be promoted to a first class type converter
                 if (fallback.isCanPromote()) {
                     // add it as a known type converter since we found a fallback that could do it
@@ -552,13 +585,117 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (!tryConvert) {
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
-            typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            typeMappings.put(type, fromType, MISS_CONVERTER);
+            cacheResolvedConverter(type, fromType, MISS_CONVERTER);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
     }
 
+    /**
+     * Converts the value using the converter in the dispatch cache (if any)
+     *
+     * @return the converted value, or {@link #NOT_CACHED} if the regular lookup must be used
+     */
+    private Object doCachedConvertTo(
+            final Class<?> type, final Class<?> fromType, final Exchange exchange, final Object value,
+            final boolean tryConvert) {
+        boolean statisticsEnabled = statistics.isStatisticsEnabled();
+
+        Map<Class<?>, TypeConverter> converters = dispatchCache.get(fromType);
+        TypeConverter converter = converters != null ? converters.get(type) : null;
+        if (converter == null || converter == NO_DISPATCH) {
+            if (statisticsEnabled) {
+                cacheMissCounter.increment();
+            }
+            return NOT_CACHED;
+        }
+
+        Object rc;
+        if (tryConvert && !(converter instanceof BulkTypeConverters)) {
+            rc = converter.tryConvertTo(type, exchange, value);
+        } else {
+            // the bulk converters are always called with convertTo (same as the regular lookup)
+            rc = converter.convertTo(type, exchange, value);
+        }
+        if (rc == null && !converter.allowNull()) {
+            // the converter could not convert this value, so use the regular lookup
+            if (statisticsEnabled) {
+                cacheMissCounter.increment();
+            }
+            return NOT_CACHED;
+        }
+        if (statisticsEnabled) {
+            cacheHitCounter.increment();
+        }
+        return rc;
+    }
+
+    private void cacheConverter(Class<?> toType, Class<?> fromType, TypeConverter converter) {
+        if (dispatchCacheEnabled) {
+            dispatchCache.computeIfAbsent(fromType, k -> new ConcurrentHashMap<>()).put(toType, converter);
+        }
+    }
+
+    /**
+     * Caches the converter (or miss) which was resolved after the bulk converters could not convert the value.
+     * <p/>
+     * The bulk converters may not be able to convert some values which they otherwise support (such as NaN numbers),
+     * and as they are attempted first, then the resolved converter is only cached if the bulk converters do not support
+     * the pair of types.
+     */
+    private void cacheResolvedConverter(Class<?> toType, Class<?> fromType, TypeConverter converter) {
+        if (dispatchCacheEnabled) {
+            Map<Class<?>, TypeConverter> converters = dispatchCache.computeIfAbsent(fromType, k -> new ConcurrentHashMap<>());
+            if (converter instanceof BulkTypeConverters || !isBulkConvertible(toType, fromType)) {
+                converters.put(toType, converter);
+            } else {
+                // keep the bulk converter if one has been cached
+                converters.putIfAbsent(toType, NO_DISPATCH);
+            }
+        }
+    }
+
+    private boolean isBulkConvertible(Class<?> toType, Class<?> fromType) {
+        // the bulk converters match the value with instanceof so check the entire type hierarchy
+        for (Class<?> type = fromType; type != null; type = type.getSuperclass()) {
+            for (BulkTypeConverters bulk : bulkTypeConverters) {
+                if (bulk.lookup(toType, type) != null) {
+                    return true;
+                }
+            }
+            if (isBulkConvertibleInterface(toType, type.getInterfaces())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isBulkConvertibleInterface(Class<?> toType, Class<?>[] interfaces) {
+        for (Class<?> type : interfaces) {
+            for (BulkTypeConverters bulk : bulkTypeConverters) {
+                if (bulk.lookup(toType, type) != null) {
+                    return true;
+                }
+            }
+            if (isBulkConvertibleInterface(toType, type.getInterfaces())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clears the dispatch cache as the resolved converters may no longer be the right ones when converters are added or
+     * removed.
+     */
+    protected void invalidateDispatchCache() {
+        if (!dispatchCache.isEmpty()) {
+            dispatchCache.clear();
+        }
+    }
+
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
         return typeMappings.get(toType, fromType);
     }
@@ -574,6 +711,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            invalidateDispatchCache();
         }
     }
 
@@ -605,12 +743,14 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                invalidateDispatchCache();
             }
         }
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
+        invalidateDispatchCache();
         return typeMappings.remove(toType, fromType);
     }
 
@@ -625,6 +765,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        invalidateDispatchCache();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -739,6 +880,25 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         this.typeConverterExistsLoggingLevel = typeConverterExistsLoggingLevel;
     }
 
+    public boolean isDispatchCacheEnabled() {
+        return dispatchCacheEnabled;
+    }
+
+    /**
+     * Whether to cache the type converter which was resolved for each pair of types (from and to), so the next
+     * conversion between the same types calls the converter directly, instead of attempting the bulk converters,
+     * looking up the converter (including walking the type hierarchy), and the fallback converters again. Pairs of
+     * types which cannot be converted are cached as well. Conversions which are done by fallback converters are not
+     * cached (unless the fallback converter is promoted).
+     * <p/>
+     * The cache assumes that values of the same type are converted by the same converter. If the cached converter
+     * cannot convert a given value, then the regular lookup is used.
+     */
+    public void setDispatchCacheEnabled(boolean dispatchCacheEnabled) {
+        this.dispatchCacheEnabled = dispatchCacheEnabled;
+        invalidateDispatchCache();
+    }
+
     public TypeConverterExists getTypeConverterExists() {
         return typeConverterExists;
     }
@@ -759,11 +919,13 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                     misses.incrementAndGet();
                 }
             });
-            info += String.format(" mappings[total=%s, misses=%s]", size(), misses);
+            info += String.format(" mappings[total=%s, misses=%s, cached=%s]", size(), misses,
+                    dispatchCache.values().stream().mapToInt(Map::size).sum());
             LOG.info(info);
         }
 
         typeMappings.clear();
+        dispatchCache.clear();
         statistics.reset();
     }
 
@@ -799,6 +961,21 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             return failedCounter.longValue();
         }
 
+        @Override
+        public long getCacheHitCounter() {
+            return cacheHitCounter.longValue();
+        }
+
+        @Override
+        public long getCacheMissCounter() {
+            return cacheMissCounter.longValue();
+        }
+
+        @Override
+        public long getFallbackCounter() {
+            return fallbackCounter.longValue();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -806,6 +983,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            cacheHitCounter.reset();
+            cacheMissCounter.reset();
+            fallbackCounter.reset();
         }
 
         @Override
@@ -820,8 +1000,11 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format(
+                    "TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, cacheHits=%s,"
+                                 + " cacheMisses=%s, fallbacks=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                    getCacheHitCounter(), getCacheMissCounter(), getFallbackCounter());
         }
     }
 
@@ -1672,6 +1672,27 @@ public interface ActivemqComponentBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to use a timing wheel to keep track of timed out Exchanges
+         * when doing request/reply over JMS. By default the timeout checker
+         * scans all the pending replies every time it runs. With a timing wheel
+         * the timeouts are spread over buckets by their due time, and the
+         * checker only visits the buckets which are due. This is recommended
+         * when there are a large number of in-flight request/reply messages.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default ActivemqComponentBuilder requestTimeoutTimingWheel(
+                boolean requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -2117,6 +2138,7 @@ public interface ActivemqComponentBuilderFactory {
             case "receiveTimeout": getOrCreateConfiguration((ActiveMQComponent) component).setReceiveTimeout((long) value); return true;
             case "recoveryInterval": getOrCreateConfiguration((ActiveMQComponent) component).setRecoveryInterval((long) value); return true;
             case "requestTimeoutCheckerInterval": getOrCreateConfiguration((ActiveMQComponent) component).setRequestTimeoutCheckerInterval((long) value); return true;
+            case "requestTimeoutTimingWheel": getOrCreateConfiguration((ActiveMQComponent) component).setRequestTimeoutTimingWheel((boolean) value); return true;
             case "synchronous": getOrCreateConfiguration((ActiveMQComponent) component).setSynchronous((boolean) value); return true;
             case "transferException": getOrCreateConfiguration((ActiveMQComponent) component).setTransferException((boolean) value); return true;
             case "transferExchange": getOrCreateConfiguration((ActiveMQComponent) component).setTransferExchange((boolean) value); return true;
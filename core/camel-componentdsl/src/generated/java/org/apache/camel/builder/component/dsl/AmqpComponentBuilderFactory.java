@@ -1619,6 +1619,27 @@ public interface AmqpComponentBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to use a timing wheel to keep track of timed out Exchanges
+         * when doing request/reply over JMS. By default the timeout checker
+         * scans all the pending replies every time it runs. With a timing wheel
+         * the timeouts are spread over buckets by their due time, and the
+         * checker only visits the buckets which are due. This is recommended
+         * when there are a large number of in-flight request/reply messages.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AmqpComponentBuilder requestTimeoutTimingWheel(
+                boolean requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -2040,6 +2061,7 @@ public interface AmqpComponentBuilderFactory {
             case "receiveTimeout": getOrCreateConfiguration((AMQPComponent) component).setReceiveTimeout((long) value); return true;
             case "recoveryInterval": getOrCreateConfiguration((AMQPComponent) component).setRecoveryInterval((long) value); return true;
             case "requestTimeoutCheckerInterval": getOrCreateConfiguration((AMQPComponent) component).setRequestTimeoutCheckerInterval((long) value); return true;
+            case "requestTimeoutTimingWheel": getOrCreateConfiguration((AMQPComponent) component).setRequestTimeoutTimingWheel((boolean) value); return true;
             case "synchronous": getOrCreateConfiguration((AMQPComponent) component).setSynchronous((boolean) value); return true;
             case "transferException": getOrCreateConfiguration((AMQPComponent) component).setTransferException((boolean) value); return true;
             case "transferExchange": getOrCreateConfiguration((AMQPComponent) component).setTransferExchange((boolean) value); return true;
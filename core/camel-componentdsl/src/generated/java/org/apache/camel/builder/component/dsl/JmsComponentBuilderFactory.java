@@ -1600,6 +1600,27 @@ public interface JmsComponentBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to use a timing wheel to keep track of timed out Exchanges
+         * when doing request/reply over JMS. By default the timeout checker
+         * scans all the pending replies every time it runs. With a timing wheel
+         * the timeouts are spread over buckets by their due time, and the
+         * checker only visits the buckets which are due. This is recommended
+         * when there are a large number of in-flight request/reply messages.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default JmsComponentBuilder requestTimeoutTimingWheel(
+                boolean requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -2020,6 +2041,7 @@ public interface JmsComponentBuilderFactory {
             case "receiveTimeout": getOrCreateConfiguration((JmsComponent) component).setReceiveTimeout((long) value); return true;
             case "recoveryInterval": getOrCreateConfiguration((JmsComponent) component).setRecoveryInterval((long) value); return true;
             case "requestTimeoutCheckerInterval": getOrCreateConfiguration((JmsComponent) component).setRequestTimeoutCheckerInterval((long) value); return true;
+            case "requestTimeoutTimingWheel": getOrCreateConfiguration((JmsComponent) component).setRequestTimeoutTimingWheel((boolean) value); return true;
             case "synchronous": getOrCreateConfiguration((JmsComponent) component).setSynchronous((boolean) value); return true;
             case "transferException": getOrCreateConfiguration((JmsComponent) component).setTransferException((boolean) value); return true;
             case "transferExchange": getOrCreateConfiguration((JmsComponent) component).setTransferExchange((boolean) value); return true;
@@ -266,6 +266,30 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to process the records from each poll as a single batch. When
+         * enabled the consumer creates one exchange per poll, where the message
+         * body is a java.util.List of exchanges (one per record, with the same
+         * headers as when not batching), and the offsets of all the records in
+         * the batch are committed together when the batch has been processed.
+         * When allowManualCommit is enabled then the batch exchange has a
+         * single KafkaManualCommit which commits the last offset of every
+         * partition in the batch. The size of the batches is bound by the
+         * maxPollRecords option. This option cannot be used together with
+         * processingThreads.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -647,6 +671,52 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("pollTimeoutMs", pollTimeoutMs);
             return this;
         }
+        /**
+         * The order to keep when processing the consumed records concurrently
+         * (see the processingThreads option). With partition the records from
+         * the same partition are processed one at a time in the order of the
+         * partition, and with key the records with the same key (from the same
+         * partition) are processed one at a time in order, which allows
+         * processing the records from a partition concurrently. Records without
+         * a key are ordered by partition.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: partition
+         * Group: consumer
+         * 
+         * @param processingOrder the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder processingOrder(
+                java.lang.String processingOrder) {
+            doSetProperty("processingOrder", processingOrder);
+            return this;
+        }
+        /**
+         * The number of worker threads which processes the consumed records
+         * concurrently. By default (value of 0) the records are processed one
+         * at a time by the consumer thread which polled them. When in use the
+         * records are dispatched to the worker threads while the consumer keeps
+         * polling, and the order of the records is kept per partition, or per
+         * key (see the processingOrder option). The consumer commits the offset
+         * of the records which have been processed without gaps, at the
+         * interval of the autoCommitIntervalMs option, and the consumer pauses
+         * fetching from the partitions while more than twice maxPollRecords
+         * records are in progress. This option cannot be used together with
+         * allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder processingThreads(int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer will read from beginning or end on startup:
          * beginning : read from beginning end : read from end This is replacing
@@ -1950,6 +2020,7 @@ public interface KafkaComponentBuilderFactory {
             case "autoCommitIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitIntervalMs((java.lang.Integer) value); return true;
             case "autoCommitOnStop": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitOnStop((java.lang.String) value); return true;
             case "autoOffsetReset": getOrCreateConfiguration((KafkaComponent) component).setAutoOffsetReset((java.lang.String) value); return true;
+            case "batching": getOrCreateConfiguration((KafkaComponent) component).setBatching((boolean) value); return true;
             case "breakOnFirstError": getOrCreateConfiguration((KafkaComponent) component).setBreakOnFirstError((boolean) value); return true;
             case "bridgeErrorHandler": ((KafkaComponent) component).setBridgeErrorHandler((boolean) value); return true;
             case "checkCrcs": getOrCreateConfiguration((KafkaComponent) component).setCheckCrcs((java.lang.Boolean) value); return true;
@@ -1970,6 +2041,8 @@ public interface KafkaComponentBuilderFactory {
             case "partitionAssignor": getOrCreateConfiguration((KafkaComponent) component).setPartitionAssignor((java.lang.String) value); return true;
             case "pollOnError": getOrCreateConfiguration((KafkaComponent) component).setPollOnError((org.apache.camel.component.kafka.PollOnError) value); return true;
             case "pollTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setPollTimeoutMs((java.lang.Long) value); return true;
+            case "processingOrder": getOrCreateConfiguration((KafkaComponent) component).setProcessingOrder((java.lang.String) value); return true;
+            case "processingThreads": getOrCreateConfiguration((KafkaComponent) component).setProcessingThreads((int) value); return true;
             case "seekTo": getOrCreateConfiguration((KafkaComponent) component).setSeekTo((java.lang.String) value); return true;
             case "sessionTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setSessionTimeoutMs((java.lang.Integer) value); return true;
             case "specificAvroReader": getOrCreateConfiguration((KafkaComponent) component).setSpecificAvroReader((boolean) value); return true;
@@ -882,6 +882,24 @@ public interface RabbitmqComponentBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to use a timing wheel to keep track of timed out inOut
+         * exchanges, which scales better when there are a large number of
+         * in-flight request/reply messages.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default RabbitmqComponentBuilder requestTimeoutTimingWheel(
+                boolean requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
         /**
          * Enables connection topology recovery (should topology recovery be
          * performed).
@@ -1043,6 +1061,7 @@ public interface RabbitmqComponentBuilderFactory {
             case "requestedHeartbeat": ((RabbitMQComponent) component).setRequestedHeartbeat((int) value); return true;
             case "requestTimeout": ((RabbitMQComponent) component).setRequestTimeout((long) value); return true;
             case "requestTimeoutCheckerInterval": ((RabbitMQComponent) component).setRequestTimeoutCheckerInterval((long) value); return true;
+            case "requestTimeoutTimingWheel": ((RabbitMQComponent) component).setRequestTimeoutTimingWheel((boolean) value); return true;
             case "topologyRecoveryEnabled": ((RabbitMQComponent) component).setTopologyRecoveryEnabled((java.lang.Boolean) value); return true;
             case "transferException": ((RabbitMQComponent) component).setTransferException((boolean) value); return true;
             case "password": ((RabbitMQComponent) component).setPassword((java.lang.String) value); return true;
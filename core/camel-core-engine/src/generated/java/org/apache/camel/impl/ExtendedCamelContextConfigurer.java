@@ -51,6 +51,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "ComponentResolver": target.setComponentResolver(property(camelContext, org.apache.camel.spi.ComponentResolver.class, value)); return true;
         case "configurerresolver":
         case "ConfigurerResolver": target.setConfigurerResolver(property(camelContext, org.apache.camel.spi.ConfigurerResolver.class, value)); return true;
+        case "copyonwriteexchange":
+        case "CopyOnWriteExchange": target.setCopyOnWriteExchange(property(camelContext, java.lang.Boolean.class, value)); return true;
         case "dataformatresolver":
         case "DataFormatResolver": target.setDataFormatResolver(property(camelContext, org.apache.camel.spi.DataFormatResolver.class, value)); return true;
         case "debugger":
@@ -226,6 +228,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "ComponentResolver": return org.apache.camel.spi.ComponentResolver.class;
         case "configurerresolver":
         case "ConfigurerResolver": return org.apache.camel.spi.ConfigurerResolver.class;
+        case "copyonwriteexchange":
+        case "CopyOnWriteExchange": return java.lang.Boolean.class;
         case "dataformatresolver":
         case "DataFormatResolver": return org.apache.camel.spi.DataFormatResolver.class;
         case "debugger":
@@ -402,6 +406,8 @@ public class ExtendedCamelContextConfigurer extends org.apache.camel.support.com
         case "ComponentResolver": return target.getComponentResolver();
         case "configurerresolver":
         case "ConfigurerResolver": return target.getConfigurerResolver();
+        case "copyonwriteexchange":
+        case "CopyOnWriteExchange": return target.isCopyOnWriteExchange();
         case "dataformatresolver":
         case "DataFormatResolver": return target.getDataFormatResolver();
         case "debugger":
@@ -906,6 +906,16 @@ public class LightweightCamelContext implements ExtendedCamelContext, CatalogCam
         delegate.setUseBreadcrumb(useBreadcrumb);
     }
 
+    @Override
+    public Boolean isCopyOnWriteExchange() {
+        return delegate.isCopyOnWriteExchange();
+    }
+
+    @Override
+    public void setCopyOnWriteExchange(Boolean copyOnWriteExchange) {
+        delegate.setCopyOnWriteExchange(copyOnWriteExchange);
+    }
+
     @Override
     public StreamCachingStrategy getStreamCachingStrategy() {
         return delegate.getStreamCachingStrategy();
@@ -190,6 +190,7 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
     private final boolean eventNotificationApplicable;
     private final boolean useDataType;
     private final boolean useBreadcrumb;
+    private final boolean copyOnWriteExchange;
     private final String mdcLoggingKeysPattern;
     private final boolean useMDCLogging;
     private final List<Route> routes;
@@ -237,6 +238,7 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         eventNotificationApplicable = context.adapt(ExtendedCamelContext.class).isEventNotificationApplicable();
         useDataType = context.isUseDataType();
         useBreadcrumb = context.isUseBreadcrumb();
+        copyOnWriteExchange = context.isCopyOnWriteExchange();
         mdcLoggingKeysPattern = context.getMDCLoggingKeysPattern();
         useMDCLogging = context.isUseMDCLogging();
         messageHistory = context.isMessageHistory();
@@ -1202,6 +1204,16 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Boolean isCopyOnWriteExchange() {
+        return copyOnWriteExchange;
+    }
+
+    @Override
+    public void setCopyOnWriteExchange(Boolean copyOnWriteExchange) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public StreamCachingStrategy getStreamCachingStrategy() {
         throw new UnsupportedOperationException();
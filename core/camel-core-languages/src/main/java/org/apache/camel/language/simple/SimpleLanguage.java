@@ -16,19 +16,19 @@
  */
 package org.apache.camel.language.simple;
 
-import java.util.Map;
-
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
 import org.apache.camel.Predicate;
 import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.annotations.Language;
 import org.apache.camel.support.CamelContextHelper;
-import org.apache.camel.support.LRUCache;
-import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LanguageSupport;
 import org.apache.camel.support.PredicateToExpressionAdapter;
 import org.apache.camel.support.ScriptHelper;
+import org.apache.camel.support.TinyLFUCache;
 import org.apache.camel.support.builder.ExpressionBuilder;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
@@ -38,6 +38,7 @@ import org.slf4j.LoggerFactory;
  * The Camel simple language.
  */
 @Language("simple")
+@ManagedResource(description = "Managed SimpleLanguage")
 public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     private static final Logger LOG = LoggerFactory.getLogger(SimpleLanguage.class);
@@ -48,8 +49,9 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     boolean allowEscape = true;
 
     // use caches to avoid re-parsing the same expressions over and over again
-    private Map<String, Expression> cacheExpression;
-    private Map<String, Predicate> cachePredicate;
+    // (the caches are concurrent as nested functions are looked up while routing messages)
+    private TinyLFUCache<String, Expression> cacheExpression;
+    private TinyLFUCache<String, Predicate> cachePredicate;
 
     /**
      * Default constructor.
@@ -63,8 +65,8 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         if (cacheExpression == null && cachePredicate == null && getCamelContext() != null) {
             int maxSize = CamelContextHelper.getMaximumSimpleCacheSize(getCamelContext());
             if (maxSize > 0) {
-                cacheExpression = LRUCacheFactory.newLRUCache(16, maxSize, false);
-                cachePredicate = LRUCacheFactory.newLRUCache(16, maxSize, false);
+                cacheExpression = new TinyLFUCache<>(maxSize);
+                cachePredicate = new TinyLFUCache<>(maxSize);
                 LOG.debug("Simple language predicate/expression cache size: {}", maxSize);
             } else {
                 LOG.debug("Simple language disabled predicate/expression cache");
@@ -81,17 +83,17 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     @Override
     public void stop() {
-        if (cachePredicate instanceof LRUCache) {
+        if (cachePredicate != null) {
             if (LOG.isDebugEnabled()) {
-                LRUCache cache = (LRUCache) cachePredicate;
+                TinyLFUCache<String, Predicate> cache = cachePredicate;
                 LOG.debug("Clearing simple language predicate cache[size={}, hits={}, misses={}, evicted={}]",
                         cache.size(), cache.getHits(), cache.getMisses(), cache.getEvicted());
             }
             cachePredicate.clear();
         }
-        if (cacheExpression instanceof LRUCache) {
+        if (cacheExpression != null) {
             if (LOG.isDebugEnabled()) {
-                LRUCache cache = (LRUCache) cacheExpression;
+                TinyLFUCache<String, Expression> cache = cacheExpression;
                 LOG.debug("Clearing simple language expression cache[size={}, hits={}, misses={}, evicted={}]",
                         cache.size(), cache.getHits(), cache.getMisses(), cache.getEvicted());
             }
@@ -99,6 +101,55 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         }
     }
 
+    /**
+     * Number of times a parsed expression or predicate was found in the caches
+     */
+    @ManagedAttribute(description = "Number of times a parsed expression or predicate was found in the caches")
+    public long getCacheHits() {
+        long hits = cacheExpression != null ? cacheExpression.getHits() : 0;
+        return hits + (cachePredicate != null ? cachePredicate.getHits() : 0);
+    }
+
+    /**
+     * Number of times an expression or predicate was not found in the caches, and had to be parsed
+     */
+    @ManagedAttribute(description = "Number of times an expression or predicate was not found in the caches")
+    public long getCacheMisses() {
+        long misses = cacheExpression != null ? cacheExpression.getMisses() : 0;
+        return misses + (cachePredicate != null ? cachePredicate.getMisses() : 0);
+    }
+
+    /**
+     * Number of parsed expressions or predicates which has been evicted from the caches
+     */
+    @ManagedAttribute(description = "Number of parsed expressions or predicates which has been evicted from the caches")
+    public long getCacheEvicted() {
+        long evicted = cacheExpression != null ? cacheExpression.getEvicted() : 0;
+        return evicted + (cachePredicate != null ? cachePredicate.getEvicted() : 0);
+    }
+
+    /**
+     * Number of parsed expressions and predicates currently in the caches
+     */
+    @ManagedAttribute(description = "Number of parsed expressions and predicates currently in the caches")
+    public int getCacheSize() {
+        int size = cacheExpression != null ? cacheExpression.size() : 0;
+        return size + (cachePredicate != null ? cachePredicate.size() : 0);
+    }
+
+    /**
+     * Resets the cache statistics
+     */
+    @ManagedOperation(description = "Resets the cache statistics")
+    public void resetCacheStatistics() {
+        if (cacheExpression != null) {
+            cacheExpression.resetStatistics();
+        }
+        if (cachePredicate != null) {
+            cachePredicate.resetStatistics();
+        }
+    }
+
     @Override
     public Predicate createPredicate(String expression) {
         ObjectHelper.notNull(expression, "expression");
@@ -16,7 +16,9 @@
  */
 package org.apache.camel.language.simple.ast;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -76,6 +78,10 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
 
     private Expression doCreateCompositeExpression(CamelContext camelContext, String expression) {
         final SimpleToken token = getToken();
+        final List<SimpleNode> children = block.getChildren();
+        // the nested expressions are created on first use and then reused, so the nested nodes are only turned
+        // into expressions once instead of for every message
+        final AtomicReferenceArray<Expression> nestedExpressions = new AtomicReferenceArray<>(children.size());
         return new Expression() {
             @Override
             public <T> T evaluate(Exchange exchange, Class<T> type) {
@@ -83,7 +89,8 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
                 boolean quoteEmbeddedFunctions = false;
 
                 // we need to concat the block so we have the expression
-                for (SimpleNode child : block.getChildren()) {
+                for (int i = 0; i < children.size(); i++) {
+                    SimpleNode child = children.get(i);
                     // whether a nested function should be lazy evaluated or not
                     boolean lazy = true;
                     if (child instanceof SimpleFunctionStart) {
@@ -96,8 +103,12 @@ public class SimpleFunctionStart extends BaseSimpleNode implements BlockStart {
                         // if its quoted literal then embed that as text
                     } else if (!lazy || child instanceof SingleQuoteStart || child instanceof DoubleQuoteStart) {
                         try {
-                            // pass in null when we evaluate the nested expressions
-                            Expression nested = child.createExpression(camelContext, null);
+                            Expression nested = nestedExpressions.get(i);
+                            if (nested == null) {
+                                // pass in null when we evaluate the nested expressions
+                                nested = child.createExpression(camelContext, null);
+                                nestedExpressions.lazySet(i, nested);
+                            }
                             String text = nested.evaluate(exchange, String.class);
                             if (text != null) {
                                 if (quoteEmbeddedFunctions && !StringHelper.isQuoted(text)) {
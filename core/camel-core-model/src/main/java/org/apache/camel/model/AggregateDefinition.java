@@ -81,6 +81,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     private String executorServiceRef;
     @XmlAttribute
     private String timeoutCheckerExecutorServiceRef;
@@ -107,6 +110,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     private String completionTimeoutCheckerInterval = "1s";
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
+    private String completionTimeoutTimingWheel;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
     private String completionFromBatchConsumer;
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
@@ -349,6 +355,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public String getCompletionTimeoutTimingWheel() {
+        return completionTimeoutTimingWheel;
+    }
+
+    public void setCompletionTimeoutTimingWheel(String completionTimeoutTimingWheel) {
+        this.completionTimeoutTimingWheel = completionTimeoutTimingWheel;
+    }
+
     public ExpressionSubElementDefinition getCompletionPredicate() {
         return completionPredicate;
     }
@@ -428,6 +442,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -784,6 +806,20 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Uses a timing wheel to keep track of the completion timeouts ({@link org.apache.camel.TimeoutMap}).
+     * <p/>
+     * By default the timeout checker scans all the correlation groups every time it runs. With a timing wheel the
+     * timeouts are spread over buckets by their due time, and the checker only visits the buckets which are due. This
+     * is recommended when there are a large number of correlation groups using completion timeout.
+     *
+     * @return the builder
+     */
+    public AggregateDefinition completionTimeoutTimingWheel() {
+        setCompletionTimeoutTimingWheel(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the AggregationStrategy to use with a fluent builder.
      */
@@ -1002,6 +1038,19 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Turns on striped locking, which allows to aggregate exchanges with different correlation keys in parallel, while
+     * exchanges with the same correlation key are still aggregated one at a time. The correlation keys are spread over
+     * the given number of lock stripes. By default a single lock is used for all the correlation keys.
+     * <p/>
+     * The aggregation strategy and aggregation repository must be thread safe. This option cannot be used together with
+     * optimisticLocking, completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
@@ -67,6 +67,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(defaultValue = "0", javaType = "java.time.Duration")
     private String timeout;
     @XmlAttribute
+    @Metadata(label = "advanced", defaultValue = "0", javaType = "java.lang.Integer")
+    private String maxInflight;
+    @XmlAttribute
     private String onPrepareRef;
     @XmlTransient
     private Processor onPrepare;
@@ -487,6 +490,37 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of splitted messages which can be in progress at the same time, when using parallel
+     * processing. When the maximum has been reached, then the Splitter does not split any further messages until a
+     * splitted message has been processed and aggregated. This bounds the memory used when splitting big messages in
+     * parallel, as the message is split lazily (as if streaming is enabled) and at most the given number of splitted
+     * messages are kept in memory. The replies are aggregated in the same order as the message was split, unless
+     * streaming is enabled. The default value is 0, which means no limit.
+     *
+     * @param  maxInflight the maximum number of splitted messages in progress
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * Sets the maximum number of splitted messages which can be in progress at the same time, when using parallel
+     * processing. When the maximum has been reached, then the Splitter does not split any further messages until a
+     * splitted message has been processed and aggregated. This bounds the memory used when splitting big messages in
+     * parallel, as the message is split lazily (as if streaming is enabled) and at most the given number of splitted
+     * messages are kept in memory. The replies are aggregated in the same order as the message was split, unless
+     * streaming is enabled. The default value is 0, which means no limit.
+     *
+     * @param  maxInflight the maximum number of splitted messages in progress
+     * @return             the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages. Splitter will by
      * default not share unit of work between the parent exchange and each splitted exchange. This means each splitted
@@ -659,6 +693,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.timeout = timeout;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public String getOnPrepareRef() {
         return onPrepareRef;
     }
@@ -169,8 +169,10 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private ExecutorService aggregateExecutorService;
     private boolean shutdownAggregateExecutorService;
     private final long timeout;
+    private int maxInflight;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private PooledExchangeTaskFactory taskFactory;
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -284,7 +286,24 @@ public class MulticastProcessor extends AsyncProcessorSupport
         Object dummy5 = new DefaultProcessorExchangePair(0, null, null, null);
         LOG.trace("Loaded {}", dummy5.getClass().getName());
 
-        ServiceHelper.buildService(processorExchangeFactory);
+        // the reactive tasks can be pooled when they are processed one at a time (not parallel and no timeout)
+        boolean pooled = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().isPooled();
+        if (pooled && !isParallelProcessing() && timeout <= 0) {
+            taskFactory = new PooledTaskFactory(getId()) {
+                @Override
+                public PooledExchangeTask create(Exchange exchange, AsyncCallback callback) {
+                    return new MulticastReactiveTask();
+                }
+            };
+            int capacity = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().getCapacity();
+            taskFactory.setCapacity(capacity);
+            taskFactory.setStatisticsEnabled(
+                    camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().isStatisticsEnabled());
+            taskFactory.setCamelContext(camelContext);
+            LOG.trace("Using TaskFactory: {}", taskFactory);
+        }
+
+        ServiceHelper.buildService(processorExchangeFactory, taskFactory);
     }
 
     @Override
@@ -296,7 +315,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
-        ServiceHelper.initService(processorExchangeFactory);
+        ServiceHelper.initService(processorExchangeFactory, taskFactory);
     }
 
     @Override
@@ -323,9 +342,15 @@ public class MulticastProcessor extends AsyncProcessorSupport
         // the reactive mode will execute each sub task in its own runnable task which is scheduled on the reactive executor
         // which is how the routing engine normally operates
         // if we have parallel processing enabled then we cannot run in transacted mode (requires synchronous processing via same thread)
-        MulticastTask state = !isParallelProcessing() && exchange.isTransacted()
-                ? new MulticastTransactedTask(exchange, pairs, callback, size)
-                : new MulticastReactiveTask(exchange, pairs, callback, size);
+        MulticastTask state;
+        if (!isParallelProcessing() && exchange.isTransacted()) {
+            state = new MulticastTransactedTask(exchange, pairs, callback, size);
+        } else if (taskFactory != null) {
+            state = (MulticastTask) taskFactory.acquire(exchange, callback);
+            state.prepare(pairs, size);
+        } else {
+            state = new MulticastReactiveTask(exchange, pairs, callback, size);
+        }
         if (isParallelProcessing()) {
             executorService.submit(() -> reactiveExecutor.schedule(state));
         } else {
@@ -382,39 +407,36 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return answer;
     }
 
-    protected abstract class MulticastTask implements Runnable {
+    protected abstract class MulticastTask implements PooledExchangeTask {
 
-        final Exchange original;
-        final Iterable<ProcessorExchangePair> pairs;
-        final AsyncCallback callback;
-        final Iterator<ProcessorExchangePair> iterator;
+        Exchange original;
+        Iterable<ProcessorExchangePair> pairs;
+        AsyncCallback callback;
+        Iterator<ProcessorExchangePair> iterator;
         final ReentrantLock lock = new ReentrantLock();
-        final AsyncCompletionService<Exchange> completion;
+        AsyncCompletionService<Exchange> completion;
         final AtomicReference<Exchange> result = new AtomicReference<>();
         final AtomicInteger nbExchangeSent = new AtomicInteger();
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
-        final Map<String, String> mdc;
+        // whether sending is suspended as the maximum number of sub tasks are in progress (guarded by this)
+        boolean suspended;
+        Map<String, String> mdc;
 
         private MulticastTask() {
-            // used for eager classloading
-            this.original = null;
-            this.pairs = null;
-            this.callback = null;
-            this.iterator = null;
-            this.mdc = null;
-            this.completion = null;
+            // used for eager classloading and pooling
         }
 
         MulticastTask(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback, int capacity) {
+            prepare(original, callback);
+            prepare(pairs, capacity);
+        }
+
+        @Override
+        public void prepare(Exchange original, AsyncCallback callback) {
             this.original = original;
-            this.pairs = pairs;
             this.callback = callback;
-            this.iterator = pairs.iterator();
-            if (timeout > 0) {
-                schedule(aggregateExecutorService, this::timeout, timeout, TimeUnit.MILLISECONDS);
-            }
             // if MDC is enabled we must make a copy in this constructor when the task
             // is created by the caller thread, and then propagate back when run is called
             // which can happen from another thread
@@ -423,13 +445,50 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
-            if (capacity > 0) {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock, capacity);
-            } else {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
+        }
+
+        void prepare(Iterable<ProcessorExchangePair> pairs, int capacity) {
+            this.pairs = pairs;
+            this.iterator = pairs.iterator();
+            if (completion == null) {
+                if (capacity > 0) {
+                    this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock, capacity);
+                } else {
+                    this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
+                }
+            }
+            if (timeout > 0) {
+                schedule(aggregateExecutorService, this::timeout, timeout, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public void reset() {
+            this.original = null;
+            this.pairs = null;
+            this.callback = null;
+            this.iterator = null;
+            this.mdc = null;
+            if (completion != null) {
+                completion.reset();
+            }
+            this.result.set(null);
+            this.nbExchangeSent.set(0);
+            this.nbAggregated.set(0);
+            this.allSent.set(false);
+            this.done.set(false);
+            synchronized (this) {
+                this.suspended = false;
             }
         }
 
+        /**
+         * Releases this task when it is done and there are no more sub tasks in progress which refer to the task
+         */
+        protected void release() {
+            // noop
+        }
+
         @Override
         public String toString() {
             return "MulticastTask";
@@ -460,7 +519,45 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 } finally {
                     lock.unlock();
                 }
+                if (maxInflight > 0) {
+                    resume();
+                }
+            }
+        }
+
+        /**
+         * Whether the maximum number of sub tasks are in progress (sent but not yet aggregated)
+         */
+        protected boolean isWindowFull() {
+            return maxInflight > 0 && nbExchangeSent.get() - nbAggregated.get() >= maxInflight;
+        }
+
+        /**
+         * Schedules sending the next sub task, unless the maximum number of sub tasks are in progress, which suspends
+         * sending (and thus reading from the iterator) until a sub task has been aggregated.
+         */
+        protected void scheduleNext() {
+            synchronized (this) {
+                if (isWindowFull()) {
+                    // the sub task which is aggregated next will resume
+                    suspended = true;
+                    return;
+                }
+            }
+            schedule(this);
+        }
+
+        /**
+         * Resumes sending sub tasks if it has been suspended, and a sub task has since been aggregated
+         */
+        protected void resume() {
+            synchronized (this) {
+                if (!suspended || done.get() || isWindowFull()) {
+                    return;
+                }
+                suspended = false;
             }
+            schedule(this);
         }
 
         protected void timeout() {
@@ -511,12 +608,20 @@ public class MulticastProcessor extends AsyncProcessorSupport
             super(original, pairs, callback, size);
         }
 
+        @Override
+        protected void release() {
+            if (taskFactory != null) {
+                taskFactory.release(this);
+            }
+        }
+
         @Override
         public void run() {
             super.run();
 
             try {
                 if (done.get()) {
+                    release();
                     return;
                 }
 
@@ -526,6 +631,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 // or some iterators may return true for hasNext() but then null in next()
                 if (!iterator.hasNext()) {
                     doDone(result.get(), true);
+                    release();
                     return;
                 }
 
@@ -534,6 +640,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 // some iterators may return true for hasNext() but then null in next()
                 if (pair == null && !hasNext) {
                     doDone(result.get(), true);
+                    release();
                     return;
                 }
 
@@ -544,13 +651,14 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 // Schedule the processing of the next pair
                 if (hasNext) {
                     if (isParallelProcessing()) {
-                        schedule(this);
+                        scheduleNext();
                     }
                 } else {
                     allSent.set(true);
                 }
 
-                completion.submit(exchangeResult -> {
+                // submit using the index as the next pair may be submitted concurrently when using parallel processing
+                completion.submit(index, exchangeResult -> {
                     // compute time taken if sending to another endpoint
                     StopWatch watch = beforeSend(pair);
 
@@ -578,6 +686,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
                             }
                             // and do the done work
                             doDone(exchange, true);
+                            release();
                             return;
                         }
 
@@ -589,11 +698,14 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         // next step
                         if (hasNext && !isParallelProcessing()) {
                             schedule(this);
+                        } else if (done.get()) {
+                            release();
                         }
                     });
                 });
             } catch (Exception e) {
                 original.setException(e);
+                // the task is not released as a sub task may still be in progress
                 doDone(null, false);
             }
         }
@@ -1102,7 +1214,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
             ((CamelContextAware) aggregationStrategy).setCamelContext(camelContext);
         }
 
-        ServiceHelper.startService(aggregationStrategy, processors, processorExchangeFactory);
+        ServiceHelper.startService(aggregationStrategy, processors, processorExchangeFactory, taskFactory);
     }
 
     /**
@@ -1119,12 +1231,13 @@ public class MulticastProcessor extends AsyncProcessorSupport
 
     @Override
     protected void doStop() throws Exception {
-        ServiceHelper.stopService(processors, errorHandlers, aggregationStrategy, processorExchangeFactory);
+        ServiceHelper.stopService(processors, errorHandlers, aggregationStrategy, processorExchangeFactory, taskFactory);
     }
 
     @Override
     protected void doShutdown() throws Exception {
-        ServiceHelper.stopAndShutdownServices(processors, errorHandlers, aggregationStrategy, processorExchangeFactory);
+        ServiceHelper.stopAndShutdownServices(processors, errorHandlers, aggregationStrategy, processorExchangeFactory,
+                taskFactory);
         // only clear error handlers when shutting down
         errorHandlers.clear();
 
@@ -1256,6 +1369,25 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return shareUnitOfWork;
     }
 
+    /**
+     * The maximum number of sub tasks which can be in progress at the same time when using parallel processing, or 0
+     * for no limit
+     */
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * Sets the maximum number of sub tasks which can be in progress at the same time when using parallel processing.
+     * <p/>
+     * When the maximum has been reached then no more sub tasks are created (the iterator is not read) until a sub task
+     * has completed and been aggregated. This bounds the memory used when processing a large number of sub tasks in
+     * parallel. Use 0 (default) for no limit.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
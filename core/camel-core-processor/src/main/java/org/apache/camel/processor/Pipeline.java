@@ -198,6 +198,9 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
             };
             int capacity = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().getCapacity();
             taskFactory.setCapacity(capacity);
+            taskFactory.setStatisticsEnabled(
+                    camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().isStatisticsEnabled());
+            taskFactory.setCamelContext(camelContext);
         } else {
             taskFactory = new PrototypeTaskFactory() {
                 @Override
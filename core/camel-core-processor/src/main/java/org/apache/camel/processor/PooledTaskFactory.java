@@ -18,6 +18,8 @@ package org.apache.camel.processor;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.ExchangeFactoryManager;
 import org.apache.camel.support.PooledObjectFactorySupport;
 
 public abstract class PooledTaskFactory extends PooledObjectFactorySupport<PooledExchangeTask>
@@ -72,6 +74,32 @@ public abstract class PooledTaskFactory extends PooledObjectFactorySupport<Poole
         }
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        // register so the pool utilization is reported together with the pooled exchanges
+        ExchangeFactoryManager manager = getExchangeFactoryManager();
+        if (manager != null) {
+            manager.addPooledObjectFactory(this);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        ExchangeFactoryManager manager = getExchangeFactoryManager();
+        if (manager != null) {
+            manager.removePooledObjectFactory(this);
+        }
+    }
+
+    private ExchangeFactoryManager getExchangeFactoryManager() {
+        if (camelContext != null) {
+            return camelContext.adapt(ExtendedCamelContext.class).getExchangeFactoryManager();
+        }
+        return null;
+    }
+
     @Override
     public String toString() {
         if (source != null) {
@@ -167,7 +167,8 @@ public class Splitter extends MulticastProcessor implements AsyncProcessor, Trac
             throw exchange.getException();
         }
 
-        Iterable<ProcessorExchangePair> answer = isStreaming()
+        // when the number of in flight sub tasks is bounded then split lazily so the memory usage is bounded as well
+        Iterable<ProcessorExchangePair> answer = isStreaming() || getMaxInflight() > 0
                 ? createProcessorExchangePairsIterable(exchange, value)
                 : createProcessorExchangePairsList(exchange, value);
         if (exchange.getException() != null) {
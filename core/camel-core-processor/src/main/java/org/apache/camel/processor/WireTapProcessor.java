@@ -366,6 +366,9 @@ public class WireTapProcessor extends AsyncProcessorSupport
             };
             int capacity = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().getCapacity();
             taskFactory.setCapacity(capacity);
+            taskFactory.setStatisticsEnabled(
+                    camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().isStatisticsEnabled());
+            taskFactory.setCamelContext(camelContext);
         } else {
             taskFactory = new PrototypeTaskFactory() {
                 @Override
@@ -69,6 +69,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
+import org.apache.camel.support.TimingWheelTimeoutMap;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -103,6 +104,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
 
     private volatile Lock lock;
+    private volatile CorrelationKeyLocks correlationKeyLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -230,6 +232,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -247,6 +250,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private boolean forceCompletionOnStop;
     private boolean completeAllOnStop;
     private long completionTimeoutCheckerInterval = 1000;
+    private boolean completionTimeoutTimingWheel;
 
     private ProducerTemplate deadLetterProducerTemplate;
 
@@ -402,13 +406,16 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // when using striped locking then forcing completion of all groups must be done after the stripe is released
+        AtomicBoolean forceCompletionOfAllGroups = correlationKeyLocks != null ? new AtomicBoolean() : null;
+        Lock keyLock = lockForKey(key);
+        keyLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, forceCompletionOfAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -421,6 +428,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
             forceCompletionOfAllGroups();
+        } else if (forceCompletionOfAllGroups != null && forceCompletionOfAllGroups.get()) {
+            forceCompletionOfAllGroups();
         }
 
         callback.done(sync);
@@ -470,11 +479,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  forceCompletionOfAllGroups              when using striped locking then this flag is set if all groups
+     *                                                 should be force completed after the lock is released, is
+     *                                                 <tt>null</tt> if not using striped locking
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean forceCompletionOfAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -570,7 +583,12 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (forceCompletionOfAllGroups != null) {
+                // cannot complete the other groups while holding the stripe lock for this correlation key
+                forceCompletionOfAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1061,6 +1079,18 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public boolean isCompletionTimeoutTimingWheel() {
+        return completionTimeoutTimingWheel;
+    }
+
+    /**
+     * Whether to use a timing wheel to keep track of the completion timeouts, instead of scanning all the correlation
+     * groups every time the timeout checker runs.
+     */
+    public void setCompletionTimeoutTimingWheel(boolean completionTimeoutTimingWheel) {
+        this.completionTimeoutTimingWheel = completionTimeoutTimingWheel;
+    }
+
     public ExceptionHandler getExceptionHandler() {
         return exceptionHandler;
     }
@@ -1085,6 +1115,18 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of lock stripes to use for aggregating different correlation keys in parallel. Use 0 (default) to
+     * use a single lock for all correlation keys.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1230,7 +1272,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
             super(executor, requestMapPollTimeMillis, optimisticLocking);
-            addListener(this::onEviction);
+            addListener(AggregateProcessor.this::onTimeoutEviction);
         }
 
         @Override
@@ -1246,43 +1288,70 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         }
+    }
 
-        private void onEviction(Listener.Type type, String key, String exchangeId) {
-            if (type != Listener.Type.Evict) {
-                return;
-            }
-            log.debug("Completion timeout triggered for correlation key: {}", key);
+    /**
+     * Background task that looks for aggregated exchanges which is triggered by completion timeouts, using a timing
+     * wheel to keep track of the timeouts.
+     */
+    private final class AggregationTimingWheelTimeoutMap extends TimingWheelTimeoutMap<String, String> {
 
-            boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
-            if (inProgress) {
-                log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
-                return;
-            }
+        private AggregationTimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+            super(executor, requestMapPollTimeMillis);
+            addListener(AggregateProcessor.this::onTimeoutEviction);
+        }
 
-            // get the aggregated exchange
-            boolean evictionStolen = false;
-            Exchange answer = aggregationRepository.get(camelContext, key);
-            if (answer == null) {
-                evictionStolen = true;
-            } else {
-                // indicate it was completed by timeout
-                answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
+        @Override
+        protected void purge() {
+            // wait for lock to be created
+            Lock lock = AggregateProcessor.this.lock;
+            if (lock != null) {
+                // must acquire the shared aggregation lock to be able to purge
+                lock.lock();
                 try {
-                    answer = onCompletion(key, answer, answer, true, false);
-                    if (answer != null) {
-                        onSubmitCompletion(key, answer);
-                    }
-                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
-                    evictionStolen = true;
+                    super.purge();
+                } finally {
+                    lock.unlock();
                 }
             }
+        }
+    }
+
+    private void onTimeoutEviction(TimeoutMap.Listener.Type type, String key, String exchangeId) {
+        if (type != TimeoutMap.Listener.Type.Evict) {
+            return;
+        }
+        LOG.debug("Completion timeout triggered for correlation key: {}", key);
 
-            if (optimisticLocking && evictionStolen) {
-                log.debug("Another Camel instance has already successfully correlated or processed this timeout eviction "
-                          + "for exchange with id: {} and correlation id: {}",
-                        exchangeId, key);
+        boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
+        if (inProgress) {
+            LOG.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
+            return;
+        }
+
+        // get the aggregated exchange
+        boolean evictionStolen = false;
+        Exchange answer = aggregationRepository.get(camelContext, key);
+        if (answer == null) {
+            evictionStolen = true;
+        } else {
+            // indicate it was completed by timeout
+            answer.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_TIMEOUT);
+            try {
+                answer = onCompletion(key, answer, answer, true, false);
+                if (answer != null) {
+                    onSubmitCompletion(key, answer);
+                }
+            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                evictionStolen = true;
             }
         }
+
+        if (optimisticLocking && evictionStolen) {
+            LOG.debug("Another Camel instance has already successfully correlated or processed this timeout eviction "
+                      + "for exchange with id: {} and correlation id: {}",
+                    exchangeId, key);
+        }
     }
 
     /**
@@ -1482,6 +1551,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 LOG.info("Using ClosedCorrelationKeys with a LRUCache with a capacity of {}",
                         getCloseCorrelationKeyOnCompletion());
                 closedCorrelationKeys = LRUCacheFactory.newLRUCache(getCloseCorrelationKeyOnCompletion());
+                if (lockStripes > 0) {
+                    // completions of different correlation keys can happen concurrently when using striped locking
+                    closedCorrelationKeys = Collections.synchronizedMap(closedCorrelationKeys);
+                }
             } else {
                 LOG.info("Using ClosedCorrelationKeys with unbounded capacity");
                 closedCorrelationKeys = new ConcurrentHashMap<>();
@@ -1501,6 +1574,18 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.info("Optimistic locking is enabled");
         }
 
+        if (lockStripes > 0) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Only one of optimisticLocking or lockStripes can be used, not both.");
+            }
+            if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Option lockStripes cannot be used together with completionFromBatchConsumer or completionOnNewCorrelationGroup"
+                                                   + " as they correlate across all groups.");
+            }
+            LOG.info("Striped locking is enabled with {} lock stripes", lockStripes);
+        }
+
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
         // should we use recover checker
@@ -1565,7 +1650,14 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 shutdownTimeoutCheckerExecutorService = true;
             }
             // check for timed out aggregated messages once every second
-            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            if (isCompletionTimeoutTimingWheel()) {
+                LOG.info("Using timing wheel to keep track of CompletionTimeout");
+                timeoutMap = new AggregationTimingWheelTimeoutMap(
+                        getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            } else {
+                timeoutMap
+                        = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            }
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
             restoreTimeoutMapFromAggregationRepository();
@@ -1584,11 +1676,35 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (lockStripes > 0) {
+            correlationKeyLocks = new CorrelationKeyLocks(lockStripes);
+            // the shared lock is used for tasks that operate on all the groups which blocks every stripe
+            lock = correlationKeyLocks.exclusive();
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * When using striped locking then the current thread cannot operate on all the groups while it is aggregating a
+     * correlation key, as the exclusive lock cannot be acquired while holding a stripe.
+     */
+    private void checkNotAggregatingCorrelationKey() {
+        CorrelationKeyLocks locks = correlationKeyLocks;
+        if (locks != null && locks.isHeldByCurrentThread()) {
+            throw new IllegalStateException(
+                    "Cannot force completion or discarding of all groups while aggregating a correlation key when using lockStripes");
+        }
+    }
+
+    /**
+     * Gets the lock to use for aggregating the given correlation key
+     */
+    private Lock lockForKey(String key) {
+        CorrelationKeyLocks locks = correlationKeyLocks;
+        return locks != null ? locks.forKey(key) : lock;
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1693,10 +1809,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceCompletionOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock for the key to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = lockForKey(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1710,7 +1827,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1731,6 +1848,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         }
 
         LOG.trace("Starting force completion of all groups task");
+        checkNotAggregatingCorrelationKey();
 
         // trigger completion for all in the repository
         Set<String> keys = aggregationRepository.getKeys();
@@ -1766,10 +1884,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
     }
 
     public int forceDiscardingOfGroup(String key) {
-        // must acquire the shared aggregation lock to be able to trigger force completion
+        // must acquire the aggregation lock for the key to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = lockForKey(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1779,7 +1898,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1800,6 +1919,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         }
 
         LOG.trace("Starting force discarding of all groups task");
+        checkNotAggregatingCorrelationKey();
 
         // trigger completion for all in the repository
         Set<String> keys = aggregationRepository.getKeys();
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Striped locks used by the {@link AggregateProcessor} to allow aggregating different correlation keys in parallel.
+ * <p/>
+ * Each correlation key is mapped to one of a fixed number of stripes. Aggregating a key requires the shared (read) side
+ * of a global lock and the stripe lock for the key, so groups in different stripes can be aggregated concurrently,
+ * while the same correlation key is always aggregated by one thread at a time. Tasks which operate on all the groups
+ * (such as the completion timeout checker, completion interval and force completion) use the exclusive (write) side of
+ * the global lock, which blocks all the stripes.
+ */
+final class CorrelationKeyLocks {
+
+    private final ReentrantReadWriteLock global = new ReentrantReadWriteLock();
+    private final Lock[] stripes;
+    private final int mask;
+
+    CorrelationKeyLocks(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Number of lock stripes must be a positive number, was: " + stripes);
+        }
+        // round up to power of two so we can use a mask to select the stripe
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new Lock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new StripeLock(global.readLock(), new ReentrantLock());
+        }
+    }
+
+    /**
+     * The lock which must be acquired to aggregate the given correlation key
+     */
+    Lock forKey(String key) {
+        int h = key.hashCode();
+        // spread the bits as the String hash codes of similar keys only differ in the lower bits
+        h ^= h >>> 16;
+        return stripes[h & mask];
+    }
+
+    /**
+     * The lock which must be acquired to operate on all the correlation keys
+     */
+    Lock exclusive() {
+        return global.writeLock();
+    }
+
+    /**
+     * Whether the current thread is aggregating a correlation key (holds one of the stripes)
+     */
+    boolean isHeldByCurrentThread() {
+        return global.getReadHoldCount() > 0;
+    }
+
+    /**
+     * A lock which acquires the shared side of the global lock and then the stripe lock.
+     */
+    private static final class StripeLock implements Lock {
+
+        private final Lock shared;
+        private final Lock stripe;
+
+        private StripeLock(Lock shared, Lock stripe) {
+            this.shared = shared;
+            this.stripe = stripe;
+        }
+
+        @Override
+        public void lock() {
+            shared.lock();
+            try {
+                stripe.lock();
+            } catch (RuntimeException | Error e) {
+                shared.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            shared.lockInterruptibly();
+            try {
+                stripe.lockInterruptibly();
+            } catch (InterruptedException | RuntimeException | Error e) {
+                shared.unlock();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (shared.tryLock()) {
+                if (stripe.tryLock()) {
+                    return true;
+                }
+                shared.unlock();
+            }
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(time);
+            if (shared.tryLock(time, unit)) {
+                boolean locked = false;
+                try {
+                    locked = stripe.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } finally {
+                    if (!locked) {
+                        shared.unlock();
+                    }
+                }
+                return locked;
+            }
+            return false;
+        }
+
+        @Override
+        public void unlock() {
+            try {
+                stripe.unlock();
+            } finally {
+                shared.unlock();
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported by striped correlation key locks");
+        }
+    }
+
+}
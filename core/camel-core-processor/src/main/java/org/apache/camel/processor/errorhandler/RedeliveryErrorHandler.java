@@ -1608,6 +1608,9 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
         preparingShutdown = false;
         redeliverySleepCounter.set(0);
 
+        // a new task factory is created when starting, so stop the previous (if restarting)
+        ServiceHelper.stopService(taskFactory);
+
         // calculate if we can use simple task or not
         // if we need redelivery and other things then we cannot)
         // however if we dont then its less memory overhead (and a bit less cpu) of using the simple task
@@ -1625,6 +1628,9 @@ public abstract class RedeliveryErrorHandler extends ErrorHandlerSupport
             };
             int capacity = camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().getCapacity();
             taskFactory.setCapacity(capacity);
+            taskFactory.setStatisticsEnabled(
+                    camelContext.adapt(ExtendedCamelContext.class).getExchangeFactory().isStatisticsEnabled());
+            taskFactory.setCamelContext(camelContext);
         } else {
             taskFactory = new PrototypeTaskFactory() {
                 @Override
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class BeanMethodChoiceCacheTest extends ContextTestSupport {
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("myBean", new MyBean());
+        return jndi;
+    }
+
+    @Test
+    public void testChooseMethodByBodyType() throws Exception {
+        // invoke several times so the chosen methods are cached and invoked using method handles
+        for (int i = 0; i < 3; i++) {
+            assertEquals("String:Hello", template.requestBody("direct:start", "Hello"));
+            assertEquals("Integer:124", template.requestBody("direct:start", 123));
+            assertEquals("Long:457", template.requestBody("direct:start", 456L));
+        }
+    }
+
+    @Test
+    public void testChooseMethodByExchangePattern() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("String:Hello", template.requestBody("direct:start", "Hello"));
+            // in only can also choose the void method so its ambiguous
+            try {
+                template.sendBody("direct:start", "World");
+                fail("Should throw exception");
+            } catch (CamelExecutionException e) {
+                assertIsInstanceOf(AmbiguousMethodCallException.class, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void testMethodHandleException() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            try {
+                template.requestBody("direct:start", Boolean.TRUE);
+                fail("Should throw exception");
+            } catch (CamelExecutionException e) {
+                IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+                assertEquals("Forced", cause.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testMethodHandleStatic() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Static:Hello2", template.requestBodyAndHeader("direct:static", "Hello", "num", 2));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("bean:myBean");
+
+                from("direct:static").bean(MyStaticBean.class, "echo(${body}, ${header.num})");
+            }
+        };
+    }
+
+    public static class MyStaticBean {
+
+        public static String echo(String body, int num) {
+            return "Static:" + body + num;
+        }
+    }
+
+    public static class MyBean {
+
+        public String hello(String body) {
+            return "String:" + body;
+        }
+
+        public String hello(Integer body) {
+            return "Integer:" + (body + 1);
+        }
+
+        public String hello(long body) {
+            return "Long:" + (body + 1);
+        }
+
+        public String hello(Boolean body) {
+            throw new IllegalArgumentException("Forced");
+        }
+
+        public void world(String body) {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit test for only listing the directories which have changed since the last poll
+ */
+public class FileConsumerIncrementalScanTest extends ContextTestSupport {
+
+    @Test
+    public void testIncrementalScanNoop() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("a", "b", "c");
+
+        template.sendBodyAndHeader(fileUri("noop"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("noop"), "b", Exchange.FILE_NAME, "foo/b.txt");
+        template.sendBodyAndHeader(fileUri("noop"), "c", Exchange.FILE_NAME, "foo/bar/c.txt");
+
+        context.getRouteController().startRoute("noop");
+
+        assertMockEndpointsSatisfied();
+
+        // the new files are picked up from the directories which have changed
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("d", "e");
+
+        template.sendBodyAndHeader(fileUri("noop"), "d", Exchange.FILE_NAME, "foo/d.txt");
+        template.sendBodyAndHeader(fileUri("noop"), "e", Exchange.FILE_NAME, "foo/baz/e.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testIncrementalScanPreSort() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("a", "b", "c");
+
+        template.sendBodyAndHeader(fileUri("sorted"), "c", Exchange.FILE_NAME, "c.txt");
+        template.sendBodyAndHeader(fileUri("sorted"), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("sorted"), "b", Exchange.FILE_NAME, "b.txt");
+
+        context.getRouteController().startRoute("sorted");
+
+        assertMockEndpointsSatisfied();
+
+        // the consumed files are moved, so the directory is listed again
+        mock.reset();
+        mock.expectedBodiesReceived("d");
+
+        template.sendBodyAndHeader(fileUri("sorted"), "d", Exchange.FILE_NAME, "d.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("noop?initialDelay=0&delay=10&recursive=true&noop=true&incrementalScan=true"))
+                        .routeId("noop").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("sorted?initialDelay=0&delay=10&preSort=true&incrementalScan=true"))
+                        .routeId("sorted").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit test for scanning the sub directories concurrently
+ */
+public class FileConsumerScanThreadsTest extends ContextTestSupport {
+
+    // not thread-safe on purpose, as the filter is only called by the consumer thread
+    private final List<String> filterThreads = new ArrayList<>();
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("myFilter", (GenericFileFilter<Object>) file -> {
+            filterThreads.add(Thread.currentThread().getName());
+            return true;
+        });
+        return jndi;
+    }
+
+    @Test
+    public void testScanThreadsPreSort() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        // the same order as when scanning the directories one at a time
+        mock.expectedBodiesReceived("5", "1", "2", "4", "3", "6");
+
+        template.sendBodyAndHeader(fileUri("sorted"), "1", Exchange.FILE_NAME, "a/1.txt");
+        template.sendBodyAndHeader(fileUri("sorted"), "2", Exchange.FILE_NAME, "a/2.txt");
+        template.sendBodyAndHeader(fileUri("sorted"), "3", Exchange.FILE_NAME, "b/c/3.txt");
+        template.sendBodyAndHeader(fileUri("sorted"), "4", Exchange.FILE_NAME, "b/4.txt");
+        template.sendBodyAndHeader(fileUri("sorted"), "5", Exchange.FILE_NAME, "5.txt");
+        template.sendBodyAndHeader(fileUri("sorted"), "6", Exchange.FILE_NAME, "d/6.txt");
+
+        context.getRouteController().startRoute("sorted");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testScanThreadsMaxMessagesPerPoll() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(5);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBodyAndHeader(fileUri("limit"), "Hello " + i, Exchange.FILE_NAME, "dir" + (i % 4) + "/" + i + ".txt");
+        }
+
+        context.getRouteController().startRoute("limit");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testScanThreadsFilterOnConsumerThread() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+
+        for (int i = 0; i < 20; i++) {
+            template.sendBodyAndHeader(fileUri("filter"), "Hello " + i, Exchange.FILE_NAME, "dir" + (i % 4) + "/" + i + ".txt");
+        }
+
+        context.getRouteController().startRoute("filter");
+
+        assertMockEndpointsSatisfied();
+
+        assertFalse(filterThreads.isEmpty());
+        for (String name : filterThreads) {
+            assertTrue(name.endsWith("FileConsumerScanThreadsTest/filter"),
+                    "Should filter on the consumer thread, was: " + name);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("sorted?initialDelay=0&delay=10&recursive=true&noop=true&preSort=true&scanThreads=4"))
+                        .routeId("sorted").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("limit?initialDelay=0&delay=10&recursive=true&maxMessagesPerPoll=5&scanThreads=4"))
+                        .routeId("limit").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("filter?initialDelay=0&delay=10&recursive=true&filter=#myFilter&scanThreads=4"))
+                        .routeId("filter").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit test for copying files to files (using file channels) when appending and overriding the target file
+ */
+public class FileToFileAppendTest extends ContextTestSupport {
+
+    @Test
+    public void testAppendFiles() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.expectedFileExists(testFile("out/hello.txt"), "Hello\nWorld\nHow are you?\n");
+
+        template.sendBodyAndHeader(fileUri("in"), "Hello", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("in"), "World", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader(fileUri("in"), "How are you?", Exchange.FILE_NAME, "c.txt");
+
+        context.getRouteController().startRoute("append");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testOverrideLargeFile() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            sb.append("Line ").append(i).append("\n");
+        }
+        template.sendBodyAndHeader(fileUri("out"), "Bye World", Exchange.FILE_NAME, "large.txt");
+        template.sendBodyAndHeader(fileUri("large"), sb.toString(), Exchange.FILE_NAME, "large.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedFileExists(testFile("out/large.txt"));
+
+        context.getRouteController().startRoute("override");
+
+        assertMockEndpointsSatisfied();
+
+        File file = testFile("out/large.txt").toFile();
+        assertEquals(sb.toString(), new String(Files.readAllBytes(file.toPath())));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("in?initialDelay=0&delay=10&sortBy=file:name")).routeId("append").noAutoStartup()
+                        .to(fileUri("out?fileExist=Append&appendChars=\\n&fileName=hello.txt"), "mock:result");
+
+                from(fileUri("large?initialDelay=0&delay=10")).routeId("override").noAutoStartup()
+                        .to(fileUri("out?fileExist=Override"), "mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.log;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.CamelLogger;
+import org.apache.camel.spi.LogListener;
+import org.apache.camel.support.processor.CamelLogProcessor;
+import org.apache.camel.support.processor.DefaultExchangeFormatter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogAsyncLoggingTest extends ContextTestSupport {
+
+    private final List<String> messages = new CopyOnWriteArrayList<>();
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final List<String> mdcExchangeIds = new CopyOnWriteArrayList<>();
+    private final List<String> exchangeIds = new CopyOnWriteArrayList<>();
+    private final List<Thread> listenerThreads = new CopyOnWriteArrayList<>();
+    private final List<Thread> formatterThreads = new CopyOnWriteArrayList<>();
+    private final List<String> mdcValues = new CopyOnWriteArrayList<>();
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private volatile boolean block;
+    private boolean listen;
+    private boolean mdc = true;
+    private CamelLogProcessor logger;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        latch.countDown();
+        super.tearDown();
+    }
+
+    @Test
+    public void testAsyncLogging() throws Exception {
+        startRoute(1000, true);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == 10);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(messages.get(i).endsWith("Body: Hello " + i + "]"), messages.get(i));
+            assertNotEquals(Thread.currentThread(), threads.get(i));
+            // the exchange is formatted by the background thread
+            assertNotEquals(Thread.currentThread(), formatterThreads.get(i));
+            // the message is logged with the MDC of the routing thread
+            assertEquals(exchangeIds.get(i), mdcExchangeIds.get(i));
+            assertEquals("bar", mdcValues.get(i));
+        }
+    }
+
+    @Test
+    public void testAsyncLoggingWithListener() throws Exception {
+        listen = true;
+        startRoute(1000, true);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == 10);
+        for (int i = 0; i < 10; i++) {
+            assertTrue(messages.get(i).endsWith("Body: Hello " + i + "]"), messages.get(i));
+            assertNotEquals(Thread.currentThread(), threads.get(i));
+            // the listeners are called by the routing thread with the formatted message
+            assertSame(Thread.currentThread(), listenerThreads.get(i));
+            assertSame(Thread.currentThread(), formatterThreads.get(i));
+            assertEquals(exchangeIds.get(i), mdcExchangeIds.get(i));
+        }
+    }
+
+    @Test
+    public void testAsyncLoggingMdcDisabled() throws Exception {
+        mdc = false;
+        startRoute(1000, true);
+
+        template.sendBody("direct:start", "Hello World");
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == 1);
+        // the MDC is only copied to the background thread when MDC logging is enabled
+        assertEquals("null", mdcValues.get(0));
+    }
+
+    @Test
+    public void testAsyncLoggingDiscardWhenFull() throws Exception {
+        block = true;
+        listen = true;
+        startRoute(2, true);
+
+        // the 1st message blocks the background thread and the next 2 messages fill the queue
+        template.sendBody("direct:start", "Hello 0");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> threads.size() == 1);
+        for (int i = 1; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+        assertMockEndpointsSatisfied();
+
+        assertEquals(7, logger.getDroppedCount());
+        assertEquals(2, logger.getAsyncQueueSizeInUse());
+        // the listeners are called for all the messages, also the discarded
+        assertEquals(10, listenerThreads.size());
+
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == 3);
+        assertEquals(0, logger.getAsyncQueueSizeInUse());
+    }
+
+    @Test
+    public void testAsyncLoggingNotDiscardWhenFull() throws Exception {
+        block = true;
+        startRoute(2, false);
+
+        template.sendBody("direct:start", "Hello 0");
+        await().atMost(5, TimeUnit.SECONDS).until(() -> threads.size() == 1);
+        for (int i = 1; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+
+        // the messages which could not be queued are logged by the caller
+        assertEquals(7, messages.size());
+        assertEquals(0, logger.getDroppedCount());
+
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> messages.size() == 10);
+    }
+
+    @Test
+    public void testAsyncLoggingStop() throws Exception {
+        startRoute(1000, true);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "Hello " + i);
+        }
+        context.stop();
+
+        // the queued messages are logged when stopping
+        assertEquals(10, messages.size());
+    }
+
+    private void startRoute(int queueSize, boolean discardWhenFull) throws Exception {
+        final Thread caller = Thread.currentThread();
+        CamelLogger camelLogger = new CamelLogger(LogAsyncLoggingTest.class.getName()) {
+            @Override
+            public void log(String message) {
+                threads.add(Thread.currentThread());
+                if (block && Thread.currentThread() != caller) {
+                    try {
+                        latch.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                mdcExchangeIds.add(String.valueOf(MDC.get("camel.exchangeId")));
+                mdcValues.add(String.valueOf(MDC.get("foo")));
+                messages.add(message);
+            }
+        };
+        LogListener listener = (exchange, log, message) -> {
+            listenerThreads.add(Thread.currentThread());
+            return message;
+        };
+        DefaultExchangeFormatter formatter = new DefaultExchangeFormatter() {
+            @Override
+            public String format(Exchange exchange) {
+                formatterThreads.add(Thread.currentThread());
+                return super.format(exchange);
+            }
+        };
+        logger = new CamelLogProcessor(
+                camelLogger, formatter, null, listen ? Collections.singleton(listener) : null);
+        logger.setCamelContext(context);
+        logger.setAsyncLogging(true);
+        logger.setAsyncQueueSize(queueSize);
+        logger.setAsyncDiscardWhenFull(discardWhenFull);
+
+        context.setUseMDCLogging(mdc);
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .process(exchange -> {
+                            exchangeIds.add(exchange.getExchangeId());
+                            MDC.put("foo", "bar");
+                        })
+                        .process(logger)
+                        .process(exchange -> MDC.remove("foo"))
+                        .to("mock:result");
+            }
+        });
+        context.start();
+    }
+}
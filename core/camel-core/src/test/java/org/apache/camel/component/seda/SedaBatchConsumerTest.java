@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C", "D", "E");
+        mock.message(0).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(0).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(false);
+        mock.message(4).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(4);
+        mock.message(4).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+        mock.allMessages().exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(5);
+
+        for (String body : new String[] { "A", "B", "C", "D", "E" }) {
+            template.sendBody("seda:foo", body);
+        }
+        // start the route when all the messages are queued so they are taken in one batch
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchPropertiesNotLeakedToCaller() throws Exception {
+        List<Future<Exchange>> replies = new ArrayList<>();
+        for (String body : new String[] { "A", "B", "C" }) {
+            replies.add(template.asyncSend("seda:foo", e -> {
+                e.setPattern(ExchangePattern.InOut);
+                e.getIn().setBody(body);
+            }));
+        }
+        SedaEndpoint endpoint = context.getEndpoint("seda:foo", SedaEndpoint.class);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> endpoint.getQueue().size() == 3);
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(3);
+        mock.allMessages().exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+
+        for (Future<Exchange> reply : replies) {
+            Exchange exchange = reply.get(5, TimeUnit.SECONDS);
+            assertNull(exchange.getProperty(Exchange.BATCH_INDEX));
+            assertNull(exchange.getProperty(Exchange.BATCH_SIZE));
+            assertNull(exchange.getProperty(Exchange.BATCH_COMPLETE));
+        }
+    }
+
+    @Test
+    public void testBatchPropertiesKeptWhenRoutingAsync() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:threads");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B", "C");
+        mock.allMessages().exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+        mock.allMessages().exchangeProperty(Exchange.BATCH_INDEX).isNotNull();
+        mock.allMessages().exchangeProperty(Exchange.BATCH_COMPLETE).isNotNull();
+
+        for (String body : new String[] { "A", "B", "C" }) {
+            template.sendBody("seda:threads", body);
+        }
+        context.getRouteController().startRoute("threads");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testPendingExchangesIncludeDrainedBatch() throws Exception {
+        for (String body : new String[] { "A", "B", "C" }) {
+            template.sendBody("seda:block", body);
+        }
+        context.getRouteController().startRoute("block");
+
+        // the 1st exchange of the batch is being processed, and the other 2 are drained from the queue
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("block").getConsumer();
+        assertEquals(0, consumer.getEndpoint().getQueue().size());
+        assertEquals(2, consumer.getPendingExchangesSize());
+
+        latch.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> consumer.getPendingExchangesSize() == 0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchGrouped() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(List.class);
+
+        for (String body : new String[] { "A", "B", "C" }) {
+            template.sendBody("seda:bar", body);
+        }
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+
+        List<Exchange> exchanges = mock.getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(3, exchanges.size());
+        assertEquals("A", exchanges.get(0).getMessage().getBody());
+        assertEquals("C", exchanges.get(2).getMessage().getBody());
+    }
+
+    @Test
+    public void testBatchGroupedInOut() throws Exception {
+        List<Future<Object>> replies = new ArrayList<>();
+        for (String body : new String[] { "A", "B", "C" }) {
+            replies.add(template.asyncRequestBody("seda:baz", body));
+        }
+        SedaEndpoint endpoint = context.getEndpoint("seda:baz", SedaEndpoint.class);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> endpoint.getQueue().size() == 3);
+        context.getRouteController().startRoute("baz");
+
+        assertEquals("Bye A", replies.get(0).get(5, TimeUnit.SECONDS));
+        assertEquals("Bye B", replies.get(1).get(5, TimeUnit.SECONDS));
+        assertEquals("Bye C", replies.get(2).get(5, TimeUnit.SECONDS));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?batchSize=10").routeId("foo").noAutoStartup().to("mock:result");
+
+                // the batch properties must be kept when the exchange continues being routed by another thread
+                from("seda:threads?batchSize=10").routeId("threads").noAutoStartup()
+                        .threads(3).delay(100).to("mock:threads");
+
+                from("seda:block?batchSize=10").routeId("block").noAutoStartup()
+                        .process(exchange -> {
+                            blocked.countDown();
+                            latch.await(5, TimeUnit.SECONDS);
+                        });
+
+                from("seda:bar?batchSize=10&batchGrouped=true").routeId("bar").noAutoStartup().to("mock:grouped");
+
+                from("seda:baz?batchSize=10&batchGrouped=true").routeId("baz").noAutoStartup()
+                        .process(exchange -> {
+                            List<?> exchanges = exchange.getMessage().getBody(List.class);
+                            for (Object e : exchanges) {
+                                Exchange grouped = (Exchange) e;
+                                grouped.getMessage().setBody("Bye " + grouped.getMessage().getBody());
+                            }
+                        });
+            }
+        };
+    }
+}
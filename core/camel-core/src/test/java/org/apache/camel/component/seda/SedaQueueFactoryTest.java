@@ -37,6 +37,7 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
     protected CamelContext createCamelContext() throws Exception {
         CamelContext context = super.createCamelContext();
         context.getRegistry().bind("arrayQueueFactory", arrayQueueFactory);
+        context.getRegistry().bind("ringBufferQueueFactory", new MpmcRingBufferQueueFactory<Exchange>());
         return context;
     }
 
@@ -60,6 +61,16 @@ public class SedaQueueFactoryTest extends ContextTestSupport {
         assertEquals(100, blockingQueue.remainingCapacity(), "remainingCapacity - custom");
     }
 
+    @Test
+    public void testRingBufferQueueFactory() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:ringBufferQueue?queueFactory=#ringBufferQueueFactory&size=100",
+                SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        MpmcRingBufferQueue<Exchange> ringBuffer = assertIsInstanceOf(MpmcRingBufferQueue.class, queue);
+        assertEquals(128, ringBuffer.remainingCapacity(), "remainingCapacity - rounded up to power of two");
+    }
+
     @Test
     public void testDefaultBlockingQueueFactory() throws Exception {
         SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:linkedQueue", SedaEndpoint.class);
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.ResolveEndpointFailedException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaRingBufferQueueTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRegistry().bind("mpmc", new MpmcRingBufferQueueFactory<Exchange>());
+        context.getRegistry().bind("mpsc", new MpscRingBufferQueueFactory<Exchange>());
+        return context;
+    }
+
+    @Test
+    public void testQueue() throws Exception {
+        BlockingQueue<String> queue = new MpmcRingBufferQueue<>(3, RingBufferWaitStrategy.Yield);
+        assertEquals(4, queue.remainingCapacity());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer("A" + i));
+        }
+        assertFalse(queue.offer("B"));
+        assertFalse(queue.offer("B", 10, TimeUnit.MILLISECONDS));
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("A0", queue.peek());
+        assertTrue(queue.contains("A2"));
+
+        assertEquals("A0", queue.poll());
+        assertEquals("A1", queue.take());
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained));
+        assertEquals("[A2, A3]", drained.toString());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+
+        // wrap around the ring buffer
+        for (int i = 0; i < 10; i++) {
+            queue.put("C" + i);
+            assertEquals("C" + i, queue.poll());
+        }
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    public void testRemoveAndClear() throws Exception {
+        BlockingQueue<String> queue = new MpscRingBufferQueue<>(4);
+        assertEquals(RingBufferWaitStrategy.Backoff, ((MpscRingBufferQueue<String>) queue).getWaitStrategy());
+        for (int i = 0; i < 4; i++) {
+            queue.put("A" + i);
+        }
+
+        assertTrue(queue.remove("A1"));
+        assertFalse(queue.remove("A1"));
+        assertFalse(queue.remove("B"));
+        assertEquals(3, queue.size());
+        assertFalse(queue.contains("A1"));
+        // the slot of the removed element is still in use until the consumer has passed it
+        assertEquals(0, queue.remainingCapacity());
+
+        assertEquals("A0", queue.poll());
+        assertEquals("A2", queue.poll());
+        assertEquals(1, queue.size());
+        assertEquals(3, queue.remainingCapacity());
+
+        // clear the queue from another thread than the consumer
+        queue.put("A4");
+        queue.put("A5");
+        Thread clear = new Thread(queue::clear);
+        clear.start();
+        clear.join();
+        assertEquals(0, queue.size());
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+        assertEquals(4, queue.remainingCapacity());
+
+        queue.put("A6");
+        assertEquals("A6", queue.take());
+    }
+
+    @Test
+    public void testMpmcConcurrent() throws Exception {
+        doTestConcurrent(new MpmcRingBufferQueue<>(64, RingBufferWaitStrategy.Park), 4);
+    }
+
+    @Test
+    public void testMpscConcurrent() throws Exception {
+        doTestConcurrent(new MpscRingBufferQueue<>(64, RingBufferWaitStrategy.Yield), 1);
+    }
+
+    private void doTestConcurrent(BlockingQueue<Long> queue, int consumers) throws Exception {
+        int producers = 4;
+        int count = 20000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        AtomicLong sum = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(producers * count);
+        try {
+            for (int p = 0; p < producers; p++) {
+                executor.submit(() -> {
+                    for (long i = 1; i <= count; i++) {
+                        queue.put(i);
+                    }
+                    return null;
+                });
+            }
+            for (int c = 0; c < consumers; c++) {
+                executor.submit(() -> {
+                    while (done.getCount() > 0) {
+                        Long value = queue.poll(10, TimeUnit.MILLISECONDS);
+                        if (value != null) {
+                            sum.addAndGet(value);
+                            done.countDown();
+                        }
+                    }
+                    return null;
+                });
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS), "Should consume all elements");
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals((long) producers * count * (count + 1) / 2, sum.get());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testSedaRoute() throws Exception {
+        MockEndpoint mpmc = getMockEndpoint("mock:mpmc");
+        mpmc.expectedMessageCount(100);
+        MockEndpoint mpsc = getMockEndpoint("mock:mpsc");
+        mpsc.expectedBodiesReceived(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        for (int i = 0; i < 100; i++) {
+            template.sendBody("seda:mpmc", i);
+        }
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:mpsc", i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testMpscMultipleConsumersNotAllowed() throws Exception {
+        Exception e = assertThrows(ResolveEndpointFailedException.class,
+                () -> context.getEndpoint("seda:single?queueFactory=#mpsc&concurrentConsumers=2"));
+        assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+
+        e = assertThrows(ResolveEndpointFailedException.class,
+                () -> context.getEndpoint("seda:multiple?queueFactory=#mpsc&multipleConsumers=true"));
+        assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Test
+    public void testSedaRequestReply() throws Exception {
+        assertEquals("Bye World", template.requestBody("seda:mpmc", "World"));
+    }
+
+    @Test
+    public void testSedaRequestReplyTimeout() throws Exception {
+        Exchange out = template.request("seda:timeout?queueFactory=#mpsc&timeout=100", e -> e.getIn().setBody("World"));
+        assertIsInstanceOf(ExchangeTimedOutException.class, out.getException());
+
+        // the timed out exchange is removed from the queue
+        SedaEndpoint endpoint = context.getEndpoint("seda:timeout", SedaEndpoint.class);
+        assertEquals(0, endpoint.getQueue().size());
+        assertTrue(endpoint.getExchanges().isEmpty());
+    }
+
+    @Test
+    public void testSedaPurgeWhenStopping() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("seda:purge", i);
+        }
+        SedaEndpoint endpoint = context.getEndpoint("seda:purge", SedaEndpoint.class);
+        assertEquals(10, endpoint.getQueue().size());
+
+        // the queue is purged by the thread stopping the route, and not by the consumer thread
+        context.getRouteController().startRoute("purge");
+        context.getRouteController().stopRoute("purge");
+        assertEquals(0, endpoint.getQueue().size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:mpmc?queueFactory=#mpmc&concurrentConsumers=4").transform(body().prepend("Bye "))
+                        .to("mock:mpmc");
+
+                from("seda:mpsc?queueFactory=#mpsc").to("mock:mpsc");
+
+                from("seda:purge?queueFactory=#mpsc&purgeWhenStopping=true").routeId("purge").noAutoStartup()
+                        .delay(1000).to("mock:purge");
+            }
+        };
+    }
+}
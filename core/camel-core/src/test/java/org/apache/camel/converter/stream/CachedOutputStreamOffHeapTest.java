@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+    private static final String TEST_STRING = "This is a test string and it has enough"
+                                              + " aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa ";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory(true).toFile());
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolOffHeap(true);
+        context.getStreamCachingStrategy().setSpoolOffHeapSegmentSize(32);
+        context.getStreamCachingStrategy().setSpoolOffHeapMaxSize(32 * 8);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = createExchange();
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private Exchange createExchange() {
+        Exchange answer = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(answer);
+        answer.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+        return answer;
+    }
+
+    private static String toString(InputStream input) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        IOHelper.copy(input, bos);
+        return bos.toString(StandardCharsets.UTF_8.name());
+    }
+
+    @Test
+    public void testCacheStreamOffHeap() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+        assertEquals(8, statistics.getOffHeapSegmentCount());
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        assertEquals(0, file.list().length, "we should have no temp file");
+        // the content spans several segments
+        assertEquals(4, statistics.getOffHeapSegmentsInUse());
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof OffHeapInputStreamCache, "Should get the OffHeapInputStreamCache");
+        assertTrue(cache.inMemory());
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(TEST_STRING, toString((InputStream) cache));
+
+        // can be read again after reset
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8.name()));
+
+        exchange.getUnitOfWork().done(exchange);
+
+        // the segments are recycled when the exchange is done
+        assertEquals(0, statistics.getOffHeapSegmentsInUse());
+        assertEquals(4, statistics.getOffHeapSegmentsPeakInUse());
+        assertThrows(IOException.class, () -> ((InputStream) cache).read());
+        assertFalse(cache.inMemory());
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamOffHeapRecycledAfterReading() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+
+        // the exchange is done while the stream cache is being read
+        ByteArrayOutputStream bos = new ByteArrayOutputStream() {
+            private boolean done;
+
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                if (!done) {
+                    done = true;
+                    exchange.getUnitOfWork().done(exchange);
+                    // the segments must not be recycled while being read
+                    assertEquals(4, statistics.getOffHeapSegmentsInUse());
+                }
+                super.write(b, off, len);
+            }
+        };
+        cache.writeTo(bos);
+        assertEquals(TEST_STRING, bos.toString(StandardCharsets.UTF_8.name()));
+
+        // and are recycled when the read is done
+        assertEquals(0, statistics.getOffHeapSegmentsInUse());
+        assertThrows(IOException.class, () -> cache.writeTo(new ByteArrayOutputStream()));
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamOffHeapRestart() throws Exception {
+        context.start();
+        StreamCachingStrategy strategy = context.getStreamCachingStrategy();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        assertEquals(4, strategy.getStatistics().getOffHeapSegmentsInUse());
+
+        strategy.stop();
+        strategy.start();
+        assertEquals(0, strategy.getStatistics().getOffHeapSegmentsInUse());
+
+        // the segments of the previous arena must not be recycled into the new arena
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, strategy.getStatistics().getOffHeapSegmentsInUse());
+
+        for (int i = 0; i < 3; i++) {
+            Exchange other = createExchange();
+            CachedOutputStream out = new CachedOutputStream(other);
+            out.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+            out.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+            assertEquals(8, strategy.getStatistics().getOffHeapSegmentsInUse());
+            assertEquals(0, strategy.getStatistics().getOffHeapSegmentsExhaustedCounter());
+            other.getUnitOfWork().done(other);
+            IOHelper.close(out);
+        }
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamOffHeapCopy() throws Exception {
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+
+        Exchange copy = createExchange();
+        StreamCache cacheCopy = cache.copy(copy);
+        assertEquals(TEST_STRING, toString((InputStream) cache));
+
+        // the segments must be kept until all the exchanges are done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(TEST_STRING, toString((InputStream) cacheCopy));
+
+        copy.getUnitOfWork().done(copy);
+        assertEquals(0, context.getStreamCachingStrategy().getStatistics().getOffHeapSegmentsInUse());
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamOverflowToFile() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        // use all the segments so the next stream cache must overflow to disk
+        CachedOutputStream first = new CachedOutputStream(exchange);
+        first.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        first.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        assertEquals(8, statistics.getOffHeapSegmentsInUse());
+
+        Exchange other = createExchange();
+        CachedOutputStream cos = new CachedOutputStream(other);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        assertEquals(1, file.list().length, "we should have a temp file");
+        assertTrue(statistics.getOffHeapSegmentsExhaustedCounter() > 0);
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should get the FileInputStreamCache");
+        assertEquals(TEST_STRING, toString((InputStream) cache));
+
+        other.getUnitOfWork().done(other);
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, file.list().length, "we should have no temp file");
+        assertEquals(0, statistics.getOffHeapSegmentsInUse());
+
+        IOHelper.close(first, cos);
+    }
+
+    @Test
+    public void testCacheStreamOverflowToFileWhileWriting() throws Exception {
+        context.start();
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        // more content than the off-heap spool can hold
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            sb.append(TEST_STRING);
+        }
+        String content = sb.toString();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(content.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        assertEquals(1, file.list().length, "we should have a temp file");
+        // the segments which was written to are released when overflowing to disk
+        assertEquals(0, statistics.getOffHeapSegmentsInUse());
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should get the FileInputStreamCache");
+        assertEquals(content, toString((InputStream) cache));
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, file.list().length, "we should have no temp file");
+
+        IOHelper.close(cos);
+    }
+}
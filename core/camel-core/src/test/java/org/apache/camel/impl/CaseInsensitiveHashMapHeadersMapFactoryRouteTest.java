@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.util.CaseInsensitiveHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CaseInsensitiveHashMapHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setHeadersMapFactory(new CaseInsensitiveHashMapHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCaseInsensitiveHashMapHeaders() throws Exception {
+        getMockEndpoint("mock:result").expectedHeaderReceived("FOO", 123);
+        getMockEndpoint("mock:result").expectedHeaderReceived("bar", "yes");
+
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put("foo", 123);
+        headers.put("Bar", "yes");
+        headers.put("Abc", "first");
+
+        template.sendBodyAndHeaders("direct:start", "Hello World", headers);
+
+        assertMockEndpointsSatisfied();
+
+        Message message = getMockEndpoint("mock:result").getReceivedExchanges().get(0).getMessage();
+        assertEquals(CaseInsensitiveHashMap.class, message.getHeaders().getClass());
+        // the headers are iterated in the order they were added
+        List<String> keys = new ArrayList<>(message.getHeaders().keySet());
+        assertEquals("[foo, Bar, Abc]", keys.toString());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("mock:result");
+            }
+        };
+    }
+
+}
@@ -23,7 +23,9 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutorService;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -523,6 +525,30 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(thread.getName().contains("Cool"));
     }
 
+    @Test
+    public void testNewThreadPoolVirtualThreadsProfile() throws Exception {
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", "virtualThreads");
+        assertNotNull(pool);
+
+        if (CamelThreadFactory.isVirtualThreadsSupported()) {
+            assertIsInstanceOf(ThreadPerTaskExecutorService.class, pool);
+        } else {
+            // fallback to a regular thread pool
+            ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+            assertEquals(10, tp.getCorePoolSize());
+            assertEquals(20, tp.getMaximumPoolSize());
+        }
+
+        final CountDownLatch latch = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            pool.execute(latch::countDown);
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        context.getExecutorServiceManager().shutdown(pool);
+        assertTrue(pool.isShutdown());
+    }
+
     @Disabled("This is a manual test, by looking at the logs")
     public void xxxtestLongShutdownOfThreadPool() throws Exception {
         final CountDownLatch latch = new CountDownLatch(1);
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class DefaultProducerCacheTest extends ContextTestSupport {
 
@@ -208,6 +209,102 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(3, stopCounter.get()));
     }
 
+    @Test
+    public void testCacheStatistics() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        e.setCamelContext(context);
+
+        AsyncProducer p1 = cache.acquireProducer(e);
+        AsyncProducer p2 = cache.acquireProducer(e);
+        cache.releaseProducer(e, p1);
+        cache.releaseProducer(e, p2);
+        assertEquals(2, cache.size(), "Size should be 2");
+
+        // the most recently used producer is reused first
+        AsyncProducer p3 = cache.acquireProducer(e);
+        assertSame(p2, p3);
+        cache.releaseProducer(e, p3);
+
+        Endpoint e2 = newEndpoint(true, 2);
+        e2.setCamelContext(context);
+        for (int i = 0; i < 3; i++) {
+            AsyncProducer p = cache.acquireProducer(e2);
+            cache.releaseProducer(e2, p);
+        }
+
+        assertEquals(3, cache.getMisses());
+        assertEquals(3, cache.getHits());
+        assertEquals(0, cache.getEvicted());
+
+        cache.resetCacheStatistics();
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getHits());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testCacheIdleTimeout() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.setIdleTimeout(200);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        e.setCamelContext(context);
+
+        AsyncProducer p1 = cache.acquireProducer(e);
+        AsyncProducer p2 = cache.acquireProducer(e);
+        cache.releaseProducer(e, p1);
+        cache.releaseProducer(e, p2);
+        assertEquals(2, cache.size(), "Size should be 2");
+
+        // keep using one producer, so only the other producer becomes idle
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            AsyncProducer p = cache.acquireProducer(e);
+            cache.releaseProducer(e, p);
+            cache.cleanUp();
+            assertEquals(1, cache.size(), "Size should be 1");
+        });
+
+        assertEquals(1, stopCounter.get());
+        assertEquals(1, cache.getEvicted());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testCacheIdleTimeoutReleaseAfterPoolRemoved() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.setIdleTimeout(200);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        e.setCamelContext(context);
+
+        AsyncProducer p1 = cache.acquireProducer(e);
+        AsyncProducer p2 = cache.acquireProducer(e);
+        cache.releaseProducer(e, p1);
+
+        // the idle producer is evicted, which leaves the pool of the endpoint empty so its removed
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            cache.cleanUp();
+            assertEquals(1, cache.getEvicted());
+        });
+        assertEquals(0, cache.size(), "Size should be 0");
+        assertEquals(1, stopCounter.get());
+
+        // the producer which was in use should be pooled again, and not be lost
+        cache.releaseProducer(e, p2);
+        assertEquals(1, cache.size(), "Size should be 1");
+        assertSame(p2, cache.acquireProducer(e));
+        assertEquals(1, stopCounter.get());
+
+        cache.stop();
+    }
+
     private class MyProducerCache extends DefaultProducerCache {
 
         private MyServicePool myServicePool;
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Map;
+
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.impl.engine.HashMapHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the time taken to add, lookup and copy headers with the default headers map factory, the
+ * {@link CaseInsensitiveHashMapHeadersMapFactory}, and a plain (case sensitive) hash map.
+ */
+@Disabled("Manual test")
+public class HeadersMapFactoryPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HeadersMapFactoryPerformanceTest.class);
+
+    private final int size = 2000000;
+    private final String[] keys = {
+            "CamelFileName", "CamelHttpMethod", "CamelHttpUri", "Content-Type", "Content-Length", "Accept",
+            "User-Agent", "Host", "breadcrumbId", "JMSCorrelationID", "kafka.KEY", "myHeader" };
+
+    @Test
+    public void testPerformance() throws Exception {
+        HeadersMapFactory[] factories = {
+                new DefaultHeadersMapFactory(), new CaseInsensitiveHashMapHeadersMapFactory(), new HashMapHeadersMapFactory() };
+
+        // warm up
+        for (HeadersMapFactory factory : factories) {
+            run(factory, size / 10);
+        }
+        for (HeadersMapFactory factory : factories) {
+            run(factory, size);
+        }
+    }
+
+    private void run(HeadersMapFactory factory, int count) {
+        long hits = 0;
+
+        // add headers and look them up
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> map = factory.newMap();
+            for (String key : keys) {
+                map.put(key, i);
+            }
+            for (String key : keys) {
+                if (map.get(key) != null) {
+                    hits++;
+                }
+            }
+        }
+        long put = watch.taken();
+
+        // copy the headers (such as multicast) and change one of the copies
+        Map<String, Object> source = factory.newMap();
+        for (String key : keys) {
+            source.put(key, "value");
+        }
+        watch.restart();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> copy = factory.newMap(source);
+            if (i % 4 == 0) {
+                copy.put("myHeader", i);
+            }
+            if (copy.get("Content-Type") != null) {
+                hits++;
+            }
+        }
+        long copy = watch.taken();
+
+        LOG.info("{} -> put/get: {} ms, copy: {} ms ({} hits)", factory.getClass().getSimpleName(), put, copy, hits);
+    }
+
+}
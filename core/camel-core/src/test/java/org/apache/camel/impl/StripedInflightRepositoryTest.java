@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Collection;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.StripedInflightRepository;
+import org.apache.camel.spi.InflightRepository;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StripedInflightRepositoryTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        StripedInflightRepository repo = new StripedInflightRepository();
+        repo.setInflightBrowseEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setInflightRepository(repo);
+        return context;
+    }
+
+    @Test
+    public void testStripedInflightRepository() throws Exception {
+        StripedInflightRepository repo = new StripedInflightRepository();
+        // use a single slot so the other exchanges overflow
+        repo.setCapacity(1);
+        repo.setInflightBrowseEnabled(true);
+        repo.addRoute("foo");
+
+        assertEquals(0, repo.size());
+        assertNull(repo.oldest(null));
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        repo.add(e1, "foo");
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        repo.add(e2, "foo");
+        Exchange e3 = new DefaultExchange(context);
+        repo.add(e3);
+        assertEquals(3, repo.size());
+        assertEquals(2, repo.size("foo"));
+        assertEquals(2, repo.getOverflowSize());
+        assertEquals(3, repo.browse().size());
+        assertEquals(2, repo.browse(2, true).size());
+
+        repo.remove(e2, "foo");
+        repo.remove(e2);
+        assertEquals(2, repo.size());
+        assertEquals(1, repo.size("foo"));
+        Collection<InflightRepository.InflightExchange> list = repo.browse();
+        assertEquals(2, list.size());
+        assertTrue(list.stream().noneMatch(i -> i.getExchange() == e2));
+
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        repo.remove(e3);
+        assertEquals(0, repo.size());
+        assertEquals(0, repo.size("foo"));
+        assertEquals(0, repo.getOverflowSize());
+        assertEquals(0, repo.browse().size());
+    }
+
+    @Test
+    public void testInflightBrowse() throws Exception {
+        assertTrue(context.getInflightRepository() instanceof StripedInflightRepository);
+
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", "Hello World");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(0, context.getInflightRepository().size());
+        assertEquals(0, context.getInflightRepository().size("foo"));
+        assertEquals(0, context.getInflightRepository().browse().size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .process(exchange -> {
+                            InflightRepository repo = context.getInflightRepository();
+                            assertEquals(1, repo.size());
+                            assertEquals(1, repo.size("foo"));
+
+                            Collection<InflightRepository.InflightExchange> list = repo.browse("foo");
+                            assertEquals(1, list.size());
+                            assertSame(exchange, list.iterator().next().getExchange());
+                            assertSame(exchange, repo.oldest("foo").getExchange());
+                        }).id("myProcessor")
+                        .to("mock:result");
+            }
+        };
+    }
+}
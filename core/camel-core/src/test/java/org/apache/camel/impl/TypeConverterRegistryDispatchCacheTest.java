@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.impl.converter.CoreTypeConverterRegistry;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeConverterRegistryDispatchCacheTest extends ContextTestSupport {
+
+    private TypeConverterRegistry.Statistics stats;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setTypeConverterStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        CoreTypeConverterRegistry registry = (CoreTypeConverterRegistry) context.getTypeConverterRegistry();
+        registry.setDispatchCacheEnabled(true);
+        stats = registry.getStatistics();
+        stats.reset();
+    }
+
+    @Test
+    public void testBulkConverter() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Hello World", context.getTypeConverter().convertTo(String.class, "Hello World".getBytes()));
+        }
+        assertEquals(1, stats.getCacheMissCounter());
+        assertEquals(2, stats.getCacheHitCounter());
+        assertEquals(3, stats.getHitCounter());
+    }
+
+    @Test
+    public void testHierarchyConverter() throws Exception {
+        context.getTypeConverterRegistry().addTypeConverter(String.class, Animal.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return type.cast("Animal " + ((Animal) value).name);
+            }
+        });
+
+        assertEquals("Animal Tiger", context.getTypeConverter().convertTo(String.class, new Cat("Tiger")));
+        assertEquals("Animal Felix", context.getTypeConverter().convertTo(String.class, new Cat("Felix")));
+        assertEquals(1, stats.getCacheMissCounter());
+        assertEquals(1, stats.getCacheHitCounter());
+
+        // adding a converter invalidates the cache
+        context.getTypeConverterRegistry().addTypeConverter(String.class, Cat.class, new TypeConverterSupport() {
+            @Override
+            public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+                return type.cast("Cat " + ((Animal) value).name);
+            }
+        });
+        assertEquals("Cat Tiger", context.getTypeConverter().convertTo(String.class, new Cat("Tiger")));
+        assertEquals(2, stats.getCacheMissCounter());
+    }
+
+    @Test
+    public void testNegativeCache() throws Exception {
+        assertNull(context.getTypeConverter().convertTo(Cat.class, 123));
+        assertNull(context.getTypeConverter().convertTo(Cat.class, 456));
+        assertEquals(1, stats.getCacheMissCounter());
+        assertEquals(1, stats.getCacheHitCounter());
+        assertEquals(2, stats.getMissCounter());
+    }
+
+    @Test
+    public void testFallbackConverter() throws Exception {
+        // the object is converted with its toString by a fallback converter which is not cached
+        assertEquals("Animal[Tiger]", context.getTypeConverter().convertTo(String.class, new Animal("Tiger")));
+        assertEquals("Animal[Felix]", context.getTypeConverter().convertTo(String.class, new Animal("Felix")));
+        assertEquals(2, stats.getFallbackCounter());
+        assertEquals(0, stats.getCacheHitCounter());
+        assertTrue(stats.getCacheMissCounter() >= 2);
+    }
+
+    public static class Animal {
+        private final String name;
+
+        public Animal(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return "Animal[" + name + "]";
+        }
+    }
+
+    public static class Cat extends Animal {
+        public Cat(String name) {
+            super(name);
+        }
+    }
+}
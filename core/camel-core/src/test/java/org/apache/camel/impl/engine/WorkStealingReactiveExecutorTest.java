@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.AsyncProcessorSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private final WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        executor.setParallelism(2);
+        executor.setIoThreadNamePattern("^MyIoThread");
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testOffloadFromIoThread() throws Exception {
+        assertSame(executor, context.adapt(ExtendedCamelContext.class).getReactiveExecutor());
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String name = exchange.getProperty("continuedOn", String.class);
+            assertTrue(name.contains("ReactiveWorker"), "Should continue on a worker thread, was: " + name);
+        }
+        assertTrue(executor.getOffloadedTasks() >= 2);
+        assertEquals(2, executor.getParallelism());
+    }
+
+    @Test
+    public void testNoOffloadFromOtherThread() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:other");
+        mock.expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:other", "Hello World");
+
+        assertMockEndpointsSatisfied();
+
+        String name = mock.getReceivedExchanges().get(0).getProperty("continuedOn", String.class);
+        assertEquals("MyOtherThread", name);
+        assertEquals(0, executor.getOffloadedTasks());
+    }
+
+    @Test
+    public void testOffloadedTasksRunConcurrently() throws Exception {
+        // both tasks must be running at the same time to pass the barrier
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        List<String> names = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        Thread io = new Thread(() -> {
+            for (int i = 0; i < 2; i++) {
+                executor.schedule(() -> {
+                    try {
+                        barrier.await(10, TimeUnit.SECONDS);
+                        names.add(Thread.currentThread().getName());
+                    } catch (Exception e) {
+                        // the tasks did not run concurrently
+                    }
+                    latch.countDown();
+                });
+            }
+        }, "MyIoThread");
+        io.start();
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        assertEquals(2, names.size(), "Both tasks should have run concurrently");
+        assertNotEquals(names.get(0), names.get(1));
+        assertEquals(2, executor.getOffloadedTasks());
+    }
+
+    @Test
+    public void testChangeIoThreadNamePattern() throws Exception {
+        List<String> names = new CopyOnWriteArrayList<>();
+        CountDownLatch offloaded = new CountDownLatch(1);
+        Thread io = new Thread(() -> {
+            executor.schedule(() -> {
+                names.add(Thread.currentThread().getName());
+                offloaded.countDown();
+            });
+            try {
+                offloaded.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // the thread no longer matches the pattern so the task must run on this thread
+            executor.setIoThreadNamePattern("^SomeOtherThread");
+            executor.schedule(() -> names.add(Thread.currentThread().getName()));
+        }, "MyIoThread");
+        io.start();
+        io.join(10000);
+
+        assertEquals(2, names.size());
+        assertTrue(names.get(0).contains("ReactiveWorker"), "Should run on a worker thread, was: " + names.get(0));
+        assertEquals("MyIoThread", names.get(1));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .process(new CompleteOnThreadProcessor("MyIoThread"))
+                        .process(e -> e.setProperty("continuedOn", Thread.currentThread().getName()))
+                        .to("mock:result");
+
+                from("direct:other")
+                        .process(new CompleteOnThreadProcessor("MyOtherThread"))
+                        .process(e -> e.setProperty("continuedOn", Thread.currentThread().getName()))
+                        .to("mock:other");
+            }
+        };
+    }
+
+    private static class CompleteOnThreadProcessor extends AsyncProcessorSupport {
+
+        private final String threadName;
+
+        CompleteOnThreadProcessor(String threadName) {
+            this.threadName = threadName;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            // simulate an async callback which completes on an I/O thread
+            CompletableFuture.runAsync(() -> {
+                Thread.currentThread().setName(threadName);
+                callback.done(false);
+            }, r -> new Thread(r).start());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimpleLanguageCacheTest extends ContextTestSupport {
+
+    @Test
+    public void testCacheHits() throws Exception {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        simple.resetCacheStatistics();
+
+        Expression e1 = simple.createExpression("Hello ${header.name}");
+        Expression e2 = simple.createExpression("Hello ${header.name}");
+        assertSame(e1, e2);
+
+        Predicate p1 = simple.createPredicate("${header.name} == 'Camel'");
+        Predicate p2 = simple.createPredicate("${header.name} == 'Camel'");
+        assertSame(p1, p2);
+
+        assertTrue(simple.getCacheHits() >= 2, "Should have cache hits");
+        assertTrue(simple.getCacheMisses() >= 2, "Should have cache misses");
+        assertTrue(simple.getCacheSize() >= 2, "Should have cached expressions");
+
+        simple.resetCacheStatistics();
+        assertEquals(0, simple.getCacheHits());
+        assertEquals(0, simple.getCacheMisses());
+    }
+
+    @Test
+    public void testNestedFunctionConcurrent() throws Exception {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        final Expression expression = simple.createExpression("${header.${header.key}}");
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    int ok = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        Exchange exchange = new DefaultExchange(context);
+                        String key = "key" + ((i + thread) % 50);
+                        exchange.getIn().setHeader("key", key);
+                        exchange.getIn().setHeader(key, "value" + i);
+                        if (("value" + i).equals(expression.evaluate(exchange, String.class))) {
+                            ok++;
+                        }
+                    }
+                    return ok;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                assertEquals(1000, future.get().intValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the nested header functions are parsed once and then found in the cache
+        assertTrue(simple.getCacheHits() > 0, "Should have cache hits");
+    }
+
+}
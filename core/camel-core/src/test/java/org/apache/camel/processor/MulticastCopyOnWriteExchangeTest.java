@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class MulticastCopyOnWriteExchangeTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setCopyOnWriteExchange(true);
+        return context;
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.setProperty("foo", "cheese");
+        exchange.getMessage().setHeader("bar", 123);
+
+        Exchange copy = exchange.copy();
+        assertEquals("cheese", copy.getProperty("foo"));
+        assertEquals(123, copy.getMessage().getHeader("bar"));
+
+        copy.setProperty("foo", "cake");
+        copy.getMessage().setHeader("bar", 456);
+        exchange.setProperty("beer", "Carlsberg");
+
+        assertEquals("cheese", exchange.getProperty("foo"));
+        assertEquals(123, exchange.getMessage().getHeader("bar"));
+        assertEquals("cake", copy.getProperty("foo"));
+        assertEquals(456, copy.getMessage().getHeader("bar"));
+        assertNull(copy.getProperty("beer"));
+    }
+
+    @Test
+    public void testCopyNotChangedByExistingPropertiesMap() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.setProperty("foo", "cheese");
+        Map<String, Object> properties = exchange.getProperties();
+
+        Exchange copy = exchange.copy();
+        // changing the properties map which was obtained before the copy must not change the copy
+        properties.put("beer", "Carlsberg");
+
+        assertEquals("cheese", copy.getProperty("foo"));
+        assertNull(copy.getProperty("beer"));
+    }
+
+    @Test
+    public void testMulticast() throws Exception {
+        getMockEndpoint("mock:a").expectedPropertyReceived("foo", "A");
+        getMockEndpoint("mock:b").expectedPropertyReceived("foo", "B");
+        getMockEndpoint("mock:c").expectedPropertyReceived("foo", "cheese");
+        MockEndpoint result = getMockEndpoint("mock:result");
+        result.expectedPropertyReceived("foo", "cheese");
+        result.expectedPropertyReceived("bar", 123);
+
+        template.send("direct:start", e -> {
+            e.setProperty("foo", "cheese");
+            e.setProperty("bar", 123);
+        });
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .multicast().to("direct:a", "direct:b", "mock:c").end()
+                        .to("mock:result");
+
+                from("direct:a").setProperty("foo", constant("A")).to("mock:a");
+                from("direct:b").setProperty("foo", constant("B")).to("mock:b");
+            }
+        };
+    }
+}
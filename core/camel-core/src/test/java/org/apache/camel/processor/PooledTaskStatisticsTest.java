@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.PooledExchangeFactory;
+import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledTaskStatisticsTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        PooledExchangeFactory pef = new PooledExchangeFactory();
+        pef.setStatisticsEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setExchangeFactory(pef);
+        return context;
+    }
+
+    @Test
+    public void testPooledTasks() throws Exception {
+        getMockEndpoint("mock:line").expectedBodiesReceived("A", "B", "C", "D", "E", "F", "G", "H", "I");
+        getMockEndpoint("mock:result").expectedBodiesReceived("Bye A,B,C", "Bye D,E,F", "Bye G,H,I");
+
+        template.sendBody("direct:start", "A,B,C");
+        template.sendBody("direct:start", "D,E,F");
+        template.sendBody("direct:start", "G,H,I");
+
+        assertMockEndpointsSatisfied();
+
+        ExchangeFactoryManager manager = context.adapt(ExtendedCamelContext.class).getExchangeFactoryManager();
+        assertFalse(manager.getPooledObjectFactories().isEmpty());
+
+        PooledObjectFactory.Statistics stats = manager.getPooledObjectStatistics();
+        // the tasks are reused (pool hits) after the first message
+        assertTrue(stats.getAcquiredCounter() > 0, "Should reuse tasks, was: " + stats.getAcquiredCounter());
+        assertTrue(stats.getAcquiredCounter() > stats.getCreatedCounter());
+        assertEquals(0, stats.getDiscardedCounter());
+        assertEquals(stats.getCreatedCounter() + stats.getAcquiredCounter(), stats.getReleasedCounter());
+
+        manager.resetStatistics();
+        assertEquals(0, manager.getPooledObjectStatistics().getAcquiredCounter());
+        assertEquals(0, manager.getPooledObjectStatistics().getCreatedCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .split(body().tokenize(","))
+                            .to("mock:line")
+                        .end()
+                        .transform(body().prepend("Bye "))
+                        .to("mock:result");
+            }
+        };
+    }
+}
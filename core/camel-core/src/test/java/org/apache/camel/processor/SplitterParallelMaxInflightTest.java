@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelMaxInflightTest extends ContextTestSupport {
+
+    private static final int SIZE = 200;
+    private static final int MAX_INFLIGHT = 5;
+
+    private final AtomicInteger read = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxReadAhead = new AtomicInteger();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        read.set(0);
+        aggregated.set(0);
+        maxReadAhead.set(0);
+        super.setUp();
+    }
+
+    @Test
+    public void testMaxInflightOrdered() throws Exception {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            expected.append(i).append(",");
+        }
+        getMockEndpoint("mock:line").expectedMessageCount(SIZE);
+        getMockEndpoint("mock:result").expectedBodiesReceived(expected.toString());
+
+        template.sendBody("direct:ordered", "");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(SIZE, read.get());
+        assertEquals(SIZE, aggregated.get());
+        assertTrue(maxReadAhead.get() <= MAX_INFLIGHT,
+                "Should be at most " + MAX_INFLIGHT + " in flight, was: " + maxReadAhead);
+    }
+
+    @Test
+    public void testMaxInflightStreaming() throws Exception {
+        getMockEndpoint("mock:line").expectedMessageCount(SIZE);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:streaming", "");
+
+        assertMockEndpointsSatisfied();
+        assertEquals(SIZE, read.get());
+        assertEquals(SIZE, aggregated.get());
+        assertTrue(maxReadAhead.get() <= MAX_INFLIGHT,
+                "Should be at most " + MAX_INFLIGHT + " in flight, was: " + maxReadAhead);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:ordered")
+                        .split(method(new MySplitter(), "iterator"), new MyAggregationStrategy())
+                        .parallelProcessing().maxInflight(MAX_INFLIGHT)
+                        .to("direct:line")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:streaming")
+                        .split(method(new MySplitter(), "iterator"), new MyAggregationStrategy())
+                        .parallelProcessing().streaming().maxInflight(MAX_INFLIGHT)
+                        .to("direct:line")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:line")
+                        .process(e -> Thread.sleep(new Random().nextInt(5)))
+                        .to("mock:line");
+            }
+        };
+    }
+
+    public class MySplitter {
+
+        public Iterator<Integer> iterator() {
+            return new Iterator<Integer>() {
+                @Override
+                public boolean hasNext() {
+                    return read.get() < SIZE;
+                }
+
+                @Override
+                public Integer next() {
+                    // the number of lines read but not yet aggregated
+                    int ahead = read.get() - aggregated.get() + 1;
+                    maxReadAhead.accumulateAndGet(ahead, Math::max);
+                    return read.getAndIncrement();
+                }
+            };
+        }
+    }
+
+    public class MyAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            aggregated.incrementAndGet();
+            String body = newExchange.getIn().getBody(String.class) + ",";
+            if (oldExchange != null) {
+                body = oldExchange.getIn().getBody(String.class) + body;
+            }
+            newExchange.getIn().setBody(body);
+            return newExchange;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.aggregate.UseLatestAggregationStrategy;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the throughput of the aggregator using a single lock against striped locking, as the number of threads and
+ * correlation keys grows.
+ */
+@Disabled("Manual test")
+public class AggregateLockStripesPerformanceTest extends ContextTestSupport {
+
+    private final int size = 200000;
+    private final int[] threads = { 1, 4, 16, 32 };
+    private final int[] keys = { 1, 100, 10000 };
+
+    @Test
+    public void testPerformance() throws Exception {
+        for (int k : keys) {
+            for (int t : threads) {
+                long single = run("direct:single", t, k);
+                long striped = run("direct:striped", t, k);
+                log.info("Threads: {}, keys: {} -> single lock: {} msg/s, striped: {} msg/s", t, k, single, striped);
+            }
+        }
+    }
+
+    private long run(String uri, int threads, int keys) throws Exception {
+        ExecutorService service = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        int perThread = size / threads;
+
+        StopWatch watch = new StopWatch();
+        for (int t = 0; t < threads; t++) {
+            final int offset = t;
+            service.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    template.sendBodyAndHeader(uri, "x", "id", (offset + i) % keys);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(5, TimeUnit.MINUTES), "Should complete");
+        long taken = Math.max(1, watch.taken());
+        service.shutdownNow();
+
+        return (perThread * threads) * 1000L / taken;
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:single").aggregate(header("id"), new UseLatestAggregationStrategy()).completionSize(100)
+                        .to("log:single?level=OFF");
+
+                from("direct:striped").aggregate(header("id"), new UseLatestAggregationStrategy()).completionSize(100)
+                        .lockStripes(256)
+                        .to("log:striped?level=OFF");
+            }
+        };
+    }
+}
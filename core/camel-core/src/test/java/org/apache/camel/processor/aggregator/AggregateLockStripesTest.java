@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AggregateLockStripesTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(2);
+
+    @Test
+    public void testAggregateConcurrentPerCorrelationKey() throws Exception {
+        int keys = 50;
+        int size = 40;
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(keys);
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < keys * size; i++) {
+            final int id = i % keys;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:start", "x", "id", id);
+                return null;
+            });
+        }
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // every group must have been completed with exactly all its messages
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String body = exchange.getMessage().getBody(String.class);
+            assertEquals(size, body.split("\\+").length);
+        }
+    }
+
+    @Test
+    public void testAggregateDifferentCorrelationKeysInParallel() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:parallel");
+        mock.expectedBodiesReceivedInAnyOrder("A", "B");
+
+        // the strategy blocks until both correlation keys are being aggregated at the same time
+        // which would time out if the aggregator used a single lock for all the correlation keys
+        template.sendBodyAndHeader("seda:parallel", "A", "id", "A");
+        template.sendBodyAndHeader("seda:parallel", "B", "id", "B");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(40)
+                        .lockStripes(16)
+                        .to("mock:result");
+
+                from("seda:parallel?concurrentConsumers=2").aggregate(header("id"), new AwaitAggregationStrategy())
+                        .completionSize(1)
+                        .lockStripes(16)
+                        .to("mock:parallel");
+            }
+        };
+    }
+
+    private class AwaitAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            latch.countDown();
+            try {
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Took too long; assume threads are blocked by the aggregator lock");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return newExchange;
+        }
+    }
+}
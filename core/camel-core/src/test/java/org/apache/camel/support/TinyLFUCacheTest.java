@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TinyLFUCacheTest {
+
+    @Test
+    public void testCache() {
+        TinyLFUCache<String, String> cache = new TinyLFUCache<>(10);
+
+        assertNull(cache.put("A", "a"));
+        assertEquals("a", cache.get("A"));
+        assertEquals("a", cache.put("A", "aa"));
+        assertEquals("aa", cache.putIfAbsent("A", "aaa"));
+        assertNull(cache.putIfAbsent("B", "b"));
+        assertTrue(cache.containsKey("B"));
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.entrySet().size());
+
+        assertEquals("b", cache.replace("B", "bb"));
+        assertTrue(cache.replace("B", "bb", "bbb"));
+        assertFalse(cache.remove("B", "b"));
+        assertTrue(cache.remove("B", "bbb"));
+        assertEquals("aa", cache.remove("A"));
+        assertNull(cache.get("A"));
+        assertTrue(cache.isEmpty());
+
+        assertThrows(NullPointerException.class, () -> cache.put("C", null));
+        assertThrows(IllegalArgumentException.class, () -> new TinyLFUCache<>(0));
+    }
+
+    @Test
+    public void testStatistics() {
+        TinyLFUCache<String, String> cache = new TinyLFUCache<>(10);
+
+        cache.putIfAbsent("A", "a");
+        cache.putIfAbsent("A", "a");
+        cache.get("A");
+        cache.get("B");
+
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testBounded() {
+        List<String> evicted = new ArrayList<>();
+        TinyLFUCache<String, String> cache = new TinyLFUCache<>(100, 0, evicted::add);
+
+        for (int i = 0; i < 10000; i++) {
+            cache.put("key-" + i, "value-" + i);
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(9900, cache.getEvicted());
+        assertEquals(9900, evicted.size());
+    }
+
+    @Test
+    public void testEvictInsertionOrderWhenNotUsed() {
+        TinyLFUCache<String, String> cache = new TinyLFUCache<>(100);
+
+        for (int i = 0; i < 150; i++) {
+            cache.put("key-" + i, "value-" + i);
+        }
+
+        // entries which have not been used are evicted oldest first
+        assertFalse(cache.containsKey("key-0"));
+        assertTrue(cache.containsKey("key-149"));
+    }
+
+    @Test
+    public void testKeepFrequentlyUsed() {
+        TinyLFUCache<String, String> cache = new TinyLFUCache<>(100);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("hot-" + i, "value-" + i);
+        }
+        for (int n = 0; n < 10; n++) {
+            for (int i = 0; i < 10; i++) {
+                cache.get("hot-" + i);
+            }
+        }
+
+        // a scan of entries which are only used once should not evict the frequently used entries
+        for (int i = 0; i < 1000; i++) {
+            cache.put("cold-" + i, "value-" + i);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(cache.containsKey("hot-" + i), "Should keep hot-" + i);
+        }
+        assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    public void testTimeToLive() {
+        List<String> evicted = new ArrayList<>();
+        TinyLFUCache<String, String> cache = new TinyLFUCache<>(10, 100, evicted::add);
+
+        cache.put("A", "a");
+        assertEquals("a", cache.get("A"));
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> cache.get("A") == null);
+        assertEquals(1, cache.getEvicted());
+        assertEquals("a", evicted.get(0));
+        assertEquals(0, cache.size());
+
+        // the key can be added again
+        assertNull(cache.putIfAbsent("A", "b"));
+        assertEquals("b", cache.get("A"));
+    }
+
+    @Test
+    public void testConcurrent() throws Exception {
+        TinyLFUCache<Integer, Integer> cache = new TinyLFUCache<>(500);
+        int threads = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 20000; i++) {
+                    int key = random.nextInt(2000);
+                    if (cache.putIfAbsent(key, key) != null) {
+                        cache.get(key);
+                    }
+                    if (i % 100 == 0) {
+                        cache.remove(random.nextInt(2000));
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdownNow();
+
+        assertTrue(cache.size() <= 500, "Cache should be bounded, was: " + cache.size());
+        assertTrue(cache.getHits() + cache.getMisses() >= threads * 20000L);
+    }
+}
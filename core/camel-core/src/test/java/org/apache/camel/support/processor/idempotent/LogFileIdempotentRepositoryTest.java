@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LogFileIdempotentRepositoryTest extends TestSupport {
+
+    private File fileStore;
+
+    @BeforeEach
+    public void setup() {
+        fileStore = testDirectory(true).resolve("idempotent.log").toFile();
+    }
+
+    private LogFileIdempotentRepository createRepository() {
+        LogFileIdempotentRepository answer = new LogFileIdempotentRepository(fileStore);
+        answer.setCacheSize(10);
+        answer.start();
+        return answer;
+    }
+
+    @Test
+    public void testAddRemoveReload() throws Exception {
+        LogFileIdempotentRepository repo = createRepository();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(repo.add("key" + i));
+        }
+        assertFalse(repo.add("key5"));
+        assertTrue(repo.remove("key5"));
+        assertFalse(repo.remove("key5"));
+        assertFalse(repo.contains("key5"));
+        assertTrue(repo.contains("key50"));
+        assertEquals(99, repo.getSize());
+        repo.stop();
+
+        assertTrue(new File(fileStore.getPath() + ".index").exists());
+
+        // reload using the index file
+        repo = createRepository();
+        assertEquals(99, repo.getSize());
+        assertFalse(repo.contains("key5"));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i != 5, repo.contains("key" + i));
+        }
+        assertTrue(repo.add("key5"));
+        repo.stop();
+
+        // reload by rebuilding the index from the log
+        Files.delete(new File(fileStore.getPath() + ".index").toPath());
+        repo = createRepository();
+        assertEquals(100, repo.getSize());
+        assertTrue(repo.contains("key5"));
+        repo.stop();
+    }
+
+    @Test
+    public void testReplayAfterIndex() throws Exception {
+        LogFileIdempotentRepository repo = createRepository();
+        repo.add("A");
+        repo.add("B");
+        repo.stop();
+
+        // keep the index which only covers A and B
+        byte[] index = Files.readAllBytes(new File(fileStore.getPath() + ".index").toPath());
+        repo = createRepository();
+        repo.add("C");
+        repo.remove("A");
+        repo.stop();
+        Files.write(new File(fileStore.getPath() + ".index").toPath(), index);
+
+        repo = createRepository();
+        assertFalse(repo.contains("A"));
+        assertTrue(repo.contains("B"));
+        assertTrue(repo.contains("C"));
+        assertEquals(2, repo.getSize());
+        repo.stop();
+    }
+
+    @Test
+    public void testTruncatedTail() throws Exception {
+        LogFileIdempotentRepository repo = createRepository();
+        repo.add("A");
+        repo.add("B");
+        long valid = repo.getFileStoreSize();
+        repo.add("C");
+        repo.stop();
+        Files.delete(new File(fileStore.getPath() + ".index").toPath());
+
+        // simulate a crash while writing C
+        try (RandomAccessFile raf = new RandomAccessFile(fileStore, "rw")) {
+            raf.setLength(raf.length() - 2);
+        }
+
+        repo = createRepository();
+        assertEquals(valid, fileStore.length());
+        assertTrue(repo.contains("A"));
+        assertTrue(repo.contains("B"));
+        assertFalse(repo.contains("C"));
+        // can continue to add keys after the valid records
+        assertTrue(repo.add("C"));
+        repo.stop();
+
+        repo = createRepository();
+        assertTrue(repo.contains("C"));
+        assertEquals(3, repo.getSize());
+        repo.stop();
+    }
+
+    @Test
+    public void testCorruptTail() throws Exception {
+        LogFileIdempotentRepository repo = createRepository();
+        repo.add("A");
+        long valid = repo.getFileStoreSize();
+        repo.add("B");
+        repo.stop();
+        Files.delete(new File(fileStore.getPath() + ".index").toPath());
+
+        // corrupt the last byte of the key B
+        try (RandomAccessFile raf = new RandomAccessFile(fileStore, "rw")) {
+            raf.seek(raf.length() - 5);
+            raf.write('X');
+        }
+
+        repo = createRepository();
+        assertEquals(valid, fileStore.length());
+        assertTrue(repo.contains("A"));
+        assertFalse(repo.contains("B"));
+        repo.stop();
+    }
+
+    @Test
+    public void testCompaction() throws Exception {
+        LogFileIdempotentRepository repo = new LogFileIdempotentRepository(fileStore);
+        repo.setCompactionMinFileSize(1024);
+        repo.setCompactionRatio(0.5);
+        repo.start();
+
+        for (int i = 0; i < 200; i++) {
+            repo.add("key" + i);
+        }
+        long size = repo.getFileStoreSize();
+        for (int i = 0; i < 150; i++) {
+            repo.remove("key" + i);
+        }
+
+        assertTrue(repo.getCompactionCounter() > 0);
+        assertTrue(repo.getFileStoreSize() < size);
+        assertEquals(50, repo.getSize());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i >= 150, repo.contains("key" + i));
+        }
+        repo.stop();
+
+        repo = createRepository();
+        assertEquals(50, repo.getSize());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(i >= 150, repo.contains("key" + i));
+        }
+        repo.stop();
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        LogFileIdempotentRepository repo = createRepository();
+        repo.add("A");
+        repo.add("B");
+        repo.clear();
+        assertFalse(repo.contains("A"));
+        assertEquals(0, repo.getSize());
+        repo.add("C");
+        repo.stop();
+
+        repo = createRepository();
+        assertFalse(repo.contains("A"));
+        assertTrue(repo.contains("C"));
+        repo.stop();
+    }
+
+    @Test
+    public void testClearBeforeStart() throws Exception {
+        LogFileIdempotentRepository repo = createRepository();
+        repo.add("A");
+        repo.stop();
+
+        repo = new LogFileIdempotentRepository(fileStore);
+        repo.clear();
+        repo.start();
+        assertFalse(repo.contains("A"));
+        assertEquals(0, repo.getSize());
+        repo.stop();
+    }
+
+    @Test
+    public void testConvertTextStore() throws Exception {
+        Files.write(fileStore.toPath(), "A\nB\nC\n".getBytes(StandardCharsets.UTF_8));
+
+        LogFileIdempotentRepository repo = createRepository();
+        assertEquals(3, repo.getSize());
+        assertTrue(repo.contains("A"));
+        assertTrue(repo.contains("B"));
+        assertTrue(repo.contains("C"));
+        assertFalse(repo.contains("D"));
+        repo.stop();
+    }
+}
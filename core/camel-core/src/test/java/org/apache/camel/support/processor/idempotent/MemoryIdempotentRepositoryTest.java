@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.support.TinyLFUCache;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryIdempotentRepositoryTest {
+
+    @Test
+    public void testAddAndContains() throws Exception {
+        MemoryIdempotentRepository repo = (MemoryIdempotentRepository) MemoryIdempotentRepository.memoryIdempotentRepository();
+        repo.start();
+        assertFalse(repo.getCache() instanceof TinyLFUCache, "Should use a LRU cache by default");
+
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+        assertTrue(repo.contains("A"));
+        assertFalse(repo.contains("B"));
+        assertEquals(1, repo.getCacheSize());
+
+        assertEquals(2, repo.getCacheHits());
+        assertEquals(2, repo.getCacheMisses());
+
+        assertTrue(repo.remove("A"));
+        assertFalse(repo.contains("A"));
+        assertTrue(repo.add("A"));
+
+        repo.resetStatistics();
+        assertEquals(0, repo.getCacheHits());
+        assertEquals(0, repo.getCacheMisses());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testEvict() throws Exception {
+        MemoryIdempotentRepository repo
+                = (MemoryIdempotentRepository) MemoryIdempotentRepository.memoryIdempotentRepository(10);
+        repo.start();
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(repo.add("key-" + i));
+        }
+        assertEquals(10, repo.getCacheSize());
+        assertEquals(90, repo.getCacheEvicted());
+        assertTrue(repo.contains("key-99"));
+
+        repo.stop();
+    }
+
+    @Test
+    public void testTinyLFU() throws Exception {
+        MemoryIdempotentRepository repo = new MemoryIdempotentRepository();
+        repo.setCacheType(MemoryIdempotentRepository.CacheType.TinyLFU);
+        repo.setCacheSize(10);
+        repo.start();
+        assertTrue(repo.getCache() instanceof TinyLFUCache);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(repo.add("key-" + i));
+        }
+        assertEquals(10, repo.getCacheSize());
+        assertEquals(90, repo.getCacheEvicted());
+
+        repo.stop();
+    }
+
+    @Test
+    public void testTimeToLive() throws Exception {
+        MemoryIdempotentRepository repo = new MemoryIdempotentRepository();
+        repo.setCacheType(MemoryIdempotentRepository.CacheType.TinyLFU);
+        repo.setCacheSize(100);
+        repo.setTimeToLive(100);
+        repo.start();
+
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+
+        await().atMost(2, TimeUnit.SECONDS).until(() -> !repo.contains("A"));
+        assertEquals(1, repo.getCacheEvicted());
+        assertTrue(repo.add("A"));
+
+        repo.stop();
+    }
+
+    @Test
+    public void testTimeToLiveNotSupportedByLRU() throws Exception {
+        MemoryIdempotentRepository repo = new MemoryIdempotentRepository();
+        repo.setTimeToLive(100);
+
+        assertThrows(IllegalArgumentException.class, repo::start);
+    }
+
+    @Test
+    public void testKeepKeysAddedBeforeStart() throws Exception {
+        MemoryIdempotentRepository repo
+                = (MemoryIdempotentRepository) MemoryIdempotentRepository.memoryIdempotentRepository(10);
+        repo.add("A");
+        repo.start();
+
+        assertTrue(repo.contains("A"));
+
+        repo.stop();
+    }
+
+    @Test
+    public void testSynchronizedMap() throws Exception {
+        MemoryIdempotentRepository repo = new MemoryIdempotentRepository(new LinkedHashMap<>());
+        repo.start();
+
+        assertTrue(repo.add("A"));
+        assertFalse(repo.add("A"));
+        assertTrue(repo.contains("A"));
+        assertEquals(2, repo.getCacheHits());
+        assertEquals(1, repo.getCacheMisses());
+        assertTrue(repo.remove("A"));
+
+        repo.stop();
+    }
+}
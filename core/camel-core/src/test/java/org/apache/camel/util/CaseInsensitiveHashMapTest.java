@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CaseInsensitiveHashMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertNull(map.get(null));
+        assertNull(map.get(123));
+    }
+
+    @Test
+    public void testSetWithDifferentCase() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("foo", "cake");
+
+        assertEquals(1, map.size());
+        assertEquals("cake", map.get("FOO"));
+        // the 1st key is kept
+        assertEquals("Foo", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testRemoveWithDifferentCase() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("Bar", null);
+
+        assertTrue(map.containsKey("bar"));
+        assertEquals("cheese", map.remove("FOO"));
+        assertNull(map.get("foo"));
+        assertFalse(map.containsKey("foo"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("c", 3);
+        map.put("a", 1);
+        map.put("b", 2);
+        map.remove("a");
+        map.put("A", 4);
+
+        List<String> keys = new ArrayList<>(map.keySet());
+        assertEquals("[c, b, A]", keys.toString());
+        assertEquals("{c=3, b=2, A=4}", map.toString());
+    }
+
+    @Test
+    public void testNonAscii() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Größe", 1);
+        map.put("ÆBLE", 2);
+
+        assertEquals(1, map.get("gRÖßE"));
+        assertEquals(2, map.get("æble"));
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> copy = new CaseInsensitiveHashMap(map);
+        Map<String, Object> copy2 = new CaseInsensitiveHashMap();
+        copy2.putAll(map);
+        assertEquals(map, copy);
+        assertEquals(map, copy2);
+
+        copy.put("FOO", "cake");
+        copy.put("baz", true);
+        copy2.remove("bar");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals(123, map.get("bar"));
+        assertEquals(2, map.size());
+
+        assertEquals("cake", copy.get("foo"));
+        assertEquals(3, copy.size());
+
+        assertNull(copy2.get("bar"));
+        assertEquals(1, copy2.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(3, copy.size());
+        assertEquals("cheese", copy2.get("foo"));
+    }
+
+    @Test
+    public void testIteratorRemoveAndSetValue() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        for (int i = 0; i < 20; i++) {
+            map.put("key" + i, i);
+        }
+        Map<String, Object> copy = new CaseInsensitiveHashMap(map);
+
+        Iterator<Map.Entry<String, Object>> it = copy.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            int value = (Integer) entry.getValue();
+            if (value % 2 == 0) {
+                it.remove();
+            } else {
+                entry.setValue(value * 10);
+            }
+        }
+
+        assertEquals(10, copy.size());
+        assertEquals(10, copy.get("KEY1"));
+        assertNull(copy.get("key2"));
+        assertEquals(20, map.size());
+        assertEquals(1, map.get("KEY1"));
+    }
+
+    @Test
+    public void testSameAsCaseInsensitiveMap() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        Map<String, Object> expected = new CaseInsensitiveMap();
+
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            String key = randomCase(random, "header" + random.nextInt(200));
+            int op = random.nextInt(3);
+            if (op == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            }
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(new HashMap<>(expected), new HashMap<>(map));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        CaseInsensitiveHashMap testMap = new CaseInsensitiveHashMap();
+        testMap.put("key", "value");
+        testMap.entrySet();
+
+        ByteArrayOutputStream bStream = new ByteArrayOutputStream();
+        ObjectOutputStream objStream = new ObjectOutputStream(bStream);
+        objStream.writeObject(testMap);
+
+        ObjectInputStream inStream = new ObjectInputStream(new ByteArrayInputStream(bStream.toByteArray()));
+        CaseInsensitiveHashMap testMapCopy = (CaseInsensitiveHashMap) inStream.readObject();
+
+        assertTrue(testMapCopy.containsKey("KEY"));
+        testMapCopy.put("other", "value2");
+        assertEquals(2, testMapCopy.size());
+    }
+
+    private static String randomCase(Random random, String key) {
+        StringBuilder sb = new StringBuilder(key.length());
+        for (char ch : key.toCharArray()) {
+            sb.append(random.nextBoolean() ? Character.toUpperCase(ch) : ch);
+        }
+        return sb.toString();
+    }
+
+}
@@ -2221,6 +2221,49 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to use a timing wheel to keep track of timed out Exchanges
+         * when doing request/reply over JMS. By default the timeout checker
+         * scans all the pending replies every time it runs. With a timing wheel
+         * the timeouts are spread over buckets by their due time, and the
+         * checker only visits the buckets which are due. This is recommended
+         * when there are a large number of in-flight request/reply messages.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointConsumerBuilder requestTimeoutTimingWheel(
+                boolean requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to use a timing wheel to keep track of timed out Exchanges
+         * when doing request/reply over JMS. By default the timeout checker
+         * scans all the pending replies every time it runs. With a timing wheel
+         * the timeouts are spread over buckets by their due time, and the
+         * checker only visits the buckets which are due. This is recommended
+         * when there are a large number of in-flight request/reply messages.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointConsumerBuilder requestTimeoutTimingWheel(
+                String requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -4707,6 +4750,49 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to use a timing wheel to keep track of timed out Exchanges
+         * when doing request/reply over JMS. By default the timeout checker
+         * scans all the pending replies every time it runs. With a timing wheel
+         * the timeouts are spread over buckets by their due time, and the
+         * checker only visits the buckets which are due. This is recommended
+         * when there are a large number of in-flight request/reply messages.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointProducerBuilder requestTimeoutTimingWheel(
+                boolean requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to use a timing wheel to keep track of timed out Exchanges
+         * when doing request/reply over JMS. By default the timeout checker
+         * scans all the pending replies every time it runs. With a timing wheel
+         * the timeouts are spread over buckets by their due time, and the
+         * checker only visits the buckets which are due. This is recommended
+         * when there are a large number of in-flight request/reply messages.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointProducerBuilder requestTimeoutTimingWheel(
+                String requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -6303,6 +6389,49 @@ public interface AMQPEndpointBuilderFactory {
             doSetProperty("requestTimeoutCheckerInterval", requestTimeoutCheckerInterval);
             return this;
         }
+        /**
+         * Whether to use a timing wheel to keep track of timed out Exchanges
+         * when doing request/reply over JMS. By default the timeout checker
+         * scans all the pending replies every time it runs. With a timing wheel
+         * the timeouts are spread over buckets by their due time, and the
+         * checker only visits the buckets which are due. This is recommended
+         * when there are a large number of in-flight request/reply messages.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointBuilder requestTimeoutTimingWheel(
+                boolean requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
+        /**
+         * Whether to use a timing wheel to keep track of timed out Exchanges
+         * when doing request/reply over JMS. By default the timeout checker
+         * scans all the pending replies every time it runs. With a timing wheel
+         * the timeouts are spread over buckets by their due time, and the
+         * checker only visits the buckets which are due. This is recommended
+         * when there are a large number of in-flight request/reply messages.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param requestTimeoutTimingWheel the value to set
+         * @return the dsl builder
+         */
+        default AdvancedAMQPEndpointBuilder requestTimeoutTimingWheel(
+                String requestTimeoutTimingWheel) {
+            doSetProperty("requestTimeoutTimingWheel", requestTimeoutTimingWheel);
+            return this;
+        }
         /**
          * Sets whether synchronous processing should be strictly used.
          * 
@@ -2336,6 +2336,51 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("extendedAttributes", extendedAttributes);
             return this;
         }
+        /**
+         * Whether to keep the listings of the scanned directories between
+         * polls, and use a java.nio.file.WatchService to only list the
+         * directories again which have changed. This avoids listing large
+         * directories which have not changed, such as when using noop=true, at
+         * the cost of keeping the listings in memory. Notice that on some
+         * platforms the watch service detects changes with a delay (by
+         * polling).
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(
+                boolean incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
+        /**
+         * Whether to keep the listings of the scanned directories between
+         * polls, and use a java.nio.file.WatchService to only list the
+         * directories again which have changed. This avoids listing large
+         * directories which have not changed, such as when using noop=true, at
+         * the cost of keeping the listings in memory. Notice that on some
+         * platforms the watch service detects changes with a delay (by
+         * polling).
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(
+                String incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
         /**
          * A pluggable in-progress repository
          * org.apache.camel.spi.IdempotentRepository. The in-progress repository
@@ -2551,6 +2596,51 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("processStrategy", processStrategy);
             return this;
         }
+        /**
+         * The number of threads used for scanning the sub directories
+         * concurrently, when the recursive option is enabled. By default (value
+         * of 0) the directories are scanned one at a time by the consumer
+         * thread. The files are gathered in the same order as when the
+         * directories are scanned one at a time, and the maxMessagesPerPoll
+         * option is honored. The directories are listed by the scan threads,
+         * while the files are still filtered and validated by the consumer
+         * thread, so custom filters and repositories do not need to be
+         * thread-safe.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param scanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder scanThreads(int scanThreads) {
+            doSetProperty("scanThreads", scanThreads);
+            return this;
+        }
+        /**
+         * The number of threads used for scanning the sub directories
+         * concurrently, when the recursive option is enabled. By default (value
+         * of 0) the directories are scanned one at a time by the consumer
+         * thread. The files are gathered in the same order as when the
+         * directories are scanned one at a time, and the maxMessagesPerPoll
+         * option is honored. The directories are listed by the scan threads,
+         * while the files are still filtered and validated by the consumer
+         * thread, so custom filters and repositories do not need to be
+         * thread-safe.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param scanThreads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder scanThreads(
+                String scanThreads) {
+            doSetProperty("scanThreads", scanThreads);
+            return this;
+        }
         /**
          * Whether the starting directory must exist. Mind that the autoCreate
          * option is default enabled, which means the starting directory is
@@ -388,6 +388,55 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to process the records from each poll as a single batch. When
+         * enabled the consumer creates one exchange per poll, where the message
+         * body is a java.util.List of exchanges (one per record, with the same
+         * headers as when not batching), and the offsets of all the records in
+         * the batch are committed together when the batch has been processed.
+         * When allowManualCommit is enabled then the batch exchange has a
+         * single KafkaManualCommit which commits the last offset of every
+         * partition in the batch. The size of the batches is bound by the
+         * maxPollRecords option. This option cannot be used together with
+         * processingThreads.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether to process the records from each poll as a single batch. When
+         * enabled the consumer creates one exchange per poll, where the message
+         * body is a java.util.List of exchanges (one per record, with the same
+         * headers as when not batching), and the offsets of all the records in
+         * the batch are committed together when the batch has been processed.
+         * When allowManualCommit is enabled then the batch exchange has a
+         * single KafkaManualCommit which commits the last offset of every
+         * partition in the batch. The size of the batches is bound by the
+         * maxPollRecords option. This option cannot be used together with
+         * processingThreads.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -1106,6 +1155,78 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("pollTimeoutMs", pollTimeoutMs);
             return this;
         }
+        /**
+         * The order to keep when processing the consumed records concurrently
+         * (see the processingThreads option). With partition the records from
+         * the same partition are processed one at a time in the order of the
+         * partition, and with key the records with the same key (from the same
+         * partition) are processed one at a time in order, which allows
+         * processing the records from a partition concurrently. Records without
+         * a key are ordered by partition.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: partition
+         * Group: consumer
+         * 
+         * @param processingOrder the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder processingOrder(
+                String processingOrder) {
+            doSetProperty("processingOrder", processingOrder);
+            return this;
+        }
+        /**
+         * The number of worker threads which processes the consumed records
+         * concurrently. By default (value of 0) the records are processed one
+         * at a time by the consumer thread which polled them. When in use the
+         * records are dispatched to the worker threads while the consumer keeps
+         * polling, and the order of the records is kept per partition, or per
+         * key (see the processingOrder option). The consumer commits the offset
+         * of the records which have been processed without gaps, at the
+         * interval of the autoCommitIntervalMs option, and the consumer pauses
+         * fetching from the partitions while more than twice maxPollRecords
+         * records are in progress. This option cannot be used together with
+         * allowManualCommit.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder processingThreads(
+                int processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
+        /**
+         * The number of worker threads which processes the consumed records
+         * concurrently. By default (value of 0) the records are processed one
+         * at a time by the consumer thread which polled them. When in use the
+         * records are dispatched to the worker threads while the consumer keeps
+         * polling, and the order of the records is kept per partition, or per
+         * key (see the processingOrder option). The consumer commits the offset
+         * of the records which have been processed without gaps, at the
+         * interval of the autoCommitIntervalMs option, and the consumer pauses
+         * fetching from the partitions while more than twice maxPollRecords
+         * records are in progress. This option cannot be used together with
+         * allowManualCommit.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param processingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder processingThreads(
+                String processingThreads) {
+            doSetProperty("processingThreads", processingThreads);
+            return this;
+        }
         /**
          * Set if KafkaConsumer will read from beginning or end on startup:
          * beginning : read from beginning end : read from end This is replacing
@@ -839,6 +839,124 @@ public interface LogEndpointBuilderFactory {
         default LogEndpointBuilder basic() {
             return (LogEndpointBuilder) this;
         }
+        /**
+         * Whether to discard messages which cannot be queued to be logged
+         * asynchronously, because the queue is full. The number of discarded
+         * messages is available from JMX. If disabled, then the message is
+         * logged by the routing thread instead. The routing thread never blocks
+         * waiting for the queue.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: true
+         * Group: advanced
+         * 
+         * @param asyncDiscardWhenFull the value to set
+         * @return the dsl builder
+         */
+        default AdvancedLogEndpointBuilder asyncDiscardWhenFull(
+                boolean asyncDiscardWhenFull) {
+            doSetProperty("asyncDiscardWhenFull", asyncDiscardWhenFull);
+            return this;
+        }
+        /**
+         * Whether to discard messages which cannot be queued to be logged
+         * asynchronously, because the queue is full. The number of discarded
+         * messages is available from JMX. If disabled, then the message is
+         * logged by the routing thread instead. The routing thread never blocks
+         * waiting for the queue.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: true
+         * Group: advanced
+         * 
+         * @param asyncDiscardWhenFull the value to set
+         * @return the dsl builder
+         */
+        default AdvancedLogEndpointBuilder asyncDiscardWhenFull(
+                String asyncDiscardWhenFull) {
+            doSetProperty("asyncDiscardWhenFull", asyncDiscardWhenFull);
+            return this;
+        }
+        /**
+         * Whether to format and log the messages asynchronously by a background
+         * thread, so the routing thread does not have to format the message. A
+         * shallow snapshot of the exchange is queued, and the background thread
+         * formats and logs the queued exchanges in batches. When log listeners
+         * are in use, then the routing thread formats the message, as the
+         * listeners are called by the routing thread. Messages with a stream
+         * body are always logged by the routing thread. This option is not in
+         * use when logging throughput (groupSize or groupInterval).
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param asyncLogging the value to set
+         * @return the dsl builder
+         */
+        default AdvancedLogEndpointBuilder asyncLogging(boolean asyncLogging) {
+            doSetProperty("asyncLogging", asyncLogging);
+            return this;
+        }
+        /**
+         * Whether to format and log the messages asynchronously by a background
+         * thread, so the routing thread does not have to format the message. A
+         * shallow snapshot of the exchange is queued, and the background thread
+         * formats and logs the queued exchanges in batches. When log listeners
+         * are in use, then the routing thread formats the message, as the
+         * listeners are called by the routing thread. Messages with a stream
+         * body are always logged by the routing thread. This option is not in
+         * use when logging throughput (groupSize or groupInterval).
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: advanced
+         * 
+         * @param asyncLogging the value to set
+         * @return the dsl builder
+         */
+        default AdvancedLogEndpointBuilder asyncLogging(String asyncLogging) {
+            doSetProperty("asyncLogging", asyncLogging);
+            return this;
+        }
+        /**
+         * The maximum number of messages which can be queued to be logged
+         * asynchronously.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: advanced
+         * 
+         * @param asyncQueueSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedLogEndpointBuilder asyncQueueSize(int asyncQueueSize) {
+            doSetProperty("asyncQueueSize", asyncQueueSize);
+            return this;
+        }
+        /**
+         * The maximum number of messages which can be queued to be logged
+         * asynchronously.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: advanced
+         * 
+         * @param asyncQueueSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedLogEndpointBuilder asyncQueueSize(String asyncQueueSize) {
+            doSetProperty("asyncQueueSize", asyncQueueSize);
+            return this;
+        }
         /**
          * To use a custom exchange formatter.
          * 
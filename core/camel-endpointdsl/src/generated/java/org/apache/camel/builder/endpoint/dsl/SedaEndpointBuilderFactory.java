@@ -165,6 +165,85 @@ public interface SedaEndpointBuilderFactory {
         default SedaEndpointConsumerBuilder basic() {
             return (SedaEndpointConsumerBuilder) this;
         }
+        /**
+         * Whether the exchanges taken from the queue in one batch are routed as
+         * a single exchange, where the message body is a List of the exchanges.
+         * The exchanges in the list are completed when the grouped exchange is
+         * completed. This option is only in use when batchSize is more than 1.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchGrouped the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchGrouped(
+                boolean batchGrouped) {
+            doSetProperty("batchGrouped", batchGrouped);
+            return this;
+        }
+        /**
+         * Whether the exchanges taken from the queue in one batch are routed as
+         * a single exchange, where the message body is a List of the exchanges.
+         * The exchanges in the list are completed when the grouped exchange is
+         * completed. This option is only in use when batchSize is more than 1.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchGrouped the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchGrouped(
+                String batchGrouped) {
+            doSetProperty("batchGrouped", batchGrouped);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges a consumer thread takes from the
+         * queue each time it wakes up. When more than one exchange is taken,
+         * then the exchanges are processed one after the other without waiting
+         * on the queue in between, and each exchange has the batch properties
+         * (index, size and complete) set. The default value is 1, which takes
+         * one exchange at a time.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges a consumer thread takes from the
+         * queue each time it wakes up. When more than one exchange is taken,
+         * then the exchanges are processed one after the other without waiting
+         * on the queue in between, and each exchange has the batch properties
+         * (index, size and complete) set. The default value is 1, which takes
+         * one exchange at a time.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * To let the consumer use a custom ExceptionHandler. Notice if the
          * option bridgeErrorHandler is enabled then this option is not in use.
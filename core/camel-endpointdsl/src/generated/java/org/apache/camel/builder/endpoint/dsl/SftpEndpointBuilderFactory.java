@@ -2759,6 +2759,54 @@ public interface SftpEndpointBuilderFactory {
             doSetProperty("fastExistsCheck", fastExistsCheck);
             return this;
         }
+        /**
+         * The number of files the FTP consumer downloads (and processes)
+         * concurrently, where each file is downloaded using its own connection
+         * to the FTP server. The connections are kept in a pool and reused
+         * across polls. The consumer then holds up to N+1 connections to the
+         * FTP server: its own connection which lists the files, and the N
+         * pooled connections which download the files. Notice that the files
+         * are then not processed in order. The default (0) downloads and
+         * processes the files one by one using the single connection of the
+         * consumer.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: consumer (advanced)
+         * 
+         * @param concurrentDownloads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSftpEndpointConsumerBuilder concurrentDownloads(
+                int concurrentDownloads) {
+            doSetProperty("concurrentDownloads", concurrentDownloads);
+            return this;
+        }
+        /**
+         * The number of files the FTP consumer downloads (and processes)
+         * concurrently, where each file is downloaded using its own connection
+         * to the FTP server. The connections are kept in a pool and reused
+         * across polls. The consumer then holds up to N+1 connections to the
+         * FTP server: its own connection which lists the files, and the N
+         * pooled connections which download the files. Notice that the files
+         * are then not processed in order. The default (0) downloads and
+         * processes the files one by one using the single connection of the
+         * consumer.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 0
+         * Group: consumer (advanced)
+         * 
+         * @param concurrentDownloads the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSftpEndpointConsumerBuilder concurrentDownloads(
+                String concurrentDownloads) {
+            doSetProperty("concurrentDownloads", concurrentDownloads);
+            return this;
+        }
         /**
          * Whether the FTP consumer should download the file. If this option is
          * set to false, then the message body will be null, but the consumer
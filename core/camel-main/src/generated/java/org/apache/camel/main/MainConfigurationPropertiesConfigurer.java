@@ -53,6 +53,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "Configurations": target.setConfigurations(property(camelContext, java.util.List.class, value)); return true;
         case "consumertemplatecachesize":
         case "ConsumerTemplateCacheSize": target.setConsumerTemplateCacheSize(property(camelContext, int.class, value)); return true;
+        case "copyonwriteexchange":
+        case "CopyOnWriteExchange": target.setCopyOnWriteExchange(property(camelContext, boolean.class, value)); return true;
         case "durationhitexitcode":
         case "DurationHitExitCode": target.setDurationHitExitCode(property(camelContext, int.class, value)); return true;
         case "durationmaxidleseconds":
@@ -183,6 +185,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolCipher": target.setStreamCachingSpoolCipher(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
+        case "streamcachingspooloffheap":
+        case "StreamCachingSpoolOffHeap": target.setStreamCachingSpoolOffHeap(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooloffheapmaxsize":
+        case "StreamCachingSpoolOffHeapMaxSize": target.setStreamCachingSpoolOffHeapMaxSize(property(camelContext, long.class, value)); return true;
+        case "streamcachingspooloffheapsegmentsize":
+        case "StreamCachingSpoolOffHeapSegmentSize": target.setStreamCachingSpoolOffHeapSegmentSize(property(camelContext, int.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -244,6 +252,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "Configurations": return java.util.List.class;
         case "consumertemplatecachesize":
         case "ConsumerTemplateCacheSize": return int.class;
+        case "copyonwriteexchange":
+        case "CopyOnWriteExchange": return boolean.class;
         case "durationhitexitcode":
         case "DurationHitExitCode": return int.class;
         case "durationmaxidleseconds":
@@ -374,6 +384,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolCipher": return java.lang.String.class;
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return java.lang.String.class;
+        case "streamcachingspooloffheap":
+        case "StreamCachingSpoolOffHeap": return boolean.class;
+        case "streamcachingspooloffheapmaxsize":
+        case "StreamCachingSpoolOffHeapMaxSize": return long.class;
+        case "streamcachingspooloffheapsegmentsize":
+        case "StreamCachingSpoolOffHeapSegmentSize": return int.class;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return long.class;
         case "streamcachingspoolusedheapmemorylimit":
@@ -436,6 +452,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "Configurations": return target.getConfigurations();
         case "consumertemplatecachesize":
         case "ConsumerTemplateCacheSize": return target.getConsumerTemplateCacheSize();
+        case "copyonwriteexchange":
+        case "CopyOnWriteExchange": return target.isCopyOnWriteExchange();
         case "durationhitexitcode":
         case "DurationHitExitCode": return target.getDurationHitExitCode();
         case "durationmaxidleseconds":
@@ -566,6 +584,12 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolCipher": return target.getStreamCachingSpoolCipher();
         case "streamcachingspooldirectory":
         case "StreamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
+        case "streamcachingspooloffheap":
+        case "StreamCachingSpoolOffHeap": return target.isStreamCachingSpoolOffHeap();
+        case "streamcachingspooloffheapmaxsize":
+        case "StreamCachingSpoolOffHeapMaxSize": return target.getStreamCachingSpoolOffHeapMaxSize();
+        case "streamcachingspooloffheapsegmentsize":
+        case "StreamCachingSpoolOffHeapSegmentSize": return target.getStreamCachingSpoolOffHeapSegmentSize();
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
@@ -197,6 +197,14 @@ public final class DefaultConfigurationConfigurer {
             camelContext.getStreamCachingStrategy()
                     .setSpoolUsedHeapMemoryThreshold(config.getStreamCachingSpoolUsedHeapMemoryThreshold());
         }
+        camelContext.getStreamCachingStrategy().setSpoolOffHeap(config.isStreamCachingSpoolOffHeap());
+        if (config.getStreamCachingSpoolOffHeapSegmentSize() != 0) {
+            camelContext.getStreamCachingStrategy()
+                    .setSpoolOffHeapSegmentSize(config.getStreamCachingSpoolOffHeapSegmentSize());
+        }
+        if (config.getStreamCachingSpoolOffHeapMaxSize() != 0) {
+            camelContext.getStreamCachingStrategy().setSpoolOffHeapMaxSize(config.getStreamCachingSpoolOffHeapMaxSize());
+        }
 
         if ("default".equals(config.getUuidGenerator())) {
             camelContext.setUuidGenerator(new DefaultUuidGenerator());
@@ -219,6 +227,7 @@ public final class DefaultConfigurationConfigurer {
         camelContext.setCaseInsensitiveHeaders(config.isCaseInsensitiveHeaders());
         camelContext.setAutowiredEnabled(config.isAutowiredEnabled());
         camelContext.setUseBreadcrumb(config.isUseBreadcrumb());
+        camelContext.setCopyOnWriteExchange(config.isCopyOnWriteExchange());
         camelContext.setUseDataType(config.isUseDataType());
         camelContext.setUseMDCLogging(config.isUseMdcLogging());
         camelContext.setMDCLoggingKeysPattern(config.getMdcLoggingKeysPattern());
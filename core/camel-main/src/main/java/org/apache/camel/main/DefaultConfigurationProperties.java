@@ -53,6 +53,9 @@ public abstract class DefaultConfigurationProperties<T> {
     private long streamCachingSpoolThreshold;
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     private String streamCachingSpoolUsedHeapMemoryLimit;
+    private boolean streamCachingSpoolOffHeap;
+    private int streamCachingSpoolOffHeapSegmentSize;
+    private long streamCachingSpoolOffHeapMaxSize;
     private boolean streamCachingAnySpoolRules;
     private int streamCachingBufferSize;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
@@ -72,6 +75,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private boolean endpointBridgeErrorHandler;
     private boolean useDataType;
     private boolean useBreadcrumb;
+    private boolean copyOnWriteExchange;
     private boolean beanPostProcessorEnabled = true;
     @Metadata(defaultValue = "Default")
     private ManagementStatisticsLevel jmxManagementStatisticsLevel = ManagementStatisticsLevel.Default;
@@ -419,6 +423,47 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolUsedHeapMemoryLimit = streamCachingSpoolUsedHeapMemoryLimit;
     }
 
+    public boolean isStreamCachingSpoolOffHeap() {
+        return streamCachingSpoolOffHeap;
+    }
+
+    /**
+     * Sets whether to spool to off-heap memory before spooling to disk. A shared arena of direct memory is allocated
+     * and divided into segments, which stream caches are spooled to, and the segments are recycled when the exchange is
+     * done. When there are no free segments then the stream cache is spooled to disk.
+     *
+     * Spooling off-heap is not in use when a spool cipher has been configured.
+     */
+    public void setStreamCachingSpoolOffHeap(boolean streamCachingSpoolOffHeap) {
+        this.streamCachingSpoolOffHeap = streamCachingSpoolOffHeap;
+    }
+
+    public int getStreamCachingSpoolOffHeapSegmentSize() {
+        return streamCachingSpoolOffHeapSegmentSize;
+    }
+
+    /**
+     * Sets the size in bytes of the segments of the off-heap spool.
+     *
+     * The default size is 64kb.
+     */
+    public void setStreamCachingSpoolOffHeapSegmentSize(int streamCachingSpoolOffHeapSegmentSize) {
+        this.streamCachingSpoolOffHeapSegmentSize = streamCachingSpoolOffHeapSegmentSize;
+    }
+
+    public long getStreamCachingSpoolOffHeapMaxSize() {
+        return streamCachingSpoolOffHeapMaxSize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the off-heap spool, which is allocated when stream caching is started.
+     *
+     * The default size is 64mb.
+     */
+    public void setStreamCachingSpoolOffHeapMaxSize(long streamCachingSpoolOffHeapMaxSize) {
+        this.streamCachingSpoolOffHeapMaxSize = streamCachingSpoolOffHeapMaxSize;
+    }
+
     public boolean isStreamCachingAnySpoolRules() {
         return streamCachingAnySpoolRules;
     }
@@ -687,6 +732,22 @@ public abstract class DefaultConfigurationProperties<T> {
         this.useBreadcrumb = useBreadcrumb;
     }
 
+    public boolean isCopyOnWriteExchange() {
+        return copyOnWriteExchange;
+    }
+
+    /**
+     * Whether copies of exchanges (such as by the multicast, recipient list, splitter and wire tap EIPs) are
+     * copy-on-write, where the exchange properties of a copy are shared with the exchange it was copied from, until
+     * either exchange changes its properties. This makes copying exchanges with many properties cheap. Only the
+     * exchange properties are copy-on-write, as the message headers of a copy are still copied.
+     *
+     * The default value is false.
+     */
+    public void setCopyOnWriteExchange(boolean copyOnWriteExchange) {
+        this.copyOnWriteExchange = copyOnWriteExchange;
+    }
+
     public boolean isBeanPostProcessorEnabled() {
         return beanPostProcessorEnabled;
     }
@@ -1453,6 +1514,38 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether to spool to off-heap memory before spooling to disk. A shared arena of direct memory is allocated
+     * and divided into segments, which stream caches are spooled to, and the segments are recycled when the exchange is
+     * done. When there are no free segments then the stream cache is spooled to disk.
+     *
+     * Spooling off-heap is not in use when a spool cipher has been configured.
+     */
+    public T withStreamCachingSpoolOffHeap(boolean streamCachingSpoolOffHeap) {
+        this.streamCachingSpoolOffHeap = streamCachingSpoolOffHeap;
+        return (T) this;
+    }
+
+    /**
+     * Sets the size in bytes of the segments of the off-heap spool.
+     *
+     * The default size is 64kb.
+     */
+    public T withStreamCachingSpoolOffHeapSegmentSize(int streamCachingSpoolOffHeapSegmentSize) {
+        this.streamCachingSpoolOffHeapSegmentSize = streamCachingSpoolOffHeapSegmentSize;
+        return (T) this;
+    }
+
+    /**
+     * Sets the maximum size in bytes of the off-heap spool, which is allocated when stream caching is started.
+     *
+     * The default size is 64mb.
+     */
+    public T withStreamCachingSpoolOffHeapMaxSize(long streamCachingSpoolOffHeapMaxSize) {
+        this.streamCachingSpoolOffHeapMaxSize = streamCachingSpoolOffHeapMaxSize;
+        return (T) this;
+    }
+
     /**
      * Sets whether if just any of the org.apache.camel.spi.StreamCachingStrategy.SpoolRule rules returns true then
      * shouldSpoolCache(long) returns true, to allow spooling to disk. If this option is false, then all the
@@ -1642,6 +1735,19 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether copies of exchanges (such as by the multicast, recipient list, splitter and wire tap EIPs) are
+     * copy-on-write, where the exchange properties of a copy are shared with the exchange it was copied from, until
+     * either exchange changes its properties. This makes copying exchanges with many properties cheap. Only the
+     * exchange properties are copy-on-write, as the message headers of a copy are still copied.
+     *
+     * The default value is false.
+     */
+    public T withCopyOnWriteExchange(boolean copyOnWriteExchange) {
+        this.copyOnWriteExchange = copyOnWriteExchange;
+        return (T) this;
+    }
+
     /**
      * Can be used to turn off bean post processing.
      *
@@ -40,6 +40,7 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     // profile specific values
     private Map<String, ThreadPoolProfileConfigurationProperties> config = new HashMap<>();
@@ -138,6 +139,19 @@ public class ThreadPoolConfigurationProperties implements BootstrapCloseable {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets the default whether to use virtual threads, which executes each task in a new virtual thread, instead of
+     * using a pool of platform threads. This requires a JDK which supports virtual threads, and on older JDKs a pool of
+     * platform threads is used.
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public Map<String, ThreadPoolProfileConfigurationProperties> getConfig() {
         return config;
     }
@@ -30,6 +30,7 @@ public class ThreadPoolProfileConfigurationProperties {
     private Integer maxQueueSize;
     private Boolean allowCoreThreadTimeOut;
     private ThreadPoolRejectedPolicy rejectedPolicy;
+    private Boolean virtualThreads;
 
     public String getId() {
         return id;
@@ -121,4 +122,17 @@ public class ThreadPoolProfileConfigurationProperties {
         this.rejectedPolicy = rejectedPolicy;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets whether to use virtual threads, which executes each task in a new virtual thread, instead of using a pool of
+     * platform threads. This requires a JDK which supports virtual threads, and on older JDKs a pool of platform
+     * threads is used.
+     */
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
 }
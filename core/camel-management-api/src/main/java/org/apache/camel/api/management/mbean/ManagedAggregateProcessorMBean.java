@@ -42,6 +42,9 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Completion timeout checker interval in millis")
     long getCompletionTimeoutCheckerInterval();
 
+    @ManagedAttribute(description = "Whether a timing wheel is used to keep track of the completion timeouts")
+    boolean isCompletionTimeoutTimingWheel();
+
     @ManagedAttribute(description = "Completion size")
     int getCompletionSize();
 
@@ -69,6 +72,9 @@ public interface ManagedAggregateProcessorMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "Optimistic locking")
     boolean isOptimisticLocking();
 
+    @ManagedAttribute(description = "Number of lock stripes used for aggregating different correlation keys in parallel (0 = single lock)")
+    int getLockStripes();
+
     @ManagedAttribute(description = "Whether or not to eager check for completion when a new incoming Exchange has been received")
     boolean isEagerCheckCompletion();
 
@@ -56,6 +56,21 @@ public interface ManagedExchangeFactoryManagerMBean extends ManagedServiceMBean
     @ManagedAttribute(description = "Total number of exchanges discarded (such as when capacity is full)")
     Long getTotalDiscarded();
 
+    @ManagedAttribute(description = "Number of pooled task factories managed (used by EIPs when pooling is in use)")
+    Integer getTaskFactoryCounter();
+
+    @ManagedAttribute(description = "Total number of new tasks created (pool misses)")
+    Long getTotalTasksCreated();
+
+    @ManagedAttribute(description = "Total number of tasks reused (pool hits)")
+    Long getTotalTasksAcquired();
+
+    @ManagedAttribute(description = "Total number of tasks released back to the pool")
+    Long getTotalTasksReleased();
+
+    @ManagedAttribute(description = "Total number of tasks discarded (such as when capacity is full)")
+    Long getTotalTasksDiscarded();
+
     @ManagedOperation(description = "Lists all the statistics in tabular form")
     TabularData listStatistics();
 
@@ -30,9 +30,21 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of times a producer was reused from the cache")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of times a new producer was created as there was none in the cache")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Number of producers which has been evicted (stopped) from the cache")
+    Long getEvicted();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
+    @ManagedOperation(description = "Resets the cache statistics")
+    void resetStatistics();
+
     @ManagedAttribute(description = "EventNotifier enabled")
     Boolean isEventNotifierEnabled();
 
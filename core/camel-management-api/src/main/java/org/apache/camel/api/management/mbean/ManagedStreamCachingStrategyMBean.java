@@ -74,6 +74,15 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     boolean isAnySpoolRules();
 
+    @ManagedAttribute(description = "Whether to spool to off-heap memory before spooling to disk")
+    boolean isSpoolOffHeap();
+
+    @ManagedAttribute(description = "Size in bytes of the segments of the off-heap spool")
+    int getSpoolOffHeapSegmentSize();
+
+    @ManagedAttribute(description = "Maximum size in bytes of the off-heap spool")
+    long getSpoolOffHeapMaxSize();
+
     @ManagedAttribute(description = "Number of in-memory StreamCache created")
     long getCacheMemoryCounter();
 
@@ -92,6 +101,27 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of StreamCache spooled to off-heap memory")
+    long getCacheOffHeapCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has been stream cached for off-heap StreamCache")
+    long getCacheOffHeapSize();
+
+    @ManagedAttribute(description = "Average number of bytes per cached stream for off-heap stream caches.")
+    long getCacheOffHeapAverageSize();
+
+    @ManagedAttribute(description = "Number of segments in the off-heap spool")
+    int getOffHeapSegmentCount();
+
+    @ManagedAttribute(description = "Number of segments of the off-heap spool currently in use")
+    int getOffHeapSegmentsInUse();
+
+    @ManagedAttribute(description = "Peak number of segments of the off-heap spool in use")
+    int getOffHeapSegmentsPeakInUse();
+
+    @ManagedAttribute(description = "Number of times the off-heap spool had no free segments and spooled to disk instead")
+    long getOffHeapSegmentsExhaustedCounter();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
@@ -36,6 +36,15 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Number of type conversion failures (failed conversions)")
     long getFailedCounter();
 
+    @ManagedAttribute(description = "Number of type conversions using the cached converter (when dispatch cache is enabled)")
+    long getCacheHitCounter();
+
+    @ManagedAttribute(description = "Number of type conversions not in the dispatch cache (when dispatch cache is enabled)")
+    long getCacheMissCounter();
+
+    @ManagedAttribute(description = "Number of type conversions done by fallback type converters")
+    long getFallbackCounter();
+
     @ManagedOperation(description = "Resets the type conversion counters")
     void resetTypeConversionCounters();
 
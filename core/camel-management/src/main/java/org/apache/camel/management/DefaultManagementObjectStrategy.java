@@ -34,6 +34,7 @@ import org.apache.camel.component.bean.BeanProcessor;
 import org.apache.camel.component.log.LogEndpoint;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.management.mbean.ManagedAggregateProcessor;
+import org.apache.camel.management.mbean.ManagedAsyncLogger;
 import org.apache.camel.management.mbean.ManagedBeanProcessor;
 import org.apache.camel.management.mbean.ManagedBrowsableEndpoint;
 import org.apache.camel.management.mbean.ManagedCamelContext;
@@ -176,6 +177,7 @@ import org.apache.camel.spi.ManagementObjectStrategy;
 import org.apache.camel.spi.RouteController;
 import org.apache.camel.spi.SupervisingRouteController;
 import org.apache.camel.support.ScheduledPollConsumer;
+import org.apache.camel.support.processor.CamelLogProcessor;
 import org.apache.camel.support.processor.ConvertBodyProcessor;
 import org.apache.camel.support.processor.MarshalProcessor;
 import org.apache.camel.support.processor.PredicateValidatingProcessor;
@@ -427,12 +429,16 @@ public class DefaultManagementObjectStrategy implements ManagementObjectStrategy
                 answer = new ManagedSendDynamicProcessor(context, (SendDynamicProcessor) target, definition);
             } else if (target instanceof SendProcessor) {
                 SendProcessor sp = (SendProcessor) target;
-                // special for sending to throughput logger
+                // special for sending to throughput or async logger
                 if (sp.getDestination() instanceof LogEndpoint) {
                     LogEndpoint le = (LogEndpoint) sp.getDestination();
                     if (le.getLogger() instanceof ThroughputLogger) {
                         ThroughputLogger tl = (ThroughputLogger) le.getLogger();
                         answer = new ManagedThroughputLogger(context, tl, definition);
+                    } else if (le.getLogger() instanceof CamelLogProcessor
+                            && ((CamelLogProcessor) le.getLogger()).isAsyncLogging()) {
+                        CamelLogProcessor clp = (CamelLogProcessor) le.getLogger();
+                        answer = new ManagedAsyncLogger(context, clp, definition);
                     }
                 }
                 // regular send processor
@@ -48,6 +48,7 @@ import org.apache.camel.Service;
 import org.apache.camel.StartupListener;
 import org.apache.camel.TimerListener;
 import org.apache.camel.VetoCamelContextStartException;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.cluster.CamelClusterService;
 import org.apache.camel.health.HealthCheckRegistry;
 import org.apache.camel.impl.debugger.BacklogDebugger;
@@ -90,6 +91,7 @@ import org.apache.camel.spi.EventNotifier;
 import org.apache.camel.spi.ExchangeFactoryManager;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.InternalProcessor;
+import org.apache.camel.spi.Language;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.ManagementAgent;
 import org.apache.camel.spi.ManagementInterceptStrategy.InstrumentationProcessor;
@@ -484,6 +486,14 @@ public class JmxManagementLifecycleStrategy extends ServiceSupport implements Li
         }
     }
 
+    @Override
+    public void onLanguageCreated(String name, Language language) {
+        // languages are not services of the context, but some languages expose statistics (such as of their caches)
+        if (language instanceof Service && language.getClass().isAnnotationPresent(ManagedResource.class)) {
+            onServiceAdd(camelContext, (Service) language, null);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private Object getManagedObjectForService(CamelContext context, Service service, Route route) {
         // skip channel, UoW and dont double wrap instrumentation
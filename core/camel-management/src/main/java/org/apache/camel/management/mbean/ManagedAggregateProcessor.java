@@ -100,6 +100,11 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.getCompletionTimeoutCheckerInterval();
     }
 
+    @Override
+    public boolean isCompletionTimeoutTimingWheel() {
+        return processor.isCompletionTimeoutTimingWheel();
+    }
+
     @Override
     public int getCompletionSize() {
         return processor.getCompletionSize();
@@ -153,6 +158,11 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.isOptimisticLocking();
     }
 
+    @Override
+    public int getLockStripes() {
+        return processor.getLockStripes();
+    }
+
     @Override
     public boolean isEagerCheckCompletion() {
         return processor.isEagerCheckCompletion();
@@ -32,6 +32,7 @@ import org.apache.camel.api.management.mbean.ManagedExchangeFactoryManagerMBean;
 import org.apache.camel.spi.ExchangeFactory;
 import org.apache.camel.spi.ExchangeFactoryManager;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.spi.PooledObjectFactory;
 import org.apache.camel.util.URISupport;
 
 @ManagedResource(description = "Managed ExchangeFactory")
@@ -106,6 +107,35 @@ public class ManagedExchangeFactoryManager extends ManagedService implements Man
         return exchangeFactoryManager.getStatistics().getDiscardedCounter();
     }
 
+    @Override
+    public Integer getTaskFactoryCounter() {
+        return exchangeFactoryManager.getPooledObjectFactories().size();
+    }
+
+    @Override
+    public Long getTotalTasksCreated() {
+        PooledObjectFactory.Statistics statistics = exchangeFactoryManager.getPooledObjectStatistics();
+        return statistics != null ? statistics.getCreatedCounter() : 0;
+    }
+
+    @Override
+    public Long getTotalTasksAcquired() {
+        PooledObjectFactory.Statistics statistics = exchangeFactoryManager.getPooledObjectStatistics();
+        return statistics != null ? statistics.getAcquiredCounter() : 0;
+    }
+
+    @Override
+    public Long getTotalTasksReleased() {
+        PooledObjectFactory.Statistics statistics = exchangeFactoryManager.getPooledObjectStatistics();
+        return statistics != null ? statistics.getReleasedCounter() : 0;
+    }
+
+    @Override
+    public Long getTotalTasksDiscarded() {
+        PooledObjectFactory.Statistics statistics = exchangeFactoryManager.getPooledObjectStatistics();
+        return statistics != null ? statistics.getDiscardedCounter() : 0;
+    }
+
     @Override
     public TabularData listStatistics() {
         try {
@@ -43,7 +43,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic totalProcessingTime;
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
-    private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -53,6 +53,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
     private Statistic lastExchangeFailureTimestamp;
     private String lastExchangeFailureExchangeId;
     private boolean statisticsEnabled = true;
+    private boolean extendedStatistics;
 
     @Override
     public void init(ManagementStrategy strategy) {
@@ -70,7 +71,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         this.totalProcessingTime = new StatisticCounter();
         this.lastProcessingTime = new StatisticValue();
         this.deltaProcessingTime = new StatisticDelta();
-        this.meanProcessingTime = new StatisticValue();
+        this.processingTimeHistogram = new StatisticHistogram();
+        // the percentiles are only recorded with extended statistics as they are more costly
+        this.extendedStatistics = strategy != null && strategy.getManagementAgent() != null
+                && strategy.getManagementAgent().getStatisticsLevel().isExtended();
 
         this.firstExchangeCompletedTimestamp = new StatisticValue();
         this.firstExchangeFailureTimestamp = new StatisticValue();
@@ -92,7 +96,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.reset();
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
-        meanProcessingTime.reset();
+        processingTimeHistogram.reset();
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -140,7 +144,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
 
     @Override
     public long getMeanProcessingTime() throws Exception {
-        return meanProcessingTime.getValue();
+        return meanProcessingTime();
     }
 
     @Override
@@ -153,6 +157,21 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return totalProcessingTime.getValue();
     }
 
+    @Override
+    public long getP50ProcessingTime() throws Exception {
+        return percentileProcessingTime(50);
+    }
+
+    @Override
+    public long getP99ProcessingTime() throws Exception {
+        return percentileProcessingTime(99);
+    }
+
+    @Override
+    public long getP999ProcessingTime() throws Exception {
+        return percentileProcessingTime(99.9);
+    }
+
     @Override
     public long getLastProcessingTime() throws Exception {
         return lastProcessingTime.getValue();
@@ -240,6 +259,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         totalProcessingTime.updateValue(time);
         lastProcessingTime.updateValue(time);
         deltaProcessingTime.updateValue(time);
+        if (extendedStatistics) {
+            processingTimeHistogram.updateValue(time);
+        }
 
         long now = System.currentTimeMillis();
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
@@ -251,14 +273,6 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
             firstExchangeCompletedExchangeId = exchange.getExchangeId();
         }
         lastExchangeCompletedExchangeId = exchange.getExchangeId();
-
-        // update mean
-        long mean = 0;
-        long completed = exchangesCompleted.getValue();
-        if (completed > 0) {
-            mean = totalProcessingTime.getValue() / completed;
-        }
-        meanProcessingTime.updateValue(mean);
     }
 
     @Override
@@ -300,7 +314,10 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         sb.append(String.format(" totalProcessingTime=\"%s\"", totalProcessingTime.getValue()));
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
-        sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime()));
+        sb.append(String.format(" p50ProcessingTime=\"%s\"", percentileProcessingTime(50)));
+        sb.append(String.format(" p99ProcessingTime=\"%s\"", percentileProcessingTime(99)));
+        sb.append(String.format(" p999ProcessingTime=\"%s\"", percentileProcessingTime(99.9)));
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
@@ -322,6 +339,18 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter
         return sb.toString();
     }
 
+    private long meanProcessingTime() {
+        // the mean is computed on demand to avoid updating it on every exchange
+        long completed = exchangesCompleted.getValue();
+        return completed > 0 ? totalProcessingTime.getValue() / completed : 0;
+    }
+
+    private long percentileProcessingTime(double percentile) {
+        long answer = processingTimeHistogram.getValueAtPercentile(percentile);
+        // the histogram returns the highest value of the bucket, which can be higher than the actual max
+        return Math.min(answer, maxProcessingTime.getValue());
+    }
+
     private static String dateAsString(long value) {
         if (value <= 0) {
             return "";
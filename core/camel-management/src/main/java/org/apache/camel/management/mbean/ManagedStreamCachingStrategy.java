@@ -143,6 +143,21 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isAnySpoolRules();
     }
 
+    @Override
+    public boolean isSpoolOffHeap() {
+        return streamCachingStrategy.isSpoolOffHeap();
+    }
+
+    @Override
+    public int getSpoolOffHeapSegmentSize() {
+        return streamCachingStrategy.getSpoolOffHeapSegmentSize();
+    }
+
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return streamCachingStrategy.getSpoolOffHeapMaxSize();
+    }
+
     @Override
     public long getCacheMemoryCounter() {
         return streamCachingStrategy.getStatistics().getCacheMemoryCounter();
@@ -173,6 +188,41 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheOffHeapCounter() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapCounter();
+    }
+
+    @Override
+    public long getCacheOffHeapSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapSize();
+    }
+
+    @Override
+    public long getCacheOffHeapAverageSize() {
+        return streamCachingStrategy.getStatistics().getCacheOffHeapAverageSize();
+    }
+
+    @Override
+    public int getOffHeapSegmentCount() {
+        return streamCachingStrategy.getStatistics().getOffHeapSegmentCount();
+    }
+
+    @Override
+    public int getOffHeapSegmentsInUse() {
+        return streamCachingStrategy.getStatistics().getOffHeapSegmentsInUse();
+    }
+
+    @Override
+    public int getOffHeapSegmentsPeakInUse() {
+        return streamCachingStrategy.getStatistics().getOffHeapSegmentsPeakInUse();
+    }
+
+    @Override
+    public long getOffHeapSegmentsExhaustedCounter() {
+        return streamCachingStrategy.getStatistics().getOffHeapSegmentsExhaustedCounter();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
@@ -16,30 +16,31 @@
  */
 package org.apache.camel.management.mbean;
 
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 public class StatisticCounter extends Statistic {
 
-    private final AtomicLong value = new AtomicLong();
+    // striped counter so concurrent updates do not contend on the same field
+    private final LongAdder value = new LongAdder();
 
     @Override
     public void updateValue(long newValue) {
-        value.getAndAdd(newValue);
+        value.add(newValue);
     }
 
     @Override
     public long getValue() {
-        return value.get();
+        return value.sum();
     }
 
     @Override
     public String toString() {
-        return "" + value.get();
+        return "" + value.sum();
     }
 
     @Override
     public void reset() {
-        value.set(0);
+        value.reset();
     }
 
     @Override
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of the recorded values, which is used for computing percentiles such as the 99th percentile
+ * processing time.
+ * <p/>
+ * The values are counted in log-linear buckets (in the same spirit as a HDR histogram), where each power of two is
+ * divided into {@link #SUB_BUCKETS} linear sub buckets. This keeps the histogram small (a few kilobytes) while the
+ * percentiles have a relative error of at most 1/{@link #SUB_BUCKETS}. Values from 0 to 2 * {@link #SUB_BUCKETS} are
+ * counted exactly.
+ * <p/>
+ * Each bucket is counted by its own {@link LongAdder}, so threads completing exchanges at the same time do not contend
+ * on the same counter.
+ */
+public class StatisticHistogram extends Statistic {
+
+    // number of linear sub buckets per power of two (must be a power of two)
+    static final int SUB_BUCKETS = 8;
+    // the highest value which can be counted (values above are counted as this value) is around 2^40
+    static final long MAX_VALUE = (1L << 40) - 1;
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+    private static final int EXACT_BITS = SUB_BUCKET_BITS + 1;
+
+    private final LongAdder[] counts = new LongAdder[bucketIndex(MAX_VALUE) + 1];
+
+    public StatisticHistogram() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void updateValue(long newValue) {
+        if (newValue < 0) {
+            newValue = 0;
+        } else if (newValue > MAX_VALUE) {
+            newValue = MAX_VALUE;
+        }
+        counts[bucketIndex(newValue)].increment();
+    }
+
+    /**
+     * The number of values in the histogram
+     */
+    @Override
+    public long getValue() {
+        long total = 0;
+        for (LongAdder count : counts) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the value at the given percentile, eg 99.9 for the 99.9th percentile. The returned value is the highest
+     * value which is counted in the same bucket as the percentile value.
+     *
+     * @param  percentile the percentile (0 to 100)
+     * @return            the value at the percentile, or 0 if no values has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        // take a snapshot of the counts as values may be recorded concurrently
+        long[] snapshot = new long[counts.length];
+        long total = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts[i].sum();
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double p = Math.min(Math.max(percentile, 0), 100);
+        long rank = Math.max(1, (long) Math.ceil(p / 100 * total));
+        long count = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            count += snapshot[i];
+            if (count >= rank) {
+                return highestValueInBucket(i);
+            }
+        }
+        return MAX_VALUE;
+    }
+
+    @Override
+    public boolean isUpdated() {
+        return getValue() > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "" + getValue();
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder count : counts) {
+            count.reset();
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS * 2) {
+            return (int) value;
+        }
+        // the power of two of the value and the linear sub bucket within the power of two
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS * 2 + (exponent - EXACT_BITS) * SUB_BUCKETS + sub;
+    }
+
+    static long highestValueInBucket(int index) {
+        if (index < SUB_BUCKETS * 2) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKETS * 2) / SUB_BUCKETS + EXACT_BITS;
+        int sub = (index - SUB_BUCKETS * 2) % SUB_BUCKETS;
+        long lowest = (1L << exponent) + ((long) sub << (exponent - SUB_BUCKET_BITS));
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+}
@@ -24,12 +24,11 @@ public class StatisticMaximum extends Statistic {
 
     @Override
     public void updateValue(long newValue) {
-        // its okay its not 100% thread safe (these jmx counters are not guaranteed to be accurate for min/max values)
-        // if we use the atomic operation updateAndGet then the JVM creates a new lambda per call which creates a new object
-        // in the JVM and causes higher memory footprint
+        // use a compare and set loop instead of updateAndGet, as the JVM would then create a new lambda per call
+        // which causes higher memory footprint, and the value is only written when it changes
         long current = value.get();
-        if (current == -1 || current < newValue) {
-            value.set(newValue);
+        while ((current == -1 || current < newValue) && !value.compareAndSet(current, newValue)) {
+            current = value.get();
         }
     }
 
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_PROCESSOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManagedAsyncLoggerTest extends ManagementTestSupport {
+
+    @Test
+    public void testAsyncLogger() throws Exception {
+        getMockEndpoint("mock:a").expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:start", "" + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+
+        ObjectName name = getCamelObjectName(TYPE_PROCESSOR, "log-foo");
+        assertTrue(mbeanServer.isRegistered(name));
+
+        Long total = (Long) mbeanServer.getAttribute(name, "ExchangesTotal");
+        assertEquals(10, total.intValue());
+
+        Integer size = (Integer) mbeanServer.getAttribute(name, "AsyncQueueSize");
+        assertEquals(50, size.intValue());
+
+        Boolean discard = (Boolean) mbeanServer.getAttribute(name, "AsyncDiscardWhenFull");
+        assertEquals(Boolean.TRUE, discard);
+
+        Long dropped = (Long) mbeanServer.getAttribute(name, "DroppedCount");
+        assertEquals(0, dropped.intValue());
+
+        Integer inUse = (Integer) mbeanServer.getAttribute(name, "AsyncQueueSizeInUse");
+        assertTrue(inUse >= 0 && inUse <= 10);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .to("log:foo?asyncLogging=true&asyncQueueSize=50").id("log-foo")
+                        .to("mock:a");
+            }
+        };
+    }
+
+}
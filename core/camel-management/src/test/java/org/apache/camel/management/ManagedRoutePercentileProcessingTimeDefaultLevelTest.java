@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManagedRoutePercentileProcessingTimeDefaultLevelTest extends ManagementTestSupport {
+
+    @Test
+    public void testPercentileProcessingTimeNotRecorded() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "foo");
+
+        getMockEndpoint("mock:result").expectedMessageCount(2);
+
+        template.sendBodyAndHeader("direct:start", "Hello World", "delay", 0);
+        template.sendBodyAndHeader("direct:start", "Bye World", "delay", 100);
+
+        assertMockEndpointsSatisfied();
+
+        // the percentiles are only recorded with extended statistics
+        Long p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        Long max = (Long) mbeanServer.getAttribute(on, "MaxProcessingTime");
+        assertEquals(0, p99.longValue());
+        assertTrue(max >= 100, "Should take at least 100 millis: was " + max);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .delay(header("delay"))
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ManagementStatisticsLevel;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ROUTE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManagedRoutePercentileProcessingTimeTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getManagementStrategy().getManagementAgent().setStatisticsLevel(ManagementStatisticsLevel.Extended);
+        return context;
+    }
+
+    @Test
+    public void testPercentileProcessingTime() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_ROUTE, "foo");
+
+        Long p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        assertEquals(0, p99.longValue());
+
+        getMockEndpoint("mock:result").expectedMessageCount(11);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello World", "delay", 0);
+        }
+        template.sendBodyAndHeader("direct:start", "Bye World", "delay", 200);
+
+        assertMockEndpointsSatisfied();
+
+        Long p50 = (Long) mbeanServer.getAttribute(on, "P50ProcessingTime");
+        p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        Long p999 = (Long) mbeanServer.getAttribute(on, "P999ProcessingTime");
+        Long max = (Long) mbeanServer.getAttribute(on, "MaxProcessingTime");
+
+        assertTrue(p50 < 100, "Should be fast: was " + p50);
+        assertTrue(p99 >= 200, "Should take at least 200 millis: was " + p99);
+        assertTrue(p99 <= max, "Should not be higher than max: was " + p99);
+        assertEquals(p99, p999);
+
+        String xml = (String) mbeanServer.invoke(on, "dumpStatsAsXml", new Object[] { false },
+                new String[] { "boolean" });
+        Document doc = context.getTypeConverter().convertTo(Document.class, xml);
+        assertNotNull(doc);
+        Element stats = doc.getDocumentElement();
+        assertEquals(p50.toString(), stats.getAttribute("p50ProcessingTime"));
+        assertEquals(p99.toString(), stats.getAttribute("p99ProcessingTime"));
+        assertEquals(p999.toString(), stats.getAttribute("p999ProcessingTime"));
+
+        // reset should clear the histogram
+        mbeanServer.invoke(on, "reset", null, null);
+        p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+        assertEquals(0, p99.longValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("foo")
+                        .delay(header("delay"))
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
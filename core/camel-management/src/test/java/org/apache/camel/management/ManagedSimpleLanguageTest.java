@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.Language;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_SERVICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ManagedSimpleLanguageTest extends ManagementTestSupport {
+
+    @Test
+    public void testSimpleLanguageCacheStatistics() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName on = getCamelObjectName(TYPE_SERVICE, "SimpleLanguage");
+        assertTrue(mbeanServer.isRegistered(on), "Should be registered");
+
+        mbeanServer.invoke(on, "resetCacheStatistics", null, null);
+
+        // the expression is parsed once and then found in the cache
+        Language simple = context.resolveLanguage("simple");
+        for (int i = 0; i < 3; i++) {
+            simple.createExpression("Hello ${body}");
+        }
+
+        Long hits = (Long) mbeanServer.getAttribute(on, "CacheHits");
+        Long misses = (Long) mbeanServer.getAttribute(on, "CacheMisses");
+        Integer size = (Integer) mbeanServer.getAttribute(on, "CacheSize");
+        assertTrue(hits >= 2, "Should have cache hits: was " + hits);
+        assertEquals(1, misses.longValue());
+        assertTrue(size >= 1, "Should have cached expressions: was " + size);
+
+        mbeanServer.invoke(on, "resetCacheStatistics", null, null);
+        hits = (Long) mbeanServer.getAttribute(on, "CacheHits");
+        assertEquals(0, hits.longValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .setBody(simple("Bye ${body}"))
+                        .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StatisticHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        long last = -1;
+        for (int i = 0; i <= StatisticHistogram.bucketIndex(StatisticHistogram.MAX_VALUE); i++) {
+            long highest = StatisticHistogram.highestValueInBucket(i);
+            assertTrue(highest > last);
+            assertEquals(i, StatisticHistogram.bucketIndex(highest));
+            assertEquals(i, StatisticHistogram.bucketIndex(last + 1));
+            last = highest;
+        }
+        assertEquals(StatisticHistogram.MAX_VALUE, last);
+    }
+
+    @Test
+    public void testPercentiles() {
+        StatisticHistogram histogram = new StatisticHistogram();
+        assertFalse(histogram.isUpdated());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.updateValue(i);
+        }
+        assertTrue(histogram.isUpdated());
+        assertEquals(1000, histogram.getValue());
+
+        assertWithinError(500, histogram.getValueAtPercentile(50));
+        assertWithinError(990, histogram.getValueAtPercentile(99));
+        assertWithinError(999, histogram.getValueAtPercentile(99.9));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+
+        histogram.reset();
+        assertEquals(0, histogram.getValue());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    private static void assertWithinError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / StatisticHistogram.SUB_BUCKETS,
+                "Expected around " + expected + " but was " + actual);
+    }
+
+}
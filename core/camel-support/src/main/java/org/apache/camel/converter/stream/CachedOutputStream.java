@@ -33,6 +33,9 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * The temp file will store in the temp directory, you can configure it by setting the TEMP_DIR property. If you don't
  * set the TEMP_DIR property, it will choose the directory which is set by the system property of "java.io.tmpdir".
  * <p/>
+ * If spooling off-heap is enabled on the {@link StreamCachingStrategy} then the content is spooled to segments of
+ * direct memory instead, and only overflows to the temp file when there are no more free segments.
+ * <p/>
  * You can get a cached input stream of this stream. The temp file which is created with this output stream will be
  * deleted when you close this output stream or the cached fileInputStream(s) is/are closed after all the exchanges
  * using the temp file are completed.
@@ -20,9 +20,14 @@ import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -94,12 +99,28 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
     @Override
     public void writeTo(OutputStream os) throws IOException {
         if (stream == null && ciphers == null) {
-            Files.copy(file.toPath(), os);
+            // transfer directly from the file channel which avoids copying the data through user space buffers
+            try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                // do not close the target channel as that would close the output stream
+                WritableByteChannel out = toChannel(os);
+                long position = 0;
+                long size = in.size();
+                while (position < size) {
+                    position += in.transferTo(position, size - position, out);
+                }
+            }
         } else {
             IOHelper.copy(getInputStream(), os);
         }
     }
 
+    static WritableByteChannel toChannel(OutputStream os) {
+        if (os instanceof FileOutputStream) {
+            return ((FileOutputStream) os).getChannel();
+        }
+        return Channels.newChannel(os);
+    }
+
     @Override
     public StreamCache copy(Exchange exchange) throws IOException {
         tempFileManager.addExchange(exchange);
@@ -170,9 +191,15 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        // the segments when spooled off-heap, which are reference counted so they are only recycled when the exchanges
+        // are done and there are no stream caches reading from them
+        private StreamCachingStrategy strategy;
+        private List<ByteBuffer> segments;
+        private final AtomicInteger segmentReferences = new AtomicInteger();
+        private boolean segmentsClosed;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
-        private List<FileInputStreamCache> fileInputStreamCaches;
+        private List<InputStream> fileInputStreamCaches;
 
         /** Only for testing. */
         private TempFileManager(File file, boolean closedOnCompletion) {
@@ -189,7 +216,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
          * <p>
          * Must be synchronized, because can be accessed by several threads.
          */
-        synchronized void add(FileInputStreamCache fileInputStreamCache) {
+        synchronized void add(InputStream fileInputStreamCache) {
             if (fileInputStreamCaches == null) {
                 fileInputStreamCaches = new ArrayList<>(3);
             }
@@ -249,7 +276,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
 
         OutputStream createOutputStream(StreamCachingStrategy strategy) throws IOException {
             // should only be called once
-            if (tempFile != null) {
+            if (tempFile != null || segments != null) {
                 throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
             }
             if (closedOnCompletion && exchangeCounter.get() == 0) {
@@ -264,6 +291,21 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                 LOG.error(error);
                 throw new IOException(error);
             }
+            // prefer spooling off-heap if there are free segments
+            ByteBuffer segment = strategy.isSpoolOffHeap() ? strategy.acquireSpoolSegment() : null;
+            if (segment != null) {
+                LOG.trace("Spooling stream cache to off-heap segments");
+                this.strategy = strategy;
+                this.segments = new ArrayList<>();
+                this.segments.add(segment);
+                this.segmentReferences.set(1);
+                outputStream = new SegmentOutputStream();
+                return outputStream;
+            }
+            return createFileOutputStream(strategy);
+        }
+
+        private OutputStream createFileOutputStream(StreamCachingStrategy strategy) throws IOException {
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
@@ -292,7 +334,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
-        FileInputStreamCache newStreamCache() throws IOException {
+        StreamCache newStreamCache() throws IOException {
+            if (segments != null) {
+                return new OffHeapInputStreamCache(this);
+            }
             try {
                 return new FileInputStreamCache(this);
             } catch (FileNotFoundException e) {
@@ -302,14 +347,16 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
 
         void closeFileInputStreams() {
             if (fileInputStreamCaches != null) {
-                for (FileInputStreamCache fileInputStreamCache : fileInputStreamCaches) {
-                    fileInputStreamCache.close();
+                for (InputStream fileInputStreamCache : fileInputStreamCaches) {
+                    IOHelper.close(fileInputStreamCache);
                 }
                 fileInputStreamCaches.clear();
             }
         }
 
         void cleanUpTempFile() {
+            // release the reference to the off-heap segments, which are recycled when no longer being read
+            closeSegments();
             // cleanup temporary file
             try {
                 if (tempFile != null) {
@@ -325,6 +372,138 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return tempFile;
         }
 
+        synchronized List<ByteBuffer> getSegments() {
+            return segments;
+        }
+
+        /**
+         * Retains the off-heap segments while reading from them.
+         *
+         * @return <tt>false</tt> if the segments has already been recycled
+         */
+        boolean retainSegments() {
+            int count;
+            do {
+                count = segmentReferences.get();
+                if (count <= 0) {
+                    return false;
+                }
+            } while (!segmentReferences.compareAndSet(count, count + 1));
+            return true;
+        }
+
+        /**
+         * Releases the off-heap segments after reading from them, and recycles the segments if they are no longer in
+         * use.
+         */
+        void releaseSegments() {
+            if (segmentReferences.decrementAndGet() == 0) {
+                recycleSegments();
+            }
+        }
+
+        private void closeSegments() {
+            synchronized (this) {
+                if (segments == null || segmentsClosed) {
+                    return;
+                }
+                segmentsClosed = true;
+            }
+            releaseSegments();
+        }
+
+        private synchronized void recycleSegments() {
+            if (segments != null) {
+                for (ByteBuffer segment : segments) {
+                    strategy.releaseSpoolSegment(segment);
+                }
+                segments = null;
+            }
+        }
+
+        /**
+         * Writes to the off-heap segments, and overflows to a temporary file if there are no more free segments.
+         */
+        private final class SegmentOutputStream extends OutputStream {
+
+            private OutputStream fileStream;
+
+            @Override
+            public void write(int b) throws IOException {
+                ByteBuffer segment = fileStream == null ? nextSegment() : null;
+                if (segment != null) {
+                    segment.put((byte) b);
+                } else {
+                    fileStream.write(b);
+                }
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                while (len > 0) {
+                    ByteBuffer segment = fileStream == null ? nextSegment() : null;
+                    if (segment == null) {
+                        fileStream.write(b, off, len);
+                        return;
+                    }
+                    int count = Math.min(len, segment.remaining());
+                    segment.put(b, off, count);
+                    off += count;
+                    len -= count;
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (fileStream != null) {
+                    fileStream.flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                if (fileStream != null) {
+                    fileStream.close();
+                }
+            }
+
+            /**
+             * The segment with free space to write to, or <tt>null</tt> if overflowed to temporary file
+             */
+            private ByteBuffer nextSegment() throws IOException {
+                synchronized (TempFileManager.this) {
+                    ByteBuffer segment = segments.get(segments.size() - 1);
+                    if (segment.hasRemaining()) {
+                        return segment;
+                    }
+                    segment = strategy.acquireSpoolSegment();
+                    if (segment != null) {
+                        segments.add(segment);
+                        return segment;
+                    }
+                }
+                overflowToFile();
+                return null;
+            }
+
+            private void overflowToFile() throws IOException {
+                LOG.trace("No free off-heap segments, overflowing stream cache to temporary file");
+                OutputStream out = createFileOutputStream(strategy);
+                WritableByteChannel channel = Channels.newChannel(out);
+                for (ByteBuffer segment : segments) {
+                    ByteBuffer data = segment.duplicate();
+                    data.flip();
+                    while (data.hasRemaining()) {
+                        channel.write(data);
+                    }
+                }
+                // there are no stream caches reading from the segments yet
+                segmentReferences.set(0);
+                recycleSegments();
+                fileStream = out;
+            }
+        }
+
         CipherPair getCiphers() {
             return ciphers;
         }
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} for streams which has been spooled to off-heap segments of the
+ * {@link org.apache.camel.spi.StreamCachingStrategy}.
+ * <p/>
+ * The segments are shared by all the copies of the stream cache. The segments are reference counted while being read,
+ * and are recycled when all the exchanges using the stream cache are done and no copy is reading from them.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private final ByteBuffer[] segments;
+    private final long length;
+    private int index;
+
+    OffHeapInputStreamCache(FileInputStreamCache.TempFileManager closer) {
+        if (!closer.retainSegments()) {
+            throw new RuntimeCamelException("Cannot create stream cache as the off-heap segments has been released");
+        }
+        try {
+            // each stream cache reads from its own read-only views of the segments
+            List<ByteBuffer> list = closer.getSegments();
+            this.segments = new ByteBuffer[list.size()];
+            long total = 0;
+            for (int i = 0; i < segments.length; i++) {
+                ByteBuffer view = list.get(i).asReadOnlyBuffer();
+                view.flip();
+                segments[i] = view;
+                total += view.limit();
+            }
+            this.length = total;
+        } finally {
+            closer.releaseSegments();
+        }
+        this.tempFileManager = closer;
+        this.tempFileManager.add(this);
+    }
+
+    @Override
+    public void close() {
+        // noop as the segments are recycled when the exchanges are done
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (ByteBuffer segment : segments) {
+            segment.rewind();
+        }
+        index = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        retain();
+        try {
+            // do not close the target channel as that would close the output stream
+            WritableByteChannel out = FileInputStreamCache.toChannel(os);
+            for (int i = index; i < segments.length; i++) {
+                ByteBuffer data = segments[i].duplicate();
+                while (data.hasRemaining()) {
+                    out.write(data);
+                }
+            }
+        } finally {
+            tempFileManager.releaseSegments();
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        tempFileManager.addExchange(exchange);
+        return new OffHeapInputStreamCache(tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        // the content is no longer available when the segments has been recycled
+        return tempFileManager.getSegments() != null;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int available() {
+        long answer = 0;
+        for (int i = index; i < segments.length; i++) {
+            answer += segments[i].remaining();
+        }
+        return (int) Math.min(answer, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int read() throws IOException {
+        retain();
+        try {
+            ByteBuffer segment = current();
+            return segment != null ? segment.get() & 0xff : -1;
+        } finally {
+            tempFileManager.releaseSegments();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        retain();
+        try {
+            ByteBuffer segment = current();
+            if (segment == null) {
+                return -1;
+            }
+            int count = Math.min(len, segment.remaining());
+            segment.get(b, off, count);
+            return count;
+        } finally {
+            tempFileManager.releaseSegments();
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        ByteBuffer segment;
+        while (skipped < n && (segment = current()) != null) {
+            int count = (int) Math.min(n - skipped, segment.remaining());
+            segment.position(segment.position() + count);
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    /**
+     * The segment to read from, or <tt>null</tt> if end of stream
+     */
+    private ByteBuffer current() {
+        while (index < segments.length) {
+            ByteBuffer segment = segments[index];
+            if (segment.hasRemaining()) {
+                return segment;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    /**
+     * Retains the segments while reading, so they are not recycled until the read is done.
+     */
+    private void retain() throws IOException {
+        if (!tempFileManager.retainSegments()) {
+            throw new IOException("Cannot read stream cache as its off-heap segments has been released");
+        }
+    }
+
+}
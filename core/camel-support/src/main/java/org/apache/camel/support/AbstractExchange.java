@@ -41,6 +41,7 @@ import org.apache.camel.spi.HeadersMapFactory;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.UnitOfWork;
 import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.concurrent.CopyOnWriteMap;
 
 /**
  * Base class for the two official and only implementations of {@link Exchange}, the {@link DefaultExchange} and
@@ -154,7 +155,12 @@ class AbstractExchange implements ExtendedExchange {
 
         // copy properties after body as body may trigger lazy init
         if (hasProperties()) {
-            copyProperties(getProperties(), exchange.getProperties());
+            if (context != null && context.isCopyOnWriteExchange()) {
+                // only the properties are copy-on-write, as the headers are copied eagerly with the message above
+                exchange.properties = copyOnWriteProperties();
+            } else {
+                copyProperties(getProperties(), exchange.getProperties());
+            }
         }
 
         if (hasSafeCopyProperties()) {
@@ -193,6 +199,21 @@ class AbstractExchange implements ExtendedExchange {
         return new HashMap<>(headers);
     }
 
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> copyOnWriteProperties() {
+        CopyOnWriteMap<String, Object> answer;
+        if (properties instanceof CopyOnWriteMap) {
+            answer = (CopyOnWriteMap<String, Object>) properties;
+        } else {
+            // copy the properties into the map (instead of adopting the existing map) as the existing map may still be
+            // changed by whoever has a reference to it, and then the change would leak into the copy
+            answer = new CopyOnWriteMap<>();
+            answer.putAll(properties);
+            properties = answer;
+        }
+        return answer.copy();
+    }
+
     @SuppressWarnings("unchecked")
     private void copyProperties(Map<String, Object> source, Map<String, Object> target) {
         target.putAll(source);
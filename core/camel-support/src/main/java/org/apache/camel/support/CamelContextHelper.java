@@ -306,6 +306,41 @@ public final class CamelContextHelper {
         return 1000;
     }
 
+    /**
+     * Gets the idle timeout in millis, for non-singleton producers pooled in the producer cache.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#PRODUCER_CACHE_IDLE_TIMEOUT}. If no
+     * property has been set, then it will fallback to return 0 (idle producers are not evicted).
+     *
+     * @param  camelContext             the camel context
+     * @return                          the idle timeout in millis
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static long getProducerCacheIdleTimeout(CamelContext camelContext) throws IllegalArgumentException {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(Exchange.PRODUCER_CACHE_IDLE_TIMEOUT);
+            if (s != null) {
+                try {
+                    // we cannot use Camel type converters as they may not be ready this early
+                    long timeout = Long.parseLong(s);
+                    if (timeout < 0) {
+                        throw new IllegalArgumentException(
+                                "Property " + Exchange.PRODUCER_CACHE_IDLE_TIMEOUT + " must be zero or a positive number, was: "
+                                                           + s);
+                    }
+                    return timeout;
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(
+                            "Property " + Exchange.PRODUCER_CACHE_IDLE_TIMEOUT + " must be zero or a positive number, was: "
+                                                       + s,
+                            e);
+                }
+            }
+        }
+
+        return 0;
+    }
+
     /**
      * Gets the maximum endpoint cache size.
      * <p/>
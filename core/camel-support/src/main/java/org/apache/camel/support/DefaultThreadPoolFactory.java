@@ -34,16 +34,26 @@ import org.apache.camel.StaticService;
 import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.ThreadPerTaskExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
+ * <p/>
+ * If the thread pool profile has virtual threads enabled, then the thread pool executes each task in a new virtual
+ * thread, when running on a JDK which supports virtual threads, otherwise a regular thread pool is created.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultThreadPoolFactory.class);
+
     private CamelContext camelContext;
+    private volatile boolean virtualThreadsWarned;
 
     @Override
     public CamelContext getCamelContext() {
@@ -62,6 +72,13 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (profile.getVirtualThreads() != null && profile.getVirtualThreads()) {
+            ExecutorService answer = newVirtualThreadPool(factory);
+            if (answer != null) {
+                return answer;
+            }
+        }
+
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -117,6 +134,24 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
         return answer;
     }
 
+    /**
+     * Creates a thread pool which executes each task in a new virtual thread.
+     *
+     * @return the thread pool, or <tt>null</tt> if virtual threads is not supported
+     */
+    protected ExecutorService newVirtualThreadPool(ThreadFactory factory) {
+        if (CamelThreadFactory.isVirtualThreadsSupported() && factory instanceof CamelThreadFactory) {
+            return new ThreadPerTaskExecutorService(((CamelThreadFactory) factory).withVirtualThreads());
+        }
+        if (!virtualThreadsWarned) {
+            virtualThreadsWarned = true;
+            LOG.warn("Virtual threads is not supported on this JDK (or with thread factory: {})."
+                     + " Using a regular thread pool instead.",
+                    factory);
+        }
+        return null;
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
@@ -216,6 +216,19 @@ public abstract class LRUCacheFactory {
         return getInstance().createLRUWeakCache(initialCapacity, maximumCacheSize, stopOnEviction);
     }
 
+    /**
+     * Constructs an empty concurrent cache with the specified maximumCacheSize, which uses the Window TinyLFU policy to
+     * decide which entries to evict, and where reads and writes do not lock.
+     *
+     * @param  maximumCacheSize         the max capacity.
+     * @param  timeToLive               time to live in millis of the entries, use 0 to not expire the entries.
+     * @param  onEvict                  optional callback for the values which are evicted or expired.
+     * @throws IllegalArgumentException if the maximum capacity is not positive
+     */
+    public static <K, V> Map<K, V> newTinyLFUCache(int maximumCacheSize, long timeToLive, Consumer<V> onEvict) {
+        return getInstance().createTinyLFUCache(maximumCacheSize, timeToLive, onEvict);
+    }
+
     /**
      * Constructs an empty <tt>LRUCache</tt> instance with the specified maximumCacheSize, and will stop on eviction.
      *
@@ -313,4 +326,19 @@ public abstract class LRUCacheFactory {
      */
     public abstract <K, V> Map<K, V> createLRUWeakCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction);
 
+    /**
+     * Constructs an empty concurrent cache with the specified maximumCacheSize, which uses the Window TinyLFU policy to
+     * decide which entries to evict, and where reads and writes do not lock.
+     * <p/>
+     * The default implementation uses {@link TinyLFUCache}.
+     *
+     * @param  maximumCacheSize         the max capacity.
+     * @param  timeToLive               time to live in millis of the entries, use 0 to not expire the entries.
+     * @param  onEvict                  optional callback for the values which are evicted or expired.
+     * @throws IllegalArgumentException if the maximum capacity is not positive
+     */
+    public <K, V> Map<K, V> createTinyLFUCache(int maximumCacheSize, long timeToLive, Consumer<V> onEvict) {
+        return new TinyLFUCache<>(maximumCacheSize, timeToLive, onEvict);
+    }
+
 }
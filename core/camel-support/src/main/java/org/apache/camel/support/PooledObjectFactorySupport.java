@@ -50,7 +50,7 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
         if (isPooled()) {
             this.pool = new ArrayBlockingQueue<>(capacity);
         }
-        if (isStatisticsEnabled()) {
+        if (isStatisticsEnabled() && statistics == null) {
             this.statistics = new UtilizationStatistics();
         }
     }
@@ -72,6 +72,10 @@ public abstract class PooledObjectFactorySupport<T> extends ServiceSupport imple
 
     @Override
     public void setStatisticsEnabled(boolean statisticsEnabled) {
+        // statistics can be enabled at runtime, so create the statistics before they are in use
+        if (statisticsEnabled && statistics == null) {
+            this.statistics = new UtilizationStatistics();
+        }
         this.statisticsEnabled = statisticsEnabled;
     }
 
@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Comparator.comparingLong;
+import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
+import static org.apache.camel.TimeoutMap.Listener.Type.Put;
+import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
+
+/**
+ * A {@link TimeoutMap} which uses a hashed timing wheel to keep track of the timeouts.
+ * <p/>
+ * Unlike {@link DefaultTimeoutMap} which scans all the entries on every purge, this implementation spreads the entries
+ * over a wheel of buckets, where each bucket represents a tick of the purge poll time. Adding and removing entries are
+ * O(1) operations that do not need any locking, and the purge task only needs to visit the buckets for the ticks that
+ * have passed since the last purge, where the expired entries are evicted in batches. This makes this implementation
+ * suitable for use with a large number of entries, such as when doing request/reply with many in-flight messages.
+ * <p/>
+ * Removed entries are discarded lazily when the purge task visits their bucket.
+ * <p/>
+ * You must provide a {@link java.util.concurrent.ScheduledExecutorService} in the constructor which is used to schedule
+ * a background task which check for old entries to purge. You must also invoke {@link #start()} to startup the timeout
+ * map, before its ready to be used. And you must invoke {@link #stop()} to stop the map when no longer in use.
+ */
+public class TimingWheelTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
+
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentMap<K, Timeout<K, V>> map = new ConcurrentHashMap<>();
+    // new timeouts which the purge task has not yet placed in the wheel
+    private final Queue<Timeout<K, V>> pending = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService executor;
+    private volatile ScheduledFuture<?> future;
+    private final long purgePollTime;
+    private final Timeout<K, V>[] wheel;
+    private final int mask;
+    // the wheel is only accessed by the purge task
+    private long startTime;
+    private long tick;
+
+    private final List<Listener<K, V>> listeners = new ArrayList<>(2);
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor) {
+        this(executor, 1000);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        this(executor, requestMapPollTimeMillis, DEFAULT_WHEEL_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, int wheelSize) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        if (requestMapPollTimeMillis <= 0) {
+            throw new IllegalArgumentException("Purge poll time must be a positive number, was: " + requestMapPollTimeMillis);
+        }
+        if (wheelSize <= 0) {
+            throw new IllegalArgumentException("Wheel size must be a positive number, was: " + wheelSize);
+        }
+        this.executor = executor;
+        this.purgePollTime = requestMapPollTimeMillis;
+        // round up to power of two so we can use a mask to select the bucket
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Timeout[size];
+        this.mask = size - 1;
+        this.startTime = currentTime();
+    }
+
+    @Override
+    public V get(K key) {
+        Timeout<K, V> timeout = map.get(key);
+        if (timeout == null) {
+            return null;
+        }
+        // accessing the entry extends its timeout, the purge task will move the entry in the wheel if needed
+        timeout.deadline = currentTime() + timeout.timeout;
+        return timeout.value;
+    }
+
+    @Override
+    public V put(K key, V value, long timeoutMillis) {
+        Timeout<K, V> timeout = new Timeout<>(key, value, timeoutMillis, currentTime() + timeoutMillis);
+        Timeout<K, V> old = map.put(key, timeout);
+        pending.offer(timeout);
+        V answer = null;
+        if (old != null) {
+            answer = old.value;
+            old.cancel();
+        }
+        emitEvent(Put, key, value);
+        return answer;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value, long timeoutMillis) {
+        Timeout<K, V> timeout = new Timeout<>(key, value, timeoutMillis, currentTime() + timeoutMillis);
+        Timeout<K, V> existing = map.putIfAbsent(key, timeout);
+        if (existing != null) {
+            return existing.value;
+        }
+        pending.offer(timeout);
+        emitEvent(Put, key, value);
+        return null;
+    }
+
+    @Override
+    public V remove(K key) {
+        Timeout<K, V> timeout = map.remove(key);
+        if (timeout == null) {
+            return null;
+        }
+        V value = timeout.value;
+        timeout.cancel();
+        emitEvent(Remove, key, value);
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * The timer task which purges old requests and schedules another poll
+     */
+    private void purgeTask() {
+        // only purge if allowed
+        if (!isRunAllowed()) {
+            log.trace("Purge task not allowed to run");
+            return;
+        }
+
+        log.trace("Running purge task to see if any entries have been timed out");
+        try {
+            purge();
+        } catch (Throwable t) {
+            // must catch and log exception otherwise the executor will now schedule next purgeTask
+            log.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time and evicts the entries which have timed out.
+     * <p/>
+     * This method must not be called concurrently, which is ensured by the scheduled purge task.
+     */
+    protected void purge() {
+        long now = currentTime();
+
+        // place the new entries in the wheel
+        Timeout<K, V> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (!timeout.cancelled) {
+                schedule(timeout);
+            }
+        }
+
+        log.trace("There are {} in the timeout map", map.size());
+
+        List<Timeout<K, V>> expired = null;
+        // visit the bucket for each tick that has elapsed since last purge, and the bucket of the current tick
+        while (true) {
+            expired = expireBucket((int) (tick & mask), now, expired);
+            if (startTime + (tick + 1) * purgePollTime <= now) {
+                tick++;
+            } else {
+                break;
+            }
+        }
+
+        if (expired != null) {
+            // sort according to the expired time so we got the first expired first
+            expired.sort(comparingLong(t -> t.deadline));
+            for (Timeout<K, V> entry : expired) {
+                emitEvent(Evict, entry.key, entry.value);
+            }
+        }
+    }
+
+    private List<Timeout<K, V>> expireBucket(int index, long now, List<Timeout<K, V>> expired) {
+        Timeout<K, V> current = wheel[index];
+        // take the entries out of the bucket, the ones which are not due yet are put back
+        wheel[index] = null;
+        while (current != null) {
+            Timeout<K, V> next = current.next;
+            if (current.cancelled) {
+                // removed so discard it
+                current.next = null;
+            } else if (current.tick > tick) {
+                // due in a later round of the wheel
+                current.next = wheel[index];
+                wheel[index] = current;
+            } else if (current.deadline > now) {
+                // not yet due or the timeout was extended so reschedule it
+                schedule(current);
+            } else if (map.remove(current.key, current)) {
+                log.debug("Evicting inactive entry ID: {}", current);
+                current.next = null;
+                if (expired == null) {
+                    expired = new ArrayList<>();
+                }
+                expired.add(current);
+            }
+            current = next;
+        }
+        return expired;
+    }
+
+    private void schedule(Timeout<K, V> timeout) {
+        long target = (timeout.deadline - startTime) / purgePollTime;
+        // the entry may already be due, then let it expire on the current tick
+        timeout.tick = Math.max(target, tick);
+        int index = (int) (timeout.tick & mask);
+        timeout.next = wheel[index];
+        wheel[index] = timeout;
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public long getPurgePollTime() {
+        return purgePollTime;
+    }
+
+    public int getWheelSize() {
+        return wheel.length;
+    }
+
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    @Override
+    public void addListener(Listener<K, V> listener) {
+        this.listeners.add(listener);
+    }
+
+    private void emitEvent(Listener.Type type, K key, V value) {
+        for (Listener<K, V> listener : listeners) {
+            try {
+                listener.timeoutMapEvent(type, key, value);
+            } catch (Throwable t) {
+                // Ignore
+            }
+        }
+    }
+
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        if (map.isEmpty()) {
+            // start the wheel from current time so the purge task does not need to catch up
+            startTime = currentTime();
+            tick = 0;
+        }
+        future = executor.scheduleWithFixedDelay(this::purgeTask, 0, purgePollTime, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        // clear map if we stop
+        map.clear();
+        pending.clear();
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = null;
+        }
+        // start over from current time so the purge task does not need to catch up while we were stopped
+        startTime = currentTime();
+        tick = 0;
+    }
+
+    private static final class Timeout<K, V> {
+        private final K key;
+        private final long timeout;
+        private volatile V value;
+        private volatile long deadline;
+        private volatile boolean cancelled;
+        // only accessed by the purge task
+        private long tick;
+        private Timeout<K, V> next;
+
+        private Timeout(K key, V value, long timeout, long deadline) {
+            this.key = key;
+            this.value = value;
+            this.timeout = timeout;
+            this.deadline = deadline;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            // release the value as the entry stays in the wheel until its bucket is visited
+            value = null;
+        }
+
+        @Override
+        public String toString() {
+            return "Timeout[key=" + key + ", value=" + value + ", timeout=" + timeout + "]";
+        }
+    }
+}
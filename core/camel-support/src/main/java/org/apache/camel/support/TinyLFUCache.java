@@ -0,0 +1,545 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A bounded concurrent cache which uses the Window TinyLFU policy to decide which entries to evict.
+ * <p/>
+ * New entries are added to a small admission window (1% of the cache), and the entries which overflow the window must
+ * compete with the eviction candidate of the main region for a place in the cache, where the entry which has been used
+ * the most frequently is kept. The frequencies are estimated by a count-min sketch of 4-bit counters, which are halved
+ * periodically so the frequencies of entries which are no longer used decay. The main region is ordered using the CLOCK
+ * algorithm, which gives entries that have been read a second chance, as an approximation of LRU which does not need to
+ * reorder the entries on every read.
+ * <p/>
+ * Reads and writes never block. The eviction is done by one thread at a time when the cache is full, and other threads
+ * which find the cache busy evicting carry on, hence the cache may briefly hold a few more entries than the maximum
+ * size when under contention.
+ * <p/>
+ * Entries can optionally expire after a time to live, which is counted from when the entry was written. Expired entries
+ * are removed when they are accessed or when they are the eviction candidate.
+ * <p/>
+ * This cache does not permit <tt>null</tt> keys or values.
+ */
+public class TinyLFUCache<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    private final ConcurrentMap<K, Node<K, V>> data;
+    private final int maximumSize;
+    private final int windowMaximumSize;
+    private final long timeToLiveNanos;
+    private final Consumer<V> onEvict;
+    private final FrequencySketch sketch;
+    // entries are added to the window by the writers, and moved to the main region by the evicting thread
+    private final Queue<Node<K, V>> window = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger windowSize = new AtomicInteger();
+    // only accessed by the evicting thread
+    private final Queue<Node<K, V>> main = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    /**
+     * Constructs an empty cache with the specified maximum size.
+     *
+     * @param  maximumSize              the max capacity.
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public TinyLFUCache(int maximumSize) {
+        this(maximumSize, 0, null);
+    }
+
+    /**
+     * Constructs an empty cache with the specified maximum size and time to live.
+     *
+     * @param  maximumSize              the max capacity.
+     * @param  timeToLive               time to live in millis of the entries, use 0 to not expire the entries.
+     * @param  onEvict                  optional callback for the values which are evicted or expired.
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public TinyLFUCache(int maximumSize, long timeToLive, Consumer<V> onEvict) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum cache size must be a positive number, was: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        this.windowMaximumSize = Math.max(1, maximumSize / 100);
+        this.timeToLiveNanos = timeToLive > 0 ? TimeUnit.MILLISECONDS.toNanos(timeToLive) : 0;
+        this.onEvict = onEvict;
+        this.sketch = new FrequencySketch(maximumSize);
+        this.data = new ConcurrentHashMap<>(Math.min(maximumSize, 1024));
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(node, System.nanoTime())) {
+            evict(node);
+            misses.increment();
+            return null;
+        }
+        onAccess(node);
+        hits.increment();
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Node<K, V> node = newNode(key, value);
+        Node<K, V> old = data.put(key, node);
+        afterWrite(node);
+        if (old != null) {
+            old.dead = true;
+            if (!isExpired(old, node.writeTime)) {
+                return old.value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        Node<K, V> node = newNode(key, value);
+        while (true) {
+            Node<K, V> existing = data.putIfAbsent(key, node);
+            if (existing == null) {
+                misses.increment();
+                afterWrite(node);
+                return null;
+            }
+            if (isExpired(existing, node.writeTime)) {
+                // evict the expired entry and try again
+                evict(existing);
+                continue;
+            }
+            onAccess(existing);
+            hits.increment();
+            return existing.value;
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        node.dead = true;
+        return isExpired(node, System.nanoTime()) ? null : node.value;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        Node<K, V> node = data.get(key);
+        if (node == null || !node.value.equals(value)) {
+            return false;
+        }
+        if (data.remove(key, node)) {
+            node.dead = true;
+            return !isExpired(node, System.nanoTime());
+        }
+        return false;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        Node<K, V> node = newNode(key, value);
+        while (true) {
+            Node<K, V> existing = data.get(key);
+            if (existing == null) {
+                return null;
+            }
+            if (isExpired(existing, node.writeTime)) {
+                evict(existing);
+                return null;
+            }
+            if (data.replace(key, existing, node)) {
+                existing.dead = true;
+                afterWrite(node);
+                return existing.value;
+            }
+        }
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        Objects.requireNonNull(oldValue);
+        Node<K, V> node = newNode(key, newValue);
+        Node<K, V> existing = data.get(key);
+        if (existing == null || !existing.value.equals(oldValue) || isExpired(existing, node.writeTime)) {
+            return false;
+        }
+        if (data.replace(key, existing, node)) {
+            existing.dead = true;
+            afterWrite(node);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of entries in the cache, which may include expired entries which have not yet been removed.
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return data.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        // wait for any eviction in progress as the main region must only be accessed by one thread at a time
+        while (!evicting.compareAndSet(false, true)) {
+            Thread.yield();
+        }
+        try {
+            for (Node<K, V> node : data.values()) {
+                node.dead = true;
+            }
+            data.clear();
+            while (window.poll() != null) {
+                windowSize.decrementAndGet();
+            }
+            main.clear();
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    /**
+     * Returns a read-only snapshot of the entries which have not expired.
+     */
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        long now = System.nanoTime();
+        Map<K, V> answer = new LinkedHashMap<>();
+        for (Node<K, V> node : data.values()) {
+            if (!isExpired(node, now)) {
+                answer.put(node.key, node.value);
+            }
+        }
+        return Collections.unmodifiableSet(answer.entrySet());
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Time to live in millis of the entries, or 0 if the entries do not expire.
+     */
+    public long getTimeToLive() {
+        return TimeUnit.NANOSECONDS.toMillis(timeToLiveNanos);
+    }
+
+    /**
+     * Gets the number of cache hits
+     */
+    public long getHits() {
+        return hits.longValue();
+    }
+
+    /**
+     * Gets the number of cache misses.
+     */
+    public long getMisses() {
+        return misses.longValue();
+    }
+
+    /**
+     * Gets the number of evicted (including expired) entries.
+     */
+    public long getEvicted() {
+        return evicted.longValue();
+    }
+
+    /**
+     * Resets the cache statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private Node<K, V> newNode(K key, V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        long now = System.nanoTime();
+        return new Node<>(key, value, now, timeToLiveNanos > 0 ? now + timeToLiveNanos : 0);
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return node.expireTime != 0 && now - node.expireTime >= 0;
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+        node.accessed = true;
+    }
+
+    private void afterWrite(Node<K, V> node) {
+        sketch.increment(node.key);
+        window.offer(node);
+        windowSize.incrementAndGet();
+        // the thread which gets to evict keeps evicting as long as there is work, as other threads skip it
+        while (needsEviction() && evicting.compareAndSet(false, true)) {
+            try {
+                evict();
+            } finally {
+                evicting.set(false);
+            }
+        }
+    }
+
+    private boolean needsEviction() {
+        return windowSize.get() > windowMaximumSize || data.size() > maximumSize;
+    }
+
+    /**
+     * Moves the entries which overflow the window to the main region, and evicts entries until the cache is within its
+     * maximum size. Must only be called by the thread which has set the evicting flag.
+     */
+    private void evict() {
+        while (windowSize.get() > windowMaximumSize) {
+            Node<K, V> candidate = window.poll();
+            if (candidate == null) {
+                break;
+            }
+            windowSize.decrementAndGet();
+            if (candidate.dead) {
+                continue;
+            }
+            if (isExpired(candidate, System.nanoTime())) {
+                evict(candidate);
+                continue;
+            }
+            if (data.size() > maximumSize) {
+                // the candidate must compete with the victim of the main region for a place in the cache, where
+                // ties favour the candidate so entries which are used equally often are evicted in insertion order
+                Node<K, V> victim = nextVictim();
+                if (victim == null || sketch.frequency(candidate.key) >= sketch.frequency(victim.key)) {
+                    if (victim != null) {
+                        removeVictim(victim);
+                        evict(victim);
+                    }
+                    main.offer(candidate);
+                } else {
+                    evict(candidate);
+                }
+            } else {
+                main.offer(candidate);
+            }
+        }
+
+        // the window may have been drained by entries which was removed, so evict from the main region if still full
+        while (data.size() > maximumSize) {
+            Node<K, V> victim = nextVictim();
+            if (victim == null) {
+                break;
+            }
+            removeVictim(victim);
+            evict(victim);
+        }
+    }
+
+    /**
+     * Finds the next victim of the main region using the CLOCK algorithm, where the entries which have been accessed
+     * are given a second chance. The victim is kept at the head of the main region.
+     */
+    private Node<K, V> nextVictim() {
+        // bound the number of second chances as other threads may keep accessing the entries
+        int chances = maximumSize;
+        long now = System.nanoTime();
+        while (true) {
+            Node<K, V> node = main.peek();
+            if (node == null) {
+                return null;
+            }
+            if (node.dead) {
+                main.poll();
+            } else if (isExpired(node, now)) {
+                main.poll();
+                evict(node);
+            } else if (node.accessed && chances-- > 0) {
+                node.accessed = false;
+                main.poll();
+                main.offer(node);
+            } else {
+                return node;
+            }
+        }
+    }
+
+    private void removeVictim(Node<K, V> victim) {
+        if (main.peek() == victim) {
+            main.poll();
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        node.dead = true;
+        if (data.remove(node.key, node)) {
+            evicted.increment();
+            if (onEvict != null) {
+                onEvict.accept(node.value);
+            }
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final long writeTime;
+        private final long expireTime;
+        private volatile boolean accessed;
+        private volatile boolean dead;
+
+        private Node(K key, V value, long writeTime, long expireTime) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = writeTime;
+            this.expireTime = expireTime;
+        }
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters which estimates the frequency of the keys.
+     * <p/>
+     * Each long holds 16 counters, which are divided into 4 groups of 4 counters, where a key selects one group and
+     * updates one counter in it for each of the 4 hash functions. When the number of increments reaches the sample size
+     * then all the counters are halved.
+     */
+    static final class FrequencySketch {
+
+        private static final long[] SEED = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final long ONE_MASK = 0x1111111111111111L;
+
+        private final AtomicLongArray table;
+        private final int tableMask;
+        private final int sampleSize;
+        private final AtomicInteger size = new AtomicInteger();
+
+        FrequencySketch(int maximumSize) {
+            int capacity = 16;
+            while (capacity < maximumSize && capacity < (1 << 30)) {
+                capacity <<= 1;
+            }
+            this.table = new AtomicLongArray(capacity);
+            this.tableMask = capacity - 1;
+            this.sampleSize = (int) Math.min(10L * maximumSize, Integer.MAX_VALUE);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int count = (int) ((table.get(index) >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                added |= incrementAt(index, start + i);
+            }
+            // only one thread sees the exact sample size so only one thread resets
+            if (added && size.incrementAndGet() == sampleSize) {
+                reset();
+            }
+        }
+
+        private boolean incrementAt(int index, int counter) {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            while (true) {
+                long value = table.get(index);
+                if ((value & mask) == mask) {
+                    // the counter is saturated
+                    return false;
+                }
+                if (table.compareAndSet(index, value, value + (1L << offset))) {
+                    return true;
+                }
+            }
+        }
+
+        private void reset() {
+            int count = 0;
+            for (int i = 0; i < table.length(); i++) {
+                long value = table.getAndUpdate(i, v -> (v >>> 1) & RESET_MASK);
+                count += Long.bitCount(value & ONE_MASK);
+            }
+            final int odd = count >>> 2;
+            size.updateAndGet(s -> Math.max(0, (s >>> 1) - odd));
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEED[i]) * SEED[i];
+            h += h >>> 32;
+            return ((int) h) & tableMask;
+        }
+
+        private static int spread(int x) {
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            x = ((x >>> 16) ^ x) * 0x45d9f3b;
+            return (x >>> 16) ^ x;
+        }
+    }
+}
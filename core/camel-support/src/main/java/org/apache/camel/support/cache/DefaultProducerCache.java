@@ -68,6 +68,7 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         this.maxCacheSize = cacheSize <= 0 ? CamelContextHelper.getMaximumCachePoolSize(camelContext) : cacheSize;
         if (cacheSize >= 0) {
             this.producers = createServicePool(camelContext, maxCacheSize);
+            this.producers.setIdleTimeout(CamelContextHelper.getProducerCacheIdleTimeout(camelContext));
         } else {
             // no cache then empty
             this.producers = null;
@@ -430,6 +431,42 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         }
     }
 
+    @Override
+    public long getHits() {
+        return producers != null ? producers.getHits() : 0;
+    }
+
+    @Override
+    public long getMisses() {
+        return producers != null ? producers.getMisses() : 0;
+    }
+
+    @Override
+    public long getEvicted() {
+        return producers != null ? producers.getEvicted() : 0;
+    }
+
+    @Override
+    public void resetCacheStatistics() {
+        if (producers != null) {
+            producers.resetStatistics();
+        }
+    }
+
+    public long getIdleTimeout() {
+        return producers != null ? producers.getIdleTimeout() : 0;
+    }
+
+    /**
+     * Sets the time in millis a non-singleton producer can be idle in the cache before its evicted (stopped). Use 0 to
+     * not evict idle producers.
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        if (producers != null) {
+            producers.setIdleTimeout(idleTimeout);
+        }
+    }
+
     @Override
     public EndpointUtilizationStatistics getEndpointUtilizationStatistics() {
         return statistics;
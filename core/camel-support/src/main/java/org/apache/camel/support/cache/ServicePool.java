@@ -17,12 +17,12 @@
 package org.apache.camel.support.cache;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
@@ -38,10 +38,16 @@ import org.slf4j.LoggerFactory;
 /**
  * A base class for a pool for either producers or consumers used by {@link org.apache.camel.spi.ProducerCache} and
  * {@link org.apache.camel.spi.ConsumerCache}.
+ * <p/>
+ * There is a pool per endpoint, which for non-singleton producers/consumers grows on demand (up to the capacity), and
+ * reuses the most recently used producer/consumer first. If an idle timeout is configured, then producers/consumers
+ * which have been idle in the pool for longer than the timeout are evicted (stopped), so the pool shrinks again when
+ * the demand decreases.
  */
 abstract class ServicePool<S extends Service> extends ServiceSupport implements NonManagedService {
 
     private static final Logger LOG = LoggerFactory.getLogger(ServicePool.class);
+    private static final int INITIAL_CAPACITY = 4;
 
     private final ThrowingFunction<Endpoint, S, Exception> creator;
     private final Function<S, Endpoint> getEndpoint;
@@ -51,6 +57,11 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
     private int capacity;
     private Map<S, S> cache;
+    private long idleTimeout;
+    private volatile long lastIdleCheck;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
 
     private interface Pool<S> {
         S acquire() throws Exception;
@@ -63,6 +74,8 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
         void evict(S s);
 
+        void evictIdle(long idleSince);
+
         void cleanUp();
     }
 
@@ -73,6 +86,48 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         this.cache = capacity > 0 ? LRUCacheFactory.newLRUCache(capacity, this::onEvict) : null;
     }
 
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets the time in millis a non-singleton producer/consumer can be idle in the pool before its evicted. Use 0
+     * (default) to not evict idle producers/consumers.
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Number of times a producer/consumer was reused from the pool
+     */
+    public long getHits() {
+        return hits.longValue();
+    }
+
+    /**
+     * Number of times a new producer/consumer was created as there was none in the pool
+     */
+    public long getMisses() {
+        return misses.longValue();
+    }
+
+    /**
+     * Number of producers/consumers which has been evicted (stopped)
+     */
+    public long getEvicted() {
+        return evicted.longValue();
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
     /**
      * This callback is invoked by LRUCache from a separate background cleanup thread. Therefore we mark the entries to
      * be evicted from this thread only, and then let SinglePool and MultiPool handle the evictions (stop the
@@ -106,6 +161,9 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         if (!isStarted()) {
             return null;
         }
+        if (idleTimeout > 0) {
+            evictIdle(false);
+        }
         S s = getOrCreatePool(endpoint).acquire();
         if (s != null && cache != null) {
             cache.putIfAbsent(s, s);
@@ -121,6 +179,10 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      */
     public void release(Endpoint endpoint, S s) {
         Pool<S> p = pool.get(endpoint);
+        if (p == null && isStarted()) {
+            // the pool may have been removed as it became empty while the producer/consumer was in use
+            p = getOrCreatePool(endpoint);
+        }
         if (p != null) {
             p.release(s);
         }
@@ -155,6 +217,23 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             ((LRUCache) cache).cleanUp();
         }
         pool.values().forEach(Pool::cleanUp);
+        if (idleTimeout > 0) {
+            evictIdle(true);
+        }
+    }
+
+    /**
+     * Evicts the producers/consumers from all the pools which have been idle longer than the idle timeout. This is done
+     * at most once per half the idle timeout, unless forced.
+     */
+    private void evictIdle(boolean force) {
+        long now = System.currentTimeMillis();
+        long last = lastIdleCheck;
+        if (force || now - last >= idleTimeout / 2) {
+            lastIdleCheck = now;
+            long idleSince = now - idleTimeout;
+            pool.values().forEach(p -> p.evictIdle(idleSince));
+        }
     }
 
     @Override
@@ -224,8 +303,13 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
                         S tempS = creator.apply(endpoint);
                         endpoint.getCamelContext().addService(tempS, true, true);
                         s = tempS;
+                        misses.increment();
+                    } else {
+                        hits.increment();
                     }
                 }
+            } else {
+                hits.increment();
             }
             LOG.trace("Acquired service: {}", s);
             return s;
@@ -260,6 +344,11 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             singlePoolEvicted.putIfAbsent(endpoint, this);
         }
 
+        @Override
+        public void evictIdle(long idleSince) {
+            // a singleton is shared and therefore never idle in the pool
+        }
+
         @Override
         public void cleanUp() {
             cleanupEvicts();
@@ -273,6 +362,7 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
                     doStop(e);
                     p.stop();
                     singlePoolEvicted.remove(e);
+                    evicted.increment();
                 }
             }
         }
@@ -292,23 +382,31 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     /**
      * Pool used for non-singleton producers or consumers which are not thread-safe and can only be used by one worker
      * thread at any given time.
+     * <p/>
+     * The idle producers/consumers are kept in a stack, so the most recently used is reused first. This keeps the least
+     * recently used at the bottom of the stack, from where they are evicted when they have been idle too long.
      */
     private class MultiplePool implements Pool<S> {
         private final Endpoint endpoint;
-        private final BlockingQueue<S> queue;
         private final List<S> evicts;
+        private Object[] idle;
+        private long[] idleSince;
+        private int size;
+        private boolean removed;
 
         private MultiplePool() {
             // only used for eager classloading
             this.endpoint = null;
-            this.queue = null;
             this.evicts = null;
         }
 
         MultiplePool(Endpoint endpoint) {
             this.endpoint = endpoint;
-            this.queue = new ArrayBlockingQueue<>(capacity);
             this.evicts = new ArrayList<>();
+            // start small and grow on demand, as there can be many endpoints (such as with toD)
+            int initial = Math.max(1, Math.min(INITIAL_CAPACITY, capacity));
+            this.idle = new Object[initial];
+            this.idleSince = new long[initial];
         }
 
         private void cleanupEvicts() {
@@ -317,12 +415,11 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
                     if (!evicts.isEmpty()) {
                         for (S evict : evicts) {
                             doStop(evict);
-                            queue.remove(evict);
+                            remove(evict);
+                            evicted.increment();
                         }
                         evicts.clear();
-                        if (queue.isEmpty()) {
-                            pool.remove(endpoint);
-                        }
+                        removeIfEmpty();
                     }
                 }
             }
@@ -332,10 +429,13 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public S acquire() throws Exception {
             cleanupEvicts();
 
-            S s = queue.poll();
+            S s = poll();
             if (s == null) {
+                misses.increment();
                 s = creator.apply(endpoint);
                 s.start();
+            } else {
+                hits.increment();
             }
             return s;
         }
@@ -344,35 +444,134 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public void release(S s) {
             cleanupEvicts();
 
-            if (!queue.offer(s)) {
+            if (!offer(s)) {
+                if (isRemoved()) {
+                    // this pool was removed as it became empty, so release to the current pool of the endpoint
+                    ServicePool.this.release(endpoint, s);
+                    return;
+                }
                 // there is no room so lets just stop and discard this
+                evicted.increment();
                 doStop(s);
             }
         }
 
         @Override
-        public int size() {
-            return queue.size();
+        public synchronized int size() {
+            return size;
         }
 
         @Override
         public void stop() {
-            queue.forEach(this::doStop);
-            queue.clear();
+            Object[] toStop;
+            synchronized (this) {
+                toStop = Arrays.copyOf(idle, size);
+                Arrays.fill(idle, 0, size, null);
+                size = 0;
+            }
+            for (Object s : toStop) {
+                doStop((Service) s);
+            }
             pool.remove(endpoint);
         }
 
         @Override
-        public void evict(S s) {
+        public synchronized void evict(S s) {
             // to be evicted
             evicts.add(s);
         }
 
+        @Override
+        public void evictIdle(long since) {
+            Object[] toStop = null;
+            synchronized (this) {
+                // the bottom of the stack has been idle the longest
+                int count = 0;
+                while (count < size && idleSince[count] < since) {
+                    count++;
+                }
+                if (count > 0) {
+                    toStop = Arrays.copyOf(idle, count);
+                    System.arraycopy(idle, count, idle, 0, size - count);
+                    System.arraycopy(idleSince, count, idleSince, 0, size - count);
+                    Arrays.fill(idle, size - count, size, null);
+                    size -= count;
+                    removeIfEmpty();
+                }
+            }
+            if (toStop != null) {
+                LOG.debug("Evicting {} idle services from endpoint: {}", toStop.length, endpoint);
+                for (Object s : toStop) {
+                    doStop((Service) s);
+                    if (cache != null) {
+                        cache.remove(s);
+                    }
+                    evicted.increment();
+                }
+            }
+        }
+
         @Override
         public void cleanUp() {
             cleanupEvicts();
         }
 
+        @SuppressWarnings("unchecked")
+        private synchronized S poll() {
+            if (size == 0) {
+                return null;
+            }
+            S s = (S) idle[--size];
+            idle[size] = null;
+            return s;
+        }
+
+        private synchronized boolean isRemoved() {
+            return removed;
+        }
+
+        /**
+         * Removes this pool from the endpoint pools when it has no more idle producers/consumers, so pools for
+         * endpoints that are no longer in use (such as with toD) do not accumulate. Must be called while holding the
+         * lock.
+         */
+        private void removeIfEmpty() {
+            if (size == 0) {
+                removed = true;
+                pool.remove(endpoint, this);
+            }
+        }
+
+        private synchronized boolean offer(S s) {
+            if (removed) {
+                return false;
+            }
+            if (size == idle.length) {
+                if (size >= capacity) {
+                    return false;
+                }
+                // grow the pool as the demand for concurrent producers/consumers is higher
+                int newLength = Math.min(capacity, size * 2);
+                idle = Arrays.copyOf(idle, newLength);
+                idleSince = Arrays.copyOf(idleSince, newLength);
+            }
+            idle[size] = s;
+            idleSince[size] = idleTimeout > 0 ? System.currentTimeMillis() : 0;
+            size++;
+            return true;
+        }
+
+        private void remove(S s) {
+            for (int i = 0; i < size; i++) {
+                if (idle[i] == s) {
+                    System.arraycopy(idle, i + 1, idle, i, size - i - 1);
+                    System.arraycopy(idleSince, i + 1, idleSince, i, size - i - 1);
+                    idle[--size] = null;
+                    return;
+                }
+            }
+        }
+
         void doStop(Service s) {
             if (s != null) {
                 ServicePool.stop(s);
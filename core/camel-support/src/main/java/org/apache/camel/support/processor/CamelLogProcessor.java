@@ -16,12 +16,27 @@
  */
 package org.apache.camel.support.processor;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.LoggingLevel;
+import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.StreamCache;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.ExchangeFormatter;
 import org.apache.camel.spi.IdAware;
@@ -29,8 +44,11 @@ import org.apache.camel.spi.LogListener;
 import org.apache.camel.spi.MaskingFormatter;
 import org.apache.camel.spi.RouteIdAware;
 import org.apache.camel.support.AsyncProcessorSupport;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 /**
  * A {@link Processor} which just logs to a {@link CamelLogger} object which can be used as an exception handler instead
@@ -38,17 +56,35 @@ import org.slf4j.LoggerFactory;
  * <p/>
  * The name <tt>CamelLogger</tt> has been chosen to avoid any name clash with log kits which has a <tt>Logger</tt>
  * class.
+ * <p/>
+ * When async logging is enabled, then the routing thread takes a shallow snapshot of the exchange (id, pattern,
+ * properties, headers, body and exception) and adds it to a bounded queue, together with a copy of the MDC if MDC
+ * logging is enabled. The snapshots are then formatted and logged in batches by a background thread, so the routing
+ * thread does not pay for formatting the exchange. Log listeners are called by the routing thread with the formatted
+ * message, so when there are log listeners, the routing thread formats the exchange and only the message is queued.
+ * Exchanges with a stream body are always logged by the routing thread, as the stream can only be read once. If the
+ * queue is full, then the message is either discarded (and counted as dropped) or logged by the routing thread, but the
+ * routing thread never blocks waiting for the queue.
  */
-public class CamelLogProcessor extends AsyncProcessorSupport implements IdAware, RouteIdAware {
+public class CamelLogProcessor extends AsyncProcessorSupport implements IdAware, RouteIdAware, CamelContextAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelLogProcessor.class);
+    private static final int ASYNC_BATCH_SIZE = 100;
 
     private String id;
     private String routeId;
+    private CamelContext camelContext;
     private CamelLogger logger;
     private ExchangeFormatter formatter;
     private MaskingFormatter maskingFormatter;
     private final Set<LogListener> listeners;
+    private boolean asyncLogging;
+    private int asyncQueueSize = 1000;
+    private boolean asyncDiscardWhenFull = true;
+    private final LongAdder droppedCounter = new LongAdder();
+    private volatile BlockingQueue<AsyncLogEntry> asyncQueue;
+    private ExecutorService asyncExecutorService;
+    private boolean asyncMdc;
 
     public CamelLogProcessor() {
         this(new CamelLogger(CamelLogProcessor.class.getName()));
@@ -94,28 +130,91 @@ public class CamelLogProcessor extends AsyncProcessorSupport implements IdAware,
         this.routeId = routeId;
     }
 
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
         if (logger.shouldLog()) {
-            String output = formatter.format(exchange);
-            if (maskingFormatter != null) {
-                output = maskingFormatter.format(output);
+            BlockingQueue<AsyncLogEntry> queue = asyncQueue;
+            if (queue == null || !logAsync(queue, exchange)) {
+                logger.log(format(exchange));
             }
-            output = fireListeners(exchange, output);
-            logger.log(output);
         }
         callback.done(true);
         return true;
     }
 
+    private String format(Exchange exchange) {
+        String output = formatter.format(exchange);
+        if (maskingFormatter != null) {
+            output = maskingFormatter.format(output);
+        }
+        return fireListeners(exchange, output);
+    }
+
+    /**
+     * Adds the exchange to the queue to be formatted and logged by the background thread.
+     *
+     * @return <tt>true</tt> if the exchange was queued, discarded or logged, <tt>false</tt> if the exchange should be
+     *         logged by the caller
+     */
+    private boolean logAsync(BlockingQueue<AsyncLogEntry> queue, Exchange exchange) {
+        Map<String, String> mdc = asyncMdc ? MDC.getCopyOfContextMap() : null;
+        AsyncLogEntry entry;
+        if (listeners != null && !listeners.isEmpty()) {
+            // the listeners must be called by the routing thread with the formatted message
+            entry = new AsyncLogEntry(null, format(exchange), mdc);
+        } else {
+            Object body = exchange.getMessage().getBody();
+            if (body instanceof StreamCache || body instanceof InputStream || body instanceof Reader
+                    || body instanceof Future) {
+                // streams must be read by the routing thread
+                return false;
+            }
+            entry = new AsyncLogEntry(snapshot(exchange), null, mdc);
+        }
+        if (!queue.offer(entry)) {
+            if (asyncDiscardWhenFull) {
+                droppedCounter.increment();
+            } else {
+                logger.log(entry.message != null ? entry.message : format(exchange));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Takes a shallow snapshot of the exchange with what is needed to format it, as the exchange continues being routed
+     * while the snapshot is being formatted.
+     */
+    private static Exchange snapshot(Exchange exchange) {
+        Exchange answer = new DefaultExchange(exchange.getContext(), exchange.getPattern());
+        answer.setExchangeId(exchange.getExchangeId());
+        if (exchange.hasProperties()) {
+            answer.getProperties().putAll(exchange.getProperties());
+        }
+        Message message = exchange.getMessage();
+        Message copy = answer.getIn();
+        copy.setMessageId(message.getMessageId());
+        if (message.hasHeaders()) {
+            copy.getHeaders().putAll(message.getHeaders());
+        }
+        copy.setBody(message.getBody());
+        answer.setException(exchange.getException());
+        return answer;
+    }
+
     public void process(Exchange exchange, Throwable exception) {
         if (logger.shouldLog()) {
-            String output = formatter.format(exchange);
-            if (maskingFormatter != null) {
-                output = maskingFormatter.format(output);
-            }
-            output = fireListeners(exchange, output);
-            logger.log(output, exception);
+            logger.log(format(exchange), exception);
         }
     }
 
@@ -171,6 +270,157 @@ public class CamelLogProcessor extends AsyncProcessorSupport implements IdAware,
         this.maskingFormatter = maskingFormatter;
     }
 
+    public boolean isAsyncLogging() {
+        return asyncLogging;
+    }
+
+    /**
+     * Whether to log the formatted messages asynchronously by a background thread.
+     */
+    public void setAsyncLogging(boolean asyncLogging) {
+        this.asyncLogging = asyncLogging;
+    }
+
+    public int getAsyncQueueSize() {
+        return asyncQueueSize;
+    }
+
+    /**
+     * The maximum number of messages which can be queued to be logged asynchronously.
+     */
+    public void setAsyncQueueSize(int asyncQueueSize) {
+        this.asyncQueueSize = asyncQueueSize;
+    }
+
+    public boolean isAsyncDiscardWhenFull() {
+        return asyncDiscardWhenFull;
+    }
+
+    /**
+     * Whether to discard the messages to be logged asynchronously when the queue is full, or to log the messages by the
+     * routing thread.
+     */
+    public void setAsyncDiscardWhenFull(boolean asyncDiscardWhenFull) {
+        this.asyncDiscardWhenFull = asyncDiscardWhenFull;
+    }
+
+    /**
+     * Number of messages which has been discarded (not logged) because the async logging queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCounter.sum();
+    }
+
+    /**
+     * Number of messages waiting to be logged asynchronously.
+     */
+    public int getAsyncQueueSizeInUse() {
+        BlockingQueue<AsyncLogEntry> queue = asyncQueue;
+        return queue != null ? queue.size() : 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (asyncLogging) {
+            ObjectHelper.notNull(camelContext, "CamelContext", this);
+            if (asyncQueueSize <= 0) {
+                throw new IllegalArgumentException("asyncQueueSize must be positive, was: " + asyncQueueSize);
+            }
+            asyncExecutorService
+                    = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this, "AsyncLogger");
+            // only copy the MDC to the background thread if MDC logging is enabled
+            asyncMdc = Boolean.TRUE.equals(camelContext.isUseMDCLogging());
+            BlockingQueue<AsyncLogEntry> queue = new ArrayBlockingQueue<>(asyncQueueSize);
+            asyncExecutorService.submit(new AsyncLogTask(queue));
+            asyncQueue = queue;
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // routing threads log by themselves from now on
+        asyncQueue = null;
+        if (asyncExecutorService != null) {
+            // the task logs the remaining queued messages before its done
+            camelContext.getExecutorServiceManager().shutdownGraceful(asyncExecutorService);
+            asyncExecutorService = null;
+        }
+    }
+
+    /**
+     * A snapshot of the exchange (or the already formatted message) queued to be logged, with the MDC of the routing
+     * thread at the time it was queued.
+     */
+    private static final class AsyncLogEntry {
+
+        private final Exchange snapshot;
+        private final String message;
+        private final Map<String, String> mdc;
+
+        private AsyncLogEntry(Exchange snapshot, String message, Map<String, String> mdc) {
+            this.snapshot = snapshot;
+            this.message = message;
+            this.mdc = mdc;
+        }
+    }
+
+    /**
+     * Background task which formats and logs the queued exchanges in batches.
+     */
+    private final class AsyncLogTask implements Runnable {
+
+        private final BlockingQueue<AsyncLogEntry> queue;
+        private final List<AsyncLogEntry> batch = new ArrayList<>(ASYNC_BATCH_SIZE);
+
+        private AsyncLogTask(BlockingQueue<AsyncLogEntry> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (isRunAllowed()) {
+                    AsyncLogEntry entry = queue.poll(1000, TimeUnit.MILLISECONDS);
+                    if (entry != null) {
+                        batch.add(entry);
+                        queue.drainTo(batch, ASYNC_BATCH_SIZE - 1);
+                        logBatch();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // log what is left when stopping
+            queue.drainTo(batch);
+            logBatch();
+        }
+
+        private void logBatch() {
+            for (AsyncLogEntry entry : batch) {
+                try {
+                    // log with the MDC of the routing thread
+                    if (entry.mdc != null) {
+                        MDC.setContextMap(entry.mdc);
+                    } else {
+                        MDC.clear();
+                    }
+                    String output = entry.message;
+                    if (output == null) {
+                        output = formatter.format(entry.snapshot);
+                        if (maskingFormatter != null) {
+                            output = maskingFormatter.format(output);
+                        }
+                    }
+                    logger.log(output);
+                } catch (Throwable t) {
+                    LOG.warn("Error logging message due to: {}. This exception is ignored.", t.getMessage(), t);
+                }
+            }
+            MDC.clear();
+            batch.clear();
+        }
+    }
+
     /**
      * {@link ExchangeFormatter} that calls <tt>toString</tt> on the {@link Exchange}.
      */
@@ -0,0 +1,1049 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.Scanner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the keys in an
+ * append-only log.
+ * <p/>
+ * Unlike {@link FileIdempotentRepository}, which scans and rewrites the file store, adding and removing a key appends a
+ * record to the log, and the log is compacted when the records of removed keys take up too much of it. The keys are
+ * located in the log using a hash index which holds the hash and the position of each key. The hash index is saved to
+ * an index file next to the log (with the <tt>.index</tt> suffix) when the repository is stopped and after compaction,
+ * so the repository can be started without reading the entire log. A 1st-level in-memory cache is used for fast check
+ * of the most frequently used keys.
+ * <p/>
+ * Each record in the log is protected by a checksum. If the tail of the log is corrupt or truncated, such as after a
+ * crash, then the log is truncated to the last complete record when the repository is started. If the index file is
+ * missing or does not match the log, then the hash index is rebuilt from the log.
+ * <p/>
+ * A file store in the plain text format of {@link FileIdempotentRepository} is converted to the log format when the
+ * repository is started.
+ * <p/>
+ * Compaction runs on a background thread when the repository has a {@link CamelContext}, otherwise compaction runs in
+ * the thread which adds or removes the key that triggered it.
+ */
+@ManagedResource(description = "Log file based idempotent repository")
+public class LogFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogFileIdempotentRepository.class);
+
+    private static final int LOG_MAGIC = 0x43494c47;
+    private static final int INDEX_MAGIC = 0x43494458;
+    private static final int VERSION = 1;
+    // magic, version and generation
+    private static final int LOG_HEADER_SIZE = 16;
+    private static final byte ADD = 'A';
+    private static final byte REMOVE = 'R';
+    // type, key length and checksum
+    private static final int RECORD_OVERHEAD = 1 + 4 + 4;
+    private static final int MAX_KEY_LENGTH = 1024 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock compactionLock = new ReentrantLock();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
+    private CamelContext camelContext;
+    private ExecutorService executorService;
+    private File fileStore;
+    private int cacheSize = 1000;
+    private boolean sync;
+    private long compactionMinFileSize = 1024 * 1024;
+    private double compactionRatio = 0.5;
+
+    // guarded by the lock
+    private Map<String, Object> cache;
+    private FileChannel channel;
+    private long generation;
+    private long position;
+    private long liveBytes;
+    private KeyIndex index;
+    private volatile long compactionCounter;
+
+    public LogFileIdempotentRepository() {
+    }
+
+    public LogFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new log file based repository with a default of 1000 entries in the 1st level cache.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository logFileIdempotentRepository(File fileStore) {
+        return new LogFileIdempotentRepository(fileStore);
+    }
+
+    /**
+     * Creates a new log file based repository.
+     *
+     * @param fileStore the file store
+     * @param cacheSize the 1st level cache size
+     */
+    public static IdempotentRepository logFileIdempotentRepository(File fileStore, int cacheSize) {
+        LogFileIdempotentRepository answer = new LogFileIdempotentRepository(fileStore);
+        answer.setCacheSize(cacheSize);
+        return answer;
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        if (cache.containsKey(key)) {
+            return false;
+        }
+
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            if (index.find(hash, offset -> keyEquals(channel, offset, bytes)) >= 0) {
+                cache.put(key, key);
+                return false;
+            }
+            long offset = append(ADD, bytes);
+            index.put(hash, offset);
+            liveBytes += RECORD_OVERHEAD + bytes.length;
+            cache.put(key, key);
+            compact = needsCompaction();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (compact) {
+            scheduleCompaction();
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        if (cache.containsKey(key)) {
+            return true;
+        }
+
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        lock.readLock().lock();
+        try {
+            if (index.find(hash, offset -> keyEquals(channel, offset, bytes)) >= 0) {
+                // register the most used keys in the 1st level cache
+                cache.put(key, key);
+                return true;
+            }
+            return false;
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            cache.remove(key);
+            int slot = index.find(hash, offset -> keyEquals(channel, offset, bytes));
+            if (slot < 0) {
+                return false;
+            }
+            append(REMOVE, bytes);
+            index.removeAt(slot);
+            liveBytes -= RECORD_OVERHEAD + bytes.length;
+            compact = needsCompaction();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (compact) {
+            scheduleCompaction();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public void clear() {
+        compactionLock.lock();
+        lock.writeLock().lock();
+        try {
+            if (channel == null) {
+                // not started so clear the store by deleting the log and its index
+                if (fileStore != null) {
+                    Files.deleteIfExists(fileStore.toPath());
+                    Files.deleteIfExists(getIndexFile().toPath());
+                }
+                return;
+            }
+            cache.clear();
+            channel.truncate(0);
+            generation++;
+            position = writeHeader(channel, generation);
+            index = new KeyIndex(0);
+            liveBytes = 0;
+            saveIndex();
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.writeLock().unlock();
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the log by rewriting it with only the records of the keys which are in the store.
+     * <p/>
+     * The keys can be added and removed while the log is being compacted.
+     */
+    @ManagedOperation(description = "Compacts the log")
+    public void compact() {
+        compactionLock.lock();
+        try {
+            if (channel != null) {
+                doCompact();
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    public Map<String, Object> getCache() {
+        return cache;
+    }
+
+    /**
+     * Sets the 1st-level cache size.
+     * <p/>
+     * The default is 1000.
+     */
+    public void setCacheSize(int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
+
+    @ManagedAttribute(description = "The current 1st-level cache size")
+    public int getCacheSize() {
+        if (cache != null) {
+            return cache.size();
+        }
+        return 0;
+    }
+
+    @ManagedAttribute(description = "Whether the log is synced to disk on every write")
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Whether to sync the log to disk on every write, to not lose the latest keys if the operating system crashes. This
+     * has a significant cost in performance.
+     * <p/>
+     * The default is false.
+     */
+    public void setSync(boolean sync) {
+        this.sync = sync;
+    }
+
+    @ManagedAttribute(description = "The minimum size in bytes of the log before it is compacted")
+    public long getCompactionMinFileSize() {
+        return compactionMinFileSize;
+    }
+
+    /**
+     * Sets the minimum size in bytes of the log before it is compacted.
+     * <p/>
+     * The default is 1mb.
+     */
+    @ManagedAttribute(description = "The minimum size in bytes of the log before it is compacted")
+    public void setCompactionMinFileSize(long compactionMinFileSize) {
+        this.compactionMinFileSize = compactionMinFileSize;
+    }
+
+    @ManagedAttribute(description = "The ratio of the log which must be obsolete records before it is compacted")
+    public double getCompactionRatio() {
+        return compactionRatio;
+    }
+
+    /**
+     * Sets the ratio (0 to 1) of the log which must be records of removed keys before the log is compacted. You can set
+     * the value to 0 or negative to turn off automatic compaction.
+     * <p/>
+     * The default is 0.5.
+     */
+    @ManagedAttribute(description = "The ratio of the log which must be obsolete records before it is compacted")
+    public void setCompactionRatio(double compactionRatio) {
+        this.compactionRatio = compactionRatio;
+    }
+
+    @ManagedAttribute(description = "The number of keys in the store")
+    public int getSize() {
+        lock.readLock().lock();
+        try {
+            return index != null ? index.size() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The current size in bytes of the log")
+    public long getFileStoreSize() {
+        lock.readLock().lock();
+        try {
+            return position;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @ManagedAttribute(description = "The number of times the log has been compacted")
+    public long getCompactionCounter() {
+        return compactionCounter;
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private File getIndexFile() {
+        return new File(fileStore.getPath() + ".index");
+    }
+
+    private boolean needsCompaction() {
+        if (compactionRatio <= 0) {
+            return false;
+        }
+        long size = position - LOG_HEADER_SIZE;
+        return size >= compactionMinFileSize && size - liveBytes >= size * compactionRatio;
+    }
+
+    private void scheduleCompaction() {
+        if (!compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        if (executorService != null) {
+            try {
+                executorService.submit(this::runCompaction);
+                return;
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Cannot schedule compaction of idempotent filestore: {} as the executor is shutdown", fileStore);
+                compactionScheduled.set(false);
+                return;
+            }
+        }
+        runCompaction();
+    }
+
+    private void runCompaction() {
+        try {
+            if (isRunAllowed()) {
+                compact();
+            }
+        } catch (Exception e) {
+            LOG.warn("Error compacting idempotent filestore: {}. This exception will be ignored.", fileStore, e);
+        } finally {
+            compactionScheduled.set(false);
+        }
+    }
+
+    private void doCompact() throws IOException {
+        long[] offsets;
+        long end;
+        lock.readLock().lock();
+        try {
+            end = position;
+            offsets = index.offsets();
+        } finally {
+            lock.readLock().unlock();
+        }
+        // keep the keys in the order they were added
+        Arrays.sort(offsets);
+
+        LOG.debug("Compacting idempotent filestore: {} with {} entries", fileStore, offsets.length);
+        File compactFile = new File(fileStore.getPath() + ".compact");
+        long newGeneration = generation + 1;
+        KeyIndex newIndex = new KeyIndex(offsets.length);
+        long newLiveBytes = 0;
+
+        // use a separate channel for reading as the compaction may be interrupted which closes the channel
+        try (FileChannel source = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(compactFile.toPath(), StandardOpenOption.CREATE,
+                     StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            // copy the keys which was in the store when compaction started
+            RecordWriter writer = new RecordWriter(target, writeHeader(target, newGeneration));
+            for (long offset : offsets) {
+                Record record = readRecord(source, offset);
+                newIndex.put(hash(record.key), writer.write(ADD, record.key));
+                newLiveBytes += record.size;
+            }
+            writer.flush();
+
+            lock.writeLock().lock();
+            try {
+                // copy the records which was appended while compacting
+                long tail = end;
+                while (tail < position) {
+                    Record record = readRecord(source, tail);
+                    long hash = hash(record.key);
+                    if (record.type == ADD) {
+                        newIndex.put(hash, writer.write(ADD, record.key));
+                        newLiveBytes += record.size;
+                    } else {
+                        writer.write(REMOVE, record.key);
+                        writer.flush();
+                        int slot = newIndex.find(hash, offset -> keyEquals(target, offset, record.key));
+                        if (slot >= 0) {
+                            newIndex.removeAt(slot);
+                            newLiveBytes -= record.size;
+                        }
+                    }
+                    tail += record.size;
+                }
+                writer.flush();
+                target.force(true);
+                target.close();
+
+                long before = position;
+                boolean moved = false;
+                channel.close();
+                try {
+                    Files.move(compactFile.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                    moved = true;
+                } finally {
+                    channel = openChannel();
+                }
+                if (moved) {
+                    generation = newGeneration;
+                    position = writer.position;
+                    index = newIndex;
+                    liveBytes = newLiveBytes;
+                    compactionCounter++;
+                    saveIndex();
+                    LOG.debug("Compacted idempotent filestore: {} from {} to {} bytes", fileStore, before, position);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            FileUtil.deleteFile(compactFile);
+        }
+    }
+
+    private long append(byte type, byte[] key) throws IOException {
+        ByteBuffer buffer = encode(type, key);
+        long offset = position;
+        writeFully(channel, buffer, offset);
+        position += buffer.limit();
+        if (sync) {
+            channel.force(false);
+        }
+        return offset;
+    }
+
+    private FileChannel openChannel() throws IOException {
+        return FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Loads the hash index from the index file, and returns the position in the log which the index covers, or -1 if
+     * the index file cannot be used.
+     */
+    private long loadIndex() {
+        File file = getIndexFile();
+        if (!file.exists()) {
+            return -1;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != VERSION) {
+                LOG.warn("Ignoring invalid index file: {} of idempotent filestore: {}", file, fileStore);
+                return -1;
+            }
+            long indexGeneration = in.readLong();
+            long covered = in.readLong();
+            long live = in.readLong();
+            if (indexGeneration != generation || covered > channel.size()) {
+                LOG.debug("Ignoring index file: {} which does not match idempotent filestore: {}", file, fileStore);
+                return -1;
+            }
+            int size = in.readInt();
+            int capacity = in.readInt();
+            KeyIndex loaded = new KeyIndex(capacity, size);
+            for (int i = 0; i < capacity; i++) {
+                loaded.hashes[i] = in.readLong();
+                loaded.offsets[i] = in.readLong();
+            }
+            index = loaded;
+            liveBytes = live;
+            return covered;
+        } catch (IOException | IllegalArgumentException e) {
+            LOG.warn("Error loading index file: {} of idempotent filestore: {}. The index will be rebuilt.", file, fileStore,
+                    e);
+            return -1;
+        }
+    }
+
+    /**
+     * Saves the hash index to the index file.
+     */
+    private void saveIndex() throws IOException {
+        // the log must be on disk before the index which refers to it
+        channel.force(true);
+
+        File file = getIndexFile();
+        File tmp = new File(file.getPath() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp), BUFFER_SIZE))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(generation);
+            out.writeLong(position);
+            out.writeLong(liveBytes);
+            out.writeInt(index.size);
+            out.writeInt(index.hashes.length);
+            for (int i = 0; i < index.hashes.length; i++) {
+                out.writeLong(index.hashes[i]);
+                out.writeLong(index.offsets[i]);
+            }
+        }
+        Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Reads the records from the given position in the log and applies them to the hash index. If the log has a corrupt
+     * or incomplete record then the log is truncated to the last valid record.
+     *
+     * @return the end of the log
+     */
+    private long replay(long start) throws IOException {
+        long valid = start;
+        int count = 0;
+        channel.position(start);
+        // do not close the stream as that would close the channel
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE));
+        CRC32 crc = new CRC32();
+        while (true) {
+            Record next;
+            try {
+                next = readRecord(in, crc);
+            } catch (EOFException e) {
+                next = null;
+            }
+            if (next == null) {
+                break;
+            }
+            final Record record = next;
+            long hash = hash(record.key);
+            int slot = index.find(hash, offset -> keyEquals(channel, offset, record.key));
+            if (record.type == ADD && slot < 0) {
+                index.put(hash, valid);
+                liveBytes += record.size;
+            } else if (record.type == REMOVE && slot >= 0) {
+                index.removeAt(slot);
+                liveBytes -= record.size;
+            }
+            valid += record.size;
+            count++;
+        }
+
+        if (valid < channel.size()) {
+            LOG.warn("Idempotent filestore: {} has a corrupt or incomplete record at position: {}. Truncating {} bytes.",
+                    fileStore, valid, channel.size() - valid);
+            channel.truncate(valid);
+            channel.force(true);
+        }
+        LOG.debug("Replayed {} records from position: {} of idempotent filestore: {}", count, start, fileStore);
+        return valid;
+    }
+
+    /**
+     * Converts a file store in the plain text format of {@link FileIdempotentRepository} to the log format.
+     */
+    private void convertTextStore() throws IOException {
+        LOG.info("Converting idempotent filestore: {} from text to log format", fileStore);
+        File target = new File(fileStore.getPath() + ".convert");
+        try (FileChannel out = FileChannel.open(target.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             Scanner scanner = new Scanner(fileStore, null, "\n")) {
+            RecordWriter writer = new RecordWriter(out, writeHeader(out, 1));
+            while (scanner.hasNext()) {
+                String line = scanner.next();
+                if (!line.isEmpty()) {
+                    writer.write(ADD, line.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            writer.flush();
+            out.force(true);
+        }
+        Files.move(target.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private boolean isLogFormat() throws IOException {
+        try (InputStream is = new FileInputStream(fileStore)) {
+            DataInputStream in = new DataInputStream(is);
+            return in.readInt() == LOG_MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        cache = LRUCacheFactory.newTinyLFUCache(Math.max(1, cacheSize), 0, null);
+
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating directory of idempotent filestore: {}", fileStore);
+            parent.mkdirs();
+        }
+        if (fileStore.exists() && fileStore.length() > 0 && !isLogFormat()) {
+            convertTextStore();
+        }
+
+        lock.writeLock().lock();
+        try {
+            channel = openChannel();
+            if (channel.size() < LOG_HEADER_SIZE) {
+                // a new log
+                channel.truncate(0);
+                generation = 1;
+                position = writeHeader(channel, generation);
+                index = new KeyIndex(0);
+                liveBytes = 0;
+            } else {
+                ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+                readFully(channel, header, 0);
+                header.flip();
+                if (header.getInt() != LOG_MAGIC || header.getInt() != VERSION) {
+                    throw new IOException("Idempotent filestore: " + fileStore + " is not a log file of a supported version");
+                }
+                generation = header.getLong();
+                long start = loadIndex();
+                if (start < 0) {
+                    index = new KeyIndex(0);
+                    liveBytes = 0;
+                    start = LOG_HEADER_SIZE;
+                }
+                position = replay(start);
+            }
+            LOG.debug("Loaded {} keys from idempotent filestore: {}", index.size(), fileStore);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (camelContext != null) {
+            executorService = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "LogFileIdempotentRepository");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (executorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(executorService);
+            executorService = null;
+        }
+
+        // wait for any compaction in progress
+        compactionLock.lock();
+        lock.writeLock().lock();
+        try {
+            if (channel != null) {
+                saveIndex();
+                channel.close();
+                channel = null;
+            }
+            cache.clear();
+        } finally {
+            lock.writeLock().unlock();
+            compactionLock.unlock();
+        }
+    }
+
+    // Log format
+    // -------------------------------------------------------------------------
+
+    private static long writeHeader(FileChannel channel, long generation) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER_SIZE);
+        header.putInt(LOG_MAGIC).putInt(VERSION).putLong(generation);
+        header.flip();
+        writeFully(channel, header, 0);
+        return LOG_HEADER_SIZE;
+    }
+
+    private static ByteBuffer encode(byte type, byte[] key) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_OVERHEAD + key.length);
+        buffer.put(type).putInt(key.length).put(key);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Reads the next record from the stream, or returns null if the record is corrupt.
+     */
+    private static Record readRecord(DataInputStream in, CRC32 crc) throws IOException {
+        int type = in.read();
+        if (type != ADD && type != REMOVE) {
+            // end of log or corrupt record
+            return null;
+        }
+        int length = in.readInt();
+        if (length < 0 || length > MAX_KEY_LENGTH) {
+            return null;
+        }
+        byte[] key = new byte[length];
+        in.readFully(key);
+        int checksum = in.readInt();
+
+        crc.reset();
+        crc.update(type);
+        crc.update(length >>> 24);
+        crc.update(length >>> 16);
+        crc.update(length >>> 8);
+        crc.update(length);
+        crc.update(key, 0, length);
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+        return new Record((byte) type, key);
+    }
+
+    /**
+     * Reads the record at the given position which must be a valid record.
+     */
+    private static Record readRecord(FileChannel channel, long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(5);
+        readFully(channel, header, offset);
+        header.flip();
+        byte type = header.get();
+        int length = header.getInt();
+        if (type != ADD && type != REMOVE || length < 0 || length > MAX_KEY_LENGTH) {
+            throw new IOException("Corrupt record at position: " + offset);
+        }
+        ByteBuffer key = ByteBuffer.allocate(length);
+        readFully(channel, key, offset + 5);
+        return new Record(type, key.array());
+    }
+
+    private static boolean keyEquals(FileChannel channel, long offset, byte[] key) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(5);
+        readFully(channel, header, offset);
+        if (header.getInt(1) != key.length) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(key.length);
+        readFully(channel, buffer, offset + 5);
+        return Arrays.equals(buffer.array(), key);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        long pos = offset;
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, pos);
+            if (n < 0) {
+                throw new EOFException("Unexpected end of idempotent filestore at position: " + pos);
+            }
+            pos += n;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long offset) throws IOException {
+        long pos = offset;
+        while (buffer.hasRemaining()) {
+            pos += channel.write(buffer, pos);
+        }
+    }
+
+    /**
+     * The hash of the key which is stored in the hash index, where 0 is reserved for empty slots.
+     */
+    private static long hash(byte[] key) {
+        // FNV-1a followed by the murmur3 finalizer to spread the bits
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h != 0 ? h : 1;
+    }
+
+    private static final class Record {
+        private final byte type;
+        private final byte[] key;
+        private final int size;
+
+        private Record(byte type, byte[] key) {
+            this.type = type;
+            this.key = key;
+            this.size = RECORD_OVERHEAD + key.length;
+        }
+    }
+
+    /**
+     * Writes records using a buffer.
+     */
+    private static final class RecordWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long flushed;
+        private long position;
+
+        private RecordWriter(FileChannel channel, long position) {
+            this.channel = channel;
+            this.flushed = position;
+            this.position = position;
+        }
+
+        /**
+         * Writes the record and returns its position
+         */
+        private long write(byte type, byte[] key) throws IOException {
+            ByteBuffer record = encode(type, key);
+            if (record.remaining() > buffer.remaining()) {
+                flush();
+            }
+            long answer = position;
+            if (record.remaining() > buffer.capacity()) {
+                writeFully(channel, record, flushed);
+                flushed += record.limit();
+            } else {
+                buffer.put(record);
+            }
+            position += RECORD_OVERHEAD + key.length;
+            return answer;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            int n = buffer.remaining();
+            writeFully(channel, buffer, flushed);
+            flushed += n;
+            buffer.clear();
+        }
+    }
+
+    @FunctionalInterface
+    private interface OffsetMatcher {
+        boolean matches(long offset) throws IOException;
+    }
+
+    /**
+     * An open addressing hash table (with linear probing) of the hash and position in the log of the keys.
+     */
+    private static final class KeyIndex {
+        private long[] hashes;
+        private long[] offsets;
+        private int size;
+        private int mask;
+
+        private KeyIndex(int expected) {
+            int capacity = 16;
+            while (capacity < expected * 2L && capacity < (1 << 30)) {
+                capacity <<= 1;
+            }
+            init(capacity);
+        }
+
+        private KeyIndex(int capacity, int size) {
+            if (capacity < 16 || Integer.bitCount(capacity) != 1 || size < 0 || size >= capacity) {
+                throw new IllegalArgumentException("Invalid index capacity: " + capacity + " and size: " + size);
+            }
+            init(capacity);
+            this.size = size;
+        }
+
+        private void init(int capacity) {
+            this.hashes = new long[capacity];
+            this.offsets = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        /**
+         * Finds the slot of the key with the given hash, or -1 if not found
+         */
+        private int find(long hash, OffsetMatcher matcher) throws IOException {
+            int i = (int) hash & mask;
+            while (hashes[i] != 0) {
+                if (hashes[i] == hash && matcher.matches(offsets[i])) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        private void put(long hash, long offset) {
+            if ((size + 1) * 2L > hashes.length) {
+                resize();
+            }
+            insert(hash, offset);
+            size++;
+        }
+
+        private void insert(long hash, long offset) {
+            int i = (int) hash & mask;
+            while (hashes[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            hashes[i] = hash;
+            offsets[i] = offset;
+        }
+
+        private void removeAt(int slot) {
+            // shift back the following entries of the cluster so no tombstones are needed
+            int i = slot;
+            int j = slot;
+            while (true) {
+                j = (j + 1) & mask;
+                if (hashes[j] == 0) {
+                    break;
+                }
+                int k = (int) hashes[j] & mask;
+                boolean stay = i <= j ? i < k && k <= j : i < k || k <= j;
+                if (!stay) {
+                    hashes[i] = hashes[j];
+                    offsets[i] = offsets[j];
+                    i = j;
+                }
+            }
+            hashes[i] = 0;
+            offsets[i] = 0;
+            size--;
+        }
+
+        private void resize() {
+            long[] oldHashes = hashes;
+            long[] oldOffsets = offsets;
+            init(oldHashes.length << 1);
+            for (int i = 0; i < oldHashes.length; i++) {
+                if (oldHashes[i] != 0) {
+                    insert(oldHashes[i], oldOffsets[i]);
+                }
+            }
+        }
+
+        private long[] offsets() {
+            long[] answer = new long[size];
+            int n = 0;
+            for (int i = 0; i < hashes.length; i++) {
+                if (hashes[i] != 0) {
+                    answer[n++] = offsets[i];
+                }
+            }
+            return answer;
+        }
+    }
+}
@@ -17,28 +17,57 @@
 package org.apache.camel.support.processor.idempotent;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.api.management.ManagedOperation;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.spi.IdempotentRepository;
-import org.apache.camel.support.LRUCache;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceSupport;
 
 /**
  * A memory based implementation of {@link org.apache.camel.spi.IdempotentRepository}.
  * <p/>
+ * By default the keys are stored in a LRU cache created by {@link LRUCacheFactory#newLRUCache(int)}. The
+ * {@link CacheType#TinyLFU} cache type can be used instead, which stores the keys in a bounded concurrent cache created
+ * by {@link LRUCacheFactory#newTinyLFUCache(int, long, java.util.function.Consumer)} that evicts the least frequently
+ * used keys when full, and which can optionally expire the keys after a time to live. When the underlying {@link Map}
+ * is a {@link ConcurrentMap} then the repository does not lock, otherwise the access to the map is synchronized.
+ * <p/>
  * Care should be taken to use a suitable underlying {@link Map} to avoid this class being a memory leak.
  */
 @ManagedResource(description = "Memory based idempotent repository")
 public class MemoryIdempotentRepository extends ServiceSupport implements IdempotentRepository {
+
+    /**
+     * The type of cache used for storing the keys.
+     */
+    public enum CacheType {
+        /**
+         * Least recently used cache created by {@link LRUCacheFactory#newLRUCache(int)}
+         */
+        LRU,
+        /**
+         * Window TinyLFU cache created by
+         * {@link LRUCacheFactory#newTinyLFUCache(int, long, java.util.function.Consumer)}, which supports time to live
+         * of the keys
+         */
+        TinyLFU
+    }
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
     private Map<String, Object> cache;
+    private CacheType cacheType = CacheType.LRU;
     private int cacheSize;
+    private long timeToLive;
+    private volatile boolean recreateCache;
 
-    @SuppressWarnings("unchecked")
     public MemoryIdempotentRepository() {
-        this.cache = LRUCacheFactory.newLRUCache(1000);
+        this.cache = createCache(CacheType.LRU, 1000, 0);
     }
 
     public MemoryIdempotentRepository(Map<String, Object> set) {
@@ -46,20 +75,38 @@ public class MemoryIdempotentRepository extends ServiceSupport implements Idempo
     }
 
     /**
-     * Creates a new memory based repository using a {@link LRUCache} with a default of 1000 entries in the cache.
+     * Creates a new memory based repository using a LRU cache with a default of 1000 entries in the cache.
      */
     public static IdempotentRepository memoryIdempotentRepository() {
         return new MemoryIdempotentRepository();
     }
 
     /**
-     * Creates a new memory based repository using a {@link LRUCache}.
+     * Creates a new memory based repository using a LRU cache.
      *
      * @param cacheSize the cache size
      */
-    @SuppressWarnings("unchecked")
     public static IdempotentRepository memoryIdempotentRepository(int cacheSize) {
-        return memoryIdempotentRepository(LRUCacheFactory.newLRUCache(cacheSize));
+        MemoryIdempotentRepository answer = new MemoryIdempotentRepository();
+        answer.cache = answer.createCache(CacheType.LRU, cacheSize, 0);
+        answer.cacheSize = cacheSize;
+        return answer;
+    }
+
+    /**
+     * Creates a new memory based repository using a {@link CacheType#TinyLFU} cache, where the keys expire after the
+     * given time to live.
+     *
+     * @param cacheSize  the cache size
+     * @param timeToLive time to live in millis of the keys, use 0 to not expire the keys
+     */
+    public static IdempotentRepository memoryIdempotentRepository(int cacheSize, long timeToLive) {
+        MemoryIdempotentRepository answer = new MemoryIdempotentRepository();
+        answer.cache = answer.createCache(CacheType.TinyLFU, cacheSize, timeToLive);
+        answer.cacheType = CacheType.TinyLFU;
+        answer.cacheSize = cacheSize;
+        answer.timeToLive = timeToLive;
+        return answer;
     }
 
     /**
@@ -76,29 +123,57 @@ public class MemoryIdempotentRepository extends ServiceSupport implements Idempo
     @Override
     @ManagedOperation(description = "Adds the key to the store")
     public boolean add(String key) {
-        synchronized (cache) {
-            if (cache.containsKey(key)) {
-                return false;
-            } else {
-                cache.put(key, key);
-                return true;
+        Map<String, Object> map = cache;
+        boolean added;
+        if (map instanceof ConcurrentMap) {
+            added = ((ConcurrentMap<String, Object>) map).putIfAbsent(key, key) == null;
+        } else {
+            synchronized (map) {
+                if (map.containsKey(key)) {
+                    added = false;
+                } else {
+                    map.put(key, key);
+                    added = true;
+                }
             }
         }
+        if (added) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return added;
     }
 
     @Override
     @ManagedOperation(description = "Does the store contain the given key")
     public boolean contains(String key) {
-        synchronized (cache) {
-            return cache.containsKey(key);
+        Map<String, Object> map = cache;
+        boolean found;
+        if (map instanceof ConcurrentMap) {
+            found = map.containsKey(key);
+        } else {
+            synchronized (map) {
+                found = map.containsKey(key);
+            }
         }
+        if (found) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return found;
     }
 
     @Override
     @ManagedOperation(description = "Remove the key from the store")
     public boolean remove(String key) {
-        synchronized (cache) {
-            return cache.remove(key) != null;
+        Map<String, Object> map = cache;
+        if (map instanceof ConcurrentMap) {
+            return map.remove(key) != null;
+        }
+        synchronized (map) {
+            return map.remove(key) != null;
         }
     }
 
@@ -111,8 +186,13 @@ public class MemoryIdempotentRepository extends ServiceSupport implements Idempo
     @Override
     @ManagedOperation(description = "Clear the store")
     public void clear() {
-        synchronized (cache) {
-            cache.clear();
+        Map<String, Object> map = cache;
+        if (map instanceof ConcurrentMap) {
+            map.clear();
+            return;
+        }
+        synchronized (map) {
+            map.clear();
         }
     }
 
@@ -127,13 +207,66 @@ public class MemoryIdempotentRepository extends ServiceSupport implements Idempo
 
     public void setCacheSize(int cacheSize) {
         this.cacheSize = cacheSize;
+        this.recreateCache = true;
+    }
+
+    public CacheType getCacheType() {
+        return cacheType;
+    }
+
+    /**
+     * Sets the type of cache used for storing the keys. Is by default {@link CacheType#LRU}.
+     */
+    public void setCacheType(CacheType cacheType) {
+        this.cacheType = cacheType;
+        this.recreateCache = true;
+    }
+
+    @ManagedAttribute(description = "Time to live in millis of the keys (0 = the keys do not expire)")
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time to live in millis of the keys, which is counted from when the key was added. Use 0 to not expire
+     * the keys. Is only supported by the {@link CacheType#TinyLFU} cache type.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+        this.recreateCache = true;
+    }
+
+    @ManagedAttribute(description = "Number of times a key was found in the store")
+    public long getCacheHits() {
+        return hits.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of times a key was not found in the store")
+    public long getCacheMisses() {
+        return misses.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of keys evicted (or expired) from the store")
+    public long getCacheEvicted() {
+        return evicted.longValue();
+    }
+
+    @ManagedOperation(description = "Reset the statistics counters")
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     protected void doStart() throws Exception {
-        if (cacheSize > 0) {
-            cache = LRUCacheFactory.newLRUCache(cacheSize);
+        if (timeToLive > 0 && cacheType != CacheType.TinyLFU) {
+            throw new IllegalArgumentException("TimeToLive is only supported by the TinyLFU cache type");
+        }
+        // the cache type, cache size or time to live has been configured so create a new cache
+        if (recreateCache) {
+            cache = createCache(cacheType, cacheSize > 0 ? cacheSize : 1000, timeToLive);
+            recreateCache = false;
         }
     }
 
@@ -141,4 +274,11 @@ public class MemoryIdempotentRepository extends ServiceSupport implements Idempo
     protected void doStop() throws Exception {
         cache.clear();
     }
+
+    private Map<String, Object> createCache(CacheType cacheType, int cacheSize, long timeToLive) {
+        if (cacheType == CacheType.TinyLFU) {
+            return LRUCacheFactory.newTinyLFUCache(cacheSize, timeToLive, v -> evicted.increment());
+        }
+        return LRUCacheFactory.newLRUCache(cacheSize, v -> evicted.increment());
+    }
 }
@@ -0,0 +1,431 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, and iterates the entries in the order
+ * they were added.
+ * <p/>
+ * The map is a hash map using open addressing, where the case insensitive hash of the keys are computed once when the
+ * entry is added, so lookups are O(1) and do not allocate. The entries are stored in insertion order in plain arrays,
+ * and the hash table only holds the positions of the entries, which keeps the map compact.
+ * <p/>
+ * Copying a map with {@link #CaseInsensitiveHashMap(Map)} or {@link #putAll(Map)} (into an empty map) is O(1) as the
+ * arrays are shared between the maps, until one of the maps is changed, which then copies the arrays (copy-on-write).
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 6354371942648215442L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int DELETED = -1;
+
+    // the entries in insertion order (removed entries have a null key)
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // the hash table with the positions (+1) of the entries, where 0 is a free slot
+    private int[] index;
+    private int used;
+    private int size;
+    // whether the arrays are shared with another map and must be copied before changing them
+    private transient boolean shared;
+    private transient int modCount;
+    private transient Set<Entry<String, Object>> entrySet;
+
+    public CaseInsensitiveHashMap() {
+    }
+
+    public CaseInsensitiveHashMap(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (initialCapacity > 0) {
+            allocate(capacityFor(initialCapacity));
+        }
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (key instanceof String) {
+            String k = (String) key;
+            int slot = findSlot(k, hash(k));
+            if (slot >= 0) {
+                return values[index[slot] - 1];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key instanceof String) {
+            String k = (String) key;
+            return findSlot(k, hash(k)) >= 0;
+        }
+        return false;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = hash(key);
+        int slot = findSlot(key, hash);
+        if (slot >= 0) {
+            // keep the original key case as a TreeMap with case insensitive order does
+            if (shared) {
+                unshare();
+            }
+            int pos = index[slot] - 1;
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+
+        if (keys == null) {
+            allocate(DEFAULT_CAPACITY);
+        } else if (used == keys.length) {
+            resize(size + 1);
+        } else if (shared) {
+            unshare();
+        }
+        append(key, hash, value);
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (map instanceof CaseInsensitiveHashMap && size == 0) {
+            // copy-on-write
+            share((CaseInsensitiveHashMap) map);
+            return;
+        }
+        int count = map.size();
+        if (count == 0) {
+            return;
+        }
+        if (keys == null) {
+            allocate(capacityFor(count));
+        } else if (used + count > keys.length) {
+            resize(size + count);
+        }
+        for (Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (key instanceof String) {
+            String k = (String) key;
+            int slot = findSlot(k, hash(k));
+            if (slot >= 0) {
+                if (shared) {
+                    unshare();
+                }
+                int pos = index[slot] - 1;
+                Object answer = values[pos];
+                removeAt(slot, pos);
+                return answer;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        if (size == 0 && !shared) {
+            return;
+        }
+        if (shared) {
+            keys = null;
+            values = null;
+            hashes = null;
+            index = null;
+            shared = false;
+        } else {
+            Arrays.fill(keys, 0, used, null);
+            Arrays.fill(values, 0, used, null);
+            Arrays.fill(index, 0);
+        }
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        Objects.requireNonNull(action);
+        int mc = modCount;
+        for (int i = 0; i < used; i++) {
+            String key = keys[i];
+            if (key != null) {
+                action.accept(key, values[i]);
+            }
+        }
+        if (mc != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> answer = entrySet;
+        if (answer == null) {
+            answer = new EntrySet();
+            entrySet = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * Computes the case insensitive hash of the key, which is the same for keys which are equal when ignoring case (see
+     * {@link String#equalsIgnoreCase(String)}).
+     */
+    static int hash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            if (ch < 128) {
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch += 32;
+                }
+            } else {
+                // same folding as String.equalsIgnoreCase
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static int capacityFor(int size) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < size) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private int findSlot(String key, int hash) {
+        int[] table = index;
+        if (table == null) {
+            return -1;
+        }
+        int mask = table.length - 1;
+        for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+            int pos = table[slot];
+            if (pos == 0) {
+                return -1;
+            } else if (pos > 0 && hashes[pos - 1] == hash) {
+                String other = keys[pos - 1];
+                if (other == key || other.equalsIgnoreCase(key)) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        // the hash table is twice the size of the entries so it is at most half full
+        index = new int[capacity * 2];
+        used = 0;
+        size = 0;
+        shared = false;
+    }
+
+    private void append(String key, int hash, Object value) {
+        int pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hash;
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        // the key is not in the map so we can reuse slots of removed entries
+        while (index[slot] > 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = pos + 1;
+        size++;
+    }
+
+    private void removeAt(int slot, int pos) {
+        index[slot] = DELETED;
+        keys[pos] = null;
+        values[pos] = null;
+        size--;
+        modCount++;
+        if (size == 0) {
+            // reclaim the slots of the removed entries
+            Arrays.fill(index, 0);
+            used = 0;
+        }
+    }
+
+    private void resize(int minCapacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+        // this also compacts the removed entries
+        allocate(capacityFor(minCapacity));
+        for (int i = 0; i < oldUsed; i++) {
+            String key = oldKeys[i];
+            if (key != null) {
+                append(key, oldHashes[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void share(CaseInsensitiveHashMap other) {
+        if (other == this || other.size == 0) {
+            return;
+        }
+        keys = other.keys;
+        values = other.values;
+        hashes = other.hashes;
+        index = other.index;
+        used = other.used;
+        size = other.size;
+        shared = true;
+        other.shared = true;
+        modCount++;
+    }
+
+    private void unshare() {
+        keys = keys.clone();
+        values = values.clone();
+        hashes = hashes.clone();
+        index = index.clone();
+        shared = false;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next = advance(0);
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            return new MapEntry(keys[last], values[last]);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            int slot = findSlot(keys[last], hashes[last]);
+            if (shared) {
+                unshare();
+            }
+            removeAt(slot, last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        private int advance(int pos) {
+            while (pos < used && keys[pos] == null) {
+                pos++;
+            }
+            return pos;
+        }
+    }
+
+    private final class MapEntry extends SimpleEntry<String, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        MapEntry(String key, Object value) {
+            super(key, value);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+
+}
@@ -59,7 +59,15 @@ public class AsyncCompletionService<V> {
     }
 
     public void submit(Consumer<Consumer<V>> runner) {
-        Task f = new Task(nextId.getAndIncrement(), runner);
+        submit(nextId.getAndIncrement(), runner);
+    }
+
+    /**
+     * Submits a task with the given id, which is the order the results are polled when ordered. This allows tasks to be
+     * submitted concurrently, as long as the ids are assigned in order (starting from 0).
+     */
+    public void submit(int id, Consumer<Consumer<V>> runner) {
+        Task f = new Task(id, runner);
         this.executor.execute(f);
     }
 
@@ -67,6 +75,23 @@ public class AsyncCompletionService<V> {
         index.incrementAndGet();
     }
 
+    /**
+     * Resets this completion service so it can be reused, which discards any completed tasks that has not been polled.
+     * <p/>
+     * This must only be called when there are no tasks in progress.
+     */
+    public void reset() {
+        final ReentrantLock lock = this.lock;
+        lock.lock();
+        try {
+            queue.clear();
+            nextId.set(0);
+            index.set(0);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     public V pollUnordered() {
         final ReentrantLock lock = this.lock;
         lock.lock();
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.util.concurrent;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.concurrent.ThreadFactory;
 
 import org.slf4j.Logger;
@@ -23,34 +26,117 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Thread factory which creates threads supporting a naming pattern.
+ * <p/>
+ * The factory can create virtual threads instead of platform threads, when running on a JDK which supports virtual
+ * threads. On older JDKs the factory falls back to create platform threads.
  */
 public final class CamelThreadFactory implements ThreadFactory {
     private static final Logger LOG = LoggerFactory.getLogger(CamelThreadFactory.class);
 
+    // virtual threads are created using Thread.ofVirtual().name(name).unstarted(runnable) which
+    // is looked up using method handles as the JDK may not support virtual threads
+    private static final MethodHandle OF_VIRTUAL;
+    private static final MethodHandle NAME;
+    private static final MethodHandle UNSTARTED;
+
+    static {
+        MethodHandle ofVirtual = null;
+        MethodHandle name = null;
+        MethodHandle unstarted = null;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+                    MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+            name = lookup.findVirtual(builder, "name", MethodType.methodType(builder, String.class));
+            unstarted = lookup.findVirtual(builder, "unstarted", MethodType.methodType(Thread.class, Runnable.class));
+            // virtual threads may be a preview feature which is not enabled, so create a thread to be sure
+            unstarted.invoke(ofVirtual.invoke(), (Runnable) () -> {
+            });
+        } catch (Throwable e) {
+            LOG.trace("Virtual threads are not supported on this JDK due to: {}", e.getMessage());
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        UNSTARTED = unstarted;
+    }
+
     private final String pattern;
     private final String name;
     private final boolean daemon;
+    private final boolean virtual;
 
     public CamelThreadFactory(String pattern, String name, boolean daemon) {
+        this(pattern, name, daemon, false);
+    }
+
+    /**
+     * Creates a thread factory
+     *
+     * @param pattern the thread name pattern
+     * @param name    the thread name
+     * @param daemon  whether to create daemon threads (virtual threads are always daemon threads)
+     * @param virtual whether to create virtual threads, if supported by the JDK
+     */
+    public CamelThreadFactory(String pattern, String name, boolean daemon, boolean virtual) {
         this.pattern = pattern;
         this.name = name;
         this.daemon = daemon;
+        this.virtual = virtual && isVirtualThreadsSupported();
+    }
+
+    /**
+     * Whether the JDK supports virtual threads.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return OF_VIRTUAL != null;
     }
 
     @Override
     public Thread newThread(Runnable runnable) {
         String threadName = ThreadHelper.resolveThreadName(pattern, name);
-        Thread answer = new Thread(runnable, threadName);
-        answer.setDaemon(daemon);
+        Thread answer;
+        if (virtual) {
+            answer = newVirtualThread(runnable, threadName);
+        } else {
+            answer = new Thread(runnable, threadName);
+            answer.setDaemon(daemon);
+        }
 
         LOG.trace("Created thread[{}] -> {}", threadName, answer);
         return answer;
     }
 
+    private static Thread newVirtualThread(Runnable runnable, String threadName) {
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(), threadName);
+            return (Thread) UNSTARTED.invoke(builder, runnable);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Error creating virtual thread: " + threadName, e);
+        }
+    }
+
+    /**
+     * Creates a new thread factory with the same name pattern, which creates virtual threads (if supported by the JDK)
+     */
+    public CamelThreadFactory withVirtualThreads() {
+        return new CamelThreadFactory(pattern, name, daemon, true);
+    }
+
     public String getName() {
         return name;
     }
 
+    /**
+     * Whether this factory creates virtual threads.
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
     @Override
     public String toString() {
         return "CamelThreadFactory[" + name + "]";
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread safe map backed by a {@link ConcurrentHashMap}, which can be copied in O(1) with {@link #copy()}.
+ * <p/>
+ * The copy shares the backing map with this map, until either map is changed, which then copies the backing map
+ * (copy-on-write). Changes to a map after it has been copied are therefore not visible in the copies and vice versa.
+ * <p/>
+ * Reading from the map does not lock. Changing the map locks on this map, so a change cannot leak into a copy which is
+ * created at the same time.
+ * <p/>
+ * This map does not permit <tt>null</tt> keys or values.
+ */
+public class CopyOnWriteMap<K, V> extends AbstractMap<K, V> {
+
+    private volatile Map<K, V> map;
+    // whether the backing map is shared with another map, and must be copied before it is changed
+    private volatile boolean shared;
+    private Set<Entry<K, V>> entrySet;
+
+    public CopyOnWriteMap() {
+        this.map = new ConcurrentHashMap<>(8);
+    }
+
+    /**
+     * Creates a map which takes ownership of the given (thread safe) map as its backing map. The given map must not be
+     * changed afterwards by the caller.
+     */
+    public CopyOnWriteMap(ConcurrentHashMap<K, V> map) {
+        this.map = map;
+    }
+
+    private CopyOnWriteMap(Map<K, V> map, boolean shared) {
+        this.map = map;
+        this.shared = shared;
+    }
+
+    /**
+     * Creates a copy of this map, which shares the backing map with this map until either map is changed.
+     */
+    public synchronized CopyOnWriteMap<K, V> copy() {
+        shared = true;
+        return new CopyOnWriteMap<>(map, true);
+    }
+
+    /**
+     * Whether the backing map is currently shared with another map
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public synchronized V put(K key, V value) {
+        return writable().put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        if (!m.isEmpty()) {
+            synchronized (this) {
+                writable().putAll(m);
+            }
+        }
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (shared && !map.containsKey(key)) {
+            // avoid copying the map when there is nothing to remove
+            return null;
+        }
+        synchronized (this) {
+            return writable().remove(key);
+        }
+    }
+
+    @Override
+    public synchronized void clear() {
+        if (shared) {
+            map = new ConcurrentHashMap<>(8);
+            shared = false;
+        } else {
+            map.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> answer = entrySet;
+        if (answer == null) {
+            answer = new EntrySet();
+            entrySet = answer;
+        }
+        return answer;
+    }
+
+    /**
+     * The backing map to change, which is copied first if it is shared. Must be called while holding the lock, so the
+     * change is done before (and therefore not leaked into) any copy of this map.
+     */
+    private Map<K, V> writable() {
+        if (shared) {
+            map = new ConcurrentHashMap<>(map);
+            shared = false;
+        }
+        return map;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            final Iterator<Entry<K, V>> it = map.entrySet().iterator();
+            return new Iterator<Entry<K, V>>() {
+                private K last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    Entry<K, V> entry = it.next();
+                    last = entry.getKey();
+                    return new WriteThroughEntry(entry.getKey(), entry.getValue());
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    // remove from this map (which may copy the backing map) instead of the map being iterated
+                    CopyOnWriteMap.this.remove(last);
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            CopyOnWriteMap.this.clear();
+        }
+    }
+
+    private final class WriteThroughEntry extends SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+
+        WriteThroughEntry(K key, V value) {
+            super(key, value);
+        }
+
+        @Override
+        public V setValue(V value) {
+            super.setValue(value);
+            return put(getKey(), value);
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * An {@link java.util.concurrent.ExecutorService} which starts a new thread for each task, which is intended to be used
+ * with a {@link ThreadFactory} that creates virtual threads (see {@link CamelThreadFactory}).
+ * <p/>
+ * The executor has no queue and no limit on the number of threads, as virtual threads are cheap to create and block.
+ * The executor keeps track of the number of tasks, which are available from {@link #getTaskCount()},
+ * {@link #getCompletedTaskCount()} and {@link #getActiveCount()}. Notice that monitoring tools which only understand a
+ * {@link java.util.concurrent.ThreadPoolExecutor} does not report these counters by themselves, however the
+ * instrumented thread pool factory from camel-micrometer binds these counters using the Micrometer executor meter
+ * names.
+ */
+public class ThreadPerTaskExecutorService extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    private final LongAdder taskCount = new LongAdder();
+    private final LongAdder completedTaskCount = new LongAdder();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private volatile boolean shutdown;
+
+    public ThreadPerTaskExecutorService(ThreadFactory threadFactory) {
+        ObjectHelper.notNull(threadFactory, "threadFactory");
+        this.threadFactory = threadFactory;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        ObjectHelper.notNull(command, "command");
+        if (shutdown) {
+            throw new RejectedExecutionException("Task " + command + " rejected from " + this);
+        }
+        Thread thread = threadFactory.newThread(() -> run(command));
+        if (thread == null) {
+            throw new RejectedExecutionException("Thread factory returned no thread for task " + command);
+        }
+        threads.add(thread);
+        taskCount.increment();
+        // check again as we may have been shutdown concurrently, and then the thread may not be awaited on termination
+        if (shutdown) {
+            threads.remove(thread);
+            taskCount.decrement();
+            tryTerminate();
+            throw new RejectedExecutionException("Task " + command + " rejected from " + this);
+        }
+        try {
+            thread.start();
+        } catch (Throwable e) {
+            threads.remove(thread);
+            taskCount.decrement();
+            tryTerminate();
+            throw new RejectedExecutionException("Cannot start thread for task " + command, e);
+        }
+    }
+
+    private void run(Runnable command) {
+        try {
+            command.run();
+        } finally {
+            threads.remove(Thread.currentThread());
+            completedTaskCount.increment();
+            tryTerminate();
+        }
+    }
+
+    private void tryTerminate() {
+        if (shutdown && threads.isEmpty()) {
+            terminated.countDown();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        tryTerminate();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown();
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+        // there is no queue so there are never any tasks waiting to be executed
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    /**
+     * Number of threads which are currently running tasks
+     */
+    public int getActiveCount() {
+        return threads.size();
+    }
+
+    /**
+     * Total number of tasks which has been executed
+     */
+    public long getTaskCount() {
+        return taskCount.sum();
+    }
+
+    /**
+     * Number of tasks which has completed
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[" + (shutdown ? (isTerminated() ? "Terminated" : "Shutting down") : "Running")
+               + ", active threads = " + getActiveCount() + ", completed tasks = " + getCompletedTaskCount() + "]";
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CopyOnWriteMapTest {
+
+    @Test
+    public void testCopyOnWrite() {
+        CopyOnWriteMap<String, Object> map = new CopyOnWriteMap<>();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+        assertFalse(map.isShared());
+
+        CopyOnWriteMap<String, Object> copy = map.copy();
+        CopyOnWriteMap<String, Object> copy2 = map.copy();
+        assertTrue(map.isShared());
+        assertTrue(copy.isShared());
+        assertEquals(map, copy);
+
+        copy.put("foo", "cake");
+        assertFalse(copy.isShared());
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", copy2.get("foo"));
+        assertEquals("cake", copy.get("foo"));
+
+        map.remove("bar");
+        assertNull(map.get("bar"));
+        assertEquals(123, copy.get("bar"));
+        assertEquals(123, copy2.get("bar"));
+
+        // removing a key which does not exist does not copy
+        assertNull(copy2.remove("unknown"));
+        assertTrue(copy2.isShared());
+
+        copy2.clear();
+        assertTrue(copy2.isEmpty());
+        assertEquals(1, map.size());
+        assertEquals(2, copy.size());
+    }
+
+    @Test
+    public void testEntrySet() {
+        CopyOnWriteMap<String, Object> map = new CopyOnWriteMap<>();
+        for (int i = 0; i < 10; i++) {
+            map.put("key" + i, i);
+        }
+        CopyOnWriteMap<String, Object> copy = map.copy();
+
+        Iterator<Map.Entry<String, Object>> it = copy.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            int value = (Integer) entry.getValue();
+            if (value % 2 == 0) {
+                it.remove();
+            } else {
+                entry.setValue(value * 10);
+            }
+        }
+
+        assertEquals(5, copy.size());
+        assertEquals(10, copy.get("key1"));
+        assertNull(copy.get("key2"));
+        assertEquals(10, map.size());
+        assertEquals(1, map.get("key1"));
+        assertEquals(2, map.get("key2"));
+    }
+
+    @Test
+    public void testNoWritesLeakIntoConcurrentCopies() throws Exception {
+        CopyOnWriteMap<Integer, Integer> map = new CopyOnWriteMap<>();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            int i = 0;
+            while (!done.get()) {
+                map.put(i, i);
+                i++;
+            }
+        });
+        writer.start();
+
+        List<CopyOnWriteMap<Integer, Integer>> copies = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        try {
+            for (int i = 0; i < 10000; i++) {
+                CopyOnWriteMap<Integer, Integer> copy = map.copy();
+                copies.add(copy);
+                sizes.add(copy.size());
+            }
+        } finally {
+            done.set(true);
+            writer.join();
+        }
+
+        // the copies must not change after they were created
+        for (int i = 0; i < copies.size(); i++) {
+            assertEquals(sizes.get(i).intValue(), copies.get(i).size());
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThreadPerTaskExecutorServiceTest {
+
+    @Test
+    public void testThreadPerTask() throws Exception {
+        ThreadPerTaskExecutorService service
+                = new ThreadPerTaskExecutorService(new CamelThreadFactory("#name#-#counter#", "Cool", true, true));
+
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(5);
+        for (int i = 0; i < 5; i++) {
+            service.execute(() -> {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(5, threads.size());
+        for (Thread thread : threads) {
+            assertTrue(thread.getName().startsWith("Cool-"));
+        }
+
+        Future<String> future = service.submit(() -> "Bye World");
+        assertEquals("Bye World", future.get(5, TimeUnit.SECONDS));
+        assertEquals(6, service.getTaskCount());
+
+        service.shutdown();
+        assertTrue(service.isShutdown());
+        assertTrue(service.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(6, service.getCompletedTaskCount());
+        assertEquals(0, service.getActiveCount());
+
+        assertThrows(RejectedExecutionException.class, () -> service.execute(() -> {
+        }));
+    }
+
+    @Test
+    public void testShutdownNow() throws Exception {
+        ThreadPerTaskExecutorService service
+                = new ThreadPerTaskExecutorService(new CamelThreadFactory(null, "Cool", true));
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        service.execute(() -> {
+            started.countDown();
+            try {
+                Thread.sleep(60000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertFalse(service.isTerminated());
+
+        assertTrue(service.shutdownNow().isEmpty());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(service.awaitTermination(5, TimeUnit.SECONDS));
+        assertTrue(service.isTerminated());
+    }
+
+    @Test
+    public void testShutdownWhileExecuting() throws Exception {
+        ThreadPerTaskExecutorService service
+                = new ThreadPerTaskExecutorService(new CamelThreadFactory(null, "Cool", true));
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        CountDownLatch submitters = new CountDownLatch(4);
+        for (int i = 0; i < 4; i++) {
+            new Thread(() -> {
+                try {
+                    while (true) {
+                        service.execute(completed::incrementAndGet);
+                        accepted.incrementAndGet();
+                    }
+                } catch (RejectedExecutionException e) {
+                    // the service has been shutdown
+                } finally {
+                    submitters.countDown();
+                }
+            }).start();
+        }
+        Thread.sleep(50);
+
+        service.shutdown();
+        assertTrue(submitters.await(5, TimeUnit.SECONDS));
+        assertTrue(service.awaitTermination(5, TimeUnit.SECONDS));
+
+        // all the accepted tasks must have completed when terminated
+        assertEquals(accepted.get(), completed.get());
+        assertEquals(accepted.get(), service.getTaskCount());
+        assertEquals(accepted.get(), service.getCompletedTaskCount());
+    }
+
+}
@@ -74,12 +74,14 @@ public class ModelParser extends BaseParser {
                 case "completionSize": def.setCompletionSize(val); break;
                 case "completionTimeout": def.setCompletionTimeout(val); break;
                 case "completionTimeoutCheckerInterval": def.setCompletionTimeoutCheckerInterval(val); break;
+                case "completionTimeoutTimingWheel": def.setCompletionTimeoutTimingWheel(val); break;
                 case "discardOnAggregationFailure": def.setDiscardOnAggregationFailure(val); break;
                 case "discardOnCompletionTimeout": def.setDiscardOnCompletionTimeout(val); break;
                 case "eagerCheckCompletion": def.setEagerCheckCompletion(val); break;
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripes": def.setLockStripes(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "strategyMethodAllowNull": def.setStrategyMethodAllowNull(val); break;
@@ -1191,6 +1193,7 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "delimiter": def.setDelimiter(val); break;
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
+                case "maxInflight": def.setMaxInflight(val); break;
                 case "onPrepareRef": def.setOnPrepareRef(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
@@ -13210,6 +13210,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "executor-service-ref", type = "string"),
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "max-inflight", type = "number"),
                     @YamlProperty(name = "on-prepare-ref", type = "string"),
                     @YamlProperty(name = "parallel-aggregate", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
@@ -13259,6 +13260,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "max-inflight": {
+                    String val = asText(node);
+                    target.setMaxInflight(val);
+                    break;
+                }
                 case "on-prepare-ref": {
                     String val = asText(node);
                     target.setOnPrepareRef(val);
@@ -20,6 +20,7 @@ import org.apache.camel.FailedToCreateRouteException
 import org.apache.camel.component.mock.MockEndpoint
 import org.apache.camel.dsl.yaml.common.YamlDeserializationMode
 import org.apache.camel.dsl.yaml.support.YamlTestSupport
+import org.apache.camel.model.SplitDefinition
 
 class SplitTest extends YamlTestSupport {
 
@@ -59,6 +60,38 @@ class SplitTest extends YamlTestSupport {
             MockEndpoint.assertIsSatisfied(context)
     }
 
+    def "split (parallel with max-inflight)"() {
+        setup:
+            loadRoutes '''
+                - from:
+                    uri: "direct:route"
+                    steps:
+                      - split:
+                          tokenize: ","
+                          parallel-processing: true
+                          max-inflight: 2
+                          steps:
+                            - to: "mock:split"
+            '''
+
+            withMock('mock:split') {
+                expectedMessageCount 3
+                expectedBodiesReceivedInAnyOrder 'a', 'b', 'c'
+            }
+
+        when:
+            withTemplate {
+                to('direct:route').withBody('a,b,c').send()
+            }
+
+        then:
+            with(context.routeDefinitions[0].outputs[0], SplitDefinition) {
+                parallelProcessing == 'true'
+                maxInflight == '2'
+            }
+            MockEndpoint.assertIsSatisfied(context)
+    }
+
     def "split (flow)"() {
         setup:
             setFlowMode(YamlDeserializationMode.FLOW)